@@ -139,6 +139,7 @@ public class Client {
     Game.add(new AISystem());
     Game.add(new HealthSystem());
     Game.add(new ProjectileSystem());
+    Game.add(new ParticleSystem());
     Game.add(new HealthBarSystem());
     Game.add(new HudSystem());
   }
@@ -177,10 +177,7 @@ public class L3_R1_Fragen_Schriftrollen extends MonsterRoom {
                               interactedDC -> {
                                 // only add opening animation when it is not
                                 // finished
-                                if (interactedDC
-                                    .animation(ChestAnimations.OPENING)
-                                    .map(animation -> !animation.isFinished())
-                                    .orElse(true)) {
+                                if (!interactedDC.isAnimationFinished(ChestAnimations.OPENING)) {
                                   interactedDC.queueAnimation(ChestAnimations.OPENING);
                                 }
                               });
@@ -179,6 +179,7 @@ public class DojoStarter {
     Game.add(new AISystem());
     Game.add(new HealthSystem());
     Game.add(new ProjectileSystem());
+    Game.add(new ParticleSystem());
     Game.add(new HealthBarSystem());
     Game.add(new HudSystem());
     Game.add(new SpikeSystem());
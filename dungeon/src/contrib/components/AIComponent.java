@@ -57,7 +57,7 @@ public final class AIComponent implements Component {
    * as the transition function, and {@link CollideAI} as the fight behavior.
    */
   public AIComponent() {
-    this(new CollideAI(2f), new RadiusWalk(5, 2), new RangeTransition(5f));
+    this(new CollideAI(), new RadiusWalk(5, 2), new RangeTransition(5f));
   }
 
   /**
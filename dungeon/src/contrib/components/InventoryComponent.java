@@ -25,6 +25,10 @@ import java.util.stream.Collectors;
  * removeItem}.
  *
  * <p>The number of items in the inventory can be retrieved using {@link #count()}.
+ *
+ * <p>Every change of the stored items increments the {@link #version()}, so views of the inventory
+ * (like the {@link contrib.hud.inventory.InventoryGUI}) only have to be rebuilt if the version
+ * changed.
  */
 @DSLType
 public final class InventoryComponent implements Component {
@@ -32,6 +36,7 @@ public final class InventoryComponent implements Component {
   private static final int DEFAULT_MAX_SIZE = 24;
   private final Item[] inventory;
   private final Logger LOGGER = Logger.getLogger(InventoryComponent.class.getSimpleName());
+  private int version = 0;
 
   public InventoryComponent() {
     inventory = new Item[DEFAULT_MAX_SIZE];
@@ -75,6 +80,7 @@ public final class InventoryComponent implements Component {
             + "' was added to the inventory of entity '"
             + "'.");
     inventory[firstEmpty] = item;
+    version++;
     return true;
   }
 
@@ -91,6 +97,7 @@ public final class InventoryComponent implements Component {
     for (int i = 0; i < inventory.length; i++) {
       if (inventory[i] != null && inventory[i].equals(item)) {
         inventory[i] = null;
+        version++;
         return true;
       }
     }
@@ -107,6 +114,7 @@ public final class InventoryComponent implements Component {
   public Item remove(int index) {
     Item itemData = inventory[index];
     inventory[index] = null;
+    version++;
     return itemData;
   }
 
@@ -149,6 +157,28 @@ public final class InventoryComponent implements Component {
     return (int) Arrays.stream(this.inventory).filter(Objects::nonNull).count();
   }
 
+  /**
+   * Get the number of items that can be stored.
+   *
+   * <p>Unlike {@code items().length}, this doesn't copy the inventory.
+   *
+   * @return The size of the inventory.
+   */
+  public int maxSize() {
+    return this.inventory.length;
+  }
+
+  /**
+   * Get the version of the stored items.
+   *
+   * <p>The version is incremented by every change of the inventory.
+   *
+   * @return The number of changes since the creation of the component.
+   */
+  public int version() {
+    return this.version;
+  }
+
   /**
    * Get a Set of items stored in this component.
    *
@@ -179,6 +209,7 @@ public final class InventoryComponent implements Component {
   public void set(int index, final Item item) {
     if (index >= this.inventory.length || index < 0) return;
     this.inventory[index % this.inventory.length] = item;
+    version++;
   }
 
   /**
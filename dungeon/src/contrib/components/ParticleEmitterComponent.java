@@ -0,0 +1,19 @@
+package contrib.components;
+
+import contrib.utils.components.particle.ParticleEffect;
+import core.Component;
+
+/**
+ * Emits a {@link ParticleEffect} at the position of the entity in a regular interval, for example a
+ * trail behind a projectile.
+ *
+ * <p>The particles are not entities, they are stored in the {@link
+ * contrib.utils.components.particle.ParticlePool}. The emitting is done by the {@link
+ * contrib.systems.ParticleSystem}.
+ *
+ * @param effect Effect to emit.
+ * @param interval Time between two bursts in seconds.
+ * @see contrib.systems.ParticleSystem
+ */
+public record ParticleEmitterComponent(ParticleEffect effect, float interval)
+    implements Component {}
@@ -38,9 +38,6 @@ public final class AIFactory {
   private static final Random RANDOM = new Random();
 
   // FightAI Parameters:
-  // CollideAI
-  private static final float RUSH_RANGE_LOW = 0.5f;
-  private static final float RUSH_RANGE_HIGH = 2.0f;
   private static final int FIREBALL_COOL_DOWN = 750;
 
   // RangeAI
@@ -101,7 +98,7 @@ public final class AIFactory {
     int index = RANDOM.nextInt(0, 3);
 
     return switch (index) {
-      case 0 -> new CollideAI(RANDOM.nextFloat(RUSH_RANGE_LOW, RUSH_RANGE_HIGH));
+      case 0 -> new CollideAI();
       case 1 ->
           new RangeAI(
               RANDOM.nextFloat(ATTACK_RANGE_LOW, ATTACK_RANGE_HIGH),
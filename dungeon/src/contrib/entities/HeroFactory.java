@@ -1,11 +1,10 @@
 package contrib.entities;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.audio.Sound;
 import contrib.components.*;
 import contrib.configuration.KeyboardConfig;
 import contrib.hud.elements.GUICombination;
 import contrib.hud.inventory.InventoryGUI;
+import contrib.level.GroundLayer;
 import contrib.utils.components.health.Damage;
 import contrib.utils.components.interaction.InteractionTool;
 import contrib.utils.components.skill.FireballSkill;
@@ -20,6 +19,7 @@ import core.utils.Tuple;
 import core.utils.components.MissingComponentException;
 import core.utils.components.path.IPath;
 import core.utils.components.path.SimpleIPath;
+import core.utils.components.sound.SoundPlayer;
 import java.io.IOException;
 import java.util.Comparator;
 
@@ -28,6 +28,7 @@ public final class HeroFactory {
 
   public static final int DEFAULT_INVENTORY_SIZE = 10;
   private static final IPath HERO_FILE_PATH = new SimpleIPath("character/wizard");
+  private static final IPath DEATH_SOUND = new SimpleIPath("sounds/death.wav");
   private static final float X_SPEED_HERO = 7.5f;
   private static final float Y_SPEED_HERO = 7.5f;
   private static final int FIREBALL_COOL_DOWN = 500;
@@ -58,13 +59,7 @@ public final class HeroFactory {
             HERO_HP,
             entity -> {
               // play sound
-              Sound sound = Gdx.audio.newSound(Gdx.files.internal("sounds/death.wav"));
-              long soundId = sound.play();
-              sound.setLooping(soundId, false);
-              sound.setVolume(soundId, 0.3f);
-              sound.setLooping(soundId, false);
-              sound.play();
-              sound.setVolume(soundId, 0.9f);
+              SoundPlayer.instance().play(DEATH_SOUND, 0.9f, 1f, SoundPlayer.HIGH_PRIORITY);
 
               // relink components for camera
               Entity cameraDummy = new Entity();
@@ -207,42 +202,7 @@ public final class HeroFactory {
 
     pc.registerCallback(
         KeyboardConfig.MOUSE_INTERACT_WORLD.value(),
-        hero1 -> {
-          // only interact with entities the cursor points at
-          Point mousePosition = SkillTools.cursorPositionAsPoint();
-          Tile mouseTile = Game.tileAT(mousePosition);
-          if (mouseTile == null) return; // mouse out of bound
-
-          Game.entityAtTile(mouseTile)
-              .filter(e -> e.isPresent(InteractionComponent.class))
-              .findFirst()
-              .ifPresent(
-                  interactable -> {
-                    InteractionComponent ic1 =
-                        interactable
-                            .fetch(InteractionComponent.class)
-                            .orElseThrow(
-                                () ->
-                                    MissingComponentException.build(
-                                        interactable, InteractionComponent.class));
-                    PositionComponent pc1 =
-                        interactable
-                            .fetch(PositionComponent.class)
-                            .orElseThrow(
-                                () ->
-                                    MissingComponentException.build(
-                                        interactable, PositionComponent.class));
-                    PositionComponent heroPC =
-                        hero1
-                            .fetch(PositionComponent.class)
-                            .orElseThrow(
-                                () ->
-                                    MissingComponentException.build(
-                                        hero1, PositionComponent.class));
-                    if (Point.calculateDistance(pc1.position(), heroPC.position()) < ic1.radius())
-                      ic1.triggerInteraction(interactable, hero1);
-                  });
-        },
+        hero1 -> interactAt(hero1, SkillTools.cursorPositionAsPoint()),
         false);
 
     // skills
@@ -250,4 +210,47 @@ public final class HeroFactory {
 
     return hero;
   }
+
+  /**
+   * Interact with the interactable entity at the given position (e.g., the position of the mouse).
+   *
+   * <p>An item on the ground at this position is turned into an item entity first (see {@link
+   * GroundLayer#promoteItemAt(Tile, Point)}), so it can be picked up.
+   *
+   * @param hero The entity that interacts.
+   * @param position The position to interact with.
+   */
+  static void interactAt(final Entity hero, final Point position) {
+    // only interact with entities the cursor points at
+    Tile mouseTile = Game.tileAT(position);
+    if (mouseTile == null) return; // mouse out of bound
+
+    PositionComponent heroPC =
+        hero.fetch(PositionComponent.class)
+            .orElseThrow(() -> MissingComponentException.build(hero, PositionComponent.class));
+    GroundLayer.promoteItemAt(mouseTile, heroPC.position());
+
+    Game.entityAtTile(mouseTile)
+        .filter(e -> e.isPresent(InteractionComponent.class))
+        .findFirst()
+        .ifPresent(
+            interactable -> {
+              InteractionComponent ic =
+                  interactable
+                      .fetch(InteractionComponent.class)
+                      .orElseThrow(
+                          () ->
+                              MissingComponentException.build(
+                                  interactable, InteractionComponent.class));
+              PositionComponent pc =
+                  interactable
+                      .fetch(PositionComponent.class)
+                      .orElseThrow(
+                          () ->
+                              MissingComponentException.build(
+                                  interactable, PositionComponent.class));
+              if (Point.calculateDistance(pc.position(), heroPC.position()) < ic.radius())
+                ic.triggerInteraction(interactable, hero);
+            });
+  }
 }
@@ -14,6 +14,7 @@ import core.Entity;
 import core.components.DrawComponent;
 import core.components.PositionComponent;
 import core.utils.Point;
+import core.utils.components.draw.Animation;
 import core.utils.components.draw.CoreAnimations;
 import core.utils.components.path.SimpleIPath;
 import java.io.IOException;
@@ -130,10 +131,7 @@ public final class MiscFactory {
                       interactedDC -> {
                         // only add opening animation when it is not
                         // finished
-                        if (interactedDC
-                            .animation(ChestAnimations.OPENING)
-                            .map(animation -> !animation.isFinished())
-                            .orElse(true)) {
+                        if (!interactedDC.isAnimationFinished(ChestAnimations.OPENING)) {
                           interactedDC.queueAnimation(ChestAnimations.OPENING);
                         }
                       });
@@ -142,8 +140,12 @@ public final class MiscFactory {
     var mapping = dc.animationMap();
     // set the closed chest as default idle
     mapping.put(CoreAnimations.IDLE.pathString(), mapping.get(ChestAnimations.CLOSED.pathString()));
-    // opening animation should not loop
-    mapping.get(ChestAnimations.OPENING.pathString()).loop(false);
+    // opening animation should not loop (the loaded animation is shared, so use a non-looping copy)
+    Animation opening = mapping.get(ChestAnimations.OPENING.pathString());
+    mapping.put(
+        ChestAnimations.OPENING.pathString(),
+        Animation.fromCollection(
+            opening.animationFrames(), opening.timeBetweenFrames(), false, opening.priority()));
     dc.animationMap(mapping);
     // reset Idle Animation
     dc.deQueueByPriority(CoreAnimations.IDLE.priority());
@@ -10,7 +10,8 @@ import core.utils.Point;
 
 /** Class which creates all needed Components for a basic WorldItem */
 public final class WorldItemBuilder {
-  private static final float DEFAULT_ITEM_PICKUP_RADIUS = 2.0f;
+  /** Radius in which an entity can pick up a world item. */
+  public static final float DEFAULT_ITEM_PICKUP_RADIUS = 2.0f;
 
   /**
    * Creates an Entity which then can be added to the game
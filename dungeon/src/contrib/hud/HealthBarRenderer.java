@@ -0,0 +1,210 @@
+package contrib.hud;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import java.util.Arrays;
+
+/**
+ * Draws health bars in the game world.
+ *
+ * <p>Each bar is stored in a slot of a few parallel arrays (position, fraction, style and
+ * visibility). All visible bars are drawn as two colored quads (background and fill) from a single
+ * white texture, so they are drawn in one batch without switching textures, no matter how many bars
+ * exist.
+ *
+ * <p>Slots are kept compact: removing a slot moves the last slot into the free one, see {@link
+ * #remove(int)}.
+ *
+ * @see contrib.systems.HealthBarSystem
+ */
+public final class HealthBarRenderer {
+
+  /** Style with a red bar on a dark background. */
+  public static final int DEFAULT_STYLE = 0;
+
+  /** Width of a bar in world units. */
+  private static final float WIDTH = 1f;
+
+  /** Height of a bar in world units. */
+  private static final float HEIGHT = 0.15f;
+
+  /** Width of the background border around the fill in world units. */
+  private static final float BORDER = 0.025f;
+
+  /** Offset of the bar to the position of the entity in world units. */
+  private static final float Y_OFFSET = -HEIGHT;
+
+  private static final int INITIAL_CAPACITY = 16;
+
+  private float[] backgroundColors = {Color.toFloatBits(0.15f, 0.15f, 0.15f, 1f)};
+  private float[] fillColors = {Color.RED.toFloatBits()};
+  private float[] xs = new float[INITIAL_CAPACITY];
+  private float[] ys = new float[INITIAL_CAPACITY];
+  private float[] fractions = new float[INITIAL_CAPACITY];
+  private int[] styles = new int[INITIAL_CAPACITY];
+  private boolean[] visible = new boolean[INITIAL_CAPACITY];
+  private int size = 0;
+
+  /**
+   * Register a new style.
+   *
+   * @param background Color of the background of the bar.
+   * @param fill Color of the filled part of the bar.
+   * @return The id of the new style.
+   */
+  public int style(final Color background, final Color fill) {
+    int style = backgroundColors.length;
+    backgroundColors = Arrays.copyOf(backgroundColors, style + 1);
+    fillColors = Arrays.copyOf(fillColors, style + 1);
+    backgroundColors[style] = background.toFloatBits();
+    fillColors[style] = fill.toFloatBits();
+    return style;
+  }
+
+  /**
+   * Add a new bar.
+   *
+   * <p>The new bar is full and not visible.
+   *
+   * @param style Style of the bar.
+   * @return The slot of the new bar.
+   */
+  public int add(int style) {
+    if (style < 0 || style >= backgroundColors.length)
+      throw new IllegalArgumentException("Unknown health bar style: " + style);
+    if (size == xs.length) grow();
+    xs[size] = 0;
+    ys[size] = 0;
+    fractions[size] = 1;
+    styles[size] = style;
+    visible[size] = false;
+    return size++;
+  }
+
+  /**
+   * Remove the bar in the given slot.
+   *
+   * <p>The last bar is moved into the given slot, so the caller has to move its own data for the
+   * last slot as well.
+   *
+   * @param slot Slot of the bar to remove.
+   */
+  public void remove(int slot) {
+    checkSlot(slot);
+    int last = --size;
+    xs[slot] = xs[last];
+    ys[slot] = ys[last];
+    fractions[slot] = fractions[last];
+    styles[slot] = styles[last];
+    visible[slot] = visible[last];
+  }
+
+  /**
+   * Set the position of the bar.
+   *
+   * @param slot Slot of the bar.
+   * @param x x-Position of the entity in the game world.
+   * @param y y-Position of the entity in the game world.
+   */
+  public void position(int slot, float x, float y) {
+    checkSlot(slot);
+    xs[slot] = x;
+    ys[slot] = y + Y_OFFSET;
+  }
+
+  /**
+   * Set the filled part of the bar.
+   *
+   * @param slot Slot of the bar.
+   * @param fraction Filled part of the bar, will be clamped to 0 to 1.
+   */
+  public void fraction(int slot, float fraction) {
+    checkSlot(slot);
+    fractions[slot] = Math.max(0, Math.min(1, fraction));
+  }
+
+  /**
+   * Get the filled part of the bar.
+   *
+   * @param slot Slot of the bar.
+   * @return Filled part of the bar (0 to 1).
+   */
+  public float fraction(int slot) {
+    checkSlot(slot);
+    return fractions[slot];
+  }
+
+  /**
+   * Set if the bar should be drawn.
+   *
+   * @param slot Slot of the bar.
+   * @param visible true if the bar should be drawn, false if not.
+   */
+  public void visible(int slot, boolean visible) {
+    checkSlot(slot);
+    this.visible[slot] = visible;
+  }
+
+  /**
+   * Check if the bar will be drawn.
+   *
+   * @param slot Slot of the bar.
+   * @return true if the bar will be drawn, false if not.
+   */
+  public boolean visible(int slot) {
+    checkSlot(slot);
+    return visible[slot];
+  }
+
+  /**
+   * Get the number of bars.
+   *
+   * @return Number of bars.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Draw all visible bars.
+   *
+   * <p>If the batch is not drawing yet, it will be started and ended by this method.
+   *
+   * @param batch Batch to draw with, its projection has to be the camera of the game world.
+   */
+  public void draw(final Batch batch) {
+    TextureRegion region = UIUtils.whiteRegion();
+    boolean singleDraw = !batch.isDrawing();
+    if (singleDraw) batch.begin();
+    float color = batch.getPackedColor();
+    for (int i = 0; i < size; i++) {
+      if (!visible[i]) continue;
+      batch.setPackedColor(backgroundColors[styles[i]]);
+      batch.draw(region, xs[i], ys[i], WIDTH, HEIGHT);
+      batch.setPackedColor(fillColors[styles[i]]);
+      batch.draw(
+          region,
+          xs[i] + BORDER,
+          ys[i] + BORDER,
+          (WIDTH - 2 * BORDER) * fractions[i],
+          HEIGHT - 2 * BORDER);
+    }
+    batch.setPackedColor(color);
+    if (singleDraw) batch.end();
+  }
+
+  private void checkSlot(int slot) {
+    if (slot < 0 || slot >= size)
+      throw new IndexOutOfBoundsException("Health bar slot " + slot + " does not exist");
+  }
+
+  private void grow() {
+    int capacity = xs.length * 2;
+    xs = Arrays.copyOf(xs, capacity);
+    ys = Arrays.copyOf(ys, capacity);
+    fractions = Arrays.copyOf(fractions, capacity);
+    styles = Arrays.copyOf(styles, capacity);
+    visible = Arrays.copyOf(visible, capacity);
+  }
+}
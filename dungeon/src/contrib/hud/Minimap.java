@@ -0,0 +1,390 @@
+package contrib.hud;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import core.level.Tile;
+import core.level.elements.ILevel;
+import core.level.utils.LevelElement;
+import java.util.BitSet;
+
+/**
+ * Map of a level with one pixel per tile.
+ *
+ * <p>The whole layout is rendered only once into a {@link Pixmap} when the minimap is created. If a
+ * tile of the level changes, only its pixel is updated, see {@link #tileChanged(Tile)}.
+ *
+ * <p>The level is split into cells of {@link #CELL_SIZE} x {@link #CELL_SIZE} tiles. Only explored
+ * cells are shown; a cell is uploaded to the texture of the minimap when it gets explored or when
+ * one of its tiles changes. All other frames only draw the texture, so the cost per frame doesn't
+ * depend on the size of the level.
+ *
+ * @see contrib.systems.MinimapSystem
+ */
+public final class Minimap {
+
+  /** Width and height of a cell in tiles. */
+  public static final int CELL_SIZE = 8;
+
+  private static final int FLOOR = Color.rgba8888(0.55f, 0.55f, 0.55f, 1f);
+  private static final int WALL = Color.rgba8888(0.25f, 0.22f, 0.28f, 1f);
+  private static final int HOLE = Color.rgba8888(0.05f, 0.05f, 0.05f, 1f);
+  private static final int DOOR = Color.rgba8888(0.8f, 0.6f, 0.25f, 1f);
+  private static final int EXIT = Color.rgba8888(0.25f, 0.8f, 0.25f, 1f);
+  private static final int NONE = 0;
+  private static final float HERO_COLOR = Color.toFloatBits(1f, 0.9f, 0.2f, 1f);
+  private static final float VIEW_COLOR = Color.toFloatBits(1f, 1f, 1f, 0.6f);
+
+  /** Size of the hero marker in pixels on the screen. */
+  private static final float MARKER_SIZE = 4f;
+
+  private final ILevel level;
+  private final int width;
+  private final int height;
+  private final int cellsX;
+  private final int cellsY;
+  private final Pixmap pixmap;
+  private final BitSet explored;
+
+  // cells that have to be uploaded to the texture, as a queue without duplicates
+  private final BitSet dirty;
+  private final int[] dirtyCells;
+  private int dirtyCount = 0;
+
+  private TileFilter filter = (x, y) -> true;
+  private Texture texture;
+  private TextureRegion region;
+  private Pixmap patch;
+
+  // overlay, in tiles
+  private boolean showHero = false;
+  private float heroX;
+  private float heroY;
+  private boolean showView = false;
+  private float viewMinX;
+  private float viewMinY;
+  private float viewMaxX;
+  private float viewMaxY;
+
+  /**
+   * Create a new minimap and render the layout of the given level.
+   *
+   * @param level Level to show.
+   * @param explored Explored cells of the level, will be updated by this minimap. Pass the same set
+   *     again to keep the explored cells if the level is shown again.
+   */
+  public Minimap(final ILevel level, final BitSet explored) {
+    this.level = level;
+    Tile[][] layout = level.layout();
+    height = layout.length;
+    width = height == 0 ? 0 : layout[0].length;
+    cellsX = (width + CELL_SIZE - 1) / CELL_SIZE;
+    cellsY = (height + CELL_SIZE - 1) / CELL_SIZE;
+    // round the size up to full cells, so each cell can be uploaded as one patch
+    pixmap =
+        new Pixmap(
+            Math.max(1, cellsX * CELL_SIZE),
+            Math.max(1, cellsY * CELL_SIZE),
+            Pixmap.Format.RGBA8888);
+    pixmap.setBlending(Pixmap.Blending.None);
+    for (int y = 0; y < height; y++) {
+      for (int x = 0; x < width; x++) {
+        pixmap.drawPixel(x, pixelY(y), color(layout[y][x]));
+      }
+    }
+    this.explored = explored;
+    dirty = new BitSet(cellsX * cellsY);
+    dirtyCells = new int[cellsX * cellsY];
+    for (int cell = explored.nextSetBit(0); cell >= 0; cell = explored.nextSetBit(cell + 1)) {
+      if (cell >= dirtyCells.length) break;
+      markDirty(cell);
+    }
+  }
+
+  /**
+   * Get the level of this minimap.
+   *
+   * @return The level shown by this minimap.
+   */
+  public ILevel level() {
+    return level;
+  }
+
+  /**
+   * Get the width of the level.
+   *
+   * @return Width in tiles (and pixels).
+   */
+  public int width() {
+    return width;
+  }
+
+  /**
+   * Get the height of the level.
+   *
+   * @return Height in tiles (and pixels).
+   */
+  public int height() {
+    return height;
+  }
+
+  /**
+   * Get the rendered layout.
+   *
+   * <p>The pixmap is rounded up to full cells. Row 0 of the pixmap is the top row of the level, so
+   * the tile (x, y) is stored in the pixel (x, pixmap.getHeight() - 1 - y).
+   *
+   * @return The pixmap of the level, including unexplored cells.
+   */
+  public Pixmap pixmap() {
+    return pixmap;
+  }
+
+  /**
+   * Mark all cells that overlap the given area of tiles as explored.
+   *
+   * <p>The area is clamped to the level.
+   *
+   * @param minX Smallest x-index of the area.
+   * @param minY Smallest y-index of the area.
+   * @param maxX Largest x-index of the area.
+   * @param maxY Largest y-index of the area.
+   * @return Number of cells that were explored for the first time.
+   */
+  public int explore(int minX, int minY, int maxX, int maxY) {
+    if (maxX < 0 || maxY < 0) return 0;
+    int minCellX = Math.max(0, minX) / CELL_SIZE;
+    int minCellY = Math.max(0, minY) / CELL_SIZE;
+    int maxCellX = Math.min(width - 1, maxX) / CELL_SIZE;
+    int maxCellY = Math.min(height - 1, maxY) / CELL_SIZE;
+    int newCells = 0;
+    for (int cy = minCellY; cy <= maxCellY; cy++) {
+      for (int cx = minCellX; cx <= maxCellX; cx++) {
+        int cell = cy * cellsX + cx;
+        if (explored.get(cell)) continue;
+        explored.set(cell);
+        markDirty(cell);
+        newCells++;
+      }
+    }
+    return newCells;
+  }
+
+  /**
+   * Upload all explored cells that overlap the given area of tiles again with the next {@link
+   * #draw}.
+   *
+   * <p>Use this if the result of the {@link #filter(TileFilter)} has changed in this area.
+   *
+   * @param minX Smallest x-index of the area.
+   * @param minY Smallest y-index of the area.
+   * @param maxX Largest x-index of the area.
+   * @param maxY Largest y-index of the area.
+   */
+  public void refresh(int minX, int minY, int maxX, int maxY) {
+    if (maxX < 0 || maxY < 0) return;
+    int minCellX = Math.max(0, minX) / CELL_SIZE;
+    int minCellY = Math.max(0, minY) / CELL_SIZE;
+    int maxCellX = Math.min(width - 1, maxX) / CELL_SIZE;
+    int maxCellY = Math.min(height - 1, maxY) / CELL_SIZE;
+    for (int cy = minCellY; cy <= maxCellY; cy++) {
+      for (int cx = minCellX; cx <= maxCellX; cx++) {
+        int cell = cy * cellsX + cx;
+        if (explored.get(cell)) markDirty(cell);
+      }
+    }
+  }
+
+  /**
+   * Set a filter for the tiles in the explored cells.
+   *
+   * <p>Tiles that don't pass the filter are not shown, e.g. tiles the hero hasn't seen yet. The
+   * filter is checked when a cell is uploaded, see {@link #refresh(int, int, int, int)}.
+   *
+   * @param filter The filter, gets the x- and y-index of a tile.
+   */
+  public void filter(final TileFilter filter) {
+    this.filter = filter;
+  }
+
+  /**
+   * Check if the tile at the given position is in an explored cell.
+   *
+   * @param x x-index of the tile.
+   * @param y y-index of the tile.
+   * @return true if the tile was explored, false if not or if it is outside the level.
+   */
+  public boolean isExplored(int x, int y) {
+    if (x < 0 || y < 0 || x >= width || y >= height) return false;
+    return explored.get(y / CELL_SIZE * cellsX + x / CELL_SIZE);
+  }
+
+  /**
+   * Update the pixel of a changed tile.
+   *
+   * <p>Can be registered as a listener with {@link ILevel#addTileChangeListener}.
+   *
+   * @param tile The new tile.
+   */
+  public void tileChanged(final Tile tile) {
+    int x = tile.coordinate().x;
+    int y = tile.coordinate().y;
+    if (x < 0 || y < 0 || x >= width || y >= height) return;
+    pixmap.drawPixel(x, pixelY(y), color(tile));
+    int cell = y / CELL_SIZE * cellsX + x / CELL_SIZE;
+    if (explored.get(cell)) markDirty(cell);
+  }
+
+  /**
+   * Get the number of cells that will be uploaded with the next {@link #draw}.
+   *
+   * @return Number of changed cells.
+   */
+  public int dirtyCells() {
+    return dirtyCount;
+  }
+
+  /**
+   * Set the position of the hero marker.
+   *
+   * @param x x-Position of the hero in the game world.
+   * @param y y-Position of the hero in the game world.
+   */
+  public void hero(float x, float y) {
+    showHero = true;
+    heroX = x;
+    heroY = y;
+  }
+
+  /** Hide the hero marker. */
+  public void hideHero() {
+    showHero = false;
+  }
+
+  /**
+   * Set the area of the level that is shown on the screen. The area is drawn as a frame.
+   *
+   * @param minX Left border in the game world.
+   * @param minY Bottom border in the game world.
+   * @param maxX Right border in the game world.
+   * @param maxY Top border in the game world.
+   */
+  public void view(float minX, float minY, float maxX, float maxY) {
+    showView = true;
+    viewMinX = Math.max(0, minX);
+    viewMinY = Math.max(0, minY);
+    viewMaxX = Math.min(width, maxX);
+    viewMaxY = Math.min(height, maxY);
+  }
+
+  /**
+   * Draw the explored part of the minimap, the frame of the view and the hero marker.
+   *
+   * <p>Uploads the changed cells to the texture first, so this needs a GL context. Apart from the
+   * upload, this draws at most six quads.
+   *
+   * @param batch Batch to draw with, has to be drawing.
+   * @param x x-Position of the lower left corner.
+   * @param y y-Position of the lower left corner.
+   * @param scale Size of a tile.
+   */
+  public void draw(final Batch batch, float x, float y, float scale) {
+    if (width == 0 || height == 0) return;
+    if (texture == null) createTexture();
+    upload();
+    batch.draw(region, x, y, width * scale, height * scale);
+
+    TextureRegion white = UIUtils.whiteRegion();
+    float color = batch.getPackedColor();
+    if (showView && viewMaxX > viewMinX && viewMaxY > viewMinY) {
+      float left = x + viewMinX * scale;
+      float bottom = y + viewMinY * scale;
+      float w = (viewMaxX - viewMinX) * scale;
+      float h = (viewMaxY - viewMinY) * scale;
+      batch.setPackedColor(VIEW_COLOR);
+      batch.draw(white, left, bottom, w, 1);
+      batch.draw(white, left, bottom + h - 1, w, 1);
+      batch.draw(white, left, bottom, 1, h);
+      batch.draw(white, left + w - 1, bottom, 1, h);
+    }
+    if (showHero) {
+      float size = Math.max(MARKER_SIZE, scale);
+      batch.setPackedColor(HERO_COLOR);
+      batch.draw(white, x + heroX * scale - size / 2, y + heroY * scale - size / 2, size, size);
+    }
+    batch.setPackedColor(color);
+  }
+
+  /** Release the pixmap and the texture. */
+  public void dispose() {
+    pixmap.dispose();
+    if (patch != null) patch.dispose();
+    if (texture != null) texture.dispose();
+  }
+
+  private void createTexture() {
+    Pixmap empty = new Pixmap(pixmap.getWidth(), pixmap.getHeight(), Pixmap.Format.RGBA8888);
+    texture = new Texture(empty);
+    empty.dispose();
+    region = new TextureRegion(texture, 0, pixmap.getHeight() - height, width, height);
+    patch = new Pixmap(CELL_SIZE, CELL_SIZE, Pixmap.Format.RGBA8888);
+    patch.setBlending(Pixmap.Blending.None);
+  }
+
+  private void upload() {
+    while (dirtyCount > 0) {
+      int cell = dirtyCells[--dirtyCount];
+      dirty.clear(cell);
+      int px = cell % cellsX * CELL_SIZE;
+      int py = pixmap.getHeight() - (cell / cellsX + 1) * CELL_SIZE;
+      patch.drawPixmap(pixmap, 0, 0, px, py, CELL_SIZE, CELL_SIZE);
+      for (int j = 0; j < CELL_SIZE; j++) {
+        int tileY = pixmap.getHeight() - 1 - (py + j);
+        for (int i = 0; i < CELL_SIZE; i++) {
+          if (!filter.test(px + i, tileY)) patch.drawPixel(i, j, NONE);
+        }
+      }
+      texture.draw(patch, px, py);
+    }
+  }
+
+  private void markDirty(int cell) {
+    if (dirty.get(cell)) return;
+    dirty.set(cell);
+    dirtyCells[dirtyCount++] = cell;
+  }
+
+  private int pixelY(int y) {
+    return pixmap.getHeight() - 1 - y;
+  }
+
+  private static int color(final Tile tile) {
+    return tile == null ? NONE : color(tile.levelElement());
+  }
+
+  private static int color(final LevelElement element) {
+    return switch (element) {
+      case FLOOR -> FLOOR;
+      case WALL -> WALL;
+      case HOLE -> HOLE;
+      case DOOR -> DOOR;
+      case EXIT -> EXIT;
+      case SKIP -> NONE;
+    };
+  }
+
+  /** Decides which tiles of the explored cells are shown. */
+  @FunctionalInterface
+  public interface TileFilter {
+    /**
+     * Check if the tile should be shown.
+     *
+     * @param x x-index of the tile.
+     * @param y y-index of the tile.
+     * @return true if the tile is shown, false if not.
+     */
+    boolean test(int x, int y);
+  }
+}
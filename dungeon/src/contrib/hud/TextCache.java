@@ -0,0 +1,246 @@
+package contrib.hud;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.utils.Align;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Caches laid out HUD text.
+ *
+ * <p>Use {@link #instance()} to get the only instance of the {@link TextCache}, and use {@link
+ * #get(BitmapFont, String, float, int, Color)} to get the {@link CachedText} for a text. The text
+ * is laid out once and stored with its vertex data in a {@link BitmapFontCache}, so drawing it
+ * again only moves the vertices to the new position. Looking up a cached text doesn't allocate.
+ *
+ * <p>Texts are keyed by font, string, target width, alignment and color. If the cache is full, the
+ * least recently used text is evicted. Use {@link #hits()}, {@link #misses()} and {@link
+ * #evictions()} to check if the {@link #capacity()} fits the texts of the HUD: once the HUD is
+ * stable, all lookups should be hits.
+ *
+ * <p>The cache is not thread-safe, use it only on the render thread.
+ */
+public final class TextCache {
+
+  private static final int DEFAULT_CAPACITY = 256;
+  private static final TextCache INSTANCE = new TextCache();
+
+  // reused for lookups, so a hit doesn't allocate a key
+  private final Key lookup = new Key();
+  private final Map<Key, CachedText> texts = new LinkedHashMap<>(16, 0.75f, true);
+  private int capacity = DEFAULT_CAPACITY;
+  private long hits = 0;
+  private long misses = 0;
+  private long evictions = 0;
+
+  private TextCache() {}
+
+  /**
+   * Get the instance of the TextCache.
+   *
+   * @return The only instance of the TextCache.
+   */
+  public static TextCache instance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Get the laid out text in one line, left aligned.
+   *
+   * @param font Font to draw the text with.
+   * @param text Text to lay out.
+   * @param color Color of the text.
+   * @return The cached text.
+   * @see #get(BitmapFont, String, float, int, Color)
+   */
+  public CachedText get(final BitmapFont font, final String text, final Color color) {
+    return get(font, text, 0, Align.left, color);
+  }
+
+  /**
+   * Get the laid out text, lay it out if it is not cached.
+   *
+   * @param font Font to draw the text with.
+   * @param text Text to lay out.
+   * @param targetWidth Width to align and wrap the text in, 0 for no wrapping.
+   * @param align Horizontal alignment inside the target width, see {@link Align}.
+   * @param color Color of the text, copied into the cache.
+   * @return The cached text.
+   */
+  public CachedText get(
+      final BitmapFont font, final String text, float targetWidth, int align, final Color color) {
+    lookup.set(font, text, targetWidth, align, Color.rgba8888(color));
+    CachedText cached = texts.get(lookup);
+    if (cached != null) {
+      hits++;
+      return cached;
+    }
+    misses++;
+    cached = new CachedText(font, text, targetWidth, align, color);
+    texts.put(lookup.copy(), cached);
+    evict();
+    return cached;
+  }
+
+  /** Remove all cached texts. */
+  public void clear() {
+    texts.clear();
+  }
+
+  /**
+   * Get the number of cached texts.
+   *
+   * @return Number of cached texts.
+   */
+  public int size() {
+    return texts.size();
+  }
+
+  /**
+   * Get the maximal number of cached texts.
+   *
+   * @return Capacity of the cache.
+   */
+  public int capacity() {
+    return capacity;
+  }
+
+  /**
+   * Set the maximal number of cached texts.
+   *
+   * <p>If there are more texts cached, the least recently used texts are evicted.
+   *
+   * @param capacity Capacity of the cache (at least 1).
+   */
+  public void capacity(int capacity) {
+    if (capacity < 1) throw new IllegalArgumentException("Capacity has to be at least 1");
+    this.capacity = capacity;
+    evict();
+  }
+
+  /**
+   * Get the number of lookups that found a cached text.
+   *
+   * @return Number of hits since the start of the game.
+   */
+  public long hits() {
+    return hits;
+  }
+
+  /**
+   * Get the number of lookups that had to lay out the text.
+   *
+   * @return Number of misses since the start of the game.
+   */
+  public long misses() {
+    return misses;
+  }
+
+  /**
+   * Get the number of texts that were evicted because the cache was full.
+   *
+   * @return Number of evictions since the start of the game.
+   */
+  public long evictions() {
+    return evictions;
+  }
+
+  private void evict() {
+    Iterator<CachedText> iterator = texts.values().iterator();
+    while (texts.size() > capacity) {
+      iterator.next();
+      iterator.remove();
+      evictions++;
+    }
+  }
+
+  /** A laid out text with its vertex data. */
+  public static final class CachedText {
+    private final BitmapFontCache cache;
+    private final GlyphLayout layout;
+
+    private CachedText(
+        final BitmapFont font, final String text, float targetWidth, int align, final Color color) {
+      cache = new BitmapFontCache(font, font.usesIntegerPositions());
+      cache.setColor(color);
+      layout = cache.setText(text, 0, 0, targetWidth, align, targetWidth > 0);
+    }
+
+    /**
+     * Get the width of the laid out text.
+     *
+     * @return Width of the text.
+     */
+    public float width() {
+      return layout.width;
+    }
+
+    /**
+     * Get the height of the laid out text.
+     *
+     * @return Height of the text.
+     */
+    public float height() {
+      return layout.height;
+    }
+
+    /**
+     * Draw the text.
+     *
+     * @param batch Batch to draw with, has to be drawing.
+     * @param x x-Position of the left edge of the target width.
+     * @param y y-Position of the top of the text.
+     */
+    public void draw(final Batch batch, float x, float y) {
+      cache.setPosition(x, y);
+      cache.draw(batch);
+    }
+  }
+
+  private static final class Key {
+    private BitmapFont font;
+    private String text;
+    private float targetWidth;
+    private int align;
+    private int color;
+
+    private void set(
+        final BitmapFont font, final String text, float targetWidth, int align, int color) {
+      this.font = font;
+      this.text = text;
+      this.targetWidth = targetWidth;
+      this.align = align;
+      this.color = color;
+    }
+
+    private Key copy() {
+      Key key = new Key();
+      key.set(font, text, targetWidth, align, color);
+      return key;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (!(o instanceof Key key)) return false;
+      return font == key.font
+          && targetWidth == key.targetWidth
+          && align == key.align
+          && color == key.color
+          && text.equals(key.text);
+    }
+
+    @Override
+    public int hashCode() {
+      int hash = System.identityHashCode(font);
+      hash = 31 * hash + text.hashCode();
+      hash = 31 * hash + Float.floatToIntBits(targetWidth);
+      hash = 31 * hash + align;
+      return 31 * hash + color;
+    }
+  }
+}
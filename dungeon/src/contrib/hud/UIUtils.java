@@ -1,6 +1,10 @@
 package contrib.hud;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.ui.Dialog;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
@@ -21,6 +25,8 @@ public final class UIUtils {
 
   private static Skin DEFAULT_SKIN;
 
+  private static TextureRegion WHITE;
+
   /**
    * Retrieve the default skin.
    *
@@ -36,6 +42,25 @@ public final class UIUtils {
     return DEFAULT_SKIN;
   }
 
+  /**
+   * Retrieve a white 1x1 region, to draw colored quads with {@link
+   * com.badlogic.gdx.graphics.g2d.Batch#setPackedColor(float)}.
+   *
+   * <p>All quads drawn with this region share one texture, so they are drawn in one batch.
+   *
+   * @return the shared white region, created on the first call.
+   */
+  public static TextureRegion whiteRegion() {
+    if (WHITE == null) {
+      Pixmap pixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
+      pixmap.setColor(Color.WHITE);
+      pixmap.fill();
+      WHITE = new TextureRegion(new Texture(pixmap));
+      pixmap.dispose();
+    }
+    return WHITE;
+  }
+
   /**
    * Limits the length of the string to 40 characters, after which a line break occurs
    * automatically.
@@ -1,23 +1,24 @@
 package contrib.hud.crafting;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.scenes.scene2d.utils.DragAndDrop;
-import com.badlogic.gdx.utils.Align;
 import contrib.components.InventoryComponent;
 import contrib.crafting.Crafting;
 import contrib.crafting.CraftingResult;
 import contrib.crafting.CraftingType;
 import contrib.crafting.Recipe;
+import contrib.hud.TextCache;
 import contrib.hud.elements.CombinableGUI;
 import contrib.hud.elements.GUICombination;
 import contrib.hud.elements.ImageButton;
+import contrib.hud.elements.RetainedLayer;
 import contrib.hud.inventory.ItemDragPayload;
 import contrib.item.Item;
 import core.Game;
@@ -122,6 +123,8 @@ public class CraftingGUI extends CombinableGUI {
   }
 
   private final ArrayList<Item> items = new ArrayList<>();
+  // Background and items, painted again if the items or the bounds change
+  private final RetainedLayer layer = new RetainedLayer(this::paintLayer);
   private final ImageButton buttonOk, buttonCancel;
   private final InventoryComponent targetInventory;
   private Recipe currentRecipe = null;
@@ -206,30 +209,46 @@ public class CraftingGUI extends CombinableGUI {
     this.buttonCancel.height(Math.round(this.height() * BUTTON_CANCEL_HEIGHT));
     this.buttonCancel.x(this.x() + Math.round(this.width() * BUTTON_CANCEL_X));
     this.buttonCancel.y(this.y() + Math.round(this.height() * BUTTON_CANCEL_Y));
+
+    this.layer.invalidate();
   }
 
   @Override
   protected void draw(Batch batch) {
-    // Draw background
+    // Background and items are painted again only if the items or the bounds change
+    this.layer.draw(batch, this.x(), this.y(), this.width(), this.height());
+
+    this.buttonOk.draw(batch);
+    this.buttonCancel.draw(batch);
+  }
+
+  @Override
+  protected void dispose() {
+    this.layer.dispose();
+  }
+
+  /**
+   * Paint the background and the items into the retained layer.
+   *
+   * @param batch The batch of the layer, coordinates are relative to the crafting GUI.
+   */
+  private void paintLayer(Batch batch) {
     batch.draw(
         TextureMap.instance().textureAt(backgroundAnimation.nextAnimationTexturePath()),
-        this.x(),
-        this.y(),
+        0,
+        0,
         this.width(),
         this.height());
 
-    this.drawItems(batch);
-
-    this.buttonOk.draw(batch);
-    this.buttonCancel.draw(batch);
+    this.paintItems(batch);
   }
 
   /**
-   * Draws the items that have been added to the cauldron.
+   * Paints the items that have been added to the cauldron.
    *
    * @param batch The batch to draw to.
    */
-  private void drawItems(Batch batch) {
+  private void paintItems(Batch batch) {
     if (this.items.isEmpty()) {
       return;
     }
@@ -241,8 +260,8 @@ public class CraftingGUI extends CombinableGUI {
               Math.round(this.height() * INPUT_ITEMS_MAX_SIZE),
               (this.width() - this.items.size() * ITEM_GAP) / this.items.size());
       int rowWidth = size * this.items.size() + ITEM_GAP * (this.items.size() + 1);
-      int startX = this.x() + Math.round(this.width() * INPUT_ITEMS_X) - rowWidth / 2;
-      int startY = this.y() + Math.round(this.height() * INPUT_ITEMS_Y);
+      int startX = Math.round(this.width() * INPUT_ITEMS_X) - rowWidth / 2;
+      int startY = Math.round(this.height() * INPUT_ITEMS_Y);
 
       for (int i = 0; i < this.items.size(); i++) {
         Texture itemTexture =
@@ -251,24 +270,18 @@ public class CraftingGUI extends CombinableGUI {
         int textureX = startX + ITEM_GAP * (i + 1) + size * i;
         batch.draw(itemTexture, textureX, startY, size, size);
 
-        GlyphLayout layout = new GlyphLayout(bitmapFont, Integer.toString(i + 1));
-        int boxX = textureX + (size / 2) - Math.round((layout.height / 2)) - NUMBER_PADDING;
+        TextCache.CachedText number =
+            TextCache.instance().get(bitmapFont, Integer.toString(i + 1), Color.WHITE);
+        int boxX = textureX + (size / 2) - Math.round((number.height() / 2)) - NUMBER_PADDING;
         int boxY = startY - NUMBER_PADDING;
         batch.draw(
             numberBackground,
             boxX,
             boxY,
-            layout.height + 2 * NUMBER_PADDING,
-            layout.height + 2 * NUMBER_PADDING);
-
-        bitmapFont.draw(
-            batch,
-            Integer.toString(i + 1),
-            boxX + NUMBER_PADDING,
-            boxY + NUMBER_PADDING + layout.height,
-            layout.width,
-            Align.center,
-            false);
+            number.height() + 2 * NUMBER_PADDING,
+            number.height() + 2 * NUMBER_PADDING);
+
+        number.draw(batch, boxX + NUMBER_PADDING, boxY + NUMBER_PADDING + number.height());
       }
     }
 
@@ -293,8 +306,8 @@ public class CraftingGUI extends CombinableGUI {
               Math.round(this.height() * RESULT_ITEM_MAX_SIZE),
               (this.width() - nrItemResults * ITEM_GAP) / nrItemResults);
       int rowWidth = size * nrItemResults + ITEM_GAP * (nrItemResults + 1);
-      int x = this.x() + Math.round(this.width() * RESULT_ITEM_X) - rowWidth / 2;
-      int y = this.y() + Math.round(this.height() * RESULT_ITEM_Y);
+      int x = Math.round(this.width() * RESULT_ITEM_X) - rowWidth / 2;
+      int y = Math.round(this.height() * RESULT_ITEM_Y);
 
       int i = 0;
       for (CraftingResult result : this.currentRecipe.results()) {
@@ -305,29 +318,23 @@ public class CraftingGUI extends CombinableGUI {
             TextureMap.instance().textureAt(item.inventoryAnimation().nextAnimationTexturePath());
         batch.draw(itemTexture, x + ITEM_GAP * (i + 1) + size * i, y, size, size);
 
-        GlyphLayout layout = new GlyphLayout(bitmapFont, item.displayName());
+        TextCache.CachedText name =
+            TextCache.instance().get(bitmapFont, item.displayName(), Color.WHITE);
         int boxX =
             x
                 + ITEM_GAP * (i + 1)
                 + size * i
                 + (size / 2)
-                - Math.round((layout.width / 2))
+                - Math.round((name.width() / 2))
                 - NUMBER_PADDING;
         int boxY = y - NUMBER_PADDING;
         batch.draw(
             numberBackground,
             boxX,
             boxY,
-            layout.width + 2 * NUMBER_PADDING,
-            layout.height + 2 * NUMBER_PADDING);
-        bitmapFont.draw(
-            batch,
-            item.displayName(),
-            boxX + NUMBER_PADDING,
-            boxY + NUMBER_PADDING + layout.height,
-            layout.width,
-            Align.center,
-            false);
+            name.width() + 2 * NUMBER_PADDING,
+            name.height() + 2 * NUMBER_PADDING);
+        name.draw(batch, boxX + NUMBER_PADDING, boxY + NUMBER_PADDING + name.height());
 
         i++;
       }
@@ -337,6 +344,7 @@ public class CraftingGUI extends CombinableGUI {
   private void updateRecipe() {
     Item[] itemData = this.items.toArray(new Item[0]);
     this.currentRecipe = Crafting.recipeByIngredients(itemData).orElse(null);
+    this.layer.invalidate();
   }
 
   private void craft() {
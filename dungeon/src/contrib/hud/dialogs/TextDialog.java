@@ -20,7 +20,7 @@ import java.util.function.BiFunction;
 public final class TextDialog extends Dialog {
 
   /** Handler for Button presses */
-  private final BiFunction<TextDialog, String, Boolean> resultHandler;
+  private BiFunction<TextDialog, String, Boolean> resultHandler;
 
   /**
    * creates a Textdialog with the given title and skin and stores the functional interface for
@@ -108,6 +108,17 @@ public final class TextDialog extends Dialog {
     };
   }
 
+  /**
+   * Replace the handler for button presses.
+   *
+   * <p>Used to reuse a dialog for another purpose instead of building a new one.
+   *
+   * @param resultHandler controls the button presses
+   */
+  public void resultHandler(final BiFunction<TextDialog, String, Boolean> resultHandler) {
+    this.resultHandler = resultHandler;
+  }
+
   /**
    * when a Button event happened calls the stored resultHandler and when the resultHandler returns
    * a false stops the default hide on button press.
@@ -101,6 +101,16 @@ public abstract class CombinableGUI {
   /** Called when the bounds of the element change. */
   protected void boundsUpdate() {}
 
+  /**
+   * Called when the parent {@link GUICombination} is removed from the stage.
+   *
+   * <p>Use this to free native resources (e.g., a {@link RetainedLayer}). The element may be added
+   * to the stage again afterward, so the resources should be created again on demand.
+   *
+   * <p>The default implementation does nothing.
+   */
+  protected void dispose() {}
+
   /**
    * Get the x coordinate of the left edge of the element
    *
@@ -4,6 +4,7 @@ import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.scenes.scene2d.Group;
+import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.utils.DragAndDrop;
 import contrib.components.UIComponent;
 import core.Game;
@@ -17,9 +18,8 @@ import java.util.Arrays;
  * <p>This class calculates the position and available space for each {@link CombinableGUI}, calling
  * the methods of the {@link CombinableGUI} to draw the elements and calculate the preferred size.
  *
- * <p>The class inherits from {@link Group}, allowing it to be added to a {@link
- * com.badlogic.gdx.scenes.scene2d.Stage Stage} for display. This addition should be facilitated
- * through the use of a {@link UIComponent}.
+ * <p>The class inherits from {@link Group}, allowing it to be added to a {@link Stage} for display.
+ * This addition should be facilitated through the use of a {@link UIComponent}.
  */
 public final class GUICombination extends Group {
 
@@ -90,6 +90,12 @@ public final class GUICombination extends Group {
     }
   }
 
+  @Override
+  protected void setStage(final Stage stage) {
+    super.setStage(stage);
+    if (stage == null) this.combinableGuis.forEach(CombinableGUI::dispose);
+  }
+
   @Override
   public void draw(final Batch batch, float parentAlpha) {
     this.combinableGuis.forEach(combinableGUI -> combinableGUI.draw(batch));
@@ -0,0 +1,143 @@
+package contrib.hud.elements;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.viewport.Viewport;
+import core.Game;
+import java.util.function.Consumer;
+
+/**
+ * A retained drawing layer for the HUD.
+ *
+ * <p>The content of the layer is painted once into a {@link FrameBuffer} and then drawn as a single
+ * texture every frame, until the layer is {@link #invalidate() invalidated} or its size changes.
+ * Use it for parts of a {@link CombinableGUI} that only change if the backing data changes (e.g.,
+ * the slots and items of an inventory), so drawing them costs one quad instead of one draw (and
+ * maybe one batch flush) per element.
+ *
+ * <p>The painter draws in the local coordinates of the layer, with the origin in the lower left
+ * corner. The layer is stored with premultiplied alpha, so translucent content is blended like it
+ * would be if it was drawn directly.
+ *
+ * <p>The frame buffer is a native resource: call {@link #dispose()} if the layer is not needed
+ * anymore. A disposed layer can still be drawn, it will be painted again on the next draw.
+ */
+public final class RetainedLayer implements Disposable {
+
+  // shared by all layers, they are painted one after another
+  private static SpriteBatch layerBatch;
+
+  private final Consumer<Batch> painter;
+  private final Matrix4 projection = new Matrix4();
+  private FrameBuffer frameBuffer;
+  private TextureRegion region;
+  private boolean dirty = true;
+
+  /**
+   * Create a new layer.
+   *
+   * @param painter Paints the content of the layer with the given batch, which is already started.
+   */
+  public RetainedLayer(final Consumer<Batch> painter) {
+    this.painter = painter;
+  }
+
+  /** Paint the content of the layer again on the next draw. */
+  public void invalidate() {
+    dirty = true;
+  }
+
+  /**
+   * Check if the content of the layer needs to be painted on the next draw.
+   *
+   * @return true if the layer was invalidated or was never painted.
+   */
+  public boolean dirty() {
+    return dirty;
+  }
+
+  /**
+   * Draw the layer, paint it first if needed.
+   *
+   * <p>If the layer has to be painted, the given batch is ended and started again. Otherwise, the
+   * layer is drawn as one quad.
+   *
+   * @param batch Batch to draw the layer with, has to be drawing.
+   * @param x x-Position of the lower left corner.
+   * @param y y-Position of the lower left corner.
+   * @param width Width of the layer, also used as width of the frame buffer.
+   * @param height Height of the layer, also used as height of the frame buffer.
+   */
+  public void draw(final Batch batch, int x, int y, int width, int height) {
+    // minimized windows have a size of 0
+    if (width <= 0 || height <= 0) return;
+    if (frameBuffer == null
+        || frameBuffer.getWidth() != width
+        || frameBuffer.getHeight() != height) {
+      dispose();
+      frameBuffer = new FrameBuffer(Pixmap.Format.RGBA8888, width, height, false);
+      region = new TextureRegion(frameBuffer.getColorBufferTexture());
+      // frame buffers are stored upside down
+      region.flip(false, true);
+    }
+    if (dirty) paint(batch, width, height);
+
+    int srcRGB = batch.getBlendSrcFunc();
+    int dstRGB = batch.getBlendDstFunc();
+    int srcAlpha = batch.getBlendSrcFuncAlpha();
+    int dstAlpha = batch.getBlendDstFuncAlpha();
+    batch.setBlendFunction(GL20.GL_ONE, GL20.GL_ONE_MINUS_SRC_ALPHA);
+    batch.draw(region, x, y, width, height);
+    batch.setBlendFunctionSeparate(srcRGB, dstRGB, srcAlpha, dstAlpha);
+  }
+
+  private void paint(final Batch batch, int width, int height) {
+    batch.end();
+    frameBuffer.begin();
+    Gdx.gl.glClearColor(0, 0, 0, 0);
+    Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+
+    SpriteBatch layer = layerBatch();
+    layer.setProjectionMatrix(projection.setToOrtho2D(0, 0, width, height));
+    // premultiply the color, but keep the alpha additive, so the buffer can be blended later on
+    layer.setBlendFunctionSeparate(
+        GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA, GL20.GL_ONE, GL20.GL_ONE_MINUS_SRC_ALPHA);
+    layer.setColor(Color.WHITE);
+    layer.begin();
+    painter.accept(layer);
+    layer.end();
+
+    // restore the viewport of the stage, the frame buffer would reset it to the whole window
+    Viewport viewport = Game.stage().map(stage -> stage.getViewport()).orElse(null);
+    if (viewport != null)
+      frameBuffer.end(
+          viewport.getScreenX(),
+          viewport.getScreenY(),
+          viewport.getScreenWidth(),
+          viewport.getScreenHeight());
+    else frameBuffer.end();
+    batch.begin();
+    dirty = false;
+  }
+
+  @Override
+  public void dispose() {
+    if (frameBuffer != null) frameBuffer.dispose();
+    frameBuffer = null;
+    region = null;
+    dirty = true;
+  }
+
+  private static SpriteBatch layerBatch() {
+    if (layerBatch == null) layerBatch = new SpriteBatch();
+    return layerBatch;
+  }
+}
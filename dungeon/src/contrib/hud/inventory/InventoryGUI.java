@@ -7,7 +7,6 @@ import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
@@ -16,13 +15,16 @@ import com.badlogic.gdx.scenes.scene2d.ui.Image;
 import com.badlogic.gdx.scenes.scene2d.utils.DragAndDrop;
 import contrib.components.InventoryComponent;
 import contrib.configuration.KeyboardConfig;
+import contrib.hud.TextCache;
 import contrib.hud.elements.CombinableGUI;
 import contrib.hud.elements.GUICombination;
+import contrib.hud.elements.RetainedLayer;
 import contrib.item.Item;
 import core.Game;
 import core.components.PositionComponent;
 import core.utils.MissingHeroException;
 import core.utils.components.MissingComponentException;
+import core.utils.components.draw.TextureMap;
 import core.utils.components.path.IPath;
 import core.utils.components.path.SimpleIPath;
 
@@ -37,9 +39,10 @@ public class InventoryGUI extends CombinableGUI {
   private static final int BORDER_PADDING = 5;
   private static final int LINE_GAP = 5;
   private static final Vector2 HOVER_OFFSET = new Vector2(10, 10);
+  private static final Color DESCRIPTION_COLOR = new Color(0x000000b0);
   private static final BitmapFont bitmapFont;
   private static final Texture texture;
-  private static final TextureRegion background, hoverBackground;
+  private static final TextureRegion background, hoverBackground, border;
 
   /**
    * Boolean to check if the opened inventory belongs to the hero. Items that are in an inventory
@@ -51,12 +54,15 @@ public class InventoryGUI extends CombinableGUI {
 
   static {
     // Prepare background texture
-    Pixmap pixmap = new Pixmap(2, 1, Pixmap.Format.RGBA8888);
+    Pixmap pixmap = new Pixmap(3, 1, Pixmap.Format.RGBA8888);
     pixmap.drawPixel(0, 0, BACKGROUND_COLOR); // Background
     pixmap.drawPixel(1, 0, HOVER_BACKGROUND_COLOR); // Hover
+    pixmap.drawPixel(2, 0, BORDER_COLOR); // Slot border
     texture = new Texture(pixmap);
+    pixmap.dispose();
     background = new TextureRegion(texture, 0, 0, 1, 1);
     hoverBackground = new TextureRegion(texture, 1, 0, 1, 1);
+    border = new TextureRegion(texture, 2, 0, 1, 1);
     bitmapFont =
         new BitmapFont(
             Gdx.files.internal(FONT_FNT.pathString()),
@@ -65,7 +71,9 @@ public class InventoryGUI extends CombinableGUI {
   }
 
   private final InventoryComponent inventoryComponent;
-  private Texture textureSlots;
+  // Background, slots and items, painted again if the inventory or the bounds change
+  private final RetainedLayer layer = new RetainedLayer(this::paintLayer);
+  private int layoutVersion;
   private String title;
   private int slotSize = 0;
   private int slotsPerRow = 0;
@@ -80,7 +88,7 @@ public class InventoryGUI extends CombinableGUI {
     super();
     this.inventoryComponent = inventoryComponent;
     this.title = title;
-    this.slotsPerRow = Math.min(MAX_ITEMS_PER_ROW, this.inventoryComponent.items().length);
+    this.slotsPerRow = Math.min(MAX_ITEMS_PER_ROW, this.inventoryComponent.maxSize());
     addInputListener();
   }
 
@@ -95,21 +103,18 @@ public class InventoryGUI extends CombinableGUI {
         .ifPresentOrElse(e -> this.title = e.toString(), () -> this.title = "Inventory");
     title = title.split("_(?=\\d+)")[0]; // remove id
     title = title.toUpperCase();
-    this.slotsPerRow = Math.min(MAX_ITEMS_PER_ROW, this.inventoryComponent.items().length);
+    this.slotsPerRow = Math.min(MAX_ITEMS_PER_ROW, this.inventoryComponent.maxSize());
     addInputListener();
   }
 
   @Override
   public void draw(Batch batch) {
-    // Draw & cache slot squares
-    this.drawSlots();
-
-    // Draw Background & Slots
-    batch.draw(background, this.x(), this.y(), this.width(), this.height());
-    batch.draw(this.textureSlots, this.x(), this.y(), this.width(), this.height());
-
-    // Draw Items
-    this.drawItems(batch);
+    // Paint background, slots and items again only if the inventory changed
+    if (this.layoutVersion != this.inventoryComponent.version()) {
+      this.layoutVersion = this.inventoryComponent.version();
+      this.layer.invalidate();
+    }
+    this.layer.draw(batch, this.x(), this.y(), this.width(), this.height());
 
     // Draw inventory title
     this.drawInventoryTitle(batch);
@@ -120,6 +125,16 @@ public class InventoryGUI extends CombinableGUI {
     this.drawItemInfo(batch);
   }
 
+  @Override
+  protected void boundsUpdate() {
+    this.layer.invalidate();
+  }
+
+  @Override
+  protected void dispose() {
+    this.layer.dispose();
+  }
+
   private int getSlotByMousePosition() {
     Vector2 mousePos = new Vector2(Gdx.input.getX(), Gdx.graphics.getHeight() - Gdx.input.getY());
     Vector2 relMousePos = new Vector2(mousePos.x - this.x(), mousePos.y - this.y());
@@ -134,22 +149,26 @@ public class InventoryGUI extends CombinableGUI {
     return this.getSlotByCoordinates((int) x, (int) y);
   }
 
-  private void drawItems(Batch batch) {
-    for (int i = 0; i < this.inventoryComponent.items().length; i++) {
-      if (this.inventoryComponent.items()[i] == null) continue;
-      float x = this.x() + this.slotSize * (i % this.slotsPerRow) + (2 * BORDER_PADDING);
-      float y =
-          this.y()
-              + this.slotSize * (float) Math.floor((i / (float) this.slotsPerRow))
-              + (2 * BORDER_PADDING);
+  /**
+   * Paint the background, the slots and the items into the retained layer.
+   *
+   * @param batch the batch of the layer, coordinates are relative to the inventory.
+   */
+  private void paintLayer(Batch batch) {
+    batch.draw(background, 0, 0, this.width(), this.height());
+    this.paintSlots(batch);
+    this.paintItems(batch);
+  }
+
+  private void paintItems(Batch batch) {
+    for (int i = 0; i < this.inventoryComponent.maxSize(); i++) {
+      Item item = this.inventoryComponent.get(i);
+      if (item == null) continue;
+      float x = this.slotSize * (i % this.slotsPerRow) + (2 * BORDER_PADDING);
+      float y = this.slotSize * (i / this.slotsPerRow) + (2 * BORDER_PADDING);
 
       batch.draw(
-          new Texture(
-              this.inventoryComponent
-                  .items()[i]
-                  .inventoryAnimation()
-                  .nextAnimationTexturePath()
-                  .pathString()),
+          TextureMap.instance().textureAt(item.inventoryAnimation().nextAnimationTexturePath()),
           x,
           y,
           this.slotSize - (4 * BORDER_PADDING),
@@ -157,83 +176,61 @@ public class InventoryGUI extends CombinableGUI {
     }
   }
 
-  private void drawSlots() {
-    if (this.textureSlots == null
-        || this.textureSlots.getWidth() != this.width()
-        || this.textureSlots.getHeight() != this.height()) {
-      if (this.textureSlots != null) this.textureSlots.dispose();
-
-      // Minimized windows have 0 width and height -> container will be 0x0 -> Crash on pixmap
-      // creation
-      if (this.width() <= 0 || this.height() <= 0) return;
-
-      Pixmap pixmap = new Pixmap(this.width(), this.height(), Pixmap.Format.RGBA8888);
-      pixmap.setColor(BORDER_COLOR);
-      int rows = (int) Math.ceil(this.inventoryComponent.items().length / (float) this.slotsPerRow);
-      for (int y = 0; y < rows; y++) {
-        for (int x = 0; x < this.slotsPerRow; x++) {
-          if (x + y * this.slotsPerRow >= this.inventoryComponent.items().length) break;
-          pixmap.drawRectangle(
-              x * this.slotSize + BORDER_PADDING,
-              pixmap.getHeight() - ((y * this.slotSize) + BORDER_PADDING),
-              this.slotSize - (2 * BORDER_PADDING),
-              -this.slotSize + (2 * BORDER_PADDING));
-        }
-      }
-      this.textureSlots = new Texture(pixmap);
+  private void paintSlots(Batch batch) {
+    int size = this.slotSize - (2 * BORDER_PADDING);
+    for (int i = 0; i < this.inventoryComponent.maxSize(); i++) {
+      int x = this.slotSize * (i % this.slotsPerRow) + BORDER_PADDING;
+      int y = this.slotSize * (i / this.slotsPerRow) + BORDER_PADDING;
+      batch.draw(border, x, y, size, 1);
+      batch.draw(border, x, y + size - 1, size, 1);
+      batch.draw(border, x, y, 1, size);
+      batch.draw(border, x + size - 1, y, 1, size);
     }
   }
 
   private void drawInventoryTitle(Batch batch) {
+    TextCache.CachedText text = TextCache.instance().get(bitmapFont, this.title, Color.BLACK);
 
-    GlyphLayout glyphLayout = new GlyphLayout(bitmapFont, this.title);
-
-    int x = this.x() + (this.width() / 2) - Math.round(glyphLayout.width) / 2;
+    int x = this.x() + (this.width() / 2) - Math.round(text.width()) / 2;
     int y = this.y() + this.height() + BORDER_PADDING;
 
     batch.draw(
         hoverBackground,
         x,
         y,
-        glyphLayout.width + (BORDER_PADDING * 2),
-        glyphLayout.height + (BORDER_PADDING * 2));
-    bitmapFont.setColor(Color.BLACK);
-    bitmapFont.draw(batch, this.title, x + BORDER_PADDING, y + glyphLayout.height + BORDER_PADDING);
+        text.width() + (BORDER_PADDING * 2),
+        text.height() + (BORDER_PADDING * 2));
+    text.draw(batch, x + BORDER_PADDING, y + text.height() + BORDER_PADDING);
   }
 
   private void drawItemInfo(Batch batch) {
     // Flip Y axis (mouse origin top left, batch origin bottom left)
-    Vector2 mousePos = new Vector2(Gdx.input.getX(), Gdx.graphics.getHeight() - Gdx.input.getY());
-    Vector2 relMousePos = new Vector2(mousePos.x - this.x(), mousePos.y - this.y());
+    float mouseX = Gdx.input.getX();
+    float mouseY = Gdx.graphics.getHeight() - Gdx.input.getY();
 
     // Check if mouse is in inventory bounds
-    if (mousePos.x < this.x() || mousePos.x > this.x() + this.width()) return;
-    if (mousePos.y < this.y() || mousePos.y > this.y() + this.height()) return;
+    if (mouseX < this.x() || mouseX > this.x() + this.width()) return;
+    if (mouseY < this.y() || mouseY > this.y() + this.height()) return;
 
     // Check if mouse is dragging an item
     if (this.dragAndDrop().isDragging()) return;
 
-    int hoveredSlot = this.getSlotByCoordinates(relMousePos.x, relMousePos.y);
+    int hoveredSlot = this.getSlotByCoordinates(mouseX - this.x(), mouseY - this.y());
     Item item = InventoryGUI.this.inventoryComponent.get(hoveredSlot);
     if (item == null) return;
 
-    GlyphLayout layoutName = new GlyphLayout(bitmapFont, item.displayName());
-    GlyphLayout layoutDesc = new GlyphLayout(bitmapFont, item.description());
+    TextCache.CachedText name =
+        TextCache.instance().get(bitmapFont, item.displayName(), Color.BLACK);
+    TextCache.CachedText description =
+        TextCache.instance().get(bitmapFont, item.description(), DESCRIPTION_COLOR);
 
-    float x = mousePos.x + HOVER_OFFSET.x;
-    float y = mousePos.y + HOVER_OFFSET.y;
-    float width = Math.max(layoutName.width, layoutDesc.width) + HOVER_OFFSET.x;
-    float height = layoutName.height + layoutDesc.height + HOVER_OFFSET.y + LINE_GAP;
+    float x = mouseX + HOVER_OFFSET.x;
+    float y = mouseY + HOVER_OFFSET.y;
+    float width = Math.max(name.width(), description.width()) + HOVER_OFFSET.x;
+    float height = name.height() + description.height() + HOVER_OFFSET.y + LINE_GAP;
     batch.draw(hoverBackground, x, y, width, height);
-    bitmapFont.setColor(Color.BLACK);
-    bitmapFont.draw(
-        batch,
-        item.displayName(),
-        x + BORDER_PADDING,
-        y + layoutName.height + LINE_GAP + layoutDesc.height + 5);
-    bitmapFont.setColor(new Color(0x000000b0));
-    bitmapFont.draw(
-        batch, item.description(), x + BORDER_PADDING, y + layoutName.height + LINE_GAP);
+    name.draw(batch, x + BORDER_PADDING, y + name.height() + LINE_GAP + description.height() + 5);
+    description.draw(batch, x + BORDER_PADDING, y + name.height() + LINE_GAP);
   }
 
   @Override
@@ -253,7 +250,8 @@ public class InventoryGUI extends CombinableGUI {
 
             Image image =
                 new Image(
-                    new Texture(item.inventoryAnimation().nextAnimationTexturePath().pathString()));
+                    TextureMap.instance()
+                        .textureAt(item.inventoryAnimation().nextAnimationTexturePath()));
             image.setSize(InventoryGUI.this.slotSize, InventoryGUI.this.slotSize);
             payload.setDragActor(image);
             dragAndDrop.setDragActorPosition(image.getWidth() / 2, -image.getHeight() / 2);
@@ -301,7 +299,7 @@ public class InventoryGUI extends CombinableGUI {
             if (payload.getObject() != null && payload.getObject() instanceof ItemDragPayload) {
               int slot = InventoryGUI.this.getSlotByCoordinates(x, y);
               return InventoryGUI.this.inventoryComponent.get(slot) == null
-                  && slot < InventoryGUI.this.inventoryComponent.items().length
+                  && slot < InventoryGUI.this.inventoryComponent.maxSize()
                   && slot >= 0;
             }
             return false;
@@ -355,8 +353,7 @@ public class InventoryGUI extends CombinableGUI {
   protected Vector2 preferredSize(GUICombination.AvailableSpace availableSpace) {
     int rows =
         (int)
-            Math.max(
-                Math.ceil(this.inventoryComponent.items().length / (float) this.slotsPerRow), 1.0f);
+            Math.max(Math.ceil(this.inventoryComponent.maxSize() / (float) this.slotsPerRow), 1.0f);
     int width =
         (int) Math.min(availableSpace.width(), (Game.stage().orElseThrow().getWidth() * 0.75f));
     int height = (width / this.slotsPerRow) * rows;
@@ -4,8 +4,8 @@ import contrib.components.InventoryComponent;
 import contrib.crafting.CraftingIngredient;
 import contrib.crafting.CraftingResult;
 import contrib.crafting.CraftingType;
-import contrib.entities.WorldItemBuilder;
 import contrib.item.concreteItem.*;
+import contrib.level.GroundLayer;
 import core.Entity;
 import core.Game;
 import core.level.elements.tile.FloorTile;
@@ -251,13 +251,15 @@ public class Item implements CraftingIngredient, CraftingResult {
   /**
    * Called when an item should be dropped.
    *
+   * <p>The item is stored in the {@link GroundLayer} of the current level. It is turned into an
+   * item entity once an entity interacts with it.
+   *
    * @param position The position where the item should be dropped.
    * @return Whether the item was dropped successfully.
    */
   public boolean drop(final Point position) {
     if (Game.tileAT(position) instanceof FloorTile) {
-      Game.add(WorldItemBuilder.buildWorldItem(this, position));
-      return true;
+      return GroundLayer.of(Game.currentLevel()).addItem(this, position) >= 0;
     }
     return false;
   }
@@ -0,0 +1,413 @@
+package contrib.level;
+
+import contrib.components.InteractionComponent;
+import contrib.entities.WorldItemBuilder;
+import contrib.item.Item;
+import core.Entity;
+import core.Game;
+import core.level.Tile;
+import core.level.elements.ILevel;
+import core.systems.DrawSystem;
+import core.systems.LevelSystem;
+import core.systems.VisibilitySystem;
+import core.utils.Point;
+import core.utils.components.draw.Animation;
+import core.utils.components.draw.PainterConfig;
+import core.utils.components.draw.RenderQueue;
+import core.utils.components.draw.TextureMap;
+import core.utils.components.path.IPath;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Stores the static objects on the ground of a level: dropped items and decorations.
+ *
+ * <p>Ground objects are not entities. They are stored in compact parallel arrays, linked per tile,
+ * so they don't inflate the entity sets of the systems. All ground objects in the visible area are
+ * submitted to the {@link RenderQueue} of the {@link DrawSystem} on the {@link
+ * DrawSystem#GROUND_LAYER}, so they are drawn below the entities in the same batch.
+ *
+ * <p>An item on the ground is turned into a full item entity (see {@link WorldItemBuilder}) only if
+ * an entity interacts with it, see {@link #promoteNearestItem(Point, float)}. Decorations are only
+ * drawn.
+ *
+ * <p>Use {@link #of(ILevel)} to get the layer of a level. Each level has its own layer, so the
+ * objects stay on the ground of their level if the level changes.
+ *
+ * <p>Only the layer of the current level holds references to the textures of its objects (see
+ * {@link TextureMap#acquire(IPath)}). If the level changes, the references are moved to the layer
+ * of the new level (see {@link LevelSystem#addLevelChangeListener(Consumer)}), so the textures of
+ * the other levels can be evicted.
+ */
+public final class GroundLayer {
+
+  private static final int INITIAL_CAPACITY = 16;
+  private static final Map<ILevel, GroundLayer> LAYERS = new WeakHashMap<>();
+  private static final Map<IPath, PainterConfig> CONFIGS = new HashMap<>();
+  private static boolean registered = false;
+  // layer of the current level, the only one that holds texture references
+  private static GroundLayer active;
+  // frames since the first submit, used to animate the decorations
+  private static int tick = 0;
+
+  private final int width;
+  private final int height;
+  // first object on each tile, -1 if there is none; created with the first object
+  private int[] heads;
+  // objects, stored in parallel arrays; an object is either an item or a decoration
+  private int[] next = new int[INITIAL_CAPACITY];
+  private int[] tiles = new int[INITIAL_CAPACITY];
+  private float[] xs = new float[INITIAL_CAPACITY];
+  private float[] ys = new float[INITIAL_CAPACITY];
+  private Item[] items = new Item[INITIAL_CAPACITY];
+  private Animation[] animations = new Animation[INITIAL_CAPACITY];
+  private int used = 0;
+  private int size = 0;
+  // removed objects, linked by next
+  private int free = -1;
+
+  private GroundLayer(final ILevel level) {
+    Tile[][] layout = level.layout();
+    height = layout.length;
+    width = height == 0 ? 0 : layout[0].length;
+  }
+
+  /**
+   * Get the ground layer of the given level, create it if needed.
+   *
+   * @param level Level of the layer.
+   * @return The ground layer of the level.
+   */
+  public static GroundLayer of(final ILevel level) {
+    if (!registered) {
+      DrawSystem.addSource(GroundLayer::submitCurrent);
+      LevelSystem.addLevelChangeListener(GroundLayer::activate);
+      registered = true;
+    }
+    GroundLayer layer = LAYERS.get(level);
+    if (layer == null) {
+      layer = new GroundLayer(level);
+      LAYERS.put(level, layer);
+      // the layer is empty, nothing to acquire
+      if (level == Game.currentLevel()) active = layer;
+    }
+    return layer;
+  }
+
+  /**
+   * Get the ground layer of the current level.
+   *
+   * @return The ground layer, or an empty optional if no level is loaded.
+   */
+  public static Optional<GroundLayer> current() {
+    ILevel level = Game.currentLevel();
+    return level == null ? Optional.empty() : Optional.of(of(level));
+  }
+
+  /**
+   * Remove the items that match the given predicate from the ground layers of all levels.
+   *
+   * @param filter Returns true for the items to remove.
+   * @return Number of removed items.
+   */
+  public static int removeItemsIf(final Predicate<Item> filter) {
+    int removed = 0;
+    for (GroundLayer layer : LAYERS.values()) {
+      for (int i = 0; i < layer.used; i++) {
+        if (layer.items[i] != null && filter.test(layer.items[i]) && layer.remove(i)) removed++;
+      }
+    }
+    return removed;
+  }
+
+  /**
+   * Turn the nearest item on the ground of the current level into an item entity and add it to the
+   * game.
+   *
+   * <p>Only items inside the pickup radius of the {@link WorldItemBuilder} are considered.
+   *
+   * @param position Position of the entity that interacts.
+   * @param maxDistance Only items closer than this distance are considered (e.g., the distance to
+   *     the nearest interactable entity).
+   * @return The new item entity with an {@link InteractionComponent}, or an empty optional if there
+   *     is no item in range.
+   */
+  public static Optional<Entity> promoteNearestItem(final Point position, float maxDistance) {
+    return current()
+        .flatMap(
+            layer -> {
+              float radius = Math.min(maxDistance, WorldItemBuilder.DEFAULT_ITEM_PICKUP_RADIUS);
+              int index = layer.nearestItem(position, radius);
+              return index < 0 ? Optional.empty() : Optional.of(layer.promote(index));
+            });
+  }
+
+  /**
+   * Turn an item on the given tile of the current level into an item entity and add it to the game.
+   *
+   * <p>Only items inside the pickup radius of the {@link WorldItemBuilder} around the given
+   * position are considered, so an item is only turned into an entity if it can be picked up from
+   * there.
+   *
+   * @param tile Tile to take the item from (e.g., the tile the player clicked on).
+   * @param position Position of the entity that interacts.
+   * @return The new item entity with an {@link InteractionComponent}, or an empty optional if there
+   *     is no item in range on the tile.
+   */
+  public static Optional<Entity> promoteItemAt(final Tile tile, final Point position) {
+    return current()
+        .flatMap(
+            layer -> {
+              int index = layer.itemAt(tile, position, WorldItemBuilder.DEFAULT_ITEM_PICKUP_RADIUS);
+              return index < 0 ? Optional.empty() : Optional.of(layer.promote(index));
+            });
+  }
+
+  /**
+   * Add an item to the ground.
+   *
+   * @param item Item to add.
+   * @param position Position of the item.
+   * @return Handle of the item in this layer, -1 if the position is outside the level.
+   */
+  public int addItem(final Item item, final Point position) {
+    return add(item, item.worldAnimation(), position);
+  }
+
+  /**
+   * Add a decoration to the ground.
+   *
+   * @param animation Animation of the decoration.
+   * @param position Position of the decoration.
+   * @return Handle of the decoration in this layer, -1 if the position is outside the level.
+   */
+  public int addDecoration(final Animation animation, final Point position) {
+    return add(null, animation, position);
+  }
+
+  /**
+   * Remove an object from the ground.
+   *
+   * @param handle Handle of the object, returned when it was added.
+   * @return true if the object was removed, false if there is no object with this handle.
+   */
+  public boolean remove(int handle) {
+    if (handle < 0 || handle >= used || animations[handle] == null) return false;
+    int tile = tiles[handle];
+    // unlink from the tile
+    if (heads[tile] == handle) heads[tile] = next[handle];
+    else {
+      int previous = heads[tile];
+      while (next[previous] != handle) previous = next[previous];
+      next[previous] = next[handle];
+    }
+    if (this == active) TextureMap.instance().release(animations[handle].animationFrames());
+    items[handle] = null;
+    animations[handle] = null;
+    next[handle] = free;
+    free = handle;
+    size--;
+    return true;
+  }
+
+  /**
+   * Get the item with the given handle.
+   *
+   * @param handle Handle of the object.
+   * @return The item, or null if the object is a decoration or was removed.
+   */
+  public Item item(int handle) {
+    return handle < 0 || handle >= used ? null : items[handle];
+  }
+
+  /**
+   * Get the position of the object with the given handle.
+   *
+   * @param handle Handle of the object.
+   * @return Position of the object.
+   */
+  public Point position(int handle) {
+    return new Point(xs[handle], ys[handle]);
+  }
+
+  /**
+   * Find the nearest item (not decoration) in the given radius.
+   *
+   * <p>Only the tiles around the position are searched.
+   *
+   * @param position Position to search from.
+   * @param radius Items have to be closer than this radius.
+   * @return Handle of the nearest item, -1 if there is none.
+   */
+  public int nearestItem(final Point position, float radius) {
+    if (heads == null) return -1;
+    int minX = Math.max(0, (int) Math.floor(position.x - radius));
+    int maxX = Math.min(width - 1, (int) Math.floor(position.x + radius));
+    int minY = Math.max(0, (int) Math.floor(position.y - radius));
+    int maxY = Math.min(height - 1, (int) Math.floor(position.y + radius));
+    int nearest = -1;
+    float nearestDistance = radius * radius;
+    for (int y = minY; y <= maxY; y++) {
+      for (int x = minX; x <= maxX; x++) {
+        for (int i = heads[y * width + x]; i >= 0; i = next[i]) {
+          if (items[i] == null) continue;
+          float dx = xs[i] - position.x;
+          float dy = ys[i] - position.y;
+          float distance = dx * dx + dy * dy;
+          if (distance < nearestDistance) {
+            nearestDistance = distance;
+            nearest = i;
+          }
+        }
+      }
+    }
+    return nearest;
+  }
+
+  /**
+   * Find an item (not decoration) on the given tile in the given radius.
+   *
+   * @param tile Tile to search.
+   * @param position Position to search from.
+   * @param radius The item has to be closer than this radius.
+   * @return Handle of the item, -1 if there is none.
+   */
+  public int itemAt(final Tile tile, final Point position, float radius) {
+    int x = tile.coordinate().x;
+    int y = tile.coordinate().y;
+    if (heads == null || x < 0 || y < 0 || x >= width || y >= height) return -1;
+    for (int i = heads[y * width + x]; i >= 0; i = next[i]) {
+      if (items[i] == null) continue;
+      float dx = xs[i] - position.x;
+      float dy = ys[i] - position.y;
+      if (dx * dx + dy * dy < radius * radius) return i;
+    }
+    return -1;
+  }
+
+  /**
+   * Get the number of objects on the given tile.
+   *
+   * @param x x-Index of the tile.
+   * @param y y-Index of the tile.
+   * @return Number of items and decorations on the tile.
+   */
+  public int objectsAt(int x, int y) {
+    if (heads == null || x < 0 || y < 0 || x >= width || y >= height) return 0;
+    int count = 0;
+    for (int i = heads[y * width + x]; i >= 0; i = next[i]) count++;
+    return count;
+  }
+
+  /**
+   * Get the number of objects on the ground.
+   *
+   * @return Number of items and decorations.
+   */
+  public int size() {
+    return size;
+  }
+
+  private int add(final Item item, final Animation animation, final Point position) {
+    int x = (int) Math.floor(position.x);
+    int y = (int) Math.floor(position.y);
+    if (x < 0 || y < 0 || x >= width || y >= height) return -1;
+    if (heads == null) {
+      heads = new int[width * height];
+      Arrays.fill(heads, -1);
+    }
+    int index;
+    if (free >= 0) {
+      index = free;
+      free = next[free];
+    } else {
+      if (used == next.length) grow();
+      index = used++;
+    }
+    int tile = y * width + x;
+    items[index] = item;
+    animations[index] = animation;
+    xs[index] = position.x;
+    ys[index] = position.y;
+    tiles[index] = tile;
+    next[index] = heads[tile];
+    heads[tile] = index;
+    size++;
+    if (this == active) TextureMap.instance().acquire(animation.animationFrames());
+    return index;
+  }
+
+  private Entity promote(int index) {
+    Entity entity = WorldItemBuilder.buildWorldItem(items[index], position(index));
+    remove(index);
+    Game.add(entity);
+    return entity;
+  }
+
+  /**
+   * Move the texture references from the layer of the old level to the layer of the new level.
+   *
+   * @param level The new level.
+   */
+  private static void activate(final ILevel level) {
+    GroundLayer layer = level == null ? null : LAYERS.get(level);
+    if (layer == active) return;
+    if (active != null) active.textures(false);
+    active = layer;
+    if (active != null) active.textures(true);
+  }
+
+  private void textures(boolean acquire) {
+    TextureMap textures = TextureMap.instance();
+    for (int i = 0; i < used; i++) {
+      if (animations[i] == null) continue;
+      if (acquire) textures.acquire(animations[i].animationFrames());
+      else textures.release(animations[i].animationFrames());
+    }
+  }
+
+  private static void submitCurrent(final RenderQueue queue) {
+    tick++;
+    ILevel level = Game.currentLevel();
+    if (level == null) return;
+    GroundLayer layer = LAYERS.get(level);
+    if (layer != null && layer.size > 0) layer.submit(queue);
+  }
+
+  private void submit(final RenderQueue queue) {
+    int minX = Math.max(0, VisibilitySystem.minVisibleX());
+    int minY = Math.max(0, VisibilitySystem.minVisibleY());
+    int maxX = Math.min(width - 1, VisibilitySystem.maxVisibleX());
+    int maxY = Math.min(height - 1, VisibilitySystem.maxVisibleY());
+    for (int y = minY; y <= maxY; y++) {
+      for (int x = minX; x <= maxX; x++) {
+        for (int i = heads[y * width + x]; i >= 0; i = next[i]) {
+          Animation animation = animations[i];
+          int frame = (tick / Math.max(1, animation.timeBetweenFrames())) % animation.frameCount();
+          IPath texture = animation.frame(frame);
+          PainterConfig config = CONFIGS.get(texture);
+          if (config == null) {
+            config = new PainterConfig(texture);
+            CONFIGS.put(texture, config);
+          }
+          queue.submit(DrawSystem.GROUND_LAYER, xs[i], ys[i], texture, config);
+        }
+      }
+    }
+  }
+
+  private void grow() {
+    int capacity = next.length * 2;
+    next = Arrays.copyOf(next, capacity);
+    tiles = Arrays.copyOf(tiles, capacity);
+    xs = Arrays.copyOf(xs, capacity);
+    ys = Arrays.copyOf(ys, capacity);
+    items = Arrays.copyOf(items, capacity);
+    animations = Arrays.copyOf(animations, capacity);
+  }
+}
@@ -0,0 +1,231 @@
+package contrib.level.generator.graphBased;
+
+import com.badlogic.gdx.ai.pfa.DefaultGraphPath;
+import com.badlogic.gdx.ai.pfa.GraphPath;
+import contrib.level.generator.graphBased.levelGraph.LevelGraph;
+import contrib.level.generator.graphBased.levelGraph.LevelNode;
+import core.Entity;
+import core.level.Tile;
+import core.level.elements.ILevel;
+import core.level.elements.tile.DoorTile;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Finds paths across the rooms of a room-based level (see {@link RoomBasedLevelGenerator}).
+ *
+ * <p>Each room of a room-based level is a separate {@link ILevel}, the rooms are connected by
+ * {@link DoorTile}s. Instead of searching tile paths through every room, this pathfinder searches
+ * on an abstract graph: the nodes are the doors (portals) of the rooms, two doors of the same room
+ * are connected with the length of the tile path between their doorsteps, and each door is
+ * connected with its {@link DoorTile#otherDoor() other door}. The distances inside the rooms are
+ * calculated once when the pathfinder is created, so a query only searches the door graph.
+ *
+ * <p>Only the part of the path inside the room of the start tile is refined to a tile path (see
+ * {@link RoomPath#path()}). After passing a door, search again from the doorstep in the next room.
+ *
+ * <p>Closed doors are checked with each query. If tiles of a room change, call {@link
+ * #update(LevelNode)} for the room.
+ *
+ * <p>The pathfinder is not thread-safe.
+ */
+public final class RoomPathFinder {
+
+  private static final int UNREACHABLE = Integer.MAX_VALUE;
+  // steps from the doorstep onto the door, the hero is then placed on the other doorstep
+  private static final int DOOR_COST = 1;
+
+  private final Map<ILevel, LevelNode> rooms = new IdentityHashMap<>();
+  private final Map<LevelNode, int[]> portalsOfRoom = new IdentityHashMap<>();
+  private final DoorTile[] portals;
+  private final LevelNode[] roomOfPortal;
+  private final int[] otherPortal;
+  // distance between the doorsteps of two portals of the same room, indexed like portalsOfRoom
+  private final int[][] roomDistances;
+  private final int[] costs;
+  private final int[] previous;
+  private final boolean[] done;
+
+  /**
+   * Create the door graph of the given level graph.
+   *
+   * <p>The levels of the nodes must be generated and the doors configured, see {@link
+   * RoomBasedLevelGenerator#level(LevelGraph, core.level.utils.DesignLabel)}.
+   *
+   * @param graph Level graph of the room-based level.
+   */
+  public RoomPathFinder(final LevelGraph graph) {
+    List<DoorTile> doors = new ArrayList<>();
+    List<LevelNode> doorRooms = new ArrayList<>();
+    for (LevelNode node : graph.nodes()) {
+      rooms.put(node.level(), node);
+      List<DoorTile> roomDoors = node.level().doorTiles();
+      int[] indices = new int[roomDoors.size()];
+      for (int i = 0; i < indices.length; i++) {
+        indices[i] = doors.size();
+        doors.add(roomDoors.get(i));
+        doorRooms.add(node);
+      }
+      portalsOfRoom.put(node, indices);
+    }
+    portals = doors.toArray(new DoorTile[0]);
+    roomOfPortal = doorRooms.toArray(new LevelNode[0]);
+    otherPortal = new int[portals.length];
+    for (int i = 0; i < portals.length; i++) otherPortal[i] = indexOf(portals[i].otherDoor());
+    roomDistances = new int[portals.length][];
+    costs = new int[portals.length + 1];
+    previous = new int[portals.length + 1];
+    done = new boolean[portals.length + 1];
+    for (LevelNode node : portalsOfRoom.keySet()) update(node);
+  }
+
+  /**
+   * Calculate the distances between the doors of the given room again.
+   *
+   * <p>Call this if tiles of the room changed.
+   *
+   * @param room The room to update.
+   */
+  public void update(final LevelNode room) {
+    int[] indices = portalsOfRoom.get(room);
+    if (indices == null) return;
+    for (int a : indices) {
+      roomDistances[a] = new int[indices.length];
+      for (int j = 0; j < indices.length; j++)
+        roomDistances[a][j] = distance(portals[a].doorstep(), portals[indices[j]].doorstep());
+    }
+  }
+
+  /**
+   * Get the room of the given level.
+   *
+   * @param level The level.
+   * @return An Optional containing the room, or empty if the level is not a room of the graph.
+   */
+  public Optional<LevelNode> room(final ILevel level) {
+    return Optional.ofNullable(rooms.get(level));
+  }
+
+  /**
+   * Get the room that contains the given entity.
+   *
+   * <p>This can be used to find the room of a task, e.g., with the manager entity of the task.
+   *
+   * @param entity The entity, as passed to the level graph.
+   * @return An Optional containing the room, or empty if no room contains the entity.
+   */
+  public Optional<LevelNode> room(final Entity entity) {
+    for (LevelNode node : portalsOfRoom.keySet())
+      if (node.entities().contains(entity)) return Optional.of(node);
+    return Optional.empty();
+  }
+
+  /**
+   * Find a path from the start tile into the given room.
+   *
+   * @param start Tile to start from.
+   * @param room The room to reach.
+   * @return An Optional containing the path, or empty if the room can't be reached.
+   */
+  public Optional<RoomPath> findPath(final Tile start, final LevelNode room) {
+    return search(start, room, null);
+  }
+
+  /**
+   * Find a path from the start tile to the end tile, the tiles can be in different rooms.
+   *
+   * @param start Tile to start from.
+   * @param end Tile to reach.
+   * @return An Optional containing the path, or empty if the end tile can't be reached.
+   */
+  public Optional<RoomPath> findPath(final Tile start, final Tile end) {
+    LevelNode room = rooms.get(end.level());
+    if (room == null || !end.isAccessible()) return Optional.empty();
+    return search(start, room, end);
+  }
+
+  private Optional<RoomPath> search(final Tile start, final LevelNode target, final Tile end) {
+    LevelNode startRoom = rooms.get(start.level());
+    if (startRoom == null || !start.isAccessible()) return Optional.empty();
+    int goal = portals.length;
+    Arrays.fill(costs, UNREACHABLE);
+    Arrays.fill(previous, -1);
+    Arrays.fill(done, false);
+
+    if (startRoom == target) costs[goal] = end == null ? 0 : distance(start, end);
+    for (int portal : portalsOfRoom.get(startRoom))
+      costs[portal] = distance(start, portals[portal].doorstep());
+
+    // the door graph is small, a linear search for the next node is enough
+    while (true) {
+      int current = -1;
+      for (int i = 0; i <= goal; i++)
+        if (!done[i] && costs[i] != UNREACHABLE && (current < 0 || costs[i] < costs[current]))
+          current = i;
+      if (current < 0) return Optional.empty();
+      if (current == goal) break;
+      done[current] = true;
+
+      if (roomOfPortal[current] == target) {
+        int rest = end == null ? 0 : distance(portals[current].doorstep(), end);
+        relax(current, goal, rest);
+      }
+      int other = otherPortal[current];
+      if (other >= 0 && portals[current].isAccessible()) relax(current, other, DOOR_COST);
+      int[] indices = portalsOfRoom.get(roomOfPortal[current]);
+      for (int j = 0; j < indices.length; j++)
+        relax(current, indices[j], roomDistances[current][j]);
+    }
+
+    List<DoorTile> doors = new ArrayList<>();
+    for (int node = previous[goal]; node >= 0; node = previous[node])
+      if (previous[node] >= 0 && otherPortal[previous[node]] == node)
+        doors.addFirst(portals[previous[node]]);
+    return Optional.of(new RoomPath(doors, refine(start, doors, end), costs[goal]));
+  }
+
+  private void relax(int from, int to, int cost) {
+    if (cost == UNREACHABLE || done[to]) return;
+    if (costs[from] + cost < costs[to]) {
+      costs[to] = costs[from] + cost;
+      previous[to] = from;
+    }
+  }
+
+  private GraphPath<Tile> refine(final Tile start, final List<DoorTile> doors, final Tile end) {
+    Tile target = doors.isEmpty() ? end : doors.getFirst().doorstep();
+    if (target == null || target == start) {
+      GraphPath<Tile> path = new DefaultGraphPath<>();
+      path.add(start);
+      return path;
+    }
+    return start.level().findPath(start, target);
+  }
+
+  private int distance(final Tile from, final Tile to) {
+    if (from == null || to == null || !from.isAccessible() || !to.isAccessible())
+      return UNREACHABLE;
+    if (from == to) return 0;
+    int count = from.level().findPath(from, to).getCount();
+    return count == 0 ? UNREACHABLE : count - 1;
+  }
+
+  private int indexOf(final DoorTile door) {
+    for (int i = 0; i < portals.length; i++) if (portals[i] == door) return i;
+    return -1;
+  }
+
+  /**
+   * A path across rooms.
+   *
+   * @param doors Doors to pass in this order, empty if the target is in the room of the start tile.
+   * @param path Tile path inside the room of the start tile, to the doorstep of the first door or,
+   *     if there is no door to pass, to the end tile.
+   * @param cost Number of steps of the whole path.
+   */
+  public record RoomPath(List<DoorTile> doors, GraphPath<Tile> path, int cost) {}
+}
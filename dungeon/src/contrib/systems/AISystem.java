@@ -2,16 +2,35 @@ package contrib.systems;
 
 import contrib.components.AIComponent;
 import core.Entity;
+import core.Game;
 import core.System;
+import core.components.PositionComponent;
+import core.game.QualityGovernor;
+import core.systems.VisibilitySystem;
 import core.utils.components.MissingComponentException;
 
 /**
  * Controls the AI.
  *
  * <p>Entities with the {@link AIComponent} will be processed by this system.
+ *
+ * <p>If the {@link QualityGovernor} lowered the quality, entities outside the cells reported as
+ * visible by the {@link VisibilitySystem} only execute their AI every n-th frame. The entities take
+ * turns, so the work is spread over the frames.
+ *
+ * <p>Before the AIs are executed, the paths found by the {@link
+ * core.level.elements.astar.AsyncPathFinder} of the current level are handed over to the requests,
+ * so the AIs can switch to their new paths.
  */
 public final class AISystem extends System {
 
+  /** Off-screen entities execute their AI every n-th frame, depending on the quality tier. */
+  private static final QualityGovernor.Knob OFF_SCREEN_INTERVAL =
+      QualityGovernor.instance().knob("off-screen AI interval", 1, 2, 3, 4);
+
+  private int frame = 0;
+  private int turn = 0;
+
   /** Create a new AISystem */
   public AISystem() {
     super(AIComponent.class);
@@ -19,6 +38,9 @@ public final class AISystem extends System {
 
   @Override
   public void execute() {
+    frame++;
+    turn = 0;
+    if (Game.currentLevel() != null) Game.currentLevel().asyncPathFinder().integrate();
     entityStream().forEach(this::executeAI);
   }
 
@@ -28,7 +50,16 @@ public final class AISystem extends System {
             .fetch(AIComponent.class)
             .orElseThrow(() -> MissingComponentException.build(entity, AIComponent.class));
 
+    int interval = (int) OFF_SCREEN_INTERVAL.value();
+    if (interval > 1 && (frame + turn++) % interval != 0 && !visible(entity)) return;
     if (ai.shouldFight().apply(entity)) ai.fightBehavior().accept(entity);
     else ai.idleBehavior().accept(entity);
   }
+
+  private static boolean visible(final Entity entity) {
+    return entity
+        .fetch(PositionComponent.class)
+        .map(pc -> VisibilitySystem.isVisible(pc.position()))
+        .orElse(true);
+  }
 }
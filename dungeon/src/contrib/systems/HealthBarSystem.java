@@ -1,120 +1,130 @@
 package contrib.systems;
 
-import static contrib.hud.UIUtils.defaultSkin;
-
-import com.badlogic.gdx.math.Vector3;
-import com.badlogic.gdx.scenes.scene2d.Stage;
-import com.badlogic.gdx.scenes.scene2d.ui.Container;
-import com.badlogic.gdx.scenes.scene2d.ui.ProgressBar;
 import contrib.components.HealthComponent;
-import contrib.components.UIComponent;
+import contrib.hud.HealthBarRenderer;
 import core.Entity;
-import core.Game;
 import core.System;
+import core.components.PlayerComponent;
 import core.components.PositionComponent;
-import core.systems.CameraSystem;
+import core.game.QualityGovernor;
+import core.systems.DrawSystem;
+import core.systems.VisibilitySystem;
 import core.utils.Point;
-import core.utils.logging.CustomLogLevel;
-import java.util.HashMap;
-import java.util.Map;
+import core.utils.components.MissingComponentException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.logging.Logger;
 
 /**
- * Creates a progress bar which follows the associated Entity and shows the current health
- * percentage. *
+ * Draws a health bar below each entity that shows the current health percentage.
  *
  * <p>Entities with the {@link HealthComponent} and {@link PositionComponent} will be processed by
  * this system.
+ *
+ * <p>All bars are drawn in the game world by one {@link HealthBarRenderer}, so no extra entities or
+ * UI elements are created. The fill of a bar is only updated if the health of the entity has
+ * changed. A bar is only shown if the entity has lost health, is still alive and is inside the
+ * cells reported as visible by the {@link VisibilitySystem}. If the {@link QualityGovernor} lowered
+ * the quality far enough, only the bars of the players are shown.
+ *
+ * <p>The HealthBarSystem can't be paused, otherwise the bars would disappear while the game is
+ * paused.
  */
 public final class HealthBarSystem extends System {
 
-  // well percentage =)
-  private static final float MIN = 0;
-  private static final float MAX = 1;
-  // bar percentage precision
-  private static final float STEP_SIZE = 0.01f;
   private static final Logger LOGGER = Logger.getLogger(HealthBarSystem.class.getSimpleName());
-  // how long the change to the health bar should take in seconds
-  private static final float HEALTH_BAR_UPDATE_DURATION = 0.1f;
-  // the height of the health bar which can´t be smaller than the nineslicedrawable
-  private static final int HEALTH_BAR_HEIGHT = 10;
-  // the width of the health bar which can´t be smaller than the nineslicedrawable
-  private static final int HEALTH_BAR_WIDTH = 50;
 
-  /** Mapping from actual entity and health bar of this entity. */
-  private final Map<Integer, ProgressBar> healthBarMapping = new HashMap<>();
+  /** 1 if the bars of all entities are shown, 0 if only the bars of the players are shown. */
+  private static final QualityGovernor.Knob ALL_BARS =
+      QualityGovernor.instance().knob("health bars of all entities", 1, 1, 0);
+
+  private final HealthBarRenderer renderer = new HealthBarRenderer();
+
+  /** Data of each bar, the index in this list is the slot in the {@link #renderer}. */
+  private final List<HBData> bars = new ArrayList<>();
 
   /** Create a new HealthBarSystem */
   public HealthBarSystem() {
     super(HealthComponent.class, PositionComponent.class);
     this.onEntityAdd =
         (x) -> {
-          LOGGER.log(CustomLogLevel.TRACE, "HealthBarSystem got send a new Entity");
-          ProgressBar newHealthBar =
-              createNewHealthBar(x.fetch(PositionComponent.class).orElseThrow());
-          LOGGER.log(CustomLogLevel.TRACE, "created a new health bar");
-          Entity e = new Entity("HealthBar");
-          LOGGER.log(CustomLogLevel.TRACE, "created a new Entity for the health bar");
-          Container<ProgressBar> group = new Container<>(newHealthBar);
-          // disabling layout enforcing from parent
-          group.setLayoutEnabled(false);
-          e.add(new UIComponent(group, false, false));
-          Game.add(e);
-          LOGGER.log(CustomLogLevel.TRACE, "created a new UIComponent for the health bar");
-          healthBarMapping.put(x.id(), newHealthBar);
-          LOGGER.log(CustomLogLevel.TRACE, "HealthBarSystem added to temporary mapping");
+          bars.add(buildDataObject(x));
+          renderer.add(HealthBarRenderer.DEFAULT_STYLE);
         };
-    LOGGER.log(CustomLogLevel.TRACE, "HealthBarSystem onEntityAdd was changed");
-    this.onEntityRemove = (x) -> healthBarMapping.remove(x.id()).remove();
-    LOGGER.log(CustomLogLevel.TRACE, "HealthBarSystem onEntityRemove was changed");
+    this.onEntityRemove = this::removeBar;
     LOGGER.info("HealthBarSystem created");
   }
 
   @Override
   public void execute() {
-    entityStream().map(this::buildDataObject).forEach(this::update);
+    for (int slot = 0; slot < bars.size(); slot++) update(slot, bars.get(slot));
+    renderer.draw(DrawSystem.batch());
   }
 
-  private void update(final EnemyData ed) {
-    if (ed.hc.currentHealthpoints() <= 0) ed.pb.remove();
-    // set visible only if entity lost health
-    ed.pb.setVisible(ed.hc.currentHealthpoints() != ed.hc.maximalHealthpoints());
-    updatePosition(ed.pb, ed.pc);
-
-    // set value to health percent
-    ed.pb.setValue((float) ed.hc.currentHealthpoints() / ed.hc.maximalHealthpoints());
+  private void update(int slot, final HBData hbd) {
+    int current = hbd.hc.currentHealthpoints();
+    int maximal = hbd.hc.maximalHealthpoints();
+    if (current != hbd.current || maximal != hbd.maximal) {
+      hbd.current = current;
+      hbd.maximal = maximal;
+      renderer.fraction(slot, maximal > 0 ? (float) current / maximal : 0);
+    }
+    // set visible only if entity lost health, is alive and is not culled
+    if (current <= 0 || current == maximal || (!hbd.player && ALL_BARS.value() < 1)) {
+      renderer.visible(slot, false);
+      return;
+    }
+    Point position = hbd.pc.position();
+    boolean visible = VisibilitySystem.isVisible(position);
+    renderer.visible(slot, visible);
+    if (visible) renderer.position(slot, position.x, position.y);
   }
 
-  private EnemyData buildDataObject(final Entity entity) {
-    return new EnemyData(
-        entity.fetch(HealthComponent.class).orElseThrow(),
-        entity.fetch(PositionComponent.class).orElseThrow(),
-        healthBarMapping.get(entity.id()));
+  private void removeBar(final Entity entity) {
+    for (int slot = 0; slot < bars.size(); slot++) {
+      if (bars.get(slot).e == entity) {
+        // the renderer moves its last slot into the free one, do the same with the data
+        int last = bars.size() - 1;
+        bars.set(slot, bars.get(last));
+        bars.remove(last);
+        renderer.remove(slot);
+        return;
+      }
+    }
   }
 
-  private ProgressBar createNewHealthBar(PositionComponent pc) {
-    ProgressBar progressBar =
-        new ProgressBar(MIN, MAX, STEP_SIZE, false, defaultSkin(), "healthbar");
-    progressBar.setAnimateDuration(HEALTH_BAR_UPDATE_DURATION);
-    progressBar.setSize(HEALTH_BAR_WIDTH, HEALTH_BAR_HEIGHT);
-    progressBar.setVisible(true);
-    updatePosition(progressBar, pc);
-    return progressBar;
+  /** HealthBarSystem can't be paused. */
+  @Override
+  public void stop() {
+    run = true;
   }
 
-  /** Moves the Progressbar to follow the Entity. */
-  private void updatePosition(ProgressBar pb, PositionComponent pc) {
-    Point position = pc.position();
-    Vector3 conveered = new Vector3(position.x, position.y, 0);
-    // map Entity coordinates to window coordinates
-    Vector3 screenPosition = CameraSystem.camera().project(conveered);
-    // get the stage of the Game
-    Stage stage = Game.stage().orElseThrow(() -> new RuntimeException("No Stage available"));
-    // remap window coordinates against stage coordinates
-    screenPosition.x = screenPosition.x / stage.getViewport().getScreenWidth() * stage.getWidth();
-    screenPosition.y = screenPosition.y / stage.getViewport().getScreenHeight() * stage.getHeight();
-    pb.setPosition(screenPosition.x, screenPosition.y);
+  private HBData buildDataObject(final Entity entity) {
+    HealthComponent hc =
+        entity
+            .fetch(HealthComponent.class)
+            .orElseThrow(() -> MissingComponentException.build(entity, HealthComponent.class));
+    PositionComponent pc =
+        entity
+            .fetch(PositionComponent.class)
+            .orElseThrow(() -> MissingComponentException.build(entity, PositionComponent.class));
+    return new HBData(entity, hc, pc);
   }
 
-  private record EnemyData(HealthComponent hc, PositionComponent pc, ProgressBar pb) {}
+  private static final class HBData {
+    private final Entity e;
+    private final HealthComponent hc;
+    private final PositionComponent pc;
+    private final boolean player;
+    // health at the last update of the bar, -1 to force the first update
+    private int current = -1;
+    private int maximal = -1;
+
+    private HBData(final Entity e, final HealthComponent hc, final PositionComponent pc) {
+      this.e = e;
+      this.hc = hc;
+      this.pc = pc;
+      this.player = e.isPresent(PlayerComponent.class);
+    }
+  }
 }
@@ -3,10 +3,13 @@ package contrib.systems;
 import contrib.components.HealthComponent;
 import contrib.utils.components.draw.AdditionalAnimations;
 import contrib.utils.components.health.DamageType;
+import contrib.utils.components.particle.ParticleEffect;
+import contrib.utils.components.particle.ParticlePool;
 import core.Entity;
 import core.Game;
 import core.System;
 import core.components.DrawComponent;
+import core.components.PositionComponent;
 import core.utils.components.MissingComponentException;
 import core.utils.components.draw.Animation;
 import java.util.Optional;
@@ -19,9 +22,14 @@ import java.util.stream.Stream;
  *
  * <p>Entities with the {@link HealthComponent} and {@link DrawComponent} will be processed by this
  * system.
+ *
+ * <p>Damaged entities show the hit animation and emit {@link ParticleEffect#HIT_SPARKS}.
  */
 public final class HealthSystem extends System {
 
+  /** Offset from the position of an entity to the center of its sprite. */
+  private static final float CENTER_OFFSET = 0.5f;
+
   /** Create a new HealthSystem. */
   public HealthSystem() {
     super(HealthComponent.class, DrawComponent.class);
@@ -105,6 +113,14 @@ public final class HealthSystem extends System {
       // we have some damage - let's show a little dance
       hitAnimation.ifPresent(
           animation -> hsd.dc.queueAnimation(animation.duration(), AdditionalAnimations.HIT));
+      // and some sparks, if the entity is somewhere in the level
+      hsd.e
+          .fetch(PositionComponent.class)
+          .map(PositionComponent::position)
+          .ifPresent(
+              p ->
+                  ParticlePool.instance()
+                      .emit(ParticleEffect.HIT_SPARKS, p.x + CENTER_OFFSET, p.y + CENTER_OFFSET));
     }
     // reset all damage objects in health component and apply damage
     hsd.hc.clearDamage();
@@ -1,10 +1,10 @@
 package contrib.systems;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.audio.Sound;
 import contrib.components.IdleSoundComponent;
 import core.System;
+import core.game.QualityGovernor;
 import core.utils.components.MissingComponentException;
+import core.utils.components.sound.SoundPlayer;
 import java.util.Random;
 
 /**
@@ -13,12 +13,17 @@ import java.util.Random;
  *
  * <p>Use this if you want to add some white noise monster sounds to your game.
  *
- * <p>Note: The chance that the sound is played is very low, so it shouldn't be too much noise.
+ * <p>Note: The chance that the sound is played is very low, so it shouldn't be too much noise. If
+ * the {@link QualityGovernor} lowered the quality, the sounds are played even less often.
  */
 public final class IdleSoundSystem extends System {
 
   private static final Random RANDOM = new Random();
 
+  /** Factor for the chance to play a sound, depending on the quality tier. */
+  private static final QualityGovernor.Knob FREQUENCY =
+      QualityGovernor.instance().knob("idle sound frequency", 1f, 0.5f, 0.25f, 0f);
+
   /** Create a new {@link IdleSoundSystem}. */
   public IdleSoundSystem() {
     super(IdleSoundComponent.class);
@@ -36,13 +41,9 @@ public final class IdleSoundSystem extends System {
   }
 
   private void playSound(final IdleSoundComponent component) {
-    float chanceToPlaySound = 0.001f;
+    float chanceToPlaySound = 0.001f * FREQUENCY.value();
     if (RANDOM.nextFloat(0f, 1f) < chanceToPlaySound) {
-      Sound soundEffect =
-          Gdx.audio.newSound(Gdx.files.internal(component.soundEffect().pathString()));
-      long soundID = soundEffect.play();
-      soundEffect.setLooping(soundID, false);
-      soundEffect.setVolume(soundID, 0.35f);
+      SoundPlayer.instance().play(component.soundEffect(), 0.35f, 1f, SoundPlayer.LOW_PRIORITY);
     }
   }
 }
@@ -0,0 +1,163 @@
+package contrib.systems;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Matrix4;
+import contrib.hud.Minimap;
+import core.Entity;
+import core.Game;
+import core.System;
+import core.components.PlayerComponent;
+import core.components.PositionComponent;
+import core.level.Tile;
+import core.level.elements.ILevel;
+import core.level.utils.Coordinate;
+import core.systems.CameraSystem;
+import core.systems.DrawSystem;
+import core.systems.FogOfWarSystem;
+import core.systems.VisibilitySystem;
+import core.utils.Point;
+import java.util.BitSet;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+/**
+ * Shows a {@link Minimap} of the current level in the upper right corner of the screen.
+ *
+ * <p>The minimap is created once per level load, changed tiles are patched by a tile change
+ * listener of the level (see {@link ILevel#addTileChangeListener(Consumer)}). Each frame, the cells
+ * reported as visible by the {@link VisibilitySystem} are marked as explored (nothing is explored
+ * before the visible area is calculated for the level, see {@link VisibilitySystem#isActive()}),
+ * and the minimap is drawn together with the hero (the entity with the {@link PlayerComponent}) and
+ * the camera view. The explored cells of each level are kept, so they are still explored if the
+ * hero comes back to a level. Tiles hidden by the {@link FogOfWarSystem} are not shown; the cells
+ * in the view distance of the hero are uploaded again each time the hero steps onto another tile.
+ *
+ * <p>The MinimapSystem can't be paused, otherwise the minimap would disappear while the game is
+ * paused.
+ */
+public final class MinimapSystem extends System {
+
+  private static final Logger LOGGER = Logger.getLogger(MinimapSystem.class.getSimpleName());
+
+  /** Maximal width and height of the minimap on the screen in pixels. */
+  private static final float SIZE = 200f;
+
+  /** Distance to the border of the screen in pixels. */
+  private static final float MARGIN = 10f;
+
+  private final Map<ILevel, BitSet> explored = new WeakHashMap<>();
+  private final Consumer<Tile> onTileChange = this::onTileChange;
+  private final Matrix4 screen = new Matrix4();
+  private final Matrix4 world = new Matrix4();
+  private Minimap minimap;
+  private Coordinate heroTile;
+
+  /** Create a new MinimapSystem. */
+  public MinimapSystem() {
+    super(PlayerComponent.class, PositionComponent.class);
+    LOGGER.info("MinimapSystem created");
+  }
+
+  @Override
+  public void execute() {
+    ILevel level = Game.currentLevel();
+    if (level == null) return;
+    explore(level);
+    updateOverlay();
+    draw();
+  }
+
+  /**
+   * Build the minimap if the level changed and mark the visible cells as explored.
+   *
+   * @param level The current level.
+   */
+  void explore(final ILevel level) {
+    if (minimap == null || minimap.level() != level) build(level);
+    // until the visible area is calculated for this level, everything counts as visible
+    if (!VisibilitySystem.isActive()) return;
+    minimap.explore(
+        VisibilitySystem.minVisibleX(),
+        VisibilitySystem.minVisibleY(),
+        VisibilitySystem.maxVisibleX(),
+        VisibilitySystem.maxVisibleY());
+  }
+
+  /**
+   * Get the minimap of the current level.
+   *
+   * @return The minimap, null if no level was shown yet.
+   */
+  Minimap minimap() {
+    return minimap;
+  }
+
+  /** MinimapSystem can't be paused. */
+  @Override
+  public void stop() {
+    run = true;
+  }
+
+  private void build(final ILevel level) {
+    if (minimap != null) {
+      minimap.level().removeTileChangeListener(onTileChange);
+      minimap.dispose();
+    }
+    minimap = new Minimap(level, explored.computeIfAbsent(level, l -> new BitSet()));
+    minimap.filter(FogOfWarSystem::isExplored);
+    level.addTileChangeListener(onTileChange);
+  }
+
+  private void onTileChange(final Tile tile) {
+    if (minimap != null) minimap.tileChanged(tile);
+  }
+
+  private void updateOverlay() {
+    OrthographicCamera camera = CameraSystem.camera();
+    float halfWidth = camera.viewportWidth * camera.zoom / 2;
+    float halfHeight = camera.viewportHeight * camera.zoom / 2;
+    minimap.view(
+        camera.position.x - halfWidth,
+        camera.position.y - halfHeight,
+        camera.position.x + halfWidth,
+        camera.position.y + halfHeight);
+
+    Entity hero = entityStream().findFirst().orElse(null);
+    PositionComponent pc = hero == null ? null : hero.fetch(PositionComponent.class).orElse(null);
+    if (pc == null) {
+      minimap.hideHero();
+      return;
+    }
+    Point position = pc.position();
+    minimap.hero(position.x, position.y);
+    // the hero may have explored new tiles of the fog of war
+    Coordinate tile = position.toCoordinate();
+    if (!tile.equals(heroTile)) {
+      heroTile = tile;
+      int radius = FogOfWarSystem.radius();
+      minimap.refresh(tile.x - radius, tile.y - radius, tile.x + radius, tile.y + radius);
+    }
+  }
+
+  private void draw() {
+    if (minimap.width() == 0 || minimap.height() == 0) return;
+    int screenWidth = Gdx.graphics.getWidth();
+    int screenHeight = Gdx.graphics.getHeight();
+    float scale = Math.min(SIZE / minimap.width(), SIZE / minimap.height());
+    float x = screenWidth - MARGIN - minimap.width() * scale;
+    float y = screenHeight - MARGIN - minimap.height() * scale;
+
+    SpriteBatch batch = DrawSystem.batch();
+    boolean singleDraw = !batch.isDrawing();
+    world.set(batch.getProjectionMatrix());
+    batch.setProjectionMatrix(screen.setToOrtho2D(0, 0, screenWidth, screenHeight));
+    if (singleDraw) batch.begin();
+    minimap.draw(batch, x, y, scale);
+    if (singleDraw) batch.end();
+    batch.setProjectionMatrix(world);
+  }
+}
@@ -0,0 +1,103 @@
+package contrib.systems;
+
+import com.badlogic.gdx.Gdx;
+import contrib.components.ParticleEmitterComponent;
+import contrib.utils.components.particle.ParticlePool;
+import core.Entity;
+import core.Game;
+import core.System;
+import core.components.PositionComponent;
+import core.level.elements.ILevel;
+import core.systems.DrawSystem;
+import core.systems.VisibilitySystem;
+import core.utils.Point;
+import core.utils.components.MissingComponentException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Updates and draws the particles of the {@link ParticlePool}.
+ *
+ * <p>Entities with the {@link ParticleEmitterComponent} and {@link PositionComponent} will be
+ * processed by this system: the effect of the emitter is emitted at the position of the entity in
+ * the interval of the emitter, as long as the position is inside the cells reported as visible by
+ * the {@link VisibilitySystem}.
+ *
+ * <p>All particles are drawn in the game world after the entities, in one batch. All particles are
+ * removed if the level changes.
+ *
+ * <p>The ParticleSystem can't be paused, otherwise the particles would disappear while the game is
+ * paused.
+ */
+public final class ParticleSystem extends System {
+
+  /** Offset from the position of an entity to the center of its sprite. */
+  private static final float CENTER_OFFSET = 0.5f;
+
+  private final List<PSData> emitters = new ArrayList<>();
+  private ILevel level;
+
+  /** Create a new ParticleSystem. */
+  public ParticleSystem() {
+    super(ParticleEmitterComponent.class, PositionComponent.class);
+    onEntityAdd = entity -> emitters.add(buildDataObject(entity));
+    onEntityRemove = entity -> emitters.removeIf(psd -> psd.e == entity);
+  }
+
+  @Override
+  public void execute() {
+    float delta = Gdx.graphics != null ? Gdx.graphics.getDeltaTime() : 1f / Game.frameRate();
+    ParticlePool pool = ParticlePool.instance();
+    // particles of the last level would float around in the new one
+    if (Game.currentLevel() != level) {
+      level = Game.currentLevel();
+      pool.clear();
+    }
+    for (int i = 0; i < emitters.size(); i++) emit(pool, emitters.get(i), delta);
+    pool.update(delta);
+    pool.draw(DrawSystem.batch());
+  }
+
+  private void emit(final ParticlePool pool, final PSData psd, float delta) {
+    psd.timer -= delta;
+    if (psd.timer > 0) return;
+    psd.timer = psd.pec.interval();
+    Point position = psd.pc.position();
+    float x = position.x + CENTER_OFFSET;
+    float y = position.y + CENTER_OFFSET;
+    if (VisibilitySystem.isVisible(x, y)) pool.emit(psd.pec.effect(), x, y);
+  }
+
+  /** ParticleSystem can't be paused. */
+  @Override
+  public void stop() {
+    run = true;
+  }
+
+  private PSData buildDataObject(final Entity entity) {
+    ParticleEmitterComponent pec =
+        entity
+            .fetch(ParticleEmitterComponent.class)
+            .orElseThrow(
+                () -> MissingComponentException.build(entity, ParticleEmitterComponent.class));
+    PositionComponent pc =
+        entity
+            .fetch(PositionComponent.class)
+            .orElseThrow(() -> MissingComponentException.build(entity, PositionComponent.class));
+    return new PSData(entity, pec, pc);
+  }
+
+  private static final class PSData {
+    private final Entity e;
+    private final ParticleEmitterComponent pec;
+    private final PositionComponent pc;
+    // time until the next burst, emit right away
+    private float timer = 0;
+
+    private PSData(final Entity e, final ParticleEmitterComponent pec, final PositionComponent pc) {
+      this.e = e;
+      this.pec = pec;
+      this.pc = pc;
+    }
+  }
+}
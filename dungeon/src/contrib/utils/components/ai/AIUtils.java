@@ -28,10 +28,6 @@ public final class AIUtils {
         entity
             .fetch(PositionComponent.class)
             .orElseThrow(() -> MissingComponentException.build(entity, PositionComponent.class));
-    VelocityComponent vc =
-        entity
-            .fetch(VelocityComponent.class)
-            .orElseThrow(() -> MissingComponentException.build(entity, VelocityComponent.class));
     Tile currentTile = Game.tileAT(pc.position());
     int i = 0;
     Tile nextTile = null;
@@ -45,15 +41,42 @@ public final class AIUtils {
     if (nextTile == null) {
       return;
     }
+    move(entity, currentTile, nextTile);
+  }
+
+  /**
+   * Sets the velocity of the passed entity so that it takes a step to the given neighbour tile.
+   *
+   * <p>Use this with {@link core.level.utils.LevelUtils#nextTileToHero(Entity)} to chase the hero
+   * without a path.
+   *
+   * @param entity Entity moving to the tile.
+   * @param nextTile Neighbour of the tile the entity is on.
+   */
+  public static void move(final Entity entity, final Tile nextTile) {
+    PositionComponent pc =
+        entity
+            .fetch(PositionComponent.class)
+            .orElseThrow(() -> MissingComponentException.build(entity, PositionComponent.class));
+    Tile currentTile = Game.tileAT(pc.position());
+    if (currentTile != null) move(entity, currentTile, nextTile);
+  }
 
-    switch (currentTile.directionTo(nextTile)[0]) {
+  private static void move(final Entity entity, final Tile currentTile, final Tile nextTile) {
+    VelocityComponent vc =
+        entity
+            .fetch(VelocityComponent.class)
+            .orElseThrow(() -> MissingComponentException.build(entity, VelocityComponent.class));
+    Tile.Direction[] directions = currentTile.directionTo(nextTile);
+    if (directions.length == 0) return;
+    switch (directions[0]) {
       case N -> vc.currentYVelocity(vc.yVelocity());
       case S -> vc.currentYVelocity(-vc.yVelocity());
       case E -> vc.currentXVelocity(vc.xVelocity());
       case W -> vc.currentXVelocity(-vc.xVelocity());
     }
-    if (currentTile.directionTo(nextTile).length > 1)
-      switch (currentTile.directionTo(nextTile)[1]) {
+    if (directions.length > 1)
+      switch (directions[1]) {
         case N -> vc.currentYVelocity(vc.yVelocity());
         case S -> vc.currentYVelocity(-vc.yVelocity());
         case E -> vc.currentXVelocity(vc.xVelocity());
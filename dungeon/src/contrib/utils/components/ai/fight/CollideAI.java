@@ -1,47 +1,40 @@
 package contrib.utils.components.ai.fight;
 
-import com.badlogic.gdx.ai.pfa.GraphPath;
 import contrib.utils.components.ai.AIUtils;
 import core.Entity;
-import core.Game;
-import core.level.Tile;
 import core.level.utils.LevelUtils;
 import java.util.function.Consumer;
 
 /**
  * Implements a fight AI. The entity attacks the player if the player is colliding with the entity.
+ *
+ * <p>The entity follows the flow field of the level to the hero (see {@link
+ * LevelUtils#nextTileToHero(Entity)}), so it doesn't need its own path. The flow field is updated
+ * as soon as the hero moves to another tile.
  */
 public class CollideAI implements Consumer<Entity> {
-  private final float rushRange;
-  private final int delay = Game.frameRate();
-  private int timeSinceLastUpdate = delay;
-  private GraphPath<Tile> path;
 
   /**
-   * Attacks the player by colliding if he is within the given range. Otherwise, it will move
-   * towards the player.
+   * Attacks the player by colliding with him. Otherwise, it will move towards the player.
    *
-   * @param rushRange Range in which the faster collide logic should be executed.
+   * <p>The flow field always leads to the current tile of the hero, so the entity rushes to the
+   * player in every range.
    */
+  public CollideAI() {}
+
+  /**
+   * Attacks the player by colliding with him. Otherwise, it will move towards the player.
+   *
+   * @param rushRange Not used anymore, the entity rushes to the player in every range.
+   * @deprecated The range is no longer used, use {@link #CollideAI()} instead.
+   */
+  @Deprecated
   public CollideAI(final float rushRange) {
-    this.rushRange = rushRange;
+    this();
   }
 
   @Override
   public void accept(final Entity entity) {
-    if (LevelUtils.playerInRange(entity, rushRange)) {
-      // the faster pathing once a certain range is reached
-      path = LevelUtils.calculatePathToHero(entity);
-      AIUtils.move(entity, path);
-      timeSinceLastUpdate = delay;
-    } else {
-      // check if new pathing update
-      if (timeSinceLastUpdate >= delay) {
-        path = LevelUtils.calculatePathToHero(entity);
-        timeSinceLastUpdate = -1;
-      }
-      timeSinceLastUpdate++;
-      AIUtils.move(entity, path);
-    }
+    LevelUtils.nextTileToHero(entity).ifPresent(next -> AIUtils.move(entity, next));
   }
 }
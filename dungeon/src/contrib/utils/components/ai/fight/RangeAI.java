@@ -1,15 +1,15 @@
 package contrib.utils.components.ai.fight;
 
-import static core.level.utils.LevelUtils.accessibleTilesInRange;
-
 import com.badlogic.gdx.ai.pfa.GraphPath;
 import contrib.utils.components.ai.AIUtils;
 import contrib.utils.components.skill.Skill;
 import core.Entity;
 import core.Game;
 import core.level.Tile;
+import core.level.elements.astar.AsyncPathFinder.PathRequest;
 import core.level.utils.LevelUtils;
 import core.utils.Point;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Consumer;
 
@@ -17,13 +17,27 @@ import java.util.function.Consumer;
  * Implements a fight AI. The entity attacks the player if he is in a given maximum and minimum
  * range. When the entity is not in range but in fight mode, the entity will be moving to within
  * this range.
+ *
+ * <p>The entity only attacks if it can see the player (see {@link
+ * LevelUtils#playerVisible(Entity)}), otherwise it moves towards the player like when the player is
+ * out of range.
+ *
+ * <p>The path to keep the distance is searched asynchronously (see {@link
+ * LevelUtils#requestPath(Point, Point)}), until it is found the entity keeps following its previous
+ * path.
+ *
+ * <p>To get into the range, the entity follows the flow field of the level to the hero (see {@link
+ * LevelUtils#nextTileToHero(Entity)}).
  */
 public final class RangeAI implements Consumer<Entity> {
 
   private final float attackRange;
   private final float distance;
   private final Skill skill;
+  // reused for the tiles in range, nearest first
+  private final List<Tile> tiles = new ArrayList<>();
   private GraphPath<Tile> path;
+  private PathRequest request;
 
   /**
    * Attacks the player if he is within the given range between attackRange and distance. Otherwise,
@@ -50,28 +64,36 @@ public final class RangeAI implements Consumer<Entity> {
 
     if (playerInAttackRange) {
       if (playerInDistanceRange) {
-        Point positionHero = Game.positionOf(Game.hero().orElseThrow());
-        Point positionEntity = Game.positionOf(entity);
-        List<Tile> tiles = accessibleTilesInRange(positionEntity, attackRange - distance);
-        boolean newPositionFound = false;
-        for (Tile tile : tiles) {
-          Point newPosition = tile.position();
-          if (!Point.inRange(newPosition, positionHero, distance)) {
-            path = LevelUtils.calculatePath(positionEntity, newPosition);
-            newPositionFound = true;
-            break;
-          }
-        }
-        if (!newPositionFound) {
-          path = LevelUtils.calculatePathToRandomTileInRange(entity, 2 * attackRange);
+        if (request != null && request.isDone()) {
+          path = request.path();
+          request = null;
         }
-        AIUtils.move(entity, path);
-      } else {
+        if (request == null) request = requestNewPosition(entity);
+        if (path != null) AIUtils.move(entity, path);
+      } else if (LevelUtils.playerVisible(entity)) {
         skill.execute(entity);
+      } else {
+        moveToHero(entity);
       }
     } else {
-      path = LevelUtils.calculatePathToHero(entity);
-      AIUtils.move(entity, path);
+      moveToHero(entity);
     }
   }
+
+  private PathRequest requestNewPosition(final Entity entity) {
+    Point positionHero = Game.positionOf(Game.hero().orElseThrow());
+    Point positionEntity = Game.positionOf(entity);
+    tiles.clear();
+    LevelUtils.reachableTilesInRange(positionEntity, attackRange - distance, tiles);
+    for (Tile tile : tiles) {
+      Point newPosition = tile.position();
+      if (!Point.inRange(newPosition, positionHero, distance))
+        return LevelUtils.requestPath(positionEntity, newPosition);
+    }
+    return LevelUtils.requestPathToRandomTileInRange(positionEntity, 2 * attackRange);
+  }
+
+  private void moveToHero(final Entity entity) {
+    LevelUtils.nextTileToHero(entity).ifPresent(next -> AIUtils.move(entity, next));
+  }
 }
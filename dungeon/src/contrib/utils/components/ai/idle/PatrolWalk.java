@@ -64,7 +64,9 @@ public final class PatrolWalk implements Consumer<Entity> {
       return;
     }
 
-    List<Tile> accessibleTiles = LevelUtils.accessibleTilesInRange(center, radius);
+    // checkpoints that can't be reached would stop the patrol
+    List<Tile> accessibleTiles = new ArrayList<>();
+    LevelUtils.reachableTilesInRange(center, radius, accessibleTiles);
 
     if (accessibleTiles.isEmpty()) {
       return;
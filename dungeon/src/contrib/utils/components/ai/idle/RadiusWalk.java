@@ -5,16 +5,21 @@ import contrib.utils.components.ai.AIUtils;
 import core.Entity;
 import core.Game;
 import core.level.Tile;
+import core.level.elements.astar.AsyncPathFinder.PathRequest;
 import core.level.utils.LevelUtils;
 import java.util.function.Consumer;
 
 /**
  * Implements an idle AI that lets the entity walk in a specific radius from its current position.
+ *
+ * <p>The paths are searched asynchronously (see {@link LevelUtils#requestPathToRandomTileInRange}),
+ * the entity starts walking once the path was found.
  */
 public final class RadiusWalk implements Consumer<Entity> {
   private final float radius;
   private final int breakTime;
   private GraphPath<Tile> path;
+  private PathRequest request;
   private int currentBreak = 0;
 
   /**
@@ -31,11 +36,14 @@ public final class RadiusWalk implements Consumer<Entity> {
 
   @Override
   public void accept(final Entity entity) {
+    if (request != null && request.isDone()) {
+      path = request.path();
+      request = null;
+    }
     if (path == null || AIUtils.pathFinishedOrLeft(entity, path)) {
-      if (currentBreak >= breakTime) {
+      if (request == null && currentBreak >= breakTime) {
         currentBreak = 0;
-        path = LevelUtils.calculatePathToRandomTileInRange(entity, radius);
-        accept(entity);
+        request = LevelUtils.requestPathToRandomTileInRange(Game.positionOf(entity), radius);
       }
 
       currentBreak++;
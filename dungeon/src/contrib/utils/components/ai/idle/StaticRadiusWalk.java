@@ -6,17 +6,23 @@ import core.Entity;
 import core.Game;
 import core.components.PositionComponent;
 import core.level.Tile;
-import core.level.utils.Coordinate;
+import core.level.elements.astar.AsyncPathFinder.PathRequest;
 import core.level.utils.LevelUtils;
 import core.utils.Point;
 import core.utils.components.MissingComponentException;
 import java.util.function.Consumer;
 
-/** Implements an idle AI that lets the entity walk in a specific radius from a fixed point. */
+/**
+ * Implements an idle AI that lets the entity walk in a specific radius from a fixed point.
+ *
+ * <p>The paths are searched asynchronously (see {@link LevelUtils#requestPath}), the entity starts
+ * walking once the path was found.
+ */
 public final class StaticRadiusWalk implements Consumer<Entity> {
   private final float radius;
   private final int breakTime;
   private GraphPath<Tile> path;
+  private PathRequest request;
   private int currentBreak = 0;
   private Point center;
 
@@ -34,6 +40,10 @@ public final class StaticRadiusWalk implements Consumer<Entity> {
 
   @Override
   public void accept(final Entity entity) {
+    if (request != null && request.isDone()) {
+      path = request.path();
+      request = null;
+    }
     if (path == null || AIUtils.pathFinishedOrLeft(entity, path)) {
       if (center == null) {
         PositionComponent pc =
@@ -46,7 +56,7 @@ public final class StaticRadiusWalk implements Consumer<Entity> {
         else center = pc.position();
       }
 
-      if (currentBreak >= breakTime) {
+      if (request == null && currentBreak >= breakTime) {
         currentBreak = 0;
         PositionComponent pc2 =
             entity
@@ -58,13 +68,12 @@ public final class StaticRadiusWalk implements Consumer<Entity> {
         // center is the start position of the entity, so it must be
         // accessible
         Point newEndTile =
-            LevelUtils.randomAccessibleTileCoordinateInRange(center, radius)
-                .map(Coordinate::toPoint)
+            LevelUtils.randomReachableTileInRange(center, radius)
+                .map(Tile::position)
                 // center is the start position of the entity, so it must be
                 // accessible
                 .orElse(center);
-        path = LevelUtils.calculatePath(currentPosition, newEndTile);
-        accept(entity);
+        request = LevelUtils.requestPath(currentPosition, newEndTile);
       }
       currentBreak++;
 
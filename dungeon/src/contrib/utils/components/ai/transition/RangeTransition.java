@@ -6,11 +6,12 @@ import java.util.function.Function;
 
 /**
  * Implementation of a transition between idle and fight mode. Activates fight mode when the hero is
- * within a specified range of the entity.
+ * within a specified range of the entity, and optionally only if the entity can see the hero.
  */
 public final class RangeTransition implements Function<Entity, Boolean> {
 
   private final float range;
+  private final boolean lineOfSight;
 
   /**
    * Switches to combat mode when the player is within range of the entity.
@@ -18,11 +19,24 @@ public final class RangeTransition implements Function<Entity, Boolean> {
    * @param range Range of the entity.
    */
   public RangeTransition(float range) {
+    this(range, false);
+  }
+
+  /**
+   * Switches to combat mode when the player is within range of the entity.
+   *
+   * @param range Range of the entity.
+   * @param lineOfSight If true, the entity must also see the player (see {@link
+   *     LevelUtils#playerVisible(Entity)}).
+   */
+  public RangeTransition(float range, boolean lineOfSight) {
     this.range = range;
+    this.lineOfSight = lineOfSight;
   }
 
   @Override
   public Boolean apply(final Entity entity) {
-    return LevelUtils.playerInRange(entity, range);
+    return LevelUtils.playerInRange(entity, range)
+        && (!lineOfSight || LevelUtils.playerVisible(entity));
   }
 }
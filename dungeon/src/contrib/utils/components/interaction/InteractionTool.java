@@ -1,11 +1,15 @@
 package contrib.utils.components.interaction;
 
 import contrib.components.InteractionComponent;
+import contrib.level.GroundLayer;
 import core.Entity;
 import core.Game;
 import core.components.PositionComponent;
+import core.level.utils.SpatialIndex;
 import core.utils.Point;
 import core.utils.components.MissingComponentException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
 
@@ -27,6 +31,9 @@ public final class InteractionTool {
   /**
    * Interacts with the closest interactable entity.
    *
+   * <p>If the {@link Game#spatialIndex() spatial index} is maintained, only the entities near the
+   * interacting entity are checked.
+   *
    * @param who The entity that is interacting.
    * @param iReachable The function that determines if the entity is reachable.
    */
@@ -36,12 +43,38 @@ public final class InteractionTool {
         who.fetch(PositionComponent.class)
             .orElseThrow(() -> MissingComponentException.build(who, PositionComponent.class));
     Optional<InteractionData> data =
-        Game.entityStream()
-            .filter(x -> x.isPresent(InteractionComponent.class))
-            .map(x -> convertToData(x, heroPosition))
-            .filter(iReachable::apply)
-            .min((x, y) -> Float.compare(x.dist(), y.dist()));
-    data.ifPresent(x -> x.ic().triggerInteraction(x.e(), who));
+        Game.spatialIndex()
+            .map(index -> closestInteractable(index, heroPosition, iReachable))
+            .orElseGet(
+                () ->
+                    Game.entityStream()
+                        .filter(x -> x.isPresent(InteractionComponent.class))
+                        .map(x -> convertToData(x, heroPosition))
+                        .filter(iReachable::apply)
+                        .min((x, y) -> Float.compare(x.dist(), y.dist())));
+    // items on the ground only become entities if they are closer than any interactable entity
+    float distance = data.map(InteractionData::dist).orElse(Float.MAX_VALUE);
+    Optional<Entity> groundItem = GroundLayer.promoteNearestItem(heroPosition.position(), distance);
+    if (groundItem.isPresent()) {
+      Entity item = groundItem.get();
+      item.fetch(InteractionComponent.class).ifPresent(ic -> ic.triggerInteraction(item, who));
+    } else data.ifPresent(x -> x.ic().triggerInteraction(x.e(), who));
+  }
+
+  private static Optional<InteractionData> closestInteractable(
+      final SpatialIndex index,
+      final PositionComponent heroPosition,
+      final Function<InteractionData, Boolean> iReachable) {
+    List<Entity> closest = new ArrayList<>(1);
+    index.nearest(
+        heroPosition.position(),
+        1,
+        Float.MAX_VALUE,
+        x ->
+            x.isPresent(InteractionComponent.class)
+                && iReachable.apply(convertToData(x, heroPosition)),
+        closest);
+    return closest.stream().findFirst().map(x -> convertToData(x, heroPosition));
   }
 
   private static InteractionData convertToData(
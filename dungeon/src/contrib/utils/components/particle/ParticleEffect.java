@@ -0,0 +1,102 @@
+package contrib.utils.components.particle;
+
+import com.badlogic.gdx.graphics.Color;
+
+/**
+ * Describes a burst of particles that can be emitted by the {@link ParticlePool}.
+ *
+ * <p>Each particle of the burst starts at the emit position and flies in a random direction inside
+ * the spread around the emit direction, with a random speed and lifetime. Over its lifetime, the
+ * particle is slowed down by the drag, and its size and color are blended from the start to the end
+ * values.
+ *
+ * <p>The colors are copied into the record, so changing the given {@link Color} objects afterwards
+ * has no effect.
+ *
+ * @param count Number of particles per burst.
+ * @param minLifetime Minimal lifetime of a particle in seconds.
+ * @param maxLifetime Maximal lifetime of a particle in seconds.
+ * @param minSpeed Minimal start speed of a particle in tiles per second.
+ * @param maxSpeed Maximal start speed of a particle in tiles per second.
+ * @param spread Angle around the emit direction the particles fly in, in degrees (360 for all
+ *     directions).
+ * @param drag Part of the speed that is lost per second (0 to 1).
+ * @param startSize Size of a new particle in tiles.
+ * @param endSize Size of a particle at the end of its lifetime in tiles.
+ * @param startColor Color of a new particle.
+ * @param endColor Color of a particle at the end of its lifetime.
+ */
+public record ParticleEffect(
+    int count,
+    float minLifetime,
+    float maxLifetime,
+    float minSpeed,
+    float maxSpeed,
+    float spread,
+    float drag,
+    float startSize,
+    float endSize,
+    Color startColor,
+    Color endColor) {
+
+  /** A few small embers left behind by a fireball. */
+  public static final ParticleEffect FIRE_TRAIL =
+      new ParticleEffect(
+          2,
+          0.2f,
+          0.4f,
+          0.2f,
+          0.8f,
+          360f,
+          0.9f,
+          0.2f,
+          0.05f,
+          new Color(1f, 0.8f, 0.2f, 1f),
+          new Color(0.8f, 0.1f, 0f, 0f));
+
+  /** Burst of fire if a fireball hits something. */
+  public static final ParticleEffect FIRE_IMPACT =
+      new ParticleEffect(
+          16,
+          0.25f,
+          0.5f,
+          1.5f,
+          4f,
+          360f,
+          0.95f,
+          0.25f,
+          0.05f,
+          new Color(1f, 0.9f, 0.3f, 1f),
+          new Color(0.6f, 0.1f, 0f, 0f));
+
+  /** Sparks if an entity gets hurt. */
+  public static final ParticleEffect HIT_SPARKS =
+      new ParticleEffect(
+          8,
+          0.15f,
+          0.3f,
+          2f,
+          4f,
+          360f,
+          0.9f,
+          0.12f,
+          0.04f,
+          new Color(1f, 1f, 1f, 1f),
+          new Color(1f, 0.2f, 0.2f, 0f));
+
+  /**
+   * Create a new effect.
+   *
+   * @throws IllegalArgumentException if a value is out of its range.
+   */
+  public ParticleEffect {
+    if (count < 0) throw new IllegalArgumentException("Count can't be negative");
+    if (minLifetime <= 0 || maxLifetime < minLifetime)
+      throw new IllegalArgumentException("Invalid lifetime: " + minLifetime + " - " + maxLifetime);
+    if (minSpeed < 0 || maxSpeed < minSpeed)
+      throw new IllegalArgumentException("Invalid speed: " + minSpeed + " - " + maxSpeed);
+    if (drag < 0 || drag > 1) throw new IllegalArgumentException("Drag has to be from 0 to 1");
+    startColor = new Color(startColor);
+    endColor = new Color(endColor);
+  }
+}
@@ -0,0 +1,264 @@
+package contrib.utils.components.particle;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.RandomXS128;
+import contrib.hud.UIUtils;
+import core.game.QualityGovernor;
+
+/**
+ * Stores and simulates all particles of the game.
+ *
+ * <p>Use {@link #instance()} to get the only instance of the {@link ParticlePool}, and use {@link
+ * #emit(ParticleEffect, float, float)} to start an effect. Particles are not entities: they are
+ * stored in preallocated parallel arrays, updated in one loop by {@link #update(float)} and drawn
+ * as colored quads from a single white texture by {@link #draw(Batch)}, so all particles are drawn
+ * in one batch. Emitting, updating and drawing particles doesn't allocate.
+ *
+ * <p>The number of particles is limited by the {@link #capacity()}. If the pool is full, new
+ * particles are dropped (see {@link #dropped()}), so many effects at the same time can't slow down
+ * the game.
+ *
+ * @see contrib.systems.ParticleSystem
+ */
+public final class ParticlePool {
+
+  private static final int DEFAULT_CAPACITY = 4096;
+  private static final ParticlePool INSTANCE = new ParticlePool();
+
+  /** Fraction of the particles of an effect that are emitted, depending on the quality tier. */
+  private static final QualityGovernor.Knob DENSITY =
+      QualityGovernor.instance().knob("particle density", 1f, 0.5f, 0.25f, 0.1f);
+
+  private final RandomXS128 random = new RandomXS128();
+
+  // particles, stored in parallel arrays
+  private ParticleEffect[] effects;
+  private float[] xs;
+  private float[] ys;
+  private float[] vxs;
+  private float[] vys;
+  private float[] ages;
+  private float[] lifetimes;
+  private int size = 0;
+  private long dropped = 0;
+
+  private ParticlePool() {
+    allocate(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Get the instance of the ParticlePool.
+   *
+   * @return The only instance of the ParticlePool.
+   */
+  public static ParticlePool instance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Emit a burst of particles, with the spread of the effect centered around 0 degrees (to the
+   * right). Use this for effects that spread in all directions.
+   *
+   * @param effect Effect to emit.
+   * @param x x-Position in the game world.
+   * @param y y-Position in the game world.
+   * @return Number of emitted particles.
+   * @see #emit(ParticleEffect, float, float, float)
+   */
+  public int emit(final ParticleEffect effect, float x, float y) {
+    return emit(effect, x, y, 0f);
+  }
+
+  /**
+   * Emit a burst of particles.
+   *
+   * <p>If the {@link QualityGovernor} lowered the quality, only a part of the particles of the
+   * effect are emitted. If the pool is full, the remaining particles of the burst are dropped.
+   *
+   * @param effect Effect to emit.
+   * @param x x-Position in the game world.
+   * @param y y-Position in the game world.
+   * @param direction Direction of the burst in degrees, the particles fly inside the spread of the
+   *     effect around this direction.
+   * @return Number of emitted particles.
+   */
+  public int emit(final ParticleEffect effect, float x, float y, float direction) {
+    int wanted =
+        effect.count() == 0 ? 0 : Math.max(1, Math.round(effect.count() * DENSITY.value()));
+    int count = Math.min(wanted, effects.length - size);
+    dropped += wanted - count;
+    float halfSpread = effect.spread() / 2;
+    for (int i = 0; i < count; i++) {
+      float angle = direction + random(-halfSpread, halfSpread);
+      float speed = random(effect.minSpeed(), effect.maxSpeed());
+      effects[size] = effect;
+      xs[size] = x;
+      ys[size] = y;
+      vxs[size] = MathUtils.cosDeg(angle) * speed;
+      vys[size] = MathUtils.sinDeg(angle) * speed;
+      ages[size] = 0;
+      lifetimes[size] = random(effect.minLifetime(), effect.maxLifetime());
+      size++;
+    }
+    return count;
+  }
+
+  /**
+   * Move all particles and remove the particles that reached the end of their lifetime.
+   *
+   * <p>Needs to be called once per frame.
+   *
+   * @param delta Time since the last frame in seconds.
+   */
+  public void update(float delta) {
+    for (int i = size - 1; i >= 0; i--) {
+      float age = ages[i] + delta;
+      if (age >= lifetimes[i]) {
+        remove(i);
+        continue;
+      }
+      ages[i] = age;
+      float damping = Math.max(0f, 1f - effects[i].drag() * delta);
+      vxs[i] *= damping;
+      vys[i] *= damping;
+      xs[i] += vxs[i] * delta;
+      ys[i] += vys[i] * delta;
+    }
+  }
+
+  /**
+   * Draw all particles.
+   *
+   * <p>If the batch is not drawing yet, it will be started and ended by this method.
+   *
+   * @param batch Batch to draw with, its projection has to be the camera of the game world.
+   */
+  public void draw(final Batch batch) {
+    if (size == 0) return;
+    TextureRegion region = UIUtils.whiteRegion();
+    boolean singleDraw = !batch.isDrawing();
+    if (singleDraw) batch.begin();
+    float color = batch.getPackedColor();
+    for (int i = 0; i < size; i++) {
+      ParticleEffect effect = effects[i];
+      float t = ages[i] / lifetimes[i];
+      Color start = effect.startColor();
+      Color end = effect.endColor();
+      batch.setPackedColor(
+          Color.toFloatBits(
+              start.r + (end.r - start.r) * t,
+              start.g + (end.g - start.g) * t,
+              start.b + (end.b - start.b) * t,
+              start.a + (end.a - start.a) * t));
+      float particleSize = effect.startSize() + (effect.endSize() - effect.startSize()) * t;
+      float half = particleSize / 2;
+      batch.draw(region, xs[i] - half, ys[i] - half, particleSize, particleSize);
+    }
+    batch.setPackedColor(color);
+    if (singleDraw) batch.end();
+  }
+
+  /** Remove all particles. */
+  public void clear() {
+    for (int i = 0; i < size; i++) effects[i] = null;
+    size = 0;
+  }
+
+  /**
+   * Get the number of living particles.
+   *
+   * @return Number of particles.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Get the maximal number of particles.
+   *
+   * @return Capacity of the pool.
+   */
+  public int capacity() {
+    return effects.length;
+  }
+
+  /**
+   * Set the maximal number of particles.
+   *
+   * <p>Removes all particles.
+   *
+   * @param capacity Capacity of the pool (at least 1).
+   */
+  public void capacity(int capacity) {
+    if (capacity < 1) throw new IllegalArgumentException("Capacity has to be at least 1");
+    allocate(capacity);
+  }
+
+  /**
+   * Get the number of particles that were dropped because the pool was full.
+   *
+   * @return Number of dropped particles since the start of the game.
+   */
+  public long dropped() {
+    return dropped;
+  }
+
+  /**
+   * Set the seed of the random values of new particles. Only used for testing.
+   *
+   * @param seed Seed for the random generator.
+   */
+  void seed(long seed) {
+    random.setSeed(seed);
+  }
+
+  /**
+   * Get the x-position of a particle. Only used for testing.
+   *
+   * @param index Index of the particle.
+   * @return x-Position in the game world.
+   */
+  float x(int index) {
+    return xs[index];
+  }
+
+  /**
+   * Get the y-position of a particle. Only used for testing.
+   *
+   * @param index Index of the particle.
+   * @return y-Position in the game world.
+   */
+  float y(int index) {
+    return ys[index];
+  }
+
+  private float random(float min, float max) {
+    return min + random.nextFloat() * (max - min);
+  }
+
+  private void remove(int index) {
+    int last = --size;
+    effects[index] = effects[last];
+    xs[index] = xs[last];
+    ys[index] = ys[last];
+    vxs[index] = vxs[last];
+    vys[index] = vys[last];
+    ages[index] = ages[last];
+    lifetimes[index] = lifetimes[last];
+    effects[last] = null;
+  }
+
+  private void allocate(int capacity) {
+    effects = new ParticleEffect[capacity];
+    xs = new float[capacity];
+    ys = new float[capacity];
+    vxs = new float[capacity];
+    vys = new float[capacity];
+    ages = new float[capacity];
+    lifetimes = new float[capacity];
+    size = 0;
+  }
+}
@@ -2,9 +2,12 @@ package contrib.utils.components.skill;
 
 import contrib.components.CollideComponent;
 import contrib.components.HealthComponent;
+import contrib.components.ParticleEmitterComponent;
 import contrib.components.ProjectileComponent;
 import contrib.utils.components.health.Damage;
 import contrib.utils.components.health.DamageType;
+import contrib.utils.components.particle.ParticleEffect;
+import contrib.utils.components.particle.ParticlePool;
 import core.Entity;
 import core.Game;
 import core.components.DrawComponent;
@@ -29,6 +32,8 @@ import java.util.logging.Logger;
 public abstract class DamageProjectile implements Consumer<Entity> {
 
   private static final Consumer<Entity> DEFAULT_ON_WALL_HIT = Game::remove;
+  private static final float TRAIL_INTERVAL = 0.05f;
+  private static final float CENTER_OFFSET = 0.5f;
   private static final Logger LOGGER = Logger.getLogger(DamageProjectile.class.getSimpleName());
   private final IPath pathToTexturesOfProjectile;
   private final float projectileSpeed;
@@ -160,9 +165,21 @@ public abstract class DamageProjectile implements Consumer<Entity> {
     Point velocity = SkillTools.calculateVelocity(startPoint, targetPoint, projectileSpeed);
 
     // Add the VelocityComponent to the projectile
-    VelocityComponent vc = new VelocityComponent(velocity.x, velocity.y, onWallHit);
+    ParticleEffect impact = impactEffect();
+    Consumer<Entity> wallHit =
+        impact == null
+            ? onWallHit
+            : p -> {
+              emitAt(impact, p);
+              onWallHit.accept(p);
+            };
+    VelocityComponent vc = new VelocityComponent(velocity.x, velocity.y, wallHit);
     projectile.add(vc);
 
+    // Leave a trail of particles, if the projectile has one
+    ParticleEffect trail = trailEffect();
+    if (trail != null) projectile.add(new ParticleEmitterComponent(trail, TRAIL_INTERVAL));
+
     // Add the ProjectileComponent with the initial and target positions to the projectile
     projectile.add(new ProjectileComponent(startPoint, targetPoint));
 
@@ -177,6 +194,7 @@ public abstract class DamageProjectile implements Consumer<Entity> {
                       hc.receiveHit(new Damage(damageAmount, damageType, entity));
 
                       // Remove the projectile entity from the game
+                      if (impact != null) emitAt(impact, projectile);
                       Game.remove(projectile);
                     });
           }
@@ -192,4 +210,34 @@ public abstract class DamageProjectile implements Consumer<Entity> {
 
   /** Override this method to play a Sound-effect on spawning the projectile if you want. */
   protected void playSound() {}
+
+  /**
+   * Override this method to leave a trail of particles behind the projectile if you want.
+   *
+   * <p>The particles are emitted by the {@link contrib.systems.ParticleSystem}, no entities are
+   * created for them.
+   *
+   * @return The effect of the trail, or null for no trail.
+   */
+  protected ParticleEffect trailEffect() {
+    return null;
+  }
+
+  /**
+   * Override this method to show particles where the projectile hits an entity or a wall if you
+   * want.
+   *
+   * @return The effect of the impact, or null for no effect.
+   */
+  protected ParticleEffect impactEffect() {
+    return null;
+  }
+
+  private static void emitAt(final ParticleEffect effect, final Entity projectile) {
+    projectile
+        .fetch(PositionComponent.class)
+        .map(PositionComponent::position)
+        .ifPresent(
+            p -> ParticlePool.instance().emit(effect, p.x + CENTER_OFFSET, p.y + CENTER_OFFSET));
+  }
 }
@@ -1,12 +1,12 @@
 package contrib.utils.components.skill;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.math.MathUtils;
 import contrib.utils.components.health.DamageType;
+import contrib.utils.components.particle.ParticleEffect;
 import core.utils.Point;
 import core.utils.components.path.IPath;
 import core.utils.components.path.SimpleIPath;
+import core.utils.components.sound.SoundPlayer;
 import java.util.function.Supplier;
 
 /**
@@ -17,7 +17,8 @@ import java.util.function.Supplier;
  *
  * <p>The projectile will fly through the dungeon, and if it hits an entity, it will deal damage and
  * be removed from the game. It will also be removed from the game if it hits a wall or has reached
- * the maximum distance.
+ * the maximum distance. The fireball leaves a trail of embers and bursts into flames where it hits
+ * an entity or a wall.
  */
 public final class FireballSkill extends DamageProjectile {
 
@@ -48,18 +49,22 @@ public final class FireballSkill extends DamageProjectile {
 
   @Override
   protected void playSound() {
-    Sound soundEffect = Gdx.audio.newSound(Gdx.files.internal(PROJECTILE_SOUND.pathString()));
-
     // Generate a random pitch between 1.5f and 2.0f
     float minPitch = 2f;
     float maxPitch = 3f;
     float randomPitch = MathUtils.random(minPitch, maxPitch);
 
     // Play the sound with the adjusted pitch
-    long soundId = soundEffect.play();
-    soundEffect.setPitch(soundId, randomPitch);
+    SoundPlayer.instance().play(PROJECTILE_SOUND, 0.05f, randomPitch, SoundPlayer.DEFAULT_PRIORITY);
+  }
+
+  @Override
+  protected ParticleEffect trailEffect() {
+    return ParticleEffect.FIRE_TRAIL;
+  }
 
-    // Set the volume
-    soundEffect.setVolume(soundId, 0.05f);
+  @Override
+  protected ParticleEffect impactEffect() {
+    return ParticleEffect.FIRE_IMPACT;
   }
 }
@@ -242,10 +242,7 @@ public class EntityExtension {
               interactedDC -> {
                 // only add opening animation when it is not
                 // finished
-                if (interactedDC
-                    .animation(ChestAnimations.OPENING)
-                    .map(animation -> !animation.isFinished())
-                    .orElse(true)) {
+                if (!interactedDC.isAnimationFinished(ChestAnimations.OPENING)) {
                   interactedDC.queueAnimation(ChestAnimations.OPENING);
                 }
               });
@@ -24,6 +24,7 @@ import task.TaskContent;
 import task.game.components.TaskComponent;
 import task.game.components.TaskContentComponent;
 import task.game.content.QuestItem;
+import task.game.hud.QuizDialogPool;
 import task.game.hud.QuizUI;
 import task.game.hud.YesNoDialog;
 import task.reporting.AnswerPickingFunctions;
@@ -124,6 +125,8 @@ public class NativeScenarioBuilder {
   }
 
   private static InteractionComponent askOnInteractionQuiz(Quiz quiz) {
+    // build the dialog before the first interaction
+    QuizDialogPool.prewarm();
     return new InteractionComponent(
         1,
         true,
@@ -186,10 +189,7 @@ public class NativeScenarioBuilder {
               interactedDC -> {
                 // only add opening animation when it is not
                 // finished
-                if (interactedDC
-                    .animation(ChestAnimations.OPENING)
-                    .map(animation -> !animation.isFinished())
-                    .orElse(true)) {
+                if (!interactedDC.isAnimationFinished(ChestAnimations.OPENING)) {
                   interactedDC.queueAnimation(ChestAnimations.OPENING);
                 }
               });
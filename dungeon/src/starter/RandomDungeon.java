@@ -9,6 +9,7 @@ import contrib.utils.components.Debugger;
 import core.Entity;
 import core.Game;
 import core.level.utils.LevelSize;
+import core.systems.FogOfWarSystem;
 import core.utils.components.path.SimpleIPath;
 import java.io.IOException;
 import java.util.logging.Level;
@@ -90,7 +91,10 @@ public class RandomDungeon {
     Game.add(new AISystem());
     Game.add(new HealthSystem());
     Game.add(new ProjectileSystem());
+    Game.add(new ParticleSystem());
     Game.add(new HealthBarSystem());
+    Game.add(new FogOfWarSystem());
+    Game.add(new MinimapSystem());
     Game.add(new HudSystem());
     Game.add(new SpikeSystem());
     Game.add(new IdleSoundSystem());
@@ -11,6 +11,7 @@ import core.Entity;
 import core.Game;
 import core.level.elements.ILevel;
 import core.level.utils.DesignLabel;
+import core.systems.FogOfWarSystem;
 import core.utils.components.path.SimpleIPath;
 import java.io.IOException;
 import java.util.HashSet;
@@ -93,7 +94,10 @@ public class RoomBasedDungeon {
     Game.add(new AISystem());
     Game.add(new HealthSystem());
     Game.add(new ProjectileSystem());
+    Game.add(new ParticleSystem());
     Game.add(new HealthBarSystem());
+    Game.add(new FogOfWarSystem());
+    Game.add(new MinimapSystem());
     Game.add(new HudSystem());
     Game.add(new SpikeSystem());
     Game.add(new IdleSoundSystem());
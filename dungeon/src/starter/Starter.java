@@ -11,6 +11,7 @@ import core.Entity;
 import core.Game;
 import core.components.PlayerComponent;
 import core.level.elements.ILevel;
+import core.systems.FogOfWarSystem;
 import core.utils.components.MissingComponentException;
 import core.utils.components.path.SimpleIPath;
 import dsl.interpreter.DSLEntryPointFinder;
@@ -264,7 +265,10 @@ public class Starter {
     Game.add(new CollisionSystem());
     Game.add(new HealthSystem());
     Game.add(new ProjectileSystem());
+    Game.add(new ParticleSystem());
     Game.add(new HealthBarSystem());
+    Game.add(new FogOfWarSystem());
+    Game.add(new MinimapSystem());
     Game.add(new HudSystem());
     Game.add(new SpikeSystem());
     Game.add(new IdleSoundSystem());
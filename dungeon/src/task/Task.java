@@ -2,6 +2,7 @@ package task;
 
 import contrib.components.InventoryComponent;
 import contrib.components.ItemComponent;
+import contrib.level.GroundLayer;
 import core.Entity;
 import core.Game;
 import core.utils.MissingHeroException;
@@ -479,6 +480,10 @@ public abstract class Task {
                 }
               }
             });
+    GroundLayer.removeItemsIf(
+        item ->
+            item instanceof QuestItem questItem
+                && questItem.taskContentComponent().content().task().equals(t));
   }
 
   private void removeQuestItemFromInventory(Entity hero) {
@@ -1,12 +1,14 @@
 package task.game.hud;
 
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.scenes.scene2d.Group;
 import com.badlogic.gdx.scenes.scene2d.ui.*;
 import com.badlogic.gdx.utils.Align;
 import contrib.hud.UIUtils;
 import contrib.hud.dialogs.DialogDesign;
+import core.utils.components.draw.TextureMap;
+import core.utils.components.path.IPath;
+import core.utils.components.path.SimpleIPath;
 import task.tasktype.Quiz;
 import task.tasktype.quizquestion.FreeText;
 import task.tasktype.quizquestion.MultipleChoice;
@@ -15,8 +17,9 @@ import task.tasktype.quizquestion.SingleChoice;
 public class QuizDialogDesign {
 
   public static final String ANSWERS_GROUP_NAME = "Answers";
-  private static final String QUIZ_MESSAGE_TASK = "Aufgabestellung";
-  private static final String QUIZ_MESSAGE_SOLUTION = "Lösung";
+  static final String QUIZ_MESSAGE_TASK = "Aufgabestellung";
+  static final String QUIZ_MESSAGE_SOLUTION = "Lösung";
+  static final IPath MISSING_TEXTURE = new SimpleIPath("animation/missing_texture.png");
 
   /**
    * Creates a vertical Button Group based on the answers provided by the QuizQuestion
@@ -105,7 +108,8 @@ public class QuizDialogDesign {
                   skin,
                   questionContent
                       .image()
-                      .orElse(new Image(new Texture("animation/missing_texture.png")))));
+                      .orElseGet(
+                          () -> new Image(TextureMap.instance().textureAt(MISSING_TEXTURE)))));
 
       case TEXT_AND_IMAGE -> {
         vg.addActor(
@@ -115,7 +119,7 @@ public class QuizDialogDesign {
                 skin,
                 questionContent
                     .image()
-                    .orElse(new Image(new Texture("animation/missing_texture.png")))));
+                    .orElseGet(() -> new Image(TextureMap.instance().textureAt(MISSING_TEXTURE)))));
       }
       default -> {}
     }
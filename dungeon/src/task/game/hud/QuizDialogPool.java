@@ -0,0 +1,326 @@
+package task.game.hud;
+
+import static contrib.hud.UIUtils.defaultSkin;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.scenes.scene2d.ui.ButtonGroup;
+import com.badlogic.gdx.scenes.scene2d.ui.CheckBox;
+import com.badlogic.gdx.scenes.scene2d.ui.Dialog;
+import com.badlogic.gdx.scenes.scene2d.ui.Image;
+import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.badlogic.gdx.scenes.scene2d.ui.ScrollPane;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.badlogic.gdx.scenes.scene2d.ui.TextArea;
+import com.badlogic.gdx.scenes.scene2d.ui.VerticalGroup;
+import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
+import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
+import com.badlogic.gdx.utils.Align;
+import contrib.hud.UIUtils;
+import contrib.hud.dialogs.DialogDesign;
+import contrib.hud.dialogs.TextDialog;
+import core.utils.components.draw.TextureMap;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import task.tasktype.Quiz;
+import task.tasktype.quizquestion.FreeText;
+import task.tasktype.quizquestion.MultipleChoice;
+import task.tasktype.quizquestion.SingleChoice;
+
+/**
+ * Pool of reusable quiz dialogs.
+ *
+ * <p>Building a quiz dialog creates the whole Scene2D widget tree (and loads the skin for the first
+ * dialog), which causes a visible hitch when a quiz is opened. This pool keeps one dialog skeleton
+ * per {@link Kind} of question. {@link #obtain(Quiz, String, BiFunction)} only reconfigures a free
+ * skeleton: texts are replaced, the check boxes of the answers are reused and the images of the
+ * question are swapped into a prebuilt {@link Image}. A new skeleton is only built if all skeletons
+ * of the kind are in use.
+ *
+ * <p>Use {@link #prewarm()} to build the skeletons ahead of time: the skin and each skeleton are
+ * built in their own frame on the render thread, so the game keeps running smoothly.
+ *
+ * <p>The widget tree of a skeleton has the same structure as the one built by {@link
+ * QuizDialogDesign}, so {@link UIAnswerCallback} can read the answers from both.
+ */
+public final class QuizDialogPool {
+
+  private static final Map<Kind, List<Skeleton>> SKELETONS = new EnumMap<>(Kind.class);
+  private static final Map<Dialog, Skeleton> BY_DIALOG = new IdentityHashMap<>();
+  private static boolean prewarming = false;
+
+  /** The kinds of questions, each kind has its own answer section. */
+  public enum Kind {
+    /** Radio buttons, only one answer can be selected. */
+    SINGLE_CHOICE,
+    /** Check boxes, multiple answers can be selected. */
+    MULTIPLE_CHOICE,
+    /** A text area for the answer. */
+    FREE_TEXT;
+
+    /**
+     * Get the kind of the given question.
+     *
+     * @param quiz the question
+     * @return the kind of the question, other questions than single choice and free text are shown
+     *     like multiple choice questions.
+     */
+    public static Kind of(final Quiz quiz) {
+      if (quiz instanceof FreeText) return FREE_TEXT;
+      if (quiz instanceof SingleChoice) return SINGLE_CHOICE;
+      return MULTIPLE_CHOICE;
+    }
+  }
+
+  /**
+   * Build one dialog skeleton per kind of question in the following frames.
+   *
+   * <p>Nothing is built in this call: the skin and each skeleton are built by a runnable on the
+   * render thread, one per frame. Kinds that already have a skeleton are skipped. Calling this
+   * method again while the skeletons are built has no effect.
+   */
+  public static void prewarm() {
+    if (prewarming || Gdx.app == null) return;
+    prewarming = true;
+    Gdx.app.postRunnable(
+        () -> {
+          defaultSkin();
+          missingTexture();
+          prewarm(0);
+        });
+  }
+
+  private static void prewarm(int ordinal) {
+    if (ordinal >= Kind.values().length) {
+      prewarming = false;
+      return;
+    }
+    Gdx.app.postRunnable(
+        () -> {
+          Kind kind = Kind.values()[ordinal];
+          if (skeletons(kind).isEmpty()) build(kind);
+          prewarm(ordinal + 1);
+        });
+  }
+
+  /**
+   * Get a dialog that shows the given question.
+   *
+   * <p>Reuses a free skeleton of the kind of the question if there is one, otherwise a new skeleton
+   * is built. The dialog is packed and centered.
+   *
+   * <p>The dialog is in use until it is given back with {@link #free(Dialog)}.
+   *
+   * @param quiz the question to show
+   * @param title title of the dialog
+   * @param resultHandler a callback method which is called when a button is pressed
+   * @return the configured dialog
+   */
+  public static TextDialog obtain(
+      final Quiz quiz,
+      final String title,
+      final BiFunction<TextDialog, String, Boolean> resultHandler) {
+    Kind kind = Kind.of(quiz);
+    Skeleton skeleton = null;
+    for (Skeleton free : skeletons(kind)) {
+      if (!free.inUse && free.dialog.getStage() == null) {
+        skeleton = free;
+        break;
+      }
+    }
+    if (skeleton == null) skeleton = build(kind);
+    skeleton.inUse = true;
+    skeleton.configure(quiz, title, resultHandler);
+    return skeleton.dialog;
+  }
+
+  /**
+   * Give a dialog back to the pool, so it can be reused by the next quiz.
+   *
+   * <p>Dialogs that were not obtained from the pool are ignored.
+   *
+   * @param dialog the dialog that is no longer shown
+   */
+  public static void free(final Dialog dialog) {
+    Skeleton skeleton = BY_DIALOG.get(dialog);
+    if (skeleton != null) skeleton.inUse = false;
+  }
+
+  /**
+   * Get the number of dialog skeletons of the given kind.
+   *
+   * @param kind kind of question
+   * @return the number of skeletons, free and in use.
+   */
+  public static int size(final Kind kind) {
+    return skeletons(kind).size();
+  }
+
+  private static List<Skeleton> skeletons(final Kind kind) {
+    return SKELETONS.computeIfAbsent(kind, k -> new ArrayList<>());
+  }
+
+  private static Skeleton build(final Kind kind) {
+    Skeleton skeleton = new Skeleton(kind, defaultSkin());
+    skeletons(kind).add(skeleton);
+    BY_DIALOG.put(skeleton.dialog, skeleton);
+    return skeleton;
+  }
+
+  private static Drawable missingTexture() {
+    return new TextureRegionDrawable(
+        TextureMap.instance().textureAt(QuizDialogDesign.MISSING_TEXTURE));
+  }
+
+  /** The prebuilt widget tree of one dialog. */
+  private static final class Skeleton {
+    private final Kind kind;
+    private final Skin skin;
+    private final TextDialog dialog;
+    private final VerticalGroup questionSection = new VerticalGroup();
+    private final Label questionLabel;
+    private final ScrollPane questionLabelPane;
+    private final Image questionImage = new Image();
+    private final ScrollPane questionImagePane;
+    private final ScrollPane answerPane;
+    // choice questions
+    private final VerticalGroup answerButtons = new VerticalGroup();
+    private final ButtonGroup<CheckBox> buttonGroup = new ButtonGroup<>();
+    private final List<CheckBox> checkBoxes = new ArrayList<>();
+    // free text questions
+    private TextArea textArea;
+    private String defaultText;
+    private boolean inUse = false;
+
+    private Skeleton(final Kind kind, final Skin skin) {
+      this.kind = kind;
+      this.skin = skin;
+      dialog = new TextDialog("", skin, "Letter", (d, id) -> true);
+
+      questionLabel = new Label("", skin);
+      questionLabelPane = DialogDesign.createScrollPane(skin, questionLabel);
+      questionImagePane = DialogDesign.createScrollPane(skin, questionImage);
+      questionSection.grow();
+
+      VerticalGroup answerSection = new VerticalGroup();
+      if (kind == Kind.FREE_TEXT) {
+        textArea = DialogDesign.createEditableText(skin);
+        defaultText = textArea.getText();
+        answerPane = new ScrollPane(textArea, skin);
+        answerPane.setFadeScrollBars(false);
+        answerPane.setScrollbarsVisible(true);
+      } else {
+        buttonGroup.setMinCheckCount(0);
+        answerButtons.align(Align.left);
+        answerButtons.left();
+        answerButtons.space(10);
+        answerButtons.fill();
+        answerPane = DialogDesign.createScrollPane(skin, answerButtons);
+      }
+      answerSection.addActor(answerPane);
+      answerSection.grow();
+      answerSection.setName(QuizDialogDesign.ANSWERS_GROUP_NAME);
+
+      Label labelExercise = new Label(QuizDialogDesign.QUIZ_MESSAGE_TASK, skin);
+      labelExercise.setColor(Color.YELLOW);
+      Label labelSolution = new Label(QuizDialogDesign.QUIZ_MESSAGE_SOLUTION, skin);
+      labelSolution.setColor(Color.GREEN);
+      VerticalGroup content = new VerticalGroup();
+      content.addActor(labelExercise);
+      content.addActor(questionSection);
+      content.addActor(labelSolution);
+      content.addActor(answerSection);
+      content.grow();
+
+      dialog.getContentTable().add(content).grow().fill();
+      dialog.button(QuizUI.DEFAULT_DIALOG_ABORT, QuizUI.DEFAULT_DIALOG_ABORT);
+      dialog.button(QuizUI.DEFAULT_DIALOG_CONFIRM, QuizUI.DEFAULT_DIALOG_CONFIRM);
+    }
+
+    private void configure(
+        final Quiz quiz,
+        final String title,
+        final BiFunction<TextDialog, String, Boolean> resultHandler) {
+      // a hidden dialog keeps the state of its fade out
+      dialog.clearActions();
+      dialog.getColor().a = 1;
+      dialog.setVisible(true);
+      dialog.getTitleLabel().setText(title);
+      dialog.resultHandler(resultHandler);
+
+      configureQuestion(quiz.question());
+      if (kind == Kind.FREE_TEXT) textArea.setText(defaultText);
+      else configureAnswers(quiz);
+      answerPane.setScrollPercentY(0);
+      answerPane.updateVisualScroll();
+
+      dialog.pack();
+      UIUtils.center(dialog);
+    }
+
+    private void configureQuestion(final Quiz.Content question) {
+      questionSection.clearChildren();
+      switch (question.type()) {
+        case TEXT -> {
+          questionLabel.setText(UIUtils.formatString(question.content()));
+          questionSection.addActor(questionLabelPane);
+        }
+        case IMAGE -> {
+          questionImage.setDrawable(imageOf(question));
+          questionSection.addActor(questionImagePane);
+        }
+        case TEXT_AND_IMAGE -> {
+          questionLabel.setText(question.content());
+          questionImage.setDrawable(imageOf(question));
+          questionSection.addActor(questionLabelPane);
+          questionSection.addActor(questionImagePane);
+        }
+        default -> {}
+      }
+      questionLabelPane.setScrollPercentY(0);
+      questionLabelPane.updateVisualScroll();
+    }
+
+    private void configureAnswers(final Quiz quiz) {
+      CheckBox.CheckBoxStyle style =
+          skin.get(kind == Kind.SINGLE_CHOICE ? "radio" : "default", CheckBox.CheckBoxStyle.class);
+      buttonGroup.clear();
+      answerButtons.clearChildren();
+      int[] index = {0};
+      quiz.contentStream()
+          .filter(answer -> answer instanceof Quiz.Content)
+          .map(answer -> (Quiz.Content) answer)
+          .filter(answer -> answer.type() != Quiz.Content.Type.IMAGE)
+          .forEach(
+              answer -> {
+                CheckBox checkBox = checkBox(index[0]++, style);
+                checkBox.setText(UIUtils.formatString(answer.content()));
+                checkBox.setChecked(false);
+                buttonGroup.add(checkBox);
+                answerButtons.addActor(checkBox);
+              });
+      if (quiz instanceof MultipleChoice)
+        buttonGroup.setMaxCheckCount((int) quiz.contentStream().count());
+      else buttonGroup.setMaxCheckCount(1);
+    }
+
+    private CheckBox checkBox(int index, final CheckBox.CheckBoxStyle style) {
+      if (index == checkBoxes.size()) {
+        CheckBox checkBox = new CheckBox("", style);
+        checkBox.left();
+        checkBoxes.add(checkBox);
+      }
+      CheckBox checkBox = checkBoxes.get(index);
+      if (checkBox.getStyle() != style) checkBox.setStyle(style);
+      return checkBox;
+    }
+
+    private static Drawable imageOf(final Quiz.Content content) {
+      return content.image().map(Image::getDrawable).orElseGet(QuizDialogPool::missingTexture);
+    }
+  }
+}
@@ -1,9 +1,6 @@
 package task.game.hud;
 
-import static contrib.hud.UIUtils.defaultSkin;
-
 import com.badlogic.gdx.scenes.scene2d.ui.Dialog;
-import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import contrib.components.UIComponent;
 import contrib.hud.UIUtils;
 import contrib.hud.dialogs.OkDialog;
@@ -87,14 +84,7 @@ public class QuizUI {
       Quiz question,
       Function<Entity, BiFunction<TextDialog, String, Boolean>> resulthandlerLinker) {
 
-    String title = question.taskName();
-    Entity entity =
-        showQuizDialog(
-            question,
-            UIUtils.formatString(question.taskText()),
-            DEFAULT_DIALOG_CONFIRM,
-            title,
-            resulthandlerLinker);
+    Entity entity = showQuizDialog(question, question.taskName(), resulthandlerLinker);
     Game.add(entity);
     return entity;
   }
@@ -116,72 +106,44 @@ public class QuizUI {
   }
 
   /**
-   * If no Quiz-Dialogue is created, a new dialogue is created according to the event key. Pause all
-   * systems except DrawSystem
+   * Show a dialog from the {@link QuizDialogPool} for the question. Pause all systems except
+   * DrawSystem
    *
    * <p>display the Question-Content (Question and answer options (no pictures) as text, picture,
    * text and picture, single or multiple choice ) in the Dialog
    *
    * @param question Various question configurations
+   * @param dialogTitle Title of the dialog
+   * @param resulthandlerLinker callback function, creates the result handler of the dialog for the
+   *     entity that stores the hud elements
    * @return the Entity that stores the {@link UIComponent} with the UI-Elements The entity will
    *     already be added to the game by this method.
    */
   private static Entity showQuizDialog(
       Quiz question,
-      String questionMsg,
-      String buttonMsg,
       String dialogTitle,
       Function<Entity, BiFunction<TextDialog, String, Boolean>> resulthandlerLinker) {
     Entity entity = new Entity();
 
     UIUtils.show(
-        () -> {
-          Dialog quizDialog =
-              createQuizDialog(
-                  defaultSkin(),
-                  question,
-                  questionMsg,
-                  buttonMsg,
-                  dialogTitle,
-                  resulthandlerLinker.apply(entity));
-          UIUtils.center(quizDialog);
-          return quizDialog;
-        },
+        () -> QuizDialogPool.obtain(question, dialogTitle, resulthandlerLinker.apply(entity)),
         entity);
+    // give the dialog back to the pool once it is closed
+    entity
+        .fetch(UIComponent.class)
+        .ifPresent(
+            ui -> {
+              IVoidFunction onClose = ui.onClose();
+              ui.onClose(
+                  () -> {
+                    onClose.execute();
+                    QuizDialogPool.free((Dialog) ui.dialog());
+                  });
+            });
     Game.add(entity);
     return entity;
   }
 
-  /**
-   * Factory for a generic Quizquestion.
-   *
-   * @param skin Skin for the dialogue (resources that can be used by UI widgets)
-   * @param quizQuestion Various question configurations
-   * @param outputMsg Content displayed in the scrollable label
-   * @param buttonMsg text for the button
-   * @param title Title of the dialogue
-   * @param resultHandler a callback method which is called when the confirm button is pressed
-   * @return the fully configured Dialog which then can be added where it is needed
-   */
-  private static Dialog createQuizDialog(
-      Skin skin,
-      Quiz quizQuestion,
-      String outputMsg,
-      String buttonMsg,
-      String title,
-      BiFunction<TextDialog, String, Boolean> resultHandler) {
-    Dialog textDialog = new TextDialog(title, skin, "Letter", resultHandler);
-    textDialog
-        .getContentTable()
-        .add(QuizDialogDesign.createQuizQuestion(quizQuestion, skin, outputMsg))
-        .grow()
-        .fill(); // changes size based on childrens;
-    textDialog.button(DEFAULT_DIALOG_ABORT, DEFAULT_DIALOG_ABORT);
-    textDialog.button(buttonMsg, buttonMsg);
-    textDialog.pack(); // resizes to size
-    return textDialog;
-  }
-
   /**
    * Create a default callback-function that will delete the entity that stores the hud-component.
    */
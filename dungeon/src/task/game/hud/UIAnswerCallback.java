@@ -45,6 +45,8 @@ public final class UIAnswerCallback {
    */
   public static BiConsumer<Entity, Entity> askOnInteraction(
       Quiz quiz, BiConsumer<Task, Set<TaskContent>> dslCallback) {
+    // build the dialog before the first interaction
+    QuizDialogPool.prewarm();
     return (questGiver, player) ->
         QuizUI.showQuizDialog(quiz, (Entity hudEntity) -> uiCallback(quiz, hudEntity, dslCallback));
   }
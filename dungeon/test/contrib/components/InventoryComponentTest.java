@@ -211,4 +211,21 @@ public class InventoryComponentTest {
     assertFalse("Can not transfer item to itself.", ic.transfer(item, ic));
     assertTrue("Item should still be in tis inventroy.", Arrays.asList(ic.items()).contains(item));
   }
+
+  /** Every change of the items increments the version, failed changes don't. */
+  @Test
+  public void version() {
+    InventoryComponent ic = new InventoryComponent(1);
+    Item item = Mockito.mock(Item.class);
+    int version = ic.version();
+    ic.add(item);
+    assertEquals(version + 1, ic.version());
+    assertFalse(ic.add(Mockito.mock(Item.class)));
+    assertEquals(version + 1, ic.version());
+    ic.remove(item);
+    ic.set(0, item);
+    ic.remove(0);
+    assertEquals(version + 4, ic.version());
+    assertEquals(1, ic.maxSize());
+  }
 }
@@ -0,0 +1,70 @@
+package contrib.entities;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import contrib.components.InventoryComponent;
+import contrib.item.Item;
+import contrib.level.GroundLayer;
+import core.Entity;
+import core.Game;
+import core.components.PositionComponent;
+import core.level.TileLevel;
+import core.level.utils.DesignLabel;
+import core.level.utils.LevelElement;
+import core.systems.LevelSystem;
+import core.utils.Point;
+import core.utils.components.draw.Animation;
+import core.utils.components.path.SimpleIPath;
+import java.util.Arrays;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class HeroFactoryTest {
+
+  private Entity hero;
+
+  /** A 10x10 floor level and a hero with an inventory. */
+  @Before
+  public void setup() {
+    LevelElement[][] layout = new LevelElement[10][10];
+    for (LevelElement[] row : layout) Arrays.fill(row, LevelElement.FLOOR);
+    layout[9][9] = LevelElement.EXIT;
+    Game.add(new LevelSystem(null, null, () -> {}));
+    Game.currentLevel(new TileLevel(layout, DesignLabel.DEFAULT));
+    hero = new Entity("hero");
+    hero.add(new PositionComponent(new Point(3, 3)));
+    hero.add(new InventoryComponent(1));
+    Game.add(hero);
+  }
+
+  @After
+  public void cleanup() {
+    Game.removeAllEntities();
+    Game.currentLevel(null);
+    Game.removeAllSystems();
+  }
+
+  /** Clicking on a dropped item picks it up if the hero is in range. */
+  @Test
+  public void interactAtPicksUpDroppedItem() {
+    Item item =
+        new Item(
+            "Test item",
+            "Test description",
+            Animation.fromSingleImage(new SimpleIPath("animation/missing_texture.png")));
+    assertTrue(item.drop(new Point(3.5f, 3.5f)));
+
+    // out of range, the item stays on the ground
+    hero.fetch(PositionComponent.class).orElseThrow().position(new Point(8, 8));
+    HeroFactory.interactAt(hero, new Point(3.2f, 3.8f));
+    assertEquals(1, GroundLayer.of(Game.currentLevel()).size());
+
+    hero.fetch(PositionComponent.class).orElseThrow().position(new Point(3, 3));
+    HeroFactory.interactAt(hero, new Point(3.2f, 3.8f));
+    assertEquals(0, GroundLayer.of(Game.currentLevel()).size());
+    assertTrue(hero.fetch(InventoryComponent.class).orElseThrow().hasItem(item));
+    assertEquals("The item entity is removed after the pickup", 1, Game.entityStream().count());
+  }
+}
@@ -0,0 +1,84 @@
+package contrib.hud;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.badlogic.gdx.graphics.Color;
+import org.junit.Test;
+
+/** Test the slot handling of the {@link HealthBarRenderer}. */
+public class HealthBarRendererTest {
+
+  /** New bars are full and hidden. */
+  @Test
+  public void add() {
+    HealthBarRenderer renderer = new HealthBarRenderer();
+    assertEquals(0, renderer.add(HealthBarRenderer.DEFAULT_STYLE));
+    assertEquals(1, renderer.add(HealthBarRenderer.DEFAULT_STYLE));
+    assertEquals(2, renderer.size());
+    assertEquals(1f, renderer.fraction(0), 0.001f);
+    assertFalse(renderer.visible(0));
+  }
+
+  /** Adding many bars grows the arrays. */
+  @Test
+  public void addMany() {
+    HealthBarRenderer renderer = new HealthBarRenderer();
+    for (int i = 0; i < 300; i++) {
+      renderer.add(HealthBarRenderer.DEFAULT_STYLE);
+      renderer.fraction(i, i / 300f);
+    }
+    assertEquals(300, renderer.size());
+    assertEquals(299 / 300f, renderer.fraction(299), 0.001f);
+  }
+
+  /** Removing a bar moves the last bar into the free slot. */
+  @Test
+  public void remove() {
+    HealthBarRenderer renderer = new HealthBarRenderer();
+    for (int i = 0; i < 3; i++) renderer.add(HealthBarRenderer.DEFAULT_STYLE);
+    renderer.fraction(2, 0.25f);
+    renderer.visible(2, true);
+
+    renderer.remove(0);
+    assertEquals(2, renderer.size());
+    assertEquals(0.25f, renderer.fraction(0), 0.001f);
+    assertTrue(renderer.visible(0));
+  }
+
+  /** Removed slots can't be used anymore. */
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void removedSlot() {
+    HealthBarRenderer renderer = new HealthBarRenderer();
+    renderer.add(HealthBarRenderer.DEFAULT_STYLE);
+    renderer.remove(0);
+    renderer.fraction(0);
+  }
+
+  /** The fraction is clamped to 0 to 1. */
+  @Test
+  public void clampFraction() {
+    HealthBarRenderer renderer = new HealthBarRenderer();
+    renderer.add(HealthBarRenderer.DEFAULT_STYLE);
+    renderer.fraction(0, 2f);
+    assertEquals(1f, renderer.fraction(0), 0.001f);
+    renderer.fraction(0, -1f);
+    assertEquals(0f, renderer.fraction(0), 0.001f);
+  }
+
+  /** Only registered styles can be used. */
+  @Test
+  public void style() {
+    HealthBarRenderer renderer = new HealthBarRenderer();
+    int style = renderer.style(Color.BLACK, Color.GREEN);
+    assertEquals(1, style);
+    assertEquals(0, renderer.add(style));
+  }
+
+  /** Unknown styles are rejected. */
+  @Test(expected = IllegalArgumentException.class)
+  public void unknownStyle() {
+    new HealthBarRenderer().add(1);
+  }
+}
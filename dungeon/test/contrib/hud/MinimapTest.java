@@ -0,0 +1,126 @@
+package contrib.hud;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+import core.level.TileLevel;
+import core.level.utils.Coordinate;
+import core.level.utils.DesignLabel;
+import core.level.utils.LevelElement;
+import java.util.BitSet;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/** Test the rendering and the explored cells of the {@link Minimap}. */
+public class MinimapTest {
+
+  private static final int WIDTH = 20;
+  private static final int HEIGHT = 12;
+
+  private TileLevel level;
+  private Minimap minimap;
+
+  @Before
+  public void setup() {
+    GdxNativesLoader.load();
+    LevelElement[][] layout = new LevelElement[HEIGHT][WIDTH];
+    for (int y = 0; y < HEIGHT; y++) {
+      for (int x = 0; x < WIDTH; x++) {
+        boolean border = x == 0 || y == 0 || x == WIDTH - 1 || y == HEIGHT - 1;
+        layout[y][x] = border ? LevelElement.WALL : LevelElement.FLOOR;
+      }
+    }
+    layout[5][5] = LevelElement.HOLE;
+    // set the exit, otherwise a random floor tile becomes the exit
+    layout[HEIGHT - 2][WIDTH - 2] = LevelElement.EXIT;
+    level = new TileLevel(layout, DesignLabel.DEFAULT);
+    minimap = new Minimap(level, new BitSet());
+    level.addTileChangeListener(minimap::tileChanged);
+  }
+
+  @After
+  public void cleanup() {
+    minimap.dispose();
+  }
+
+  private int pixel(int x, int y) {
+    Pixmap pixmap = minimap.pixmap();
+    return pixmap.getPixel(x, pixmap.getHeight() - 1 - y);
+  }
+
+  /** The pixmap is rounded up to full cells and has one pixel per tile. */
+  @Test
+  public void size() {
+    assertEquals(WIDTH, minimap.width());
+    assertEquals(HEIGHT, minimap.height());
+    assertEquals(24, minimap.pixmap().getWidth());
+    assertEquals(16, minimap.pixmap().getHeight());
+  }
+
+  /** Each kind of tile gets its own color, tiles outside the level are transparent. */
+  @Test
+  public void render() {
+    int wall = pixel(0, 0);
+    int floor = pixel(1, 1);
+    int hole = pixel(5, 5);
+    int exit = pixel(WIDTH - 2, HEIGHT - 2);
+    assertTrue(wall != floor && floor != hole && hole != wall);
+    assertTrue(exit != floor && exit != wall && exit != hole);
+    assertEquals(wall, pixel(WIDTH - 1, HEIGHT - 1));
+    assertEquals(floor, pixel(5, 6));
+    assertEquals(0, pixel(WIDTH, 0));
+    assertEquals(0, pixel(0, HEIGHT));
+  }
+
+  /** Changing a tile of the level patches its pixel. */
+  @Test
+  public void tileChanged() {
+    int floor = pixel(1, 1);
+    level.changeTileElementType(level.tileAt(new Coordinate(5, 5)), LevelElement.FLOOR);
+    assertEquals(floor, pixel(5, 5));
+  }
+
+  /** Exploring marks whole cells and queues each of them once for the upload. */
+  @Test
+  public void explore() {
+    assertFalse(minimap.isExplored(1, 1));
+    assertEquals(1, minimap.explore(0, 0, 3, 3));
+    assertTrue(minimap.isExplored(7, 7));
+    assertFalse(minimap.isExplored(8, 0));
+    assertEquals(0, minimap.explore(2, 2, 4, 4));
+    assertEquals(1, minimap.dirtyCells());
+
+    // clamped to the level
+    assertEquals(5, minimap.explore(-10, -10, 100, 100));
+    assertEquals(6, minimap.dirtyCells());
+    assertEquals(0, minimap.explore(-10, -10, -1, -1));
+  }
+
+  /** Changed tiles are only uploaded again if their cell was explored. */
+  @Test
+  public void changeQueuesExploredCell() {
+    level.changeTileElementType(level.tileAt(new Coordinate(5, 5)), LevelElement.FLOOR);
+    assertEquals(0, minimap.dirtyCells());
+    minimap.explore(0, 0, 0, 0);
+    level.changeTileElementType(level.tileAt(new Coordinate(9, 9)), LevelElement.HOLE);
+    assertEquals(1, minimap.dirtyCells());
+  }
+
+  /** Explored cells of a level are kept for a new minimap of the same level. */
+  @Test
+  public void keepExplored() {
+    BitSet explored = new BitSet();
+    Minimap first = new Minimap(level, explored);
+    first.explore(9, 9, 9, 9);
+    first.dispose();
+
+    Minimap second = new Minimap(level, explored);
+    assertTrue(second.isExplored(9, 9));
+    assertEquals(1, second.dirtyCells());
+    second.dispose();
+  }
+}
@@ -0,0 +1,88 @@
+package contrib.hud;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Align;
+import java.io.File;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/** Test the lookup and eviction of the {@link TextCache}. */
+public class TextCacheTest {
+
+  private final TextCache cache = TextCache.instance();
+  private BitmapFont font;
+
+  /** Load the font data from the assets, the texture is not needed for the layout. */
+  @Before
+  public void setup() {
+    Texture texture = mock(Texture.class);
+    when(texture.getWidth()).thenReturn(256);
+    when(texture.getHeight()).thenReturn(256);
+    font =
+        new BitmapFont(
+            new BitmapFont.BitmapFontData(
+                new FileHandle(new File("assets/skin/myFont.fnt")), false),
+            new TextureRegion(texture),
+            false);
+    cache.clear();
+    cache.capacity(3);
+  }
+
+  @After
+  public void cleanup() {
+    cache.clear();
+    cache.capacity(256);
+  }
+
+  /** The second lookup of a text returns the cached text. */
+  @Test
+  public void hit() {
+    long hits = cache.hits();
+    long misses = cache.misses();
+    TextCache.CachedText text = cache.get(font, "Inventory", Color.BLACK);
+    assertSame(text, cache.get(font, new String("Inventory"), Color.BLACK));
+    assertEquals(hits + 1, cache.hits());
+    assertEquals(misses + 1, cache.misses());
+    assertTrue(text.width() > 0);
+    assertTrue(text.height() > 0);
+  }
+
+  /** Color, width and alignment are part of the key. */
+  @Test
+  public void key() {
+    TextCache.CachedText text = cache.get(font, "Inventory", Color.BLACK);
+    assertNotSame(text, cache.get(font, "Inventory", Color.WHITE));
+    assertNotSame(text, cache.get(font, "Inventory", 100, Align.center, Color.BLACK));
+    assertEquals(3, cache.size());
+  }
+
+  /** The least recently used text is evicted. */
+  @Test
+  public void evict() {
+    long evictions = cache.evictions();
+    TextCache.CachedText a = cache.get(font, "a", Color.BLACK);
+    cache.get(font, "b", Color.BLACK);
+    cache.get(font, "c", Color.BLACK);
+    // a is used again, so b is the least recently used one
+    cache.get(font, "a", Color.BLACK);
+    cache.get(font, "d", Color.BLACK);
+    assertEquals(3, cache.size());
+    assertEquals(evictions + 1, cache.evictions());
+    assertSame(a, cache.get(font, "a", Color.BLACK));
+    long misses = cache.misses();
+    cache.get(font, "b", Color.BLACK);
+    assertEquals(misses + 1, cache.misses());
+  }
+}
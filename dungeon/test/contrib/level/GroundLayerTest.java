@@ -0,0 +1,145 @@
+package contrib.level;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import contrib.components.InteractionComponent;
+import contrib.components.ItemComponent;
+import contrib.item.Item;
+import core.Entity;
+import core.Game;
+import core.components.PositionComponent;
+import core.level.TileLevel;
+import core.level.utils.DesignLabel;
+import core.level.utils.LevelElement;
+import core.systems.LevelSystem;
+import core.utils.Point;
+import core.utils.components.draw.Animation;
+import core.utils.components.draw.TextureMap;
+import core.utils.components.path.SimpleIPath;
+import java.util.Arrays;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/** Test the storage of the {@link GroundLayer}. */
+public class GroundLayerTest {
+
+  private static final Animation ANIMATION =
+      Animation.fromSingleImage(new SimpleIPath("animation/missing_texture.png"));
+
+  private GroundLayer ground;
+
+  /** A 10x10 floor level, the exit is set, otherwise a random floor tile becomes the exit. */
+  @Before
+  public void setup() {
+    LevelElement[][] layout = new LevelElement[10][10];
+    for (LevelElement[] row : layout) Arrays.fill(row, LevelElement.FLOOR);
+    layout[9][9] = LevelElement.EXIT;
+    TileLevel level = new TileLevel(layout, DesignLabel.DEFAULT);
+    Game.add(new LevelSystem(null, null, () -> {}));
+    Game.currentLevel(level);
+    ground = GroundLayer.of(level);
+  }
+
+  @After
+  public void cleanup() {
+    Game.removeAllEntities();
+    Game.currentLevel(null);
+    Game.removeAllSystems();
+  }
+
+  private static Item item() {
+    return new Item("Test item", "Test description", ANIMATION);
+  }
+
+  /** Objects are stored on the tile of their position. */
+  @Test
+  public void add() {
+    Item item = item();
+    int handle = ground.addItem(item, new Point(2.5f, 3.2f));
+    ground.addDecoration(ANIMATION, new Point(2.1f, 3.9f));
+    assertEquals(2, ground.size());
+    assertEquals(2, ground.objectsAt(2, 3));
+    assertEquals(0, ground.objectsAt(3, 2));
+    assertSame(item, ground.item(handle));
+    assertEquals(-1, ground.addItem(item(), new Point(12, 3)));
+    assertEquals(0, Game.entityStream().count());
+  }
+
+  /** Removed objects free their slot for the next object. */
+  @Test
+  public void remove() {
+    int first = ground.addItem(item(), new Point(1, 1));
+    int second = ground.addItem(item(), new Point(1, 1));
+    assertTrue(ground.remove(second));
+    assertFalse(ground.remove(second));
+    assertEquals(1, ground.objectsAt(1, 1));
+    assertNull(ground.item(second));
+    assertEquals(second, ground.addItem(item(), new Point(5, 5)));
+    assertTrue(ground.remove(first));
+    assertEquals(0, ground.objectsAt(1, 1));
+    assertEquals(1, ground.size());
+  }
+
+  /** Only items in the radius are found, decorations are ignored. */
+  @Test
+  public void nearestItem() {
+    ground.addDecoration(ANIMATION, new Point(4, 4));
+    int near = ground.addItem(item(), new Point(5, 4));
+    ground.addItem(item(), new Point(6, 5));
+    assertEquals(near, ground.nearestItem(new Point(4, 4), 2));
+    assertEquals(-1, ground.nearestItem(new Point(4, 4), 0.5f));
+    assertEquals(-1, ground.nearestItem(new Point(0, 0), 2));
+  }
+
+  /** Interacting turns the nearest item into an item entity. */
+  @Test
+  public void promote() {
+    Item item = item();
+    ground.addItem(item, new Point(3, 3));
+    assertTrue(GroundLayer.promoteNearestItem(new Point(0, 0), Float.MAX_VALUE).isEmpty());
+    // an interactable entity is closer than the item
+    assertTrue(GroundLayer.promoteNearestItem(new Point(3, 4), 0.5f).isEmpty());
+
+    Entity entity = GroundLayer.promoteNearestItem(new Point(3, 4), Float.MAX_VALUE).orElseThrow();
+    assertEquals(0, ground.size());
+    assertEquals(1, Game.entityStream().count());
+    assertSame(item, entity.fetch(ItemComponent.class).orElseThrow().item());
+    assertTrue(entity.isPresent(InteractionComponent.class));
+    Point position = entity.fetch(PositionComponent.class).orElseThrow().position();
+    assertEquals(3, position.x, 0.001f);
+    assertEquals(3, position.y, 0.001f);
+  }
+
+  /** Matching items are removed from the ground. */
+  @Test
+  public void removeItemsIf() {
+    Item quest = item();
+    ground.addItem(quest, new Point(1, 1));
+    ground.addItem(item(), new Point(1, 1));
+    assertEquals(1, GroundLayer.removeItemsIf(item -> item == quest));
+    assertEquals(1, ground.size());
+  }
+
+  /** Only the layer of the current level holds references to the textures of its objects. */
+  @Test
+  public void texturesReleasedWithLevel() {
+    SimpleIPath path = new SimpleIPath("ground/layer/test.png");
+    TextureMap textures = TextureMap.instance();
+    TileLevel level = (TileLevel) Game.currentLevel();
+    int handle = ground.addDecoration(Animation.fromSingleImage(path), new Point(1, 1));
+    assertEquals(1, textures.references(path));
+    LevelElement[][] layout = new LevelElement[2][2];
+    for (LevelElement[] row : layout) Arrays.fill(row, LevelElement.FLOOR);
+    Game.currentLevel(new TileLevel(layout, DesignLabel.DEFAULT));
+    assertEquals(0, textures.references(path));
+    Game.currentLevel(level);
+    assertEquals(1, textures.references(path));
+    ground.remove(handle);
+    assertEquals(0, textures.references(path));
+  }
+}
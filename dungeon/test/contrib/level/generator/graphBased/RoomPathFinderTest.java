@@ -0,0 +1,96 @@
+package contrib.level.generator.graphBased;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import contrib.level.generator.graphBased.RoomPathFinder.RoomPath;
+import contrib.level.generator.graphBased.levelGraph.LevelGraph;
+import contrib.level.generator.graphBased.levelGraph.LevelNode;
+import core.Entity;
+import core.level.Tile;
+import core.level.elements.tile.DoorTile;
+import core.level.utils.DesignLabel;
+import core.level.utils.LevelElement;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import org.junit.Before;
+import org.junit.Test;
+
+/** Test the paths of the {@link RoomPathFinder} on a generated room-based level. */
+public class RoomPathFinderTest {
+
+  private static final int ROOMS = 6;
+
+  private LevelGraph graph;
+  private Entity[] entities;
+  private RoomPathFinder pathFinder;
+
+  /** A room-based level with one entity in each room. */
+  @Before
+  public void setup() {
+    entities = new Entity[ROOMS];
+    Set<Set<Entity>> sets = new LinkedHashSet<>();
+    for (int i = 0; i < ROOMS; i++) {
+      entities[i] = new Entity();
+      sets.add(Set.of(entities[i]));
+    }
+    graph = LevelGraphGenerator.generate(sets);
+    RoomBasedLevelGenerator.level(graph, DesignLabel.DEFAULT);
+    pathFinder = new RoomPathFinder(graph);
+  }
+
+  /** Inside one room, the path is the tile path of the room. */
+  @Test
+  public void sameRoom() {
+    LevelNode room = graph.root();
+    Tile start = room.level().randomTile(LevelElement.FLOOR);
+    Tile end = room.level().randomTile(LevelElement.FLOOR);
+    RoomPath path = pathFinder.findPath(start, end).orElseThrow();
+    assertTrue(path.doors().isEmpty());
+    assertSame(start, path.path().get(0));
+    assertSame(end, path.path().get(path.path().getCount() - 1));
+    assertEquals(path.path().getCount() - 1, path.cost());
+  }
+
+  /** Each room can be reached, the doors lead from the start room to the target room. */
+  @Test
+  public void allRooms() {
+    Tile start = graph.root().level().randomTile(LevelElement.FLOOR);
+    for (Entity entity : entities) {
+      LevelNode room = pathFinder.room(entity).orElseThrow();
+      RoomPath path = pathFinder.findPath(start, room).orElseThrow();
+      assertSame(start, path.path().get(0));
+      if (room == graph.root()) {
+        assertTrue(path.doors().isEmpty());
+        continue;
+      }
+      assertFalse(path.doors().isEmpty());
+      DoorTile first = path.doors().getFirst();
+      assertSame(first.doorstep(), path.path().get(path.path().getCount() - 1));
+      assertSame(graph.root().level(), first.level());
+      for (int i = 1; i < path.doors().size(); i++)
+        assertSame(path.doors().get(i - 1).otherDoor().level(), path.doors().get(i).level());
+      assertSame(room.level(), path.doors().getLast().otherDoor().level());
+      assertTrue(path.cost() >= path.path().getCount() - 1 + path.doors().size());
+    }
+  }
+
+  /** Closed doors can't be passed. */
+  @Test
+  public void closedDoors() {
+    Tile start = graph.root().level().randomTile(LevelElement.FLOOR);
+    graph.root().level().doorTiles().forEach(DoorTile::close);
+    for (Entity entity : entities) {
+      LevelNode room = pathFinder.room(entity).orElseThrow();
+      assertEquals(room == graph.root(), pathFinder.findPath(start, room).isPresent());
+    }
+  }
+
+  /** Entities that are not in the graph have no room. */
+  @Test
+  public void unknownEntity() {
+    assertFalse(pathFinder.room(new Entity()).isPresent());
+  }
+}
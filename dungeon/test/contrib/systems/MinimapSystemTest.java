@@ -0,0 +1,93 @@
+package contrib.systems;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+import contrib.hud.Minimap;
+import core.Game;
+import core.level.TileLevel;
+import core.level.utils.DesignLabel;
+import core.level.utils.LevelElement;
+import core.systems.CameraSystem;
+import core.systems.LevelSystem;
+import core.systems.VisibilitySystem;
+import java.util.Arrays;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/** Test the explored cells of the {@link MinimapSystem} after a level load. */
+public class MinimapSystemTest {
+
+  private static final int LEVEL_SIZE = 40;
+
+  private VisibilitySystem visibilitySystem;
+  private MinimapSystem minimapSystem;
+  private TileLevel level;
+  private float viewportWidth;
+  private float viewportHeight;
+  private float zoom;
+
+  @BeforeClass
+  public static void initGDX() {
+    GdxNativesLoader.load(); // load natives for headless testing
+  }
+
+  /** A floor level, the camera shows a small area around the hero at (5, 5). */
+  @Before
+  public void setup() {
+    LevelElement[][] layout = new LevelElement[LEVEL_SIZE][LEVEL_SIZE];
+    for (LevelElement[] row : layout) Arrays.fill(row, LevelElement.FLOOR);
+    layout[LEVEL_SIZE - 1][LEVEL_SIZE - 1] = LevelElement.EXIT;
+    level = new TileLevel(layout, DesignLabel.DEFAULT);
+
+    Game.add(new LevelSystem(null, null, () -> {}));
+    visibilitySystem = new VisibilitySystem();
+    Game.add(visibilitySystem);
+    minimapSystem = new MinimapSystem();
+
+    OrthographicCamera camera = CameraSystem.camera();
+    viewportWidth = camera.viewportWidth;
+    viewportHeight = camera.viewportHeight;
+    zoom = camera.zoom;
+    camera.viewportWidth = 4;
+    camera.viewportHeight = 4;
+    camera.zoom = 1;
+    camera.position.set(5, 5, 0);
+  }
+
+  @After
+  public void cleanup() {
+    OrthographicCamera camera = CameraSystem.camera();
+    camera.viewportWidth = viewportWidth;
+    camera.viewportHeight = viewportHeight;
+    camera.zoom = zoom;
+    if (minimapSystem.minimap() != null) minimapSystem.minimap().dispose();
+    Game.currentLevel(null);
+    Game.removeAllSystems();
+  }
+
+  /**
+   * On the first frame of a new level, the visible area is not calculated yet; only the cells
+   * around the hero are explored once it is.
+   */
+  @Test
+  public void exploreAfterLevelLoad() {
+    // the level is swapped after the VisibilitySystem has run this frame
+    visibilitySystem.execute();
+    Game.currentLevel(level);
+    minimapSystem.explore(level);
+    Minimap minimap = minimapSystem.minimap();
+    assertFalse(minimap.isExplored(5, 5));
+    assertFalse(minimap.isExplored(LEVEL_SIZE - 1, LEVEL_SIZE - 1));
+
+    visibilitySystem.execute();
+    minimapSystem.explore(level);
+    assertTrue(minimap.isExplored(5, 5));
+    assertFalse(minimap.isExplored(LEVEL_SIZE - 1, LEVEL_SIZE - 1));
+    assertFalse(minimap.isExplored(20, 5));
+  }
+}
@@ -26,7 +26,7 @@ public class ProtectOnApproachTest {
 
     // Add AI Component
     AIComponent protectedAI =
-        new AIComponent(new CollideAI(0.2f), new RadiusWalk(0, 50), new RangeTransition(2));
+        new AIComponent(new CollideAI(), new RadiusWalk(0, 50), new RangeTransition(2));
     entity.add(protectedAI);
 
     // Add Position Component
@@ -38,7 +38,7 @@ public class ProtectOnApproachTest {
     // Add AI Component
     entityAI =
         new AIComponent(
-            new CollideAI(0.2f), new RadiusWalk(0, 50), new ProtectOnApproach(2f, protectedEntity));
+            new CollideAI(), new RadiusWalk(0, 50), new ProtectOnApproach(2f, protectedEntity));
     entity.add(entityAI);
 
     // Add Position Component
@@ -5,6 +5,7 @@ import static org.junit.Assert.*;
 import contrib.components.InteractionComponent;
 import contrib.components.InventoryComponent;
 import contrib.item.Item;
+import contrib.level.GroundLayer;
 import core.Entity;
 import core.Game;
 import core.components.DrawComponent;
@@ -179,13 +180,22 @@ public class ItemTest {
     assertEquals(8, item.maxStackSize());
   }
 
-  /** Tests if item is removed from inventory and present in Game world after drop. */
+  /**
+   * Tests if item is on the ground after drop, and becomes an entity in the Game world on
+   * interaction.
+   */
   @Test
   public void testDrop() {
     Item item = new Item("Test item", "Test description", defaultAnimation);
 
     Point point = new Point(3, 3);
-    item.drop(point);
+    assertTrue(item.drop(point));
+    assertEquals("Dropped items are no entities", 0, Game.entityStream().count());
+    GroundLayer ground = GroundLayer.of(Game.currentLevel());
+    assertEquals(1, ground.objectsAt(3, 3));
+
+    assertTrue(GroundLayer.promoteNearestItem(new Point(3.5f, 3), Float.MAX_VALUE).isPresent());
+    assertEquals(0, ground.size());
     assertEquals("There should only be one entity in the game", 1, Game.entityStream().count());
     Entity worldItem = Game.entityStream().findFirst().get();
     assertTrue(worldItem.isPresent(PositionComponent.class));
@@ -201,6 +211,7 @@ public class ItemTest {
 
     Item item = new Item("Test item", "Test description", defaultAnimation);
     item.drop(new Point(0, 0));
+    GroundLayer.promoteNearestItem(new Point(0, 0), Float.MAX_VALUE);
     assertEquals("There should only be one entity in the game", 1, Game.entityStream().count());
     Entity collector = new Entity();
     collector.add(new InventoryComponent(3));
@@ -224,6 +235,7 @@ public class ItemTest {
 
     Item item = new Item("Test item", "Test description", defaultAnimation);
     item.drop(new Point(0, 0));
+    GroundLayer.promoteNearestItem(new Point(0, 0), Float.MAX_VALUE);
     assertEquals("There should only be one entity in the game", 1, Game.entityStream().count());
     Entity collector = new Entity();
     Entity worldItem = Game.entityStream().findFirst().get();
@@ -240,6 +252,7 @@ public class ItemTest {
 
     Item item = new Item("Test item", "Test description", defaultAnimation);
     item.drop(new Point(0, 0));
+    GroundLayer.promoteNearestItem(new Point(0, 0), Float.MAX_VALUE);
     assertEquals("There should only be one entity in the game", 1, Game.entityStream().count());
     Entity collector = new Entity();
     collector.add(new InventoryComponent(0));
@@ -0,0 +1,90 @@
+package contrib.utils.components.particle;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.badlogic.gdx.graphics.Color;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/** Test the simulation of the {@link ParticlePool}. */
+public class ParticlePoolTest {
+
+  /** 4 particles flying to the right with 1 tile per second, for exactly 1 second. */
+  private static final ParticleEffect EFFECT =
+      new ParticleEffect(4, 1f, 1f, 1f, 1f, 0f, 0f, 0.1f, 0.1f, Color.WHITE, Color.WHITE);
+
+  private final ParticlePool pool = ParticlePool.instance();
+
+  @Before
+  public void setup() {
+    pool.capacity(10);
+    pool.seed(42);
+  }
+
+  @After
+  public void cleanup() {
+    pool.capacity(4096);
+  }
+
+  /** Each burst adds the number of particles of the effect. */
+  @Test
+  public void emit() {
+    assertEquals(4, pool.emit(EFFECT, 0, 0));
+    assertEquals(4, pool.emit(EFFECT, 0, 0));
+    assertEquals(8, pool.size());
+  }
+
+  /** Particles that don't fit into the pool are dropped. */
+  @Test
+  public void full() {
+    long dropped = pool.dropped();
+    pool.emit(EFFECT, 0, 0);
+    pool.emit(EFFECT, 0, 0);
+    assertEquals(2, pool.emit(EFFECT, 0, 0));
+    assertEquals(10, pool.size());
+    assertEquals(dropped + 2, pool.dropped());
+  }
+
+  /** Particles move with their speed in the emit direction. */
+  @Test
+  public void move() {
+    pool.emit(EFFECT, 2, 3, 90f);
+    pool.update(0.5f);
+    for (int i = 0; i < pool.size(); i++) {
+      assertEquals(2f, pool.x(i), 0.001f);
+      assertEquals(3.5f, pool.y(i), 0.001f);
+    }
+  }
+
+  /** Particles are removed at the end of their lifetime, the others are kept. */
+  @Test
+  public void expire() {
+    pool.emit(EFFECT, 0, 0);
+    pool.update(0.5f);
+    pool.emit(EFFECT, 5, 5);
+    pool.update(0.6f);
+    assertEquals(4, pool.size());
+    for (int i = 0; i < pool.size(); i++) assertTrue(pool.x(i) >= 5f);
+    pool.update(0.5f);
+    assertEquals(0, pool.size());
+  }
+
+  /** Drag slows down the particles. */
+  @Test
+  public void drag() {
+    ParticleEffect slow =
+        new ParticleEffect(1, 2f, 2f, 1f, 1f, 0f, 0.5f, 0.1f, 0.1f, Color.WHITE, Color.WHITE);
+    pool.emit(slow, 0, 0);
+    pool.update(0.5f);
+    // the speed is reduced by 25% before the particle is moved
+    assertEquals(0.375f, pool.x(0), 0.001f);
+  }
+
+  /** Invalid effects are rejected. */
+  @Test(expected = IllegalArgumentException.class)
+  public void invalidLifetime() {
+    new ParticleEffect(1, 0f, 1f, 1f, 1f, 0f, 0f, 0.1f, 0.1f, Color.WHITE, Color.WHITE);
+  }
+}
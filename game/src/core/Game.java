@@ -11,12 +11,16 @@ import core.level.elements.ILevel;
 import core.level.utils.Coordinate;
 import core.level.utils.LevelElement;
 import core.level.utils.LevelSize;
+import core.level.utils.SpatialIndex;
 import core.systems.LevelSystem;
+import core.systems.PositionSystem;
 import core.utils.IVoidFunction;
 import core.utils.Point;
 import core.utils.components.MissingComponentException;
 import core.utils.components.path.IPath;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -426,13 +430,36 @@ public final class Game {
     return currentLevel().tileAtEntity(entity);
   }
 
+  /**
+   * Get the spatial index of the entities.
+   *
+   * <p>The index is only maintained while a {@link PositionSystem} is registered.
+   *
+   * @return An Optional containing the {@link SpatialIndex}, or empty if no {@link PositionSystem}
+   *     is registered.
+   */
+  public static Optional<SpatialIndex> spatialIndex() {
+    if (!ECSManagment.systems().containsKey(PositionSystem.class)) return Optional.empty();
+    return Optional.of(SpatialIndex.instance());
+  }
+
   /**
    * Returns the entities on the given tile.
    *
+   * <p>Uses the {@link #spatialIndex() spatial index} if it is maintained, otherwise all entities
+   * are checked.
+   *
    * @param check Tile to check for.
    * @return Stream of all entities on the given tile
    */
   public static Stream<Entity> entityAtTile(final Tile check) {
+    Optional<SpatialIndex> index = spatialIndex();
+    if (index.isPresent()) {
+      Coordinate coordinate = check.coordinate();
+      List<Entity> entities = new ArrayList<>();
+      index.get().entitiesAt(coordinate.x, coordinate.y, entities);
+      return entities.stream();
+    }
     Tile tile = Game.tileAT(check.position());
 
     return ECSManagment.entityStream(Set.of(PositionComponent.class))
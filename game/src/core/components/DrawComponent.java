@@ -3,6 +3,7 @@ package core.components;
 import core.Component;
 import core.systems.VelocitySystem;
 import core.utils.components.draw.Animation;
+import core.utils.components.draw.AnimationCursor;
 import core.utils.components.draw.CoreAnimations;
 import core.utils.components.path.IPath;
 import core.utils.components.path.SimpleIPath;
@@ -37,6 +38,10 @@ import java.util.stream.Collectors;
  *
  * <p>Use {@link #hasAnimation} to check if the component has the desired animation.
  *
+ * <p>The animations loaded from an asset directory are cached and shared between all DrawComponents
+ * that are created with the same path. Each DrawComponent only stores an {@link AnimationCursor}
+ * with its own playback state and a small queue with one slot per priority.
+ *
  * <p>If you want to add your own Animations, create a subdirectory for the animation and add the
  * path to an enum that implements the {@link IPath} interface. So if you want to add a jump
  * animation to the hero, just create a new directory "jump" in the asset directory of your hero
@@ -52,14 +57,28 @@ import java.util.stream.Collectors;
  * @see IPath
  */
 public final class DrawComponent implements Component {
+  /** Animations loaded from the asset directories, shared between all components of a path. */
+  private static final Map<String, Map<String, Animation>> ANIMATION_CACHE = new HashMap<>();
+
+  private static final int INITIAL_QUEUE_CAPACITY = 4;
   private final Logger LOGGER = Logger.getLogger(this.getClass().getSimpleName());
 
-  /** allows only one Element from a certain priority and orders them */
-  private final Map<IPath, Integer> animationQueue =
-      new TreeMap<>(Comparator.comparingInt(IPath::priority));
+  /**
+   * allows only one Element from a certain priority and orders them (ascending priority, so the
+   * last slot holds the animation with the highest priority)
+   */
+  private IPath[] queuedAnimations = new IPath[INITIAL_QUEUE_CAPACITY];
+
+  /** remaining frames of the animation in the slot with the same index */
+  private int[] queuedFrames = new int[INITIAL_QUEUE_CAPACITY];
+
+  private int queueSize = 0;
 
   private Map<String, Animation> animationMap = null;
-  private Animation currentAnimation;
+  private AnimationCursor cursor;
+
+  /** non-looping animations that were played to the end by this component */
+  private Set<Animation> finishedAnimations = null;
 
   /**
    * Create a new DrawComponent.
@@ -84,7 +103,14 @@ public final class DrawComponent implements Component {
   public DrawComponent(final IPath path) throws IOException {
     // fetch available animations
     try {
-      loadAnimationAssets(path);
+      animationMap = ANIMATION_CACHE.get(path.pathString());
+      if (animationMap == null) {
+        loadAnimationAssets(path);
+        if (animationMap != null) {
+          animationMap = Collections.unmodifiableMap(animationMap);
+          ANIMATION_CACHE.put(path.pathString(), animationMap);
+        }
+      }
       currentAnimation(
           CoreAnimations.IDLE_DOWN,
           CoreAnimations.IDLE_LEFT,
@@ -93,7 +119,9 @@ public final class DrawComponent implements Component {
           CoreAnimations.IDLE);
 
       // if no idle animation exists, set the missing texture animation as idle
-      if (currentAnimation == null) {
+      if (cursor == null) {
+        // the loaded animations are shared, so this component needs its own map
+        animationMap = new HashMap<>(animationMap);
         animationMap.put(CoreAnimations.IDLE.pathString(), Animation.defaultAnimation());
         currentAnimation(CoreAnimations.IDLE);
       }
@@ -117,7 +145,7 @@ public final class DrawComponent implements Component {
     animationMap = new HashMap<>();
     animationMap.put(CoreAnimations.IDLE_LEFT.pathString(), idle);
     animationMap.put(CoreAnimations.IDLE_RIGHT.pathString(), idle);
-    currentAnimation = idle;
+    cursor = new AnimationCursor(idle);
   }
 
   /**
@@ -142,7 +170,7 @@ public final class DrawComponent implements Component {
    * @return The current animation of the entity.
    */
   public Animation currentAnimation() {
-    return currentAnimation;
+    return cursor.animation();
   }
 
   /**
@@ -162,7 +190,7 @@ public final class DrawComponent implements Component {
     for (IPath animationPath : animationName) {
       Animation animation = animationMap.get(animationPath.pathString());
       if (animation != null) {
-        currentAnimation = animation;
+        play(animation);
         return;
       } else
         LOGGER.warning(
@@ -172,6 +200,29 @@ public final class DrawComponent implements Component {
     }
   }
 
+  /**
+   * Switch the cursor of this component to the given animation.
+   *
+   * <p>If the previous animation is a non-looping animation that was played to the end, this is
+   * remembered, so the animation stays finished if it is played again.
+   *
+   * @param animation the new current animation
+   */
+  private void play(final Animation animation) {
+    if (cursor == null) {
+      cursor = new AnimationCursor(animation);
+      return;
+    }
+    Animation previous = cursor.animation();
+    if (previous == animation) return;
+    if (cursor.isFinished()) {
+      if (finishedAnimations == null) finishedAnimations = new HashSet<>();
+      finishedAnimations.add(previous);
+    }
+    cursor.animation(animation);
+    if (finishedAnimations != null && finishedAnimations.contains(animation)) cursor.finish();
+  }
+
   /**
    * Queue up an Animation to be considered as the next played Animation.
    *
@@ -201,19 +252,54 @@ public final class DrawComponent implements Component {
     for (IPath path : next) {
       // is an existing animation of the component
       if (animationMap.containsKey(path.pathString())) {
-        // check if the path is already queued
-        if (animationQueue.containsKey(path)) {
+        int slot = queueSlot(path.priority());
+        // check if the priority is already queued
+        if (slot >= 0) {
           // update time of the animation
-          animationQueue.put(path, Math.max(animationQueue.get(path), forFrames));
+          queuedFrames[slot] = Math.max(queuedFrames[slot], forFrames);
         } else {
           // add animation
-          animationQueue.put(path, forFrames);
+          insertIntoQueue(-(slot + 1), path, forFrames);
         }
         return;
       }
     }
   }
 
+  /**
+   * Find the slot in the animation queue for the given priority.
+   *
+   * @param priority Priority to look for.
+   * @return Index of the slot, if the priority is queued; otherwise {@code -(insertion point + 1)}.
+   */
+  private int queueSlot(int priority) {
+    for (int i = 0; i < queueSize; i++) {
+      int queuedPriority = queuedAnimations[i].priority();
+      if (queuedPriority == priority) return i;
+      if (queuedPriority > priority) return -(i + 1);
+    }
+    return -(queueSize + 1);
+  }
+
+  private void insertIntoQueue(int slot, final IPath path, int forFrames) {
+    if (queueSize == queuedAnimations.length) {
+      queuedAnimations = Arrays.copyOf(queuedAnimations, queueSize * 2);
+      queuedFrames = Arrays.copyOf(queuedFrames, queueSize * 2);
+    }
+    System.arraycopy(queuedAnimations, slot, queuedAnimations, slot + 1, queueSize - slot);
+    System.arraycopy(queuedFrames, slot, queuedFrames, slot + 1, queueSize - slot);
+    queuedAnimations[slot] = path;
+    queuedFrames[slot] = forFrames;
+    queueSize++;
+  }
+
+  private void removeFromQueue(int slot) {
+    System.arraycopy(queuedAnimations, slot + 1, queuedAnimations, slot, queueSize - slot - 1);
+    System.arraycopy(queuedFrames, slot + 1, queuedFrames, slot, queueSize - slot - 1);
+    queueSize--;
+    queuedAnimations[queueSize] = null;
+  }
+
   /**
    * Remove the given animation from the animation queue.
    *
@@ -222,7 +308,7 @@ public final class DrawComponent implements Component {
    * @param animation The path of the animation to remove from the queue.
    */
   public void deQueue(final IPath animation) {
-    animationQueue.remove(animation);
+    deQueueByPriority(animation.priority());
   }
 
   /**
@@ -234,7 +320,47 @@ public final class DrawComponent implements Component {
    * @param prio The priority of animations to remove.
    */
   public void deQueueByPriority(int prio) {
-    animationQueue.keySet().removeIf(e -> e.priority() == prio);
+    int slot = queueSlot(prio);
+    if (slot >= 0) removeFromQueue(slot);
+  }
+
+  /**
+   * Update the animation queue for the next frame.
+   *
+   * <p>Reduces the remaining frame time of each queued animation by one and removes the animations
+   * that have a remaining frame time < 0. After that, the queued animation with the highest
+   * priority will be set as the current animation. If the queue is empty, the current animation
+   * will not change.
+   *
+   * <p>This is used by the {@link core.systems.DrawSystem} once per frame.
+   */
+  public void updateAnimationQueue() {
+    for (int i = queueSize - 1; i >= 0; i--) {
+      if (--queuedFrames[i] < 0) removeFromQueue(i);
+    }
+    if (queueSize > 0) currentAnimation(queuedAnimations[queueSize - 1]);
+  }
+
+  /**
+   * Get the texture to draw for the current animation.
+   *
+   * <p>Automatically moves the cursor of this component to the next frame.
+   *
+   * @return The texture of the next animation step (draw this).
+   */
+  public IPath nextAnimationTexturePath() {
+    return cursor.nextAnimationTexturePath();
+  }
+
+  /**
+   * Move the cursor of this component forward without drawing.
+   *
+   * <p>Same as calling {@link #nextAnimationTexturePath()} the given number of times.
+   *
+   * @param ticks Number of ticks to move forward.
+   */
+  public void advanceAnimation(int ticks) {
+    cursor.advance(ticks);
   }
 
   /**
@@ -270,7 +396,7 @@ public final class DrawComponent implements Component {
    */
   public boolean isCurrentAnimation(final IPath path) {
     Optional<Animation> animation = animation(path);
-    if (animation.isPresent()) return animation.get() == currentAnimation;
+    if (animation.isPresent()) return animation.get() == cursor.animation();
     LOGGER.warning("Animation " + path + " is not stored.");
     return false;
   }
@@ -281,7 +407,7 @@ public final class DrawComponent implements Component {
    * @return true if the current animation is looping.
    */
   public boolean isCurrentAnimationLooping() {
-    return currentAnimation.isLooping();
+    return cursor.animation().isLooping();
   }
 
   /**
@@ -290,7 +416,24 @@ public final class DrawComponent implements Component {
    * @return true if the current animation has finished playing.
    */
   public boolean isCurrentAnimationFinished() {
-    return currentAnimation.isFinished();
+    return cursor.isFinished();
+  }
+
+  /**
+   * Check if the animation at the given path has finished playing on this component.
+   *
+   * <p>A non-looping animation stays finished after it was played to the end, even if another
+   * animation is shown in the meantime.
+   *
+   * @param path Path of the animation to check.
+   * @return true if the animation has finished playing, false if not or if no animation is stored
+   *     for the given path.
+   */
+  public boolean isAnimationFinished(final IPath path) {
+    Animation animation = animationMap.get(path.pathString());
+    if (animation == null) return false;
+    if (animation == cursor.animation()) return cursor.isFinished();
+    return finishedAnimations != null && finishedAnimations.contains(animation);
   }
 
   /**
@@ -299,8 +442,8 @@ public final class DrawComponent implements Component {
    * @return true if the Animation is in the queue.
    */
   public boolean isAnimationQueued(final IPath requestedAnimation) {
-    for (Map.Entry<IPath, Integer> animationArr : animationQueue.entrySet()) {
-      if (animationArr.getKey().pathString().equals(requestedAnimation.pathString())) return true;
+    for (int i = 0; i < queueSize; i++) {
+      if (queuedAnimations[i].pathString().equals(requestedAnimation.pathString())) return true;
     }
     return false;
   }
@@ -311,7 +454,9 @@ public final class DrawComponent implements Component {
    * @return The entire queue of animations.
    */
   public Map<IPath, Integer> animationQueue() {
-    return new HashMap<>(animationQueue);
+    Map<IPath, Integer> queue = new HashMap<>();
+    for (int i = 0; i < queueSize; i++) queue.put(queuedAnimations[i], queuedFrames[i]);
+    return queue;
   }
 
   /**
@@ -4,6 +4,7 @@ import core.Component;
 import core.level.Tile;
 import core.utils.Point;
 import dsl.annotation.DSLType;
+import java.util.function.Consumer;
 
 /**
  * Store the position of the associated entity in the level.
@@ -22,6 +23,9 @@ import dsl.annotation.DSLType;
  *
  * <p>Use {@link #position()} to get a copy of the position.
  *
+ * <p>Use {@link #onChange(Consumer)} to get informed about each change of the position, the {@link
+ * core.level.utils.SpatialIndex} uses this to keep track of the entities.
+ *
  * @see core.systems.PositionSystem
  * @see Point
  */
@@ -30,6 +34,7 @@ public final class PositionComponent implements Component {
 
   public static final Point ILLEGAL_POSITION = new Point(Integer.MIN_VALUE, Integer.MIN_VALUE);
   private Point position;
+  private Consumer<Point> onChange;
 
   /**
    * Create a new PositionComponent with given position.
@@ -81,6 +86,7 @@ public final class PositionComponent implements Component {
    */
   public void position(final Point position) {
     this.position = new Point(position);
+    if (onChange != null) onChange.accept(this.position);
   }
 
   /**
@@ -92,4 +98,16 @@ public final class PositionComponent implements Component {
   public void position(final Tile tile) {
     position(tile.position());
   }
+
+  /**
+   * Set the function that is called after each change of the position.
+   *
+   * <p>There can only be one such function, a new function replaces the old one.
+   *
+   * @param onChange Function that gets the new position, do not modify the point. Pass null to
+   *     remove the function.
+   */
+  public void onChange(final Consumer<Point> onChange) {
+    this.onChange = onChange;
+  }
 }
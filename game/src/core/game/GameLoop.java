@@ -19,6 +19,7 @@ import core.level.generator.randomwalk.RandomWalkGenerator;
 import core.systems.*;
 import core.utils.IVoidFunction;
 import core.utils.components.MissingComponentException;
+import core.utils.components.sound.SoundPlayer;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
@@ -140,6 +141,8 @@ public final class GameLoop extends ScreenAdapter {
    *
    * <p>Will trigger {@link #frame} and {@link PreRunConfiguration#userOnFrame()}.
    *
+   * <p>The time of each frame is passed to the {@link QualityGovernor}.
+   *
    * <p>On the first frame, {@link #setup()} and {@link PreRunConfiguration#userOnSetup()} are
    * triggered.
    *
@@ -148,6 +151,7 @@ public final class GameLoop extends ScreenAdapter {
   @Override
   public void render(float delta) {
     if (doSetup) setup();
+    QualityGovernor.instance().record(delta);
     DrawSystem.batch().setProjectionMatrix(CameraSystem.camera().combined);
     frame();
     clearScreen();
@@ -162,6 +166,7 @@ public final class GameLoop extends ScreenAdapter {
       }
     }
     newLevelWasLoadedInThisLoop = false;
+    SoundPlayer.instance().update(delta);
     CameraSystem.camera().update();
     // stage logic
     stage().ifPresent(GameLoop::updateStage);
@@ -242,6 +247,7 @@ public final class GameLoop extends ScreenAdapter {
   private void createSystems() {
     ECSManagment.add(new PositionSystem());
     ECSManagment.add(new CameraSystem());
+    ECSManagment.add(new VisibilitySystem());
     ECSManagment.add(
         new LevelSystem(
             DrawSystem.painter(), new WallGenerator(new RandomWalkGenerator()), onLevelLoad));
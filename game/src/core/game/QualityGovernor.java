@@ -0,0 +1,232 @@
+package core.game;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * Lowers the quality of the game if the frames take too long, and restores it if they are fast
+ * again.
+ *
+ * <p>Use {@link #instance()} to get the only instance of the {@link QualityGovernor}. The {@link
+ * GameLoop} passes the time of each frame to {@link #record(float)}. The governor keeps the frame
+ * times of the last {@link #WINDOW} frames and compares their {@link #PERCENTILE} percentile with
+ * the {@link #budget()}, so single slow frames (e.g., loading a level) don't change the quality.
+ *
+ * <ul>
+ *   <li>If the percentile is over the budget, the {@link #tier()} is lowered by one step. The next
+ *       step is only taken after a full window of frames was measured at the new tier.
+ *   <li>If the percentile stays below {@link #RESTORE_FACTOR} times the budget for {@link
+ *       #RESTORE_FRAMES} frames in a row, the tier is raised by one step. Frames between that
+ *       threshold and the budget keep the tier, so the quality doesn't flicker between two tiers.
+ * </ul>
+ *
+ * <p>Each subsystem registers its own {@link Knob}s with {@link #knob(String, float...)}: a knob
+ * maps each tier to a value (e.g., the fraction of particles to emit), and the subsystem reads the
+ * value of the current tier with {@link Knob#value()}. Reading a knob doesn't allocate.
+ *
+ * <p>The governor doesn't need a graphics context, so it can be tested by feeding it frame times.
+ */
+public final class QualityGovernor {
+
+  /** Tier of the full quality. */
+  public static final int FULL = 0;
+
+  /** Tier of the lowest quality. */
+  public static final int LOWEST = 3;
+
+  /** Number of frames in the measured frame-time distribution. */
+  static final int WINDOW = 60;
+
+  /** Percentile of the frame times that is compared with the budget. */
+  static final float PERCENTILE = 0.9f;
+
+  /** The percentile has to be below this fraction of the budget to restore the quality. */
+  static final float RESTORE_FACTOR = 0.7f;
+
+  /** Number of frames in a row below the restore threshold to raise the tier by one step. */
+  static final int RESTORE_FRAMES = 3 * WINDOW;
+
+  /** Frames may take a bit longer than the frame rate allows before the quality is lowered. */
+  private static final float BUDGET_TOLERANCE = 1.2f;
+
+  private static final Logger LOGGER = Logger.getLogger(QualityGovernor.class.getSimpleName());
+  private static final QualityGovernor INSTANCE = new QualityGovernor();
+
+  // frame times of the current window, as ring buffer
+  private final float[] frameTimes = new float[WINDOW];
+  // copy of the frame times to find the percentile
+  private final float[] sorted = new float[WINDOW];
+  private final Map<String, Knob> knobs = new LinkedHashMap<>();
+  private int count = 0;
+  private int next = 0;
+  private int fastFrames = 0;
+  private int tier = FULL;
+  // 0 to use the frame rate of the game
+  private float budget = 0;
+  private boolean enabled = true;
+
+  private QualityGovernor() {}
+
+  /**
+   * Get the instance of the QualityGovernor.
+   *
+   * @return The only instance of the QualityGovernor.
+   */
+  public static QualityGovernor instance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Record the time of a frame, and change the tier if needed.
+   *
+   * @param frameTime Time of the frame in seconds.
+   */
+  public void record(float frameTime) {
+    if (!enabled) return;
+    frameTimes[next] = frameTime;
+    next = (next + 1) % WINDOW;
+    if (count < WINDOW) count++;
+    if (count < WINDOW) return;
+
+    float percentile = percentile();
+    float budget = budget();
+    if (percentile > budget) {
+      fastFrames = 0;
+      if (tier < LOWEST) tier(tier + 1);
+    } else if (percentile < budget * RESTORE_FACTOR) {
+      fastFrames++;
+      if (fastFrames >= RESTORE_FRAMES && tier > FULL) tier(tier - 1);
+    } else fastFrames = 0;
+  }
+
+  /**
+   * Get the current tier.
+   *
+   * @return Tier between {@link #FULL} and {@link #LOWEST}.
+   */
+  public int tier() {
+    return tier;
+  }
+
+  /**
+   * Get the frame time the percentile of the frame times has to stay below.
+   *
+   * @return Budget in seconds.
+   */
+  public float budget() {
+    return budget > 0 ? budget : BUDGET_TOLERANCE / PreRunConfiguration.frameRate();
+  }
+
+  /**
+   * Set the frame time the percentile of the frame times has to stay below.
+   *
+   * @param budget Budget in seconds, 0 to derive it from the frame rate of the game.
+   */
+  public void budget(float budget) {
+    if (budget < 0) throw new IllegalArgumentException("Budget can't be negative");
+    this.budget = budget;
+  }
+
+  /**
+   * Enable or disable the governor.
+   *
+   * <p>A disabled governor ignores the frame times and restores the full quality.
+   *
+   * @param enabled True to enable the governor.
+   */
+  public void enabled(boolean enabled) {
+    this.enabled = enabled;
+    if (!enabled) reset();
+  }
+
+  /**
+   * Check if the governor is enabled.
+   *
+   * @return True if the governor changes the tier.
+   */
+  public boolean enabled() {
+    return enabled;
+  }
+
+  /** Forget the recorded frame times and restore the full quality. */
+  public void reset() {
+    count = 0;
+    next = 0;
+    fastFrames = 0;
+    tier = FULL;
+  }
+
+  /**
+   * Register a knob.
+   *
+   * <p>A knob registered with the same name is replaced.
+   *
+   * @param name Name of the knob, e.g., "particle density".
+   * @param values Value of each tier, starting with {@link #FULL}. Tiers without a value use the
+   *     last value.
+   * @return The registered knob.
+   */
+  public Knob knob(final String name, float... values) {
+    if (values.length == 0) throw new IllegalArgumentException("A knob needs at least one value");
+    Knob knob = new Knob(name, values.clone());
+    knobs.put(name, knob);
+    return knob;
+  }
+
+  /**
+   * Get all registered knobs.
+   *
+   * @return Unmodifiable view of the knobs, in the order they were registered.
+   */
+  public Collection<Knob> knobs() {
+    return Collections.unmodifiableCollection(knobs.values());
+  }
+
+  private void tier(int tier) {
+    LOGGER.info("Quality tier " + this.tier + " -> " + tier);
+    this.tier = tier;
+    // measure the next window at the new tier
+    count = 0;
+    next = 0;
+    fastFrames = 0;
+  }
+
+  private float percentile() {
+    System.arraycopy(frameTimes, 0, sorted, 0, WINDOW);
+    Arrays.sort(sorted);
+    return sorted[Math.min(WINDOW - 1, (int) (PERCENTILE * WINDOW))];
+  }
+
+  /** A setting of a subsystem with one value for each tier. */
+  public final class Knob {
+    private final String name;
+    private final float[] values;
+
+    private Knob(final String name, final float[] values) {
+      this.name = name;
+      this.values = values;
+    }
+
+    /**
+     * Get the name of the knob.
+     *
+     * @return Name of the knob.
+     */
+    public String name() {
+      return name;
+    }
+
+    /**
+     * Get the value of the current tier.
+     *
+     * @return Value of the knob.
+     */
+    public float value() {
+      return values[Math.min(tier, values.length - 1)];
+    }
+  }
+}
@@ -27,13 +27,18 @@ import java.util.List;
  */
 public abstract class Tile {
   private static final float DEFAULT_FRICTION = 0.8f;
-  protected final Coordinate globalPosition;
+  // each tile has at most four neighbours
+  private static final int MAX_CONNECTIONS = 4;
+  // the coordinate is stored as two ints, a level has one tile object for each field
+  protected final int x;
+  protected final int y;
   private final float friction;
   protected DesignLabel designLabel;
   protected IPath texturePath;
   protected ILevel level;
   protected LevelElement levelElement;
-  protected transient Array<Connection<Tile>> connections = new Array<>();
+  // created on demand, see connections()
+  protected transient Array<Connection<Tile>> connections;
   protected int index;
 
   /**
@@ -50,7 +55,8 @@ public abstract class Tile {
       final DesignLabel designLabel,
       float friction) {
     this.texturePath = texturePath;
-    this.globalPosition = globalPosition;
+    this.x = globalPosition.x;
+    this.y = globalPosition.y;
     this.designLabel = designLabel;
     this.friction = friction;
   }
@@ -91,7 +97,7 @@ public abstract class Tile {
    * @return The coordinate of the tile.
    */
   public Coordinate coordinate() {
-    return new Coordinate(globalPosition);
+    return new Coordinate(x, y);
   }
 
   /**
@@ -151,6 +157,9 @@ public abstract class Tile {
   /**
    * Used by LibGDX pathfinding.
    *
+   * <p>The index is set by the level and depends only on the coordinate of the tile, so a tile that
+   * replaces another tile gets the same index.
+   *
    * @return The index of this tile.
    */
   public int index() {
@@ -182,18 +191,50 @@ public abstract class Tile {
    * @param to Tile to connect with.
    */
   public void addConnection(final Tile to) {
-    if (connections == null) {
-      connections = new Array<>();
-    }
-    connections.add(new TileConnection(this, to));
+    connections().add(new TileConnection(this, to));
+  }
+
+  /**
+   * Removes the connection from this tile to the given tile, if there is one.
+   *
+   * @param to Tile to disconnect from.
+   */
+  public void removeConnection(final Tile to) {
+    if (connections == null) return;
+    for (int i = 0; i < connections.size; i++)
+      if (connections.get(i).getToNode() == to) {
+        connections.removeIndex(i);
+        return;
+      }
+  }
+
+  /**
+   * Checks if this tile is connected to the given tile.
+   *
+   * @param to Tile to check.
+   * @return true if there is a connection from this tile to the given tile.
+   */
+  public boolean isConnectedTo(final Tile to) {
+    if (connections == null) return false;
+    for (int i = 0; i < connections.size; i++)
+      if (connections.get(i).getToNode() == to) return true;
+    return false;
   }
 
   /**
    * Used by LibGDX pathfinding.
    *
+   * <p>The connections are created with the first call, so the tiles of a level that are never
+   * visited by a pathfinder don't need any connection objects. Afterward, the level keeps them up
+   * to date if neighbouring tiles change.
+   *
    * @return All connections to other tiles.
    */
   public Array<Connection<Tile>> connections() {
+    if (connections == null) {
+      connections = new Array<>(MAX_CONNECTIONS);
+      if (level != null && levelElement.value()) level.addConnectionsToNeighbours(this);
+    }
     return connections;
   }
 
@@ -205,14 +246,14 @@ public abstract class Tile {
    */
   public Direction[] directionTo(final Tile goal) {
     List<Direction> directions = new ArrayList<>();
-    if (globalPosition.x < goal.coordinate().x) {
+    if (x < goal.x) {
       directions.add(Direction.E);
-    } else if (globalPosition.x > goal.coordinate().x) {
+    } else if (x > goal.x) {
       directions.add(Direction.W);
     }
-    if (globalPosition.y < goal.coordinate().y) {
+    if (y < goal.y) {
       directions.add(Direction.N);
-    } else if (globalPosition.y > goal.coordinate().y) {
+    } else if (y > goal.y) {
       directions.add(Direction.S);
     }
     return directions.toArray(new Direction[0]);
@@ -1,18 +1,22 @@
 package core.level;
 
+import com.badlogic.gdx.ai.pfa.GraphPath;
 import core.level.elements.ILevel;
-import core.level.elements.astar.TileConnection;
+import core.level.elements.astar.AsyncPathFinder;
+import core.level.elements.astar.FlowField;
 import core.level.elements.astar.TileHeuristic;
+import core.level.elements.astar.TilePathFinder;
 import core.level.elements.tile.*;
+import core.level.utils.AutoTiler;
 import core.level.utils.Coordinate;
 import core.level.utils.DesignLabel;
 import core.level.utils.LevelElement;
-import core.level.utils.TileTextureFactory;
+import core.level.utils.LineOfSight;
 import core.utils.IVoidFunction;
 import core.utils.components.path.IPath;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Basic 2D-Matrix Tile-based level.
@@ -27,10 +31,15 @@ import java.util.List;
  */
 public class TileLevel implements ILevel {
 
+  // same order as the connections of a level built tile by tile, row by row
   private static final Coordinate[] CONNECTION_OFFSETS = {
-    new Coordinate(0, 1), new Coordinate(0, -1), new Coordinate(1, 0), new Coordinate(-1, 0),
+    new Coordinate(0, -1), new Coordinate(-1, 0), new Coordinate(0, 1), new Coordinate(1, 0),
   };
   protected final TileHeuristic tileHeuristic = new TileHeuristic();
+  protected final TilePathFinder pathFinder = new TilePathFinder(this);
+  protected final FlowField flowField = new FlowField(this, pathFinder);
+  protected final LineOfSight lineOfSight = new LineOfSight(this);
+  protected final AsyncPathFinder asyncPathFinder = new AsyncPathFinder(this, pathFinder);
   protected Tile startTile;
   protected int nodeCount = 0;
   protected Tile[][] layout;
@@ -41,6 +50,7 @@ public class TileLevel implements ILevel {
   protected ArrayList<ExitTile> exitTiles = new ArrayList<>();
   protected ArrayList<SkipTile> skipTiles = new ArrayList<>();
   private IVoidFunction onFirstLoad = () -> {};
+  private final List<Consumer<Tile>> tileChangeListeners = new ArrayList<>();
 
   private boolean wasLoaded = false;
 
@@ -51,6 +61,7 @@ public class TileLevel implements ILevel {
    */
   public TileLevel(Tile[][] layout) {
     this.layout = layout;
+    nodeCount = layout.length == 0 ? 0 : layout.length * layout[0].length;
     putTilesInLists();
     if (startTile == null) randomStart();
     if (exitTiles.size() == 0) randomEnd();
@@ -79,9 +90,7 @@ public class TileLevel implements ILevel {
     for (int y = 0; y < layout.length; y++) {
       for (int x = 0; x < layout[0].length; x++) {
         Coordinate coordinate = new Coordinate(x, y);
-        IPath texturePath =
-            TileTextureFactory.findTexturePath(
-                new TileTextureFactory.LevelPart(layout[y][x], designLabel, layout, coordinate));
+        IPath texturePath = AutoTiler.texturePath(layout, x, y, layout[y][x], designLabel);
         tileLayout[y][x] =
             TileFactory.createTile(texturePath, coordinate, layout[y][x], designLabel);
       }
@@ -97,34 +106,99 @@ public class TileLevel implements ILevel {
     }
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Each tile has a node, the index of a tile is {@code y * width + x} (see {@link
+   * #index(Coordinate)}). The indices don't change if tiles are replaced, so the count is the size
+   * of the level.
+   */
   @Override
   public int getNodeCount() {
     return nodeCount;
   }
 
+  /**
+   * Get the node index of the tile at the given coordinate.
+   *
+   * @param coordinate Coordinate of the tile.
+   * @return The index of the tile, used by the pathfinding.
+   */
+  public int index(final Coordinate coordinate) {
+    return coordinate.y * layout[0].length + coordinate.x;
+  }
+
   @Override
   public TileHeuristic tileHeuristic() {
     return tileHeuristic;
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The search reuses the pathfinders of this level, and recent results are returned from a
+   * cache, see {@link TilePathFinder}. The returned path must not be modified.
+   */
+  @Override
+  public GraphPath<Tile> findPath(final Tile start, final Tile end)
+      throws IllegalArgumentException {
+    if (!start.isAccessible())
+      throw new IllegalArgumentException(
+          "Cannot calculate path because the start point is non-accessible.");
+    if (!end.isAccessible())
+      throw new IllegalArgumentException(
+          "Cannot calculate path because the end point is non-accessible.");
+    return pathFinder.findPath(start, end);
+  }
+
+  @Override
+  public FlowField flowField() {
+    return flowField;
+  }
+
+  @Override
+  public LineOfSight lineOfSight() {
+    return lineOfSight;
+  }
+
+  @Override
+  public AsyncPathFinder asyncPathFinder() {
+    return asyncPathFinder;
+  }
+
+  /**
+   * Get the pathfinder of this level.
+   *
+   * @return The pathfinder that is used by {@link #findPath(Tile, Tile)}.
+   */
+  public TilePathFinder pathFinder() {
+    return pathFinder;
+  }
+
   /**
    * Check each tile around the tile, if it is accessible add it to the connectionList.
    *
+   * <p>The {@link LevelElement} decides if a tile is accessible, so a closed door is still
+   * connected (like in the {@link core.level.elements.astar.WalkabilityGrid}).
+   *
    * @param checkTile Tile to check for.
    */
   @Override
   public void addConnectionsToNeighbours(Tile checkTile) {
     for (Coordinate v : CONNECTION_OFFSETS) {
-      Coordinate c = new Coordinate(checkTile.coordinate().x + v.x, checkTile.coordinate().y + v.y);
-      Tile t = tileAt(c);
-      if (t != null
-          && t.isAccessible()
-          && !checkTile.connections().contains(new TileConnection(checkTile, t), false)) {
+      Tile t = neighbour(checkTile, v);
+      if (t != null && t.levelElement().value() && !checkTile.isConnectedTo(t))
         checkTile.addConnection(t);
-      }
     }
   }
 
+  private Tile neighbour(final Tile tile, final Coordinate offset) {
+    int x = tile.coordinate().x + offset.x;
+    int y = tile.coordinate().y + offset.y;
+    if (y < 0 || y >= layout.length || x < 0 || x >= layout[y].length) return null;
+    return layout[y][x];
+  }
+
   @Override
   public void onFirstLoad(IVoidFunction function) {
     this.onFirstLoad = function;
@@ -138,6 +212,25 @@ public class TileLevel implements ILevel {
     }
   }
 
+  @Override
+  public void addTileChangeListener(Consumer<Tile> listener) {
+    tileChangeListeners.add(listener);
+  }
+
+  @Override
+  public void removeTileChangeListener(Consumer<Tile> listener) {
+    tileChangeListeners.remove(listener);
+  }
+
+  @Override
+  public void tileChanged(Tile tile) {
+    pathFinder.tileChanged(tile);
+    flowField.invalidate();
+    lineOfSight.tileChanged(tile);
+    asyncPathFinder.tileChanged(tile);
+    for (int i = 0; i < tileChangeListeners.size(); i++) tileChangeListeners.get(i).accept(tile);
+  }
+
   @Override
   public void addFloorTile(FloorTile tile) {
     floorTiles.add(tile);
@@ -212,20 +305,11 @@ public class TileLevel implements ILevel {
       case EXIT -> exitTiles.remove((ExitTile) tile);
     }
 
-    tile.connections()
-        .forEach(
-            x ->
-                x.getToNode()
-                    .connections()
-                    .removeValue(new TileConnection(x.getToNode(), tile), false));
-    if (tile.isAccessible()) removeIndex(tile.index());
-  }
-
-  private void removeIndex(int index) {
-    Arrays.stream(layout)
-        .flatMap(x -> Arrays.stream(x).filter(y -> y.index() > index))
-        .forEach(x -> x.index(x.index() - 1));
-    nodeCount--;
+    // only the neighbours are connected with the tile, the other nodes stay untouched
+    for (Coordinate v : CONNECTION_OFFSETS) {
+      Tile neighbour = neighbour(tile, v);
+      if (neighbour != null) neighbour.removeConnection(tile);
+    }
   }
 
   @Override
@@ -238,18 +322,18 @@ public class TileLevel implements ILevel {
       case EXIT -> addExitTile((ExitTile) tile);
       case DOOR -> addDoorTile((DoorTile) tile);
     }
-    if (tile.isAccessible()) {
-      this.addConnectionsToNeighbours(tile);
-      tile.connections()
-          .forEach(
-              x -> {
-                if (!x.getToNode()
-                    .connections()
-                    .contains(new TileConnection(x.getToNode(), tile), false))
-                  x.getToNode().addConnection(tile);
-              });
-      tile.index(nodeCount++);
-    }
+    // the connections are created on demand (see Tile#connections()), only neighbours that
+    // already have their connections need to know the new tile
+    tile.connections = null;
+    if (tile.levelElement().value())
+      for (Coordinate v : CONNECTION_OFFSETS) {
+        Tile neighbour = neighbour(tile, v);
+        if (neighbour != null
+            && neighbour.connections != null
+            && neighbour.levelElement().value()
+            && !neighbour.isConnectedTo(tile)) neighbour.addConnection(tile);
+      }
+    tile.index(index(tile.coordinate()));
     tile.level(this);
   }
 
@@ -9,16 +9,20 @@ import com.badlogic.gdx.utils.Array;
 import core.Entity;
 import core.components.PositionComponent;
 import core.level.Tile;
+import core.level.elements.astar.AsyncPathFinder;
+import core.level.elements.astar.FlowField;
 import core.level.elements.astar.TileHeuristic;
 import core.level.elements.tile.*;
 import core.level.utils.Coordinate;
 import core.level.utils.LevelElement;
+import core.level.utils.LineOfSight;
 import core.level.utils.TileTextureFactory;
 import core.utils.IVoidFunction;
 import core.utils.Point;
 import core.utils.components.MissingComponentException;
 import java.util.List;
 import java.util.Random;
+import java.util.function.Consumer;
 
 /**
  * Defines the API for Levels in the dungeon.
@@ -212,7 +216,7 @@ public interface ILevel extends IndexedGraph<Tile> {
    * without making any changes. If the tile is associated with a level, it is removed from the
    * level, and a new tile is created with the specified level element, texture path, coordinates,
    * and design label. The new tile is then added back to the level at the same coordinates as the
-   * original tile.
+   * original tile, and the listeners of the level are notified with {@link #tileChanged(Tile)}.
    *
    * @param tile The tile to be changed.
    * @param changeInto The LevelElement to change the tile into.
@@ -231,6 +235,7 @@ public interface ILevel extends IndexedGraph<Tile> {
             tile.designLabel());
     level.layout()[tile.coordinate().y][tile.coordinate().x] = newTile;
     level.addTile(newTile);
+    level.tileChanged(newTile);
   }
 
   /**
@@ -280,6 +285,31 @@ public interface ILevel extends IndexedGraph<Tile> {
    */
   void onLoad();
 
+  /**
+   * Registers a listener that is called each time a tile of this level is replaced by {@link
+   * #changeTileElementType(Tile, LevelElement)}.
+   *
+   * <p>The listener gets the new tile. Use this to update data derived from the layout (e.g., a
+   * minimap) without scanning the whole level again.
+   *
+   * @param listener The listener to be called with the changed tile.
+   */
+  void addTileChangeListener(final Consumer<Tile> listener);
+
+  /**
+   * Removes a listener registered with {@link #addTileChangeListener(Consumer)}.
+   *
+   * @param listener The listener to remove.
+   */
+  void removeTileChangeListener(final Consumer<Tile> listener);
+
+  /**
+   * Notifies the registered tile change listeners that the given tile has changed.
+   *
+   * @param tile The new tile.
+   */
+  void tileChanged(final Tile tile);
+
   /**
    * Retrieves the count of nodes in the level for use in libGDX pathfinding algorithms.
    *
@@ -329,6 +359,37 @@ public interface ILevel extends IndexedGraph<Tile> {
    */
   TileHeuristic tileHeuristic();
 
+  /**
+   * Retrieves the flow field of the level.
+   *
+   * <p>The flow field stores the distance of each tile to one target, so many entities can move to
+   * the same target without a path search each. See {@link
+   * core.level.utils.LevelUtils#nextTileToHero(Entity)}.
+   *
+   * @return The FlowField of the Level.
+   */
+  FlowField flowField();
+
+  /**
+   * Retrieves the line of sight of the level.
+   *
+   * <p>The line of sight checks if two tiles can see each other, e.g., if a monster can see the
+   * hero. See {@link core.level.utils.LevelUtils#playerVisible(Entity)}.
+   *
+   * @return The LineOfSight of the Level.
+   */
+  LineOfSight lineOfSight();
+
+  /**
+   * Retrieves the async pathfinder of the level.
+   *
+   * <p>The async pathfinder searches paths on worker threads, so a long search doesn't stall the
+   * frame. See {@link core.level.utils.LevelUtils#requestPath(Point, Point)}.
+   *
+   * @return The AsyncPathFinder of the Level.
+   */
+  AsyncPathFinder asyncPathFinder();
+
   /**
    * Retrieves the position of the specified entity within the level.
    *
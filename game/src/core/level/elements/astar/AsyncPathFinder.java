@@ -0,0 +1,278 @@
+package core.level.elements.astar;
+
+import com.badlogic.gdx.ai.pfa.DefaultGraphPath;
+import com.badlogic.gdx.ai.pfa.GraphPath;
+import core.level.Tile;
+import core.level.elements.ILevel;
+import core.level.utils.Coordinate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Searches paths of one level on worker threads.
+ *
+ * <p>A long path on a large level can take longer than a frame. Instead of searching it in the game
+ * loop, {@link #request(Tile, Tile)} returns a {@link PathRequest} at once and the path is searched
+ * with a {@link JumpPointFinder} on a worker thread. The workers don't read the {@link
+ * WalkabilityGrid} of the {@link TilePathFinder} and the layout of the level, which change with the
+ * level, but immutable copies of them (a snapshot). A new snapshot is only taken for a request
+ * after the level changed.
+ *
+ * <p>The found paths are handed over to the game loop with {@link #integrate()}, which completes at
+ * most {@link #maxResultsPerFrame()} requests per call, so many finished searches don't cost one
+ * frame. Until then, an entity keeps following its previous path. If a tile of the level changed
+ * while a path was searched, the path is searched again on a new snapshot.
+ *
+ * <p>Identical requests (same start and end tile) that are pending at the same time share one
+ * search and one {@link PathRequest}.
+ *
+ * <p>Apart from the workers, the async pathfinder is not thread-safe: call all methods in the game
+ * loop.
+ */
+public final class AsyncPathFinder {
+
+  private static final int DEFAULT_MAX_RESULTS_PER_FRAME = 16;
+  private static final int WORKERS =
+      Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+  // shared by all levels, created with the first request
+  private static ExecutorService executor;
+
+  private final ILevel level;
+  private final TilePathFinder pathFinder;
+  private final Map<Key, PathRequest> pending = new HashMap<>();
+  // searched by the workers, waiting for integrate()
+  private final Queue<PathRequest> searched = new ConcurrentLinkedQueue<>();
+  private Snapshot snapshot;
+  // increased with each change of the level, a path of an older version is searched again
+  private int version = 0;
+  private int maxResultsPerFrame = DEFAULT_MAX_RESULTS_PER_FRAME;
+
+  /**
+   * Create a new async pathfinder for the given level.
+   *
+   * @param level Level to search paths in.
+   * @param pathFinder Pathfinder of the level, provides the walkability of the tiles.
+   */
+  public AsyncPathFinder(final ILevel level, final TilePathFinder pathFinder) {
+    this.level = level;
+    this.pathFinder = pathFinder;
+  }
+
+  /**
+   * Request the path between the given tiles.
+   *
+   * <p>If the same path is already requested and not completed yet, the pending request is
+   * returned.
+   *
+   * @param start The starting tile for pathfinding.
+   * @param end The destination tile for pathfinding.
+   * @return The request, completed by a later call of {@link #integrate()}.
+   * @throws IllegalArgumentException If the start or end tile is non-accessible.
+   */
+  public PathRequest request(final Tile start, final Tile end) {
+    if (!start.isAccessible())
+      throw new IllegalArgumentException(
+          "Cannot calculate path because the start point is non-accessible.");
+    if (!end.isAccessible())
+      throw new IllegalArgumentException(
+          "Cannot calculate path because the end point is non-accessible.");
+    Key key = new Key(start.coordinate(), end.coordinate());
+    PathRequest request = pending.get(key);
+    if (request != null) return request;
+    request = new PathRequest(key, start, end);
+    pending.put(key, request);
+    submit(request);
+    return request;
+  }
+
+  /**
+   * Complete the requests whose paths were found.
+   *
+   * <p>Call this once per frame. At most {@link #maxResultsPerFrame()} requests are completed, the
+   * others are completed with the next calls.
+   *
+   * @return The number of completed requests.
+   */
+  public int integrate() {
+    int completed = 0;
+    while (completed < maxResultsPerFrame) {
+      PathRequest request = searched.poll();
+      if (request == null) break;
+      if (request.version != version) {
+        // the level changed during the search, the path could contain replaced tiles
+        request.start = level.tileAt(request.key.start);
+        request.end = level.tileAt(request.key.end);
+        if (request.start != null
+            && request.end != null
+            && request.start.isAccessible()
+            && request.end.isAccessible()) {
+          submit(request);
+          continue;
+        }
+        request.result = new DefaultGraphPath<>();
+      }
+      pending.remove(request.key);
+      request.path = request.result;
+      request.result = null;
+      completed++;
+    }
+    return completed;
+  }
+
+  /**
+   * Inform the async pathfinder about a changed tile of the level.
+   *
+   * <p>The next request takes a new snapshot, and paths that are searched right now are searched
+   * again.
+   *
+   * @param tile The new tile.
+   */
+  public void tileChanged(final Tile tile) {
+    version++;
+  }
+
+  /**
+   * Get the number of requests that are not completed yet.
+   *
+   * @return Number of pending requests.
+   */
+  public int pending() {
+    return pending.size();
+  }
+
+  /**
+   * Get the maximal number of requests completed by one call of {@link #integrate()}.
+   *
+   * @return Maximal number of completed requests per frame.
+   */
+  public int maxResultsPerFrame() {
+    return maxResultsPerFrame;
+  }
+
+  /**
+   * Set the maximal number of requests completed by one call of {@link #integrate()}.
+   *
+   * @param maxResultsPerFrame Maximal number of completed requests per frame (at least 1).
+   */
+  public void maxResultsPerFrame(int maxResultsPerFrame) {
+    if (maxResultsPerFrame < 1)
+      throw new IllegalArgumentException("At least one result has to be completed per frame");
+    this.maxResultsPerFrame = maxResultsPerFrame;
+  }
+
+  private void submit(final PathRequest request) {
+    if (snapshot == null || snapshot.version != version)
+      snapshot = new Snapshot(pathFinder.grid().copy(), copy(level.layout()), version);
+    Snapshot current = snapshot;
+    request.version = version;
+    executor()
+        .execute(
+            () -> {
+              GraphPath<Tile> path = new DefaultGraphPath<>();
+              try {
+                JumpPointFinder finder = current.finders.poll();
+                if (finder == null) finder = new JumpPointFinder(current.grid);
+                finder.searchNodePath(current.layout, request.start, request.end, path);
+                current.finders.push(finder);
+              } finally {
+                // complete a failed search as well, so the request is not pending forever
+                request.result = path;
+                searched.add(request);
+              }
+            });
+  }
+
+  // copies the rows, so replacing a tile of the level doesn't change the snapshot
+  private static Tile[][] copy(final Tile[][] layout) {
+    Tile[][] copy = new Tile[layout.length][];
+    for (int y = 0; y < layout.length; y++) copy[y] = layout[y].clone();
+    return copy;
+  }
+
+  private static synchronized ExecutorService executor() {
+    if (executor == null)
+      executor =
+          Executors.newFixedThreadPool(
+              WORKERS,
+              runnable -> {
+                Thread thread = new Thread(runnable, "pathfinder");
+                thread.setDaemon(true);
+                return thread;
+              });
+    return executor;
+  }
+
+  /**
+   * A requested path.
+   *
+   * <p>The request is completed by {@link AsyncPathFinder#integrate()} in the game loop, check
+   * {@link #isDone()} before using the path.
+   */
+  public static final class PathRequest {
+    private final Key key;
+    private Tile start;
+    private Tile end;
+    private int version;
+    // set by a worker, the queue of searched requests makes it visible to the game loop
+    private GraphPath<Tile> result;
+    private GraphPath<Tile> path;
+
+    private PathRequest(final Key key, final Tile start, final Tile end) {
+      this.key = key;
+      this.start = start;
+      this.end = end;
+    }
+
+    /**
+     * Check if the path was found.
+     *
+     * @return true if the request is completed, false if the path is still searched.
+     */
+    public boolean isDone() {
+      return path != null;
+    }
+
+    /**
+     * Get the found path.
+     *
+     * @return The path between the tiles, empty if there is no path, or null if the request is not
+     *     completed yet. Must not be modified.
+     */
+    public GraphPath<Tile> path() {
+      return path;
+    }
+  }
+
+  private record Key(Coordinate start, Coordinate end) {
+    private Key {
+      // copies, the coordinates of a tile are mutable
+      start = new Coordinate(start.x, start.y);
+      end = new Coordinate(end.x, end.y);
+    }
+  }
+
+  /**
+   * An immutable copy of the walkability and the layout of the level, with the finders that search
+   * on it.
+   *
+   * <p>The layout is a copy of the rows, the tiles themselves are shared with the level. The
+   * workers only use them to build the path.
+   */
+  private static final class Snapshot {
+    private final WalkabilityGrid grid;
+    private final Tile[][] layout;
+    private final int version;
+    private final ConcurrentLinkedDeque<JumpPointFinder> finders = new ConcurrentLinkedDeque<>();
+
+    private Snapshot(final WalkabilityGrid grid, final Tile[][] layout, int version) {
+      this.grid = grid;
+      this.layout = layout;
+      this.version = version;
+    }
+  }
+}
@@ -0,0 +1,156 @@
+package core.level.elements.astar;
+
+import core.level.Tile;
+import core.level.elements.ILevel;
+import core.level.utils.Coordinate;
+
+/**
+ * Stores the distance of each tile of a level to one target tile.
+ *
+ * <p>The distances are calculated with one breadth-first search from the target over the {@link
+ * WalkabilityGrid} of the level. Afterward, each entity that wants to reach the target can get its
+ * next step with {@link #next(Tile)} in constant time, so many entities chasing the same target
+ * (e.g., the hero) cost one search instead of one path search per entity.
+ *
+ * <p>The search only runs again if {@link #target(Tile)} is called with another tile, or after the
+ * level changed (see {@link #invalidate()}). All arrays are allocated with the first search, later
+ * searches don't allocate.
+ *
+ * <p>The flow field is not thread-safe.
+ */
+public final class FlowField {
+
+  private static final int[] OFFSETS_X = {0, 0, 1, -1};
+  private static final int[] OFFSETS_Y = {1, -1, 0, 0};
+
+  private final ILevel level;
+  private final TilePathFinder pathFinder;
+  private int width;
+  // distance of each tile, only valid if the stamp of the tile is the current generation
+  private int[] distances;
+  private int[] stamps;
+  private int[] queue;
+  private int generation = 0;
+  private int targetX = -1;
+  private int targetY = -1;
+  private boolean valid = false;
+  private long searches = 0;
+
+  /**
+   * Create a new flow field for the given level.
+   *
+   * @param level Level of the flow field.
+   * @param pathFinder Pathfinder of the level, provides the walkability of the tiles.
+   */
+  public FlowField(final ILevel level, final TilePathFinder pathFinder) {
+    this.level = level;
+    this.pathFinder = pathFinder;
+  }
+
+  /**
+   * Set the target of the flow field.
+   *
+   * <p>The distances are only calculated again if the target tile changed or the flow field was
+   * invalidated.
+   *
+   * @param target The target tile.
+   * @return true if the distances were calculated again.
+   */
+  public boolean target(final Tile target) {
+    Coordinate coordinate = target.coordinate();
+    if (valid && coordinate.x == targetX && coordinate.y == targetY) return false;
+    targetX = coordinate.x;
+    targetY = coordinate.y;
+    search();
+    return true;
+  }
+
+  /** Calculate the distances again with the next call of {@link #target(Tile)}. */
+  public void invalidate() {
+    valid = false;
+  }
+
+  /**
+   * Get the distance of the tile to the target.
+   *
+   * @param tile The tile.
+   * @return Number of steps to the target, -1 if the target can't be reached from the tile.
+   */
+  public int distance(final Tile tile) {
+    if (!valid) return -1;
+    Coordinate coordinate = tile.coordinate();
+    return distance(coordinate.x, coordinate.y);
+  }
+
+  /**
+   * Get the next tile on a shortest path from the given tile to the target.
+   *
+   * @param from The tile to start from.
+   * @return The neighbour of the tile that is closer to the target, null if the tile is the target
+   *     or the target can't be reached.
+   */
+  public Tile next(final Tile from) {
+    int distance = distance(from);
+    if (distance <= 0) return null;
+    Coordinate coordinate = from.coordinate();
+    for (int i = 0; i < OFFSETS_X.length; i++) {
+      int x = coordinate.x + OFFSETS_X[i];
+      int y = coordinate.y + OFFSETS_Y[i];
+      if (distance(x, y) == distance - 1) return level.layout()[y][x];
+    }
+    return null;
+  }
+
+  /**
+   * Get the number of searches since the flow field was created.
+   *
+   * @return Number of searches.
+   */
+  public long searches() {
+    return searches;
+  }
+
+  private int distance(int x, int y) {
+    if (x < 0 || y < 0 || x >= width || y * width + x >= stamps.length) return -1;
+    int index = y * width + x;
+    return stamps[index] == generation ? distances[index] : -1;
+  }
+
+  private void search() {
+    WalkabilityGrid grid = pathFinder.grid();
+    int size = grid.width() * grid.height();
+    if (distances == null || distances.length != size) {
+      width = grid.width();
+      distances = new int[size];
+      stamps = new int[size];
+      queue = new int[size];
+      generation = 0;
+    }
+    generation++;
+    valid = true;
+    searches++;
+    if (!grid.get(targetX, targetY)) return;
+    int head = 0;
+    int tail = 0;
+    int target = targetY * width + targetX;
+    distances[target] = 0;
+    stamps[target] = generation;
+    queue[tail++] = target;
+    while (head < tail) {
+      int current = queue[head++];
+      int x = current % width;
+      int y = current / width;
+      int distance = distances[current] + 1;
+      for (int i = 0; i < OFFSETS_X.length; i++) {
+        int nx = x + OFFSETS_X[i];
+        int ny = y + OFFSETS_Y[i];
+        if (!grid.get(nx, ny)) continue;
+        int index = ny * width + nx;
+        if (stamps[index] == generation) continue;
+        stamps[index] = generation;
+        distances[index] = distance;
+        queue[tail++] = index;
+      }
+    }
+  }
+}
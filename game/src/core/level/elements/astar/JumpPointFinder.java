@@ -0,0 +1,302 @@
+package core.level.elements.astar;
+
+import com.badlogic.gdx.ai.pfa.GraphPath;
+import core.level.Tile;
+import java.util.Arrays;
+
+/**
+ * Finds shortest paths on a walkability grid with jump point search.
+ *
+ * <p>The tiles of a level are connected to their four direct neighbours, so each step costs 1 and
+ * the Manhattan distance is an admissible and consistent heuristic. Jump point search skips the
+ * tiles on straight lines that can't lead to a shorter path and only puts the tiles where the path
+ * may turn (jump points) into the open set, so far less tiles are expanded than with a plain A*.
+ * The jump points of the found path are connected by straight lines again, so the result contains
+ * each tile of the path, like the result of the {@link
+ * com.badlogic.gdx.ai.pfa.indexed.IndexedAStarPathFinder}.
+ *
+ * <p>Rows are scanned 64 tiles at a time on the bits of the {@link WalkabilityGrid}. The open set
+ * is a binary heap of tile indices, and the open and closed state is stored in arrays that are
+ * marked with the id of the search, so they don't have to be cleared. All arrays are allocated
+ * once, a search only allocates the nodes of the resulting path.
+ *
+ * <p>The grid is read, not copied: the owner of the grid has to keep it up to date (see {@link
+ * TilePathFinder}). The finder is not thread-safe, use one finder per thread.
+ */
+public final class JumpPointFinder {
+
+  private static final byte OPEN = 1;
+  private static final byte CLOSED = 2;
+
+  private final WalkabilityGrid walkable;
+  private final int width;
+  private final int height;
+  // cost from the start, parent jump point and open/closed state of each tile
+  private final int[] costs;
+  private final int[] parents;
+  private final int[] searchIds;
+  private final byte[] states;
+  // open set, a binary heap of tile indices ordered by the estimated total cost
+  private final int[] heap;
+  private final int[] heapPositions;
+  private final int[] estimates;
+  private int heapSize = 0;
+  private int searchId = 0;
+  private int end;
+  private int endX;
+  private int endY;
+
+  /**
+   * Create a new finder for the given grid.
+   *
+   * @param walkable Walkability of each tile.
+   */
+  public JumpPointFinder(final WalkabilityGrid walkable) {
+    this.walkable = walkable;
+    width = walkable.width();
+    height = walkable.height();
+    int size = width * height;
+    costs = new int[size];
+    parents = new int[size];
+    searchIds = new int[size];
+    states = new byte[size];
+    heap = new int[size];
+    heapPositions = new int[size];
+    estimates = new int[size];
+  }
+
+  /**
+   * Search the shortest path between two tiles.
+   *
+   * @param layout Layout of the level, used to get the tiles of the path.
+   * @param start The starting tile.
+   * @param end The destination tile.
+   * @param out The path is added to this path, start and end tile included.
+   * @return true if a path was found, false if the tiles are not connected.
+   */
+  public boolean searchNodePath(
+      final Tile[][] layout, final Tile start, final Tile end, final GraphPath<Tile> out) {
+    int from = index(start.coordinate().x, start.coordinate().y);
+    this.end = index(end.coordinate().x, end.coordinate().y);
+    endX = end.coordinate().x;
+    endY = end.coordinate().y;
+    if (++searchId == 0) {
+      // the ids overflowed, so old marks could match again
+      Arrays.fill(searchIds, 0);
+      searchId = 1;
+    }
+    heapSize = 0;
+    open(from, 0, -1);
+    while (heapSize > 0) {
+      int current = pop();
+      states[current] = CLOSED;
+      if (current == this.end) {
+        path(layout, current, out);
+        return true;
+      }
+      successors(current);
+    }
+    return false;
+  }
+
+  private void successors(int current) {
+    int x = current % width;
+    int y = current / width;
+    int parent = parents[current];
+    if (parent < 0) {
+      jumpFrom(current, x + 1, y, 1, 0);
+      jumpFrom(current, x - 1, y, -1, 0);
+      jumpFrom(current, x, y + 1, 0, 1);
+      jumpFrom(current, x, y - 1, 0, -1);
+      return;
+    }
+    int dx = Integer.signum(x - parent % width);
+    int dy = Integer.signum(y - parent / width);
+    if (dx != 0) {
+      jumpFrom(current, x + dx, y, dx, 0);
+      jumpFrom(current, x, y + 1, 0, 1);
+      jumpFrom(current, x, y - 1, 0, -1);
+    } else {
+      jumpFrom(current, x, y + dy, 0, dy);
+      jumpFrom(current, x + 1, y, 1, 0);
+      jumpFrom(current, x - 1, y, -1, 0);
+    }
+  }
+
+  private void jumpFrom(int current, int x, int y, int dx, int dy) {
+    int jumpPoint = dy == 0 ? jumpHorizontal(x, y, dx) : jumpVertical(x, y, dy);
+    if (jumpPoint < 0) return;
+    if (searchIds[jumpPoint] == searchId && states[jumpPoint] == CLOSED) return;
+    int cost =
+        costs[current]
+            + Math.abs(jumpPoint % width - current % width)
+            + Math.abs(jumpPoint / width - current / width);
+    if (searchIds[jumpPoint] != searchId) open(jumpPoint, cost, current);
+    else if (cost < costs[jumpPoint]) {
+      costs[jumpPoint] = cost;
+      parents[jumpPoint] = current;
+      estimates[jumpPoint] = cost + heuristic(jumpPoint);
+      up(heapPositions[jumpPoint]);
+    }
+  }
+
+  private int jumpHorizontal(int x, int y, int dx) {
+    if (x < 0 || x >= width) return -1;
+    return dx > 0 ? jumpRight(x, y) : jumpLeft(x, y);
+  }
+
+  // scan the row 64 tiles at a time for the first tile that is blocked, the end or a jump point
+  private int jumpRight(int x, int y) {
+    int word = x >>> 6;
+    long mask = -1L << x;
+    for (int words = walkable.words(); word < words; word++, mask = -1L) {
+      long blocked = ~walkable.word(y, word) & mask;
+      // a neighbour above or below can only be reached through this tile
+      long forced = forcedRight(y + 1, word) | forcedRight(y - 1, word);
+      if (y == endY && endX >>> 6 == word) forced |= 1L << endX;
+      forced &= mask;
+      long stops = blocked | forced;
+      if (stops != 0) {
+        long stop = Long.lowestOneBit(stops);
+        return (blocked & stop) != 0
+            ? -1
+            : index(word * Long.SIZE + Long.numberOfTrailingZeros(stop), y);
+      }
+    }
+    return -1;
+  }
+
+  private int jumpLeft(int x, int y) {
+    int word = x >>> 6;
+    long mask = -1L >>> (Long.SIZE - 1 - (x & (Long.SIZE - 1)));
+    for (; word >= 0; word--, mask = -1L) {
+      long blocked = ~walkable.word(y, word) & mask;
+      long forced = forcedLeft(y + 1, word) | forcedLeft(y - 1, word);
+      if (y == endY && endX >>> 6 == word) forced |= 1L << endX;
+      forced &= mask;
+      long stops = blocked | forced;
+      if (stops != 0) {
+        long stop = Long.highestOneBit(stops);
+        return (blocked & stop) != 0
+            ? -1
+            : index(word * Long.SIZE + Long.numberOfTrailingZeros(stop), y);
+      }
+    }
+    return -1;
+  }
+
+  // tiles of the row that are walkable while their left neighbour is not
+  private long forcedRight(int y, int word) {
+    long row = walkable.word(y, word);
+    return row & ~((row << 1) | (walkable.word(y, word - 1) >>> (Long.SIZE - 1)));
+  }
+
+  // tiles of the row that are walkable while their right neighbour is not
+  private long forcedLeft(int y, int word) {
+    long row = walkable.word(y, word);
+    return row & ~((row >>> 1) | (walkable.word(y, word + 1) << (Long.SIZE - 1)));
+  }
+
+  private int jumpVertical(int x, int y, int dy) {
+    while (walkable(x, y)) {
+      int index = index(x, y);
+      if (index == end) return index;
+      if ((walkable(x + 1, y) && !walkable(x + 1, y - dy))
+          || (walkable(x - 1, y) && !walkable(x - 1, y - dy))) return index;
+      // the path could turn here to reach a jump point in the row
+      if (jumpHorizontal(x + 1, y, 1) >= 0 || jumpHorizontal(x - 1, y, -1) >= 0) return index;
+      y += dy;
+    }
+    return -1;
+  }
+
+  private void path(final Tile[][] layout, int last, final GraphPath<Tile> out) {
+    // count the tiles to add them in order without a temporary list
+    int count = 1;
+    for (int i = last; parents[i] >= 0; i = parents[i]) count += costs[i] - costs[parents[i]];
+    Tile[] tiles = new Tile[count];
+    int position = count - 1;
+    tiles[position] = layout[last / width][last % width];
+    for (int i = last; parents[i] >= 0; i = parents[i]) {
+      int x = i % width;
+      int y = i / width;
+      int parent = parents[i];
+      int dx = Integer.signum(parent % width - x);
+      int dy = Integer.signum(parent / width - y);
+      // walk back to the parent jump point
+      do {
+        x += dx;
+        y += dy;
+        tiles[--position] = layout[y][x];
+      } while (x != parent % width || y != parent / width);
+    }
+    for (Tile tile : tiles) out.add(tile);
+  }
+
+  private int heuristic(int index) {
+    return Math.abs(index % width - endX) + Math.abs(index / width - endY);
+  }
+
+  private boolean walkable(int x, int y) {
+    return walkable.get(x, y);
+  }
+
+  private int index(int x, int y) {
+    return y * width + x;
+  }
+
+  private void open(int index, int cost, int parent) {
+    searchIds[index] = searchId;
+    states[index] = OPEN;
+    costs[index] = cost;
+    parents[index] = parent;
+    estimates[index] = cost + heuristic(index);
+    heap[heapSize] = index;
+    heapPositions[index] = heapSize;
+    up(heapSize++);
+  }
+
+  private int pop() {
+    int top = heap[0];
+    heapSize--;
+    if (heapSize > 0) {
+      heap[0] = heap[heapSize];
+      heapPositions[heap[0]] = 0;
+      down(0);
+    }
+    return top;
+  }
+
+  // on equal estimates, prefer the tile closer to the end
+  private boolean before(int a, int b) {
+    return estimates[a] < estimates[b] || (estimates[a] == estimates[b] && costs[a] > costs[b]);
+  }
+
+  private void up(int position) {
+    int index = heap[position];
+    while (position > 0) {
+      int parent = (position - 1) / 2;
+      if (!before(index, heap[parent])) break;
+      heap[position] = heap[parent];
+      heapPositions[heap[position]] = position;
+      position = parent;
+    }
+    heap[position] = index;
+    heapPositions[index] = position;
+  }
+
+  private void down(int position) {
+    int index = heap[position];
+    while (true) {
+      int child = 2 * position + 1;
+      if (child >= heapSize) break;
+      if (child + 1 < heapSize && before(heap[child + 1], heap[child])) child++;
+      if (!before(heap[child], index)) break;
+      heap[position] = heap[child];
+      heapPositions[heap[position]] = position;
+      position = child;
+    }
+    heap[position] = index;
+    heapPositions[index] = position;
+  }
+}
@@ -1,10 +1,14 @@
 package core.level.elements.astar;
 
 import com.badlogic.gdx.ai.pfa.Heuristic;
-import com.badlogic.gdx.math.Vector2;
 import core.level.Tile;
 
 /**
+ * Estimates the cost of the path between two tiles with the Manhattan distance.
+ *
+ * <p>The tiles are connected to their four direct neighbours, so the Manhattan distance never
+ * overestimates the cost, and A* finds the shortest path.
+ *
  * @author Marti Stuwe
  */
 public class TileHeuristic implements Heuristic<Tile> {
@@ -18,7 +22,7 @@ public class TileHeuristic implements Heuristic<Tile> {
    */
   @Override
   public float estimate(Tile start, Tile goal) {
-    return Vector2.dst2(
-        start.coordinate().x, start.coordinate().y, goal.coordinate().x, goal.coordinate().y);
+    return Math.abs(start.coordinate().x - goal.coordinate().x)
+        + Math.abs(start.coordinate().y - goal.coordinate().y);
   }
 }
@@ -0,0 +1,223 @@
+package core.level.elements.astar;
+
+import com.badlogic.gdx.ai.pfa.DefaultGraphPath;
+import com.badlogic.gdx.ai.pfa.GraphPath;
+import core.level.Tile;
+import core.level.elements.ILevel;
+import core.level.utils.Coordinate;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Finds paths between the tiles of one level.
+ *
+ * <p>The paths are searched with a {@link JumpPointFinder} on the {@link WalkabilityGrid} of the
+ * level. A finder allocates its search state for each tile of the level. Instead of creating a new
+ * one for each search, the finders are kept in a pool and reused. The results of the last searches
+ * are stored in an LRU cache, keyed by the coordinates of the start and end tile, so a repeated
+ * search (e.g., many monsters chasing the hero) returns the cached path without a new search.
+ *
+ * <p>The level has to pass each changed tile to {@link #tileChanged(Tile)}, which updates the grid.
+ * If the walkability of the tile changed, all cached paths are removed. Otherwise only the cached
+ * paths that contain the replaced tile are removed.
+ *
+ * <p>The returned paths are shared, so they must not be modified. The pathfinder is not
+ * thread-safe.
+ */
+public final class TilePathFinder {
+
+  private static final int DEFAULT_CAPACITY = 256;
+
+  private final ILevel level;
+  private final Deque<JumpPointFinder> pool = new ArrayDeque<>();
+  // reused for lookups, so a hit doesn't allocate a key
+  private final Key lookup = new Key();
+  private final Map<Key, GraphPath<Tile>> paths = new LinkedHashMap<>(16, 0.75f, true);
+  // created with the first search or the first call of grid()
+  private WalkabilityGrid walkable;
+  private int capacity = DEFAULT_CAPACITY;
+  private long hits = 0;
+  private long misses = 0;
+
+  /**
+   * Create a new pathfinder for the given level.
+   *
+   * @param level Level to search paths in.
+   */
+  public TilePathFinder(final ILevel level) {
+    this.level = level;
+  }
+
+  /**
+   * Find the path between the given tiles, or get it from the cache.
+   *
+   * @param start The starting tile for pathfinding.
+   * @param end The destination tile for pathfinding.
+   * @return The path between the tiles, empty if there is no path. Must not be modified.
+   */
+  public GraphPath<Tile> findPath(final Tile start, final Tile end) {
+    grid();
+    lookup.set(start.coordinate(), end.coordinate());
+    GraphPath<Tile> path = paths.get(lookup);
+    // the tiles could have been replaced without a change of the walkability
+    if (path != null && (path.getCount() == 0 || path.get(0) == start)) {
+      hits++;
+      return path;
+    }
+    misses++;
+    path = search(start, end);
+    paths.put(lookup.copy(), path);
+    evict();
+    return path;
+  }
+
+  /**
+   * Update the cache and the pool after a tile of the level was replaced.
+   *
+   * @param tile The new tile.
+   */
+  public void tileChanged(final Tile tile) {
+    if (walkable == null) return;
+    Coordinate coordinate = tile.coordinate();
+    boolean wasAccessible = walkable.get(coordinate.x, coordinate.y);
+    boolean accessible = tile.levelElement().value();
+    walkable.set(coordinate.x, coordinate.y, accessible);
+    if (wasAccessible != accessible) paths.clear();
+    else if (accessible) paths.values().removeIf(path -> contains(path, coordinate));
+  }
+
+  /**
+   * Get the walkability grid of the level, create it if needed.
+   *
+   * <p>The grid is kept up to date by {@link #tileChanged(Tile)}.
+   *
+   * @return The walkability of the tiles.
+   */
+  public WalkabilityGrid grid() {
+    if (walkable == null) walkable = WalkabilityGrid.of(level.layout());
+    return walkable;
+  }
+
+  /** Remove all cached paths. */
+  public void clear() {
+    paths.clear();
+  }
+
+  /**
+   * Get the number of cached paths.
+   *
+   * @return Number of cached paths.
+   */
+  public int size() {
+    return paths.size();
+  }
+
+  /**
+   * Get the maximal number of cached paths.
+   *
+   * @return Capacity of the cache.
+   */
+  public int capacity() {
+    return capacity;
+  }
+
+  /**
+   * Set the maximal number of cached paths.
+   *
+   * <p>If there are more paths cached, the least recently used paths are evicted.
+   *
+   * @param capacity Capacity of the cache (at least 1).
+   */
+  public void capacity(int capacity) {
+    if (capacity < 1) throw new IllegalArgumentException("Capacity has to be at least 1");
+    this.capacity = capacity;
+    evict();
+  }
+
+  /**
+   * Get the number of searches that were answered from the cache.
+   *
+   * @return Number of hits.
+   */
+  public long hits() {
+    return hits;
+  }
+
+  /**
+   * Get the number of searches that had to search the path.
+   *
+   * @return Number of misses.
+   */
+  public long misses() {
+    return misses;
+  }
+
+  private GraphPath<Tile> search(final Tile start, final Tile end) {
+    Tile[][] layout = level.layout();
+    JumpPointFinder finder = pool.poll();
+    if (finder == null) finder = new JumpPointFinder(walkable);
+    GraphPath<Tile> path = new DefaultGraphPath<>();
+    finder.searchNodePath(layout, start, end, path);
+    pool.push(finder);
+    return path;
+  }
+
+  private void evict() {
+    Iterator<GraphPath<Tile>> iterator = paths.values().iterator();
+    while (paths.size() > capacity) {
+      iterator.next();
+      iterator.remove();
+    }
+  }
+
+  private static boolean contains(final GraphPath<Tile> path, final Coordinate coordinate) {
+    for (int i = 0; i < path.getCount(); i++) {
+      Coordinate c = path.get(i).coordinate();
+      if (c.x == coordinate.x && c.y == coordinate.y) return true;
+    }
+    return false;
+  }
+
+  private static final class Key {
+    private int startX;
+    private int startY;
+    private int endX;
+    private int endY;
+
+    private void set(final Coordinate start, final Coordinate end) {
+      startX = start.x;
+      startY = start.y;
+      endX = end.x;
+      endY = end.y;
+    }
+
+    private Key copy() {
+      Key key = new Key();
+      key.startX = startX;
+      key.startY = startY;
+      key.endX = endX;
+      key.endY = endY;
+      return key;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      return o instanceof Key key
+          && startX == key.startX
+          && startY == key.startY
+          && endX == key.endX
+          && endY == key.endY;
+    }
+
+    @Override
+    public int hashCode() {
+      int hash = startX;
+      hash = 31 * hash + startY;
+      hash = 31 * hash + endX;
+      return 31 * hash + endY;
+    }
+  }
+}
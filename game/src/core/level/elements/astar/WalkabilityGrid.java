@@ -0,0 +1,128 @@
+package core.level.elements.astar;
+
+import core.level.Tile;
+
+/**
+ * Stores which tiles of a level are walkable, one bit per tile.
+ *
+ * <p>Each row starts at a new {@code long}, so a row can be scanned 64 tiles at a time (see {@link
+ * #word(int, int)}). Bits outside the level are never set, so tiles outside the level are not
+ * walkable.
+ */
+public final class WalkabilityGrid {
+
+  private final int width;
+  private final int height;
+  private final int words;
+  private final long[] bits;
+
+  /**
+   * Create a new grid without walkable tiles.
+   *
+   * @param width Width of the grid.
+   * @param height Height of the grid.
+   */
+  public WalkabilityGrid(int width, int height) {
+    this.width = width;
+    this.height = height;
+    words = (width + Long.SIZE - 1) / Long.SIZE;
+    bits = new long[words * height];
+  }
+
+  /**
+   * Create the grid of the given layout.
+   *
+   * <p>A tile is walkable if its {@link core.level.utils.LevelElement} is accessible, so the grid
+   * matches the connections of the tiles.
+   *
+   * @param layout Layout of the level.
+   * @return The grid of the layout.
+   */
+  public static WalkabilityGrid of(final Tile[][] layout) {
+    WalkabilityGrid grid =
+        new WalkabilityGrid(layout.length == 0 ? 0 : layout[0].length, layout.length);
+    for (int y = 0; y < grid.height; y++)
+      for (int x = 0; x < grid.width; x++) grid.set(x, y, layout[y][x].levelElement().value());
+    return grid;
+  }
+
+  /**
+   * Create a copy of the grid.
+   *
+   * <p>The copy doesn't change with this grid, so it can be read by other threads while this grid
+   * is updated.
+   *
+   * @return A new grid with the same walkable tiles.
+   */
+  public WalkabilityGrid copy() {
+    WalkabilityGrid copy = new WalkabilityGrid(width, height);
+    System.arraycopy(bits, 0, copy.bits, 0, bits.length);
+    return copy;
+  }
+
+  /**
+   * Get the width of the grid.
+   *
+   * @return Width of the grid.
+   */
+  public int width() {
+    return width;
+  }
+
+  /**
+   * Get the height of the grid.
+   *
+   * @return Height of the grid.
+   */
+  public int height() {
+    return height;
+  }
+
+  /**
+   * Check if the tile is walkable.
+   *
+   * @param x x-Index of the tile.
+   * @param y y-Index of the tile.
+   * @return true if the tile is walkable, false if not or if it is outside the grid.
+   */
+  public boolean get(int x, int y) {
+    if (x < 0 || y < 0 || x >= width || y >= height) return false;
+    return (bits[y * words + (x >>> 6)] & (1L << x)) != 0;
+  }
+
+  /**
+   * Set if the tile is walkable.
+   *
+   * @param x x-Index of the tile.
+   * @param y y-Index of the tile.
+   * @param walkable true if the tile is walkable.
+   */
+  public void set(int x, int y, boolean walkable) {
+    if (x < 0 || y < 0 || x >= width || y >= height)
+      throw new IndexOutOfBoundsException("Tile (" + x + ", " + y + ") is outside the grid");
+    int index = y * words + (x >>> 6);
+    if (walkable) bits[index] |= 1L << x;
+    else bits[index] &= ~(1L << x);
+  }
+
+  /**
+   * Get 64 tiles of a row, the tile {@code 64 * word + i} is stored in bit i.
+   *
+   * @param y y-Index of the row.
+   * @param word Index of the word in the row.
+   * @return The bits of the tiles, 0 if the word is outside the grid.
+   */
+  public long word(int y, int word) {
+    if (y < 0 || y >= height || word < 0 || word >= words) return 0;
+    return bits[y * words + word];
+  }
+
+  /**
+   * Get the number of words of a row.
+   *
+   * @return Number of longs per row.
+   */
+  public int words() {
+    return words;
+  }
+}
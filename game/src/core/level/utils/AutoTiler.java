@@ -0,0 +1,233 @@
+package core.level.utils;
+
+import core.level.Tile;
+import core.utils.components.path.IPath;
+import core.utils.components.path.SimpleIPath;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resolves the texture of a tile from its eight neighbours with precomputed lookup tables.
+ *
+ * <p>The texture rules of the {@link TileTextureFactory} only check whether a neighbour is a wall,
+ * a door, a hole or accessible. So each neighbour can be reduced to a small class: the four direct
+ * neighbours to one of {@link #ORTHOGONAL_CLASSES} classes (nothing, accessible, wall, hole, door)
+ * and the four diagonal neighbours to one of {@link #DIAGONAL_CLASSES} classes (nothing,
+ * accessible, hole). The classes of all eight neighbours are packed into one key, and for each
+ * {@link LevelElement} a table maps every key to the texture the rules would choose. Tiles outside
+ * the layout count as nothing, just like in the rules.
+ *
+ * <p>The tables are built once from the rules of the {@link TileTextureFactory}, so the result is
+ * always identical to evaluating the rules directly. The texture paths are created once per {@link
+ * DesignLabel} and shared between all tiles.
+ *
+ * <p>Resolving a texture only reads the 3x3 neighbourhood of the tile, so after a tile has changed
+ * only the tile itself (and its neighbours if needed) has to be resolved again.
+ *
+ * @see TileTextureFactory
+ */
+public final class AutoTiler {
+
+  /** Number of classes for the direct neighbours. */
+  private static final int ORTHOGONAL_CLASSES = 5;
+
+  /** Number of classes for the diagonal neighbours. */
+  private static final int DIAGONAL_CLASSES = 3;
+
+  private static final int DIAGONAL_OFFSET =
+      ORTHOGONAL_CLASSES * ORTHOGONAL_CLASSES * ORTHOGONAL_CLASSES * ORTHOGONAL_CLASSES;
+  private static final int KEYS =
+      DIAGONAL_OFFSET * DIAGONAL_CLASSES * DIAGONAL_CLASSES * DIAGONAL_CLASSES * DIAGONAL_CLASSES;
+
+  /** Element used to build a neighbourhood for each orthogonal class. */
+  private static final LevelElement[] ORTHOGONAL_ELEMENTS = {
+    LevelElement.SKIP, LevelElement.FLOOR, LevelElement.WALL, LevelElement.HOLE, LevelElement.DOOR
+  };
+
+  /** Element used to build a neighbourhood for each diagonal class. */
+  private static final LevelElement[] DIAGONAL_ELEMENTS = {
+    LevelElement.SKIP, LevelElement.FLOOR, LevelElement.HOLE
+  };
+
+  /** Texture index for each element and neighbourhood key. */
+  private static final byte[][] TEXTURES = new byte[LevelElement.values().length][KEYS];
+
+  /** Texture path for each design label and texture index. */
+  private static final IPath[][] PATHS;
+
+  static {
+    List<String> textures = new ArrayList<>();
+    Map<String, Integer> indices = new HashMap<>();
+    LevelElement[][] neighbourhood = new LevelElement[3][3];
+    Coordinate center = new Coordinate(1, 1);
+    for (LevelElement element : LevelElement.values()) {
+      neighbourhood[1][1] = element;
+      byte[] table = TEXTURES[element.ordinal()];
+      for (int key = 0; key < KEYS; key++) {
+        fillNeighbourhood(neighbourhood, key);
+        String texture = TileTextureFactory.findRelativeTexturePath(element, neighbourhood, center);
+        Integer index = indices.get(texture);
+        if (index == null) {
+          index = textures.size();
+          indices.put(texture, index);
+          textures.add(texture);
+        }
+        table[key] = index.byteValue();
+      }
+    }
+
+    DesignLabel[] designs = DesignLabel.values();
+    PATHS = new IPath[designs.length][textures.size()];
+    for (DesignLabel design : designs) {
+      String prefixPath = "dungeon/" + design.name().toLowerCase() + "/";
+      for (int i = 0; i < textures.size(); i++) {
+        PATHS[design.ordinal()][i] = new SimpleIPath(prefixPath + textures.get(i) + ".png");
+      }
+    }
+  }
+
+  private AutoTiler() {}
+
+  /**
+   * Get the texture for the tile at the given position of the layout.
+   *
+   * @param layout The level.
+   * @param x x-Position of the tile in the layout.
+   * @param y y-Position of the tile in the layout.
+   * @param element The type of the tile (the element stored in the layout at this position is
+   *     ignored).
+   * @param design The design of the tile.
+   * @return Path to the texture.
+   */
+  public static IPath texturePath(
+      final LevelElement[][] layout,
+      int x,
+      int y,
+      final LevelElement element,
+      final DesignLabel design) {
+    int key =
+        key(
+            at(layout, x, y + 1),
+            at(layout, x, y - 1),
+            at(layout, x - 1, y),
+            at(layout, x + 1, y),
+            at(layout, x - 1, y + 1),
+            at(layout, x + 1, y + 1),
+            at(layout, x - 1, y - 1),
+            at(layout, x + 1, y - 1));
+    return texturePath(element, design, key);
+  }
+
+  /**
+   * Get the texture for the tile at the given position of the layout.
+   *
+   * @param layout The level.
+   * @param x x-Position of the tile in the layout.
+   * @param y y-Position of the tile in the layout.
+   * @param element The type of the tile (the tile stored in the layout at this position is
+   *     ignored).
+   * @param design The design of the tile.
+   * @return Path to the texture.
+   */
+  public static IPath texturePath(
+      final Tile[][] layout, int x, int y, final LevelElement element, final DesignLabel design) {
+    int key =
+        key(
+            at(layout, x, y + 1),
+            at(layout, x, y - 1),
+            at(layout, x - 1, y),
+            at(layout, x + 1, y),
+            at(layout, x - 1, y + 1),
+            at(layout, x + 1, y + 1),
+            at(layout, x - 1, y - 1),
+            at(layout, x + 1, y - 1));
+    return texturePath(element, design, key);
+  }
+
+  private static IPath texturePath(final LevelElement element, final DesignLabel design, int key) {
+    return PATHS[design.ordinal()][TEXTURES[element.ordinal()][key]];
+  }
+
+  /**
+   * Pack the classes of the eight neighbours into a key.
+   *
+   * @return The key of the neighbourhood (0 to {@link #KEYS} - 1).
+   */
+  private static int key(
+      final LevelElement above,
+      final LevelElement below,
+      final LevelElement left,
+      final LevelElement right,
+      final LevelElement upperLeft,
+      final LevelElement upperRight,
+      final LevelElement bottomLeft,
+      final LevelElement bottomRight) {
+    int orthogonal =
+        orthogonalClass(above)
+            + ORTHOGONAL_CLASSES
+                * (orthogonalClass(below)
+                    + ORTHOGONAL_CLASSES
+                        * (orthogonalClass(left) + ORTHOGONAL_CLASSES * orthogonalClass(right)));
+    int diagonal =
+        diagonalClass(upperLeft)
+            + DIAGONAL_CLASSES
+                * (diagonalClass(upperRight)
+                    + DIAGONAL_CLASSES
+                        * (diagonalClass(bottomLeft)
+                            + DIAGONAL_CLASSES * diagonalClass(bottomRight)));
+    return orthogonal + DIAGONAL_OFFSET * diagonal;
+  }
+
+  /** Inverse of {@link #key}: write an example neighbourhood for the key around [1][1]. */
+  private static void fillNeighbourhood(final LevelElement[][] neighbourhood, int key) {
+    int orthogonal = key % DIAGONAL_OFFSET;
+    int diagonal = key / DIAGONAL_OFFSET;
+    neighbourhood[2][1] = ORTHOGONAL_ELEMENTS[orthogonal % ORTHOGONAL_CLASSES];
+    orthogonal /= ORTHOGONAL_CLASSES;
+    neighbourhood[0][1] = ORTHOGONAL_ELEMENTS[orthogonal % ORTHOGONAL_CLASSES];
+    orthogonal /= ORTHOGONAL_CLASSES;
+    neighbourhood[1][0] = ORTHOGONAL_ELEMENTS[orthogonal % ORTHOGONAL_CLASSES];
+    orthogonal /= ORTHOGONAL_CLASSES;
+    neighbourhood[1][2] = ORTHOGONAL_ELEMENTS[orthogonal];
+    neighbourhood[2][0] = DIAGONAL_ELEMENTS[diagonal % DIAGONAL_CLASSES];
+    diagonal /= DIAGONAL_CLASSES;
+    neighbourhood[2][2] = DIAGONAL_ELEMENTS[diagonal % DIAGONAL_CLASSES];
+    diagonal /= DIAGONAL_CLASSES;
+    neighbourhood[0][0] = DIAGONAL_ELEMENTS[diagonal % DIAGONAL_CLASSES];
+    diagonal /= DIAGONAL_CLASSES;
+    neighbourhood[0][2] = DIAGONAL_ELEMENTS[diagonal];
+  }
+
+  private static int orthogonalClass(final LevelElement element) {
+    if (element == null) return 0;
+    return switch (element) {
+      case FLOOR, EXIT -> 1;
+      case WALL -> 2;
+      case HOLE -> 3;
+      case DOOR -> 4;
+      default -> 0;
+    };
+  }
+
+  private static int diagonalClass(final LevelElement element) {
+    if (element == null) return 0;
+    return switch (element) {
+      case FLOOR, EXIT, DOOR -> 1;
+      case HOLE -> 2;
+      default -> 0;
+    };
+  }
+
+  private static LevelElement at(final LevelElement[][] layout, int x, int y) {
+    if (y < 0 || y >= layout.length || x < 0 || x >= layout[y].length) return null;
+    return layout[y][x];
+  }
+
+  private static LevelElement at(final Tile[][] layout, int x, int y) {
+    if (y < 0 || y >= layout.length || x < 0 || x >= layout[y].length) return null;
+    Tile tile = layout[y][x];
+    return tile == null ? null : tile.levelElement();
+  }
+}
@@ -0,0 +1,232 @@
+package core.level.utils;
+
+import core.level.Tile;
+import core.level.elements.ILevel;
+import java.util.BitSet;
+
+/**
+ * Field of view on a level, calculated with recursive shadowcasting.
+ *
+ * <p>The level is reduced to an opacity bitmap with one bit per tile: walls (and {@link
+ * LevelElement#SKIP} tiles) block the view, all other tiles (floors, doors, exits and holes) don't.
+ * The bitmap is built once and then kept up to date with {@link #tileChanged(Tile)}.
+ *
+ * <p>{@link #compute(int, int, int)} calculates the tiles that can be seen from a tile, each of the
+ * eight octants around the origin is scanned row by row, and areas behind opaque tiles are skipped
+ * as a whole. Opaque tiles that can be seen are visible themselves, so the walls of a room are
+ * shown. The visible tiles and all tiles that were visible at least once (the explored tiles) are
+ * stored as bitsets with one bit per tile, in row-major order.
+ *
+ * @see core.systems.FogOfWarSystem
+ */
+public final class FieldOfView {
+
+  // transformations of the first octant into the eight octants (xx, xy, yx, yy)
+  private static final int[][] OCTANTS = {
+    {1, 0, 0, -1}, {0, 1, -1, 0}, {0, -1, -1, 0}, {-1, 0, 0, -1},
+    {-1, 0, 0, 1}, {0, -1, 1, 0}, {0, 1, 1, 0}, {1, 0, 0, 1},
+  };
+
+  private final ILevel level;
+  private final int width;
+  private final int height;
+  private final BitSet opaque;
+  private final BitSet visible;
+  private final BitSet explored;
+
+  // bounds of the last calculated area, to clear only these rows on the next calculation
+  private int minX = 0;
+  private int minY = 0;
+  private int maxX = -1;
+  private int maxY = -1;
+
+  private int originX;
+  private int originY;
+  private int radius;
+  private int radiusSquared;
+
+  /**
+   * Create a new field of view for the given level.
+   *
+   * <p>Nothing is visible or explored until {@link #compute(int, int, int)} is called.
+   *
+   * @param level Level to calculate the field of view on.
+   */
+  public FieldOfView(final ILevel level) {
+    this.level = level;
+    Tile[][] layout = level.layout();
+    height = layout.length;
+    width = height == 0 ? 0 : layout[0].length;
+    opaque = new BitSet(width * height);
+    visible = new BitSet(width * height);
+    explored = new BitSet(width * height);
+    for (int y = 0; y < height; y++) {
+      for (int x = 0; x < width; x++) {
+        if (isOpaque(layout[y][x])) opaque.set(y * width + x);
+      }
+    }
+  }
+
+  /**
+   * Get the level of this field of view.
+   *
+   * @return The level.
+   */
+  public ILevel level() {
+    return level;
+  }
+
+  /**
+   * Calculate the tiles that are visible from the given tile.
+   *
+   * <p>All previously visible tiles are reset. The visible tiles are added to the explored tiles.
+   *
+   * @param x x-index of the origin.
+   * @param y y-index of the origin.
+   * @param radius Maximal distance of a visible tile to the origin, in tiles.
+   */
+  public void compute(int x, int y, int radius) {
+    for (int row = minY; row <= maxY; row++) {
+      visible.clear(row * width + minX, row * width + maxX + 1);
+    }
+    if (!inside(x, y) || radius < 0) {
+      maxX = maxY = -1;
+      return;
+    }
+    originX = x;
+    originY = y;
+    this.radius = radius;
+    radiusSquared = radius * radius;
+    minX = Math.max(0, x - radius);
+    minY = Math.max(0, y - radius);
+    maxX = Math.min(width - 1, x + radius);
+    maxY = Math.min(height - 1, y + radius);
+
+    see(x, y);
+    for (int[] octant : OCTANTS) castLight(1, 1f, 0f, octant[0], octant[1], octant[2], octant[3]);
+  }
+
+  /**
+   * Update the opacity of a changed tile.
+   *
+   * <p>The field of view is not calculated again, call {@link #compute(int, int, int)} if needed.
+   * Can be registered as a listener with {@link ILevel#addTileChangeListener}.
+   *
+   * @param tile The new tile.
+   */
+  public void tileChanged(final Tile tile) {
+    int x = tile.coordinate().x;
+    int y = tile.coordinate().y;
+    if (inside(x, y)) opaque.set(y * width + x, isOpaque(tile));
+  }
+
+  /**
+   * Check if the tile at the given position can be seen from the last origin.
+   *
+   * @param x x-index of the tile.
+   * @param y y-index of the tile.
+   * @return true if the tile is visible, false if not or if it is outside the level.
+   */
+  public boolean isVisible(int x, int y) {
+    return inside(x, y) && visible.get(y * width + x);
+  }
+
+  /**
+   * Check if the tile at the given position was visible at least once.
+   *
+   * @param x x-index of the tile.
+   * @param y y-index of the tile.
+   * @return true if the tile was explored, false if not or if it is outside the level.
+   */
+  public boolean isExplored(int x, int y) {
+    return inside(x, y) && explored.get(y * width + x);
+  }
+
+  /**
+   * Check if the tile at the given position blocks the view.
+   *
+   * @param x x-index of the tile.
+   * @param y y-index of the tile.
+   * @return true if the tile is opaque or outside the level, false if not.
+   */
+  public boolean isOpaque(int x, int y) {
+    return !inside(x, y) || opaque.get(y * width + x);
+  }
+
+  /**
+   * Get the number of visible tiles.
+   *
+   * @return Number of tiles visible from the last origin.
+   */
+  public int visibleTiles() {
+    return visible.cardinality();
+  }
+
+  /**
+   * Get the number of explored tiles.
+   *
+   * @return Number of tiles that were visible at least once.
+   */
+  public int exploredTiles() {
+    return explored.cardinality();
+  }
+
+  /**
+   * Scan one octant, starting at the given row, between the given slopes.
+   *
+   * <p>The slopes are measured from the origin; everything outside of start and end is in the
+   * shadow of an opaque tile. When an opaque tile ends a run of transparent tiles, the next rows
+   * are scanned recursively with the narrower slopes.
+   */
+  private void castLight(int row, float start, float end, int xx, int xy, int yx, int yy) {
+    if (start < end) return;
+    float newStart = 0;
+    for (int distance = row; distance <= radius; distance++) {
+      int dy = -distance;
+      boolean blocked = false;
+      for (int dx = -distance; dx <= 0; dx++) {
+        float leftSlope = (dx - 0.5f) / (dy + 0.5f);
+        float rightSlope = (dx + 0.5f) / (dy - 0.5f);
+        if (start < rightSlope) continue;
+        if (end > leftSlope) break;
+
+        int x = originX + dx * xx + dy * xy;
+        int y = originY + dx * yx + dy * yy;
+        if (dx * dx + dy * dy <= radiusSquared && inside(x, y)) see(x, y);
+
+        boolean opaqueTile = isOpaque(x, y);
+        if (blocked) {
+          if (opaqueTile) {
+            newStart = rightSlope;
+          } else {
+            blocked = false;
+            start = newStart;
+          }
+        } else if (opaqueTile && distance < radius) {
+          blocked = true;
+          castLight(distance + 1, start, leftSlope, xx, xy, yx, yy);
+          newStart = rightSlope;
+        }
+      }
+      if (blocked) break;
+    }
+  }
+
+  private void see(int x, int y) {
+    int index = y * width + x;
+    visible.set(index);
+    explored.set(index);
+  }
+
+  private boolean inside(int x, int y) {
+    return x >= 0 && y >= 0 && x < width && y < height;
+  }
+
+  private static boolean isOpaque(final Tile tile) {
+    return tile == null || isOpaque(tile.levelElement());
+  }
+
+  static boolean isOpaque(final LevelElement element) {
+    return element == LevelElement.WALL || element == LevelElement.SKIP;
+  }
+}
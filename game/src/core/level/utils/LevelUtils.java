@@ -5,7 +5,8 @@ import core.Entity;
 import core.Game;
 import core.components.PositionComponent;
 import core.level.Tile;
-import core.level.elements.tile.DoorTile;
+import core.level.elements.astar.AsyncPathFinder.PathRequest;
+import core.level.elements.astar.FlowField;
 import core.utils.Point;
 import core.utils.components.MissingComponentException;
 import java.util.*;
@@ -14,6 +15,9 @@ import java.util.*;
 public final class LevelUtils {
 
   private static final Random RANDOM = new Random();
+  // the range queries are made on the game thread, so the scratch buffers can be shared
+  private static final RangeQuery RANGE_QUERY = new RangeQuery();
+  private static final List<Tile> TILES = new ArrayList<>();
 
   /**
    * Finds the path from the given point to another given point.
@@ -41,10 +45,47 @@ public final class LevelUtils {
     return Game.findPath(Game.tileAT(from), Game.tileAT(to));
   }
 
+  /**
+   * Requests the path from the given point to another given point, the path is searched on a worker
+   * thread.
+   *
+   * <p>The request is completed in a later frame, keep following the previous path until {@link
+   * PathRequest#isDone()}. See {@link core.level.elements.astar.AsyncPathFinder}.
+   *
+   * <p>Throws an IllegalArgumentException if the tile at 'from' or 'to' is non-accessible.
+   *
+   * @param from The start point.
+   * @param to The end point.
+   * @return Request of the path from the start point to the end point.
+   */
+  public static PathRequest requestPath(final Point from, final Point to) {
+    return Game.currentLevel().asyncPathFinder().request(Game.tileAT(from), Game.tileAT(to));
+  }
+
+  /**
+   * Requests the path to a random (accessible) tile in the given radius, starting from the given
+   * point, the path is searched on a worker thread.
+   *
+   * <p>Like {@link #calculatePathToRandomTileInRange(Point, float)}, but the path is searched like
+   * in {@link #requestPath(Point, Point)}.
+   *
+   * @param point The start point.
+   * @param radius Radius in which the tiles are to be considered.
+   * @return Request of the path from the center point to the randomly selected tile.
+   */
+  public static PathRequest requestPathToRandomTileInRange(final Point point, float radius) {
+    Tile start = Game.tileAT(point);
+    Tile end = randomReachableTileInRange(point, radius).orElse(start);
+    return Game.currentLevel().asyncPathFinder().request(start, end);
+  }
+
   /**
    * Finds the path to a random (accessible) tile in the given radius, starting from the given
    * point.
    *
+   * <p>Only tiles that can be reached without leaving the range are considered (see {@link
+   * #randomReachableTileInRange(Point, float)}).
+   *
    * <p>If there is no accessible tile in the range, the path will be calculated from the given
    * start point to the given start point.
    *
@@ -55,9 +96,9 @@ public final class LevelUtils {
    * @return Path from the center point to the randomly selected tile.
    */
   public static GraphPath<Tile> calculatePathToRandomTileInRange(final Point point, float radius) {
-    Coordinate newPosition =
-        randomAccessibleTileCoordinateInRange(point, radius).orElse(point.toCoordinate());
-    return calculatePath(point.toCoordinate(), newPosition);
+    Tile start = Game.tileAT(point);
+    Tile end = randomReachableTileInRange(point, radius).orElse(start);
+    return Game.findPath(start, end);
   }
 
   /**
@@ -120,6 +161,28 @@ public final class LevelUtils {
     else return calculatePath(entity, entity);
   }
 
+  /**
+   * Get the next tile on a shortest path from the position of the entity to the hero.
+   *
+   * <p>Uses the {@link core.level.elements.astar.FlowField} of the current level. Its distances are
+   * only calculated again if the hero moved to another tile, so the cost of this method doesn't
+   * depend on the number of entities that chase the hero.
+   *
+   * @param entity Entity that moves to the hero.
+   * @return The next tile, or an empty optional if there is no hero, the entity is on the tile of
+   *     the hero, or the hero can't be reached.
+   */
+  public static Optional<Tile> nextTileToHero(final Entity entity) {
+    Optional<Entity> hero = Game.hero();
+    if (hero.isEmpty()) return Optional.empty();
+    Tile heroTile = Game.tileAT(Game.positionOf(hero.get()));
+    Tile tile = Game.tileAT(Game.positionOf(entity));
+    if (heroTile == null || tile == null) return Optional.empty();
+    FlowField flowField = Game.currentLevel().flowField();
+    flowField.target(heroTile);
+    return Optional.ofNullable(flowField.next(tile));
+  }
+
   /**
    * Get the last Tile in the given GraphPath.
    *
@@ -141,74 +204,12 @@ public final class LevelUtils {
    * @param center The center point around which the tiles are considered.
    * @param radius The radius within which the tiles should be located.
    * @return List of tiles in the given radius around the center point.
+   * @see RangeQuery
    */
   public static List<Tile> tilesInRange(final Point center, float radius) {
-    // offset of neighbour Tiles which may not be accessible
-    Coordinate[] offsets =
-        new Coordinate[] {
-          new Coordinate(-1, -1),
-          new Coordinate(0, -1),
-          new Coordinate(1, -1),
-          new Coordinate(-1, 0),
-          new Coordinate(1, 0),
-          new Coordinate(-1, 1),
-          new Coordinate(0, 1),
-          new Coordinate(1, 1),
-        };
-    // all found tiles
-    Set<Tile> tiles = new HashSet<>();
-    // BFS queue
-    Queue<Tile> tileQueue = new ArrayDeque<>();
-    Tile start = Game.tileAT(center);
-    if (start != null) tileQueue.add(start);
-    while (tileQueue.size() > 0) {
-      Tile current = tileQueue.remove();
-      boolean added = tiles.add(current);
-      if (added) {
-        // Tile is a new Tile so add the neighbours to be checked
-        for (Coordinate offset : offsets) {
-          Tile tile = current.level().tileAt(current.coordinate().add(offset));
-          if (tile != null && isInRange(center, radius, tile)) tileQueue.add(tile);
-        }
-      }
-    }
-    tiles.removeIf(Objects::isNull);
-    return new ArrayList<>(tiles);
-  }
-
-  private static boolean isInRange(final Point center, float radius, final Tile tile) {
-    return isAnyCornerOfTileInRadius(center, radius, tile)
-        || isPointBarelyInTile(center, radius, tile);
-  }
-
-  private static boolean isPointBarelyInTile(final Point center, float radius, final Tile tile) {
-    // left max distance
-    Point xMin = new Point(-radius, 0).add(center);
-    // right max distance
-    Point xMax = new Point(radius, 0).add(center);
-    // up max distance
-    Point yMin = new Point(0, -radius).add(center);
-    // down max distance
-    Point yMax = new Point(0, radius).add(center);
-    return isPointInTile(xMin, tile)
-        || isPointInTile(xMax, tile)
-        || isPointInTile(yMin, tile)
-        || isPointInTile(yMax, tile);
-  }
-
-  private static boolean isPointInTile(final Point point, final Tile tile) {
-    return tile.coordinate().toPoint().x < point.x
-        && point.x < (tile.coordinate().toPoint().x + 1)
-        && tile.coordinate().toPoint().y < point.y
-        && point.y < (tile.coordinate().toPoint().y + 1);
-  }
-
-  private static boolean isAnyCornerOfTileInRadius(
-      final Point center, float radius, final Tile tile) {
-    return Point.inRange(center, tile.coordinate().toPoint(), radius)
-        || Point.inRange(center, tile.coordinate().toPoint(), radius)
-        || Point.inRange(center, tile.coordinate().toPoint(), radius)
-        || Point.inRange(center, tile.coordinate().toPoint(), radius);
+    List<Tile> tiles = new ArrayList<>();
+    RANGE_QUERY.tilesInRange(Game.currentLevel(), center, radius, tiles);
+    return tiles;
   }
 
   /**
@@ -221,13 +222,31 @@ public final class LevelUtils {
    * @param center The center point around which the tiles are considered.
    * @param radius The radius within which the accessible tiles should be located.
    * @return List of accessible tiles in the given radius around the center point.
+   * @see RangeQuery
    */
   public static List<Tile> accessibleTilesInRange(final Point center, float radius) {
-    List<Tile> tiles = tilesInRange(center, radius);
-    tiles.removeIf(tile -> !tile.isAccessible() && !(tile instanceof DoorTile));
+    List<Tile> tiles = new ArrayList<>();
+    RANGE_QUERY.accessibleTilesInRange(Game.currentLevel(), center, radius, tiles);
     return tiles;
   }
 
+  /**
+   * Add all accessible tiles within a specified range around a given center point, that can be
+   * reached from the center without leaving the range, to the given list.
+   *
+   * <p>The tiles are added nearest first. Use this with a reused list to avoid garbage, e.g., for
+   * decisions that are made for many monsters.
+   *
+   * @param center The center point around which the tiles are considered.
+   * @param radius The radius within which the accessible tiles should be located.
+   * @param out List to add the tiles to, the list is not cleared.
+   * @return Number of added tiles.
+   * @see RangeQuery#reachableTilesInRange
+   */
+  public static int reachableTilesInRange(final Point center, float radius, final List<Tile> out) {
+    return RANGE_QUERY.reachableTilesInRange(Game.currentLevel(), center, radius, out);
+  }
+
   /**
    * Get a random accessible tile coordinate within a specified range around a given center point.
    *
@@ -242,12 +261,34 @@ public final class LevelUtils {
    */
   public static Optional<Coordinate> randomAccessibleTileCoordinateInRange(
       final Point center, float radius) {
-    List<Tile> tiles = accessibleTilesInRange(center, radius);
-    if (tiles.isEmpty()) return Optional.empty();
-    Coordinate newPosition = tiles.get(RANDOM.nextInt(tiles.size())).coordinate();
+    TILES.clear();
+    RANGE_QUERY.accessibleTilesInRange(Game.currentLevel(), center, radius, TILES);
+    if (TILES.isEmpty()) return Optional.empty();
+    Coordinate newPosition = TILES.get(RANDOM.nextInt(TILES.size())).coordinate();
+    TILES.clear();
     return Optional.of(newPosition);
   }
 
+  /**
+   * Get a random tile within a specified range around a given center point, that can be reached
+   * from the center without leaving the range.
+   *
+   * <p>The tile at the given point can be the return value as well if it is accessible.
+   *
+   * @param center The center point around which the tiles are considered.
+   * @param radius The radius within which the tile should be located.
+   * @return An Optional containing the random tile, or an empty Optional if the tile at the center
+   *     is not accessible.
+   */
+  public static Optional<Tile> randomReachableTileInRange(final Point center, float radius) {
+    TILES.clear();
+    RANGE_QUERY.reachableTilesInRange(Game.currentLevel(), center, radius, TILES);
+    if (TILES.isEmpty()) return Optional.empty();
+    Tile tile = TILES.get(RANDOM.nextInt(TILES.size()));
+    TILES.clear();
+    return Optional.of(tile);
+  }
+
   /**
    * Check if two entities are positioned in a specified range from each other.
    *
@@ -284,4 +325,21 @@ public final class LevelUtils {
     Optional<Entity> hero = Game.hero();
     return hero.filter(value -> entityInRange(entity, value, range)).isPresent();
   }
+
+  /**
+   * Check if the player can be seen from an entity.
+   *
+   * <p>Uses the {@link LineOfSight} of the current level, so the check is cached per pair of tiles.
+   *
+   * @param entity Entity that looks for the player.
+   * @return True if no opaque tile is between the tile of the entity and the tile of the player. If
+   *     there is no hero, return false.
+   */
+  public static boolean playerVisible(final Entity entity) {
+    Optional<Entity> hero = Game.hero();
+    if (hero.isEmpty()) return false;
+    return Game.currentLevel()
+        .lineOfSight()
+        .visible(Game.positionOf(entity), Game.positionOf(hero.get()));
+  }
 }
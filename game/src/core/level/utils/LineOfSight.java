@@ -0,0 +1,249 @@
+package core.level.utils;
+
+import core.level.Tile;
+import core.level.elements.ILevel;
+import core.utils.Point;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Checks if two tiles of a level can see each other.
+ *
+ * <p>The level is reduced to an opacity bitmap with one bit per tile, with the same rules as the
+ * {@link FieldOfView}: walls (and {@link LevelElement#SKIP} tiles) block the view, all other tiles
+ * don't. The bitmap is built with the first query and then kept up to date with {@link
+ * #tileChanged(Tile)}.
+ *
+ * <p>A ray goes from the center of one tile to the center of the other tile. The tiles it crosses
+ * are traversed with a digital differential analyzer (DDA), so each tile on the ray is checked
+ * exactly once and no floating point math is needed. If the ray passes exactly through the corner
+ * of four tiles, it is only blocked if both tiles beside the corner are opaque. The two tiles at
+ * the ends of the ray don't block it, so the ray is symmetric.
+ *
+ * <p>The results are stored in a fixed-size cache, keyed by the pair of tiles. Because a result
+ * only depends on the opacity of the tiles, the cache is only cleared if the opacity of a tile
+ * changes, e.g., many monsters checking if they can see the same hero reuse the result as long as
+ * nobody moves to another tile.
+ *
+ * <p>The line of sight is not thread-safe.
+ */
+public final class LineOfSight {
+
+  // the cache has 2^CACHE_BITS results
+  private static final int CACHE_BITS = 12;
+  private static final int CACHE_SIZE = 1 << CACHE_BITS;
+
+  private final ILevel level;
+  private int width;
+  private int height;
+  // created with the first query
+  private BitSet opaque;
+  // cached result of a pair of tiles, only valid if the stamp is the current generation
+  private final long[] keys = new long[CACHE_SIZE];
+  private final boolean[] results = new boolean[CACHE_SIZE];
+  private final int[] stamps = new int[CACHE_SIZE];
+  private int generation = 1;
+  private long hits = 0;
+  private long misses = 0;
+
+  /**
+   * Create a new line of sight for the given level.
+   *
+   * @param level Level to check the line of sight on.
+   */
+  public LineOfSight(final ILevel level) {
+    this.level = level;
+  }
+
+  /**
+   * Check if the tiles of the given points can see each other.
+   *
+   * @param from The first point.
+   * @param to The second point.
+   * @return true if no opaque tile is between the tiles of the points, false if there is one or if
+   *     a point is outside the level.
+   */
+  public boolean visible(final Point from, final Point to) {
+    return visible((int) from.x, (int) from.y, (int) to.x, (int) to.y);
+  }
+
+  /**
+   * Check if the given tiles can see each other.
+   *
+   * @param from The first tile.
+   * @param to The second tile.
+   * @return true if no opaque tile is between the tiles, false if there is one.
+   */
+  public boolean visible(final Tile from, final Tile to) {
+    Coordinate a = from.coordinate();
+    Coordinate b = to.coordinate();
+    return visible(a.x, a.y, b.x, b.y);
+  }
+
+  /**
+   * Check if the tiles at the given positions can see each other.
+   *
+   * @param fromX x-index of the first tile.
+   * @param fromY y-index of the first tile.
+   * @param toX x-index of the second tile.
+   * @param toY y-index of the second tile.
+   * @return true if no opaque tile is between the tiles, false if there is one or if a tile is
+   *     outside the level.
+   */
+  public boolean visible(int fromX, int fromY, int toX, int toY) {
+    prepare();
+    if (!inside(fromX, fromY) || !inside(toX, toY)) return false;
+    long a = (long) fromY * width + fromX;
+    long b = (long) toY * width + toX;
+    // the ray is symmetric, so both directions share one entry
+    long key = Math.min(a, b) << 32 | Math.max(a, b);
+    int slot = (int) ((key * 0x9E3779B97F4A7C15L) >>> (Long.SIZE - CACHE_BITS));
+    if (stamps[slot] == generation && keys[slot] == key) {
+      hits++;
+      return results[slot];
+    }
+    misses++;
+    boolean result = blocker(fromX, fromY, toX, toY) < 0;
+    stamps[slot] = generation;
+    keys[slot] = key;
+    results[slot] = result;
+    return result;
+  }
+
+  /**
+   * Check which of the given points can be seen from one point.
+   *
+   * <p>Use this to check many entities against the same target, e.g., each ranged monster against
+   * the hero.
+   *
+   * @param from The point to look from.
+   * @param targets The points to check.
+   * @param out Stores at index i if target i is visible, must be at least as long as the targets.
+   * @return The number of visible targets.
+   */
+  public int visible(final Point from, final List<Point> targets, final boolean[] out) {
+    int count = 0;
+    for (int i = 0; i < targets.size(); i++) {
+      out[i] = visible(from, targets.get(i));
+      if (out[i]) count++;
+    }
+    return count;
+  }
+
+  /**
+   * Find the first opaque tile between the given tiles.
+   *
+   * <p>The result is not cached.
+   *
+   * @param from The tile the ray starts at.
+   * @param to The tile the ray ends at.
+   * @return An Optional containing the first opaque tile on the ray from the first tile, or empty
+   *     if the tiles can see each other.
+   */
+  public Optional<Tile> raycast(final Tile from, final Tile to) {
+    prepare();
+    Coordinate a = from.coordinate();
+    Coordinate b = to.coordinate();
+    if (!inside(a.x, a.y) || !inside(b.x, b.y)) return Optional.empty();
+    int blocker = blocker(a.x, a.y, b.x, b.y);
+    if (blocker < 0) return Optional.empty();
+    return Optional.of(level.layout()[blocker / width][blocker % width]);
+  }
+
+  /**
+   * Update the opacity of a changed tile.
+   *
+   * <p>The cache is only cleared if the opacity of the tile changed.
+   *
+   * @param tile The new tile.
+   */
+  public void tileChanged(final Tile tile) {
+    if (opaque == null) return;
+    Coordinate coordinate = tile.coordinate();
+    if (!inside(coordinate.x, coordinate.y)) return;
+    int index = coordinate.y * width + coordinate.x;
+    boolean isOpaque = FieldOfView.isOpaque(tile.levelElement());
+    if (opaque.get(index) == isOpaque) return;
+    opaque.set(index, isOpaque);
+    clearCache();
+  }
+
+  /** Remove all cached results. */
+  public void clearCache() {
+    generation++;
+  }
+
+  /**
+   * Get the number of queries that were answered from the cache.
+   *
+   * @return Number of hits.
+   */
+  public long hits() {
+    return hits;
+  }
+
+  /**
+   * Get the number of queries that had to cast the ray.
+   *
+   * @return Number of misses.
+   */
+  public long misses() {
+    return misses;
+  }
+
+  /**
+   * Traverse the tiles between the given tiles.
+   *
+   * @return Index of the first opaque tile, or -1 if there is none.
+   */
+  private int blocker(int fromX, int fromY, int toX, int toY) {
+    int dx = Math.abs(toX - fromX);
+    int dy = Math.abs(toY - fromY);
+    int stepX = toX > fromX ? 1 : -1;
+    int stepY = toY > fromY ? 1 : -1;
+    // > 0: the ray leaves the tile through a vertical side first, < 0: through a horizontal side
+    int error = dx - dy;
+    int x = fromX;
+    int y = fromY;
+    while (x != toX || y != toY) {
+      if (error > 0) {
+        x += stepX;
+        error -= 2 * dy;
+      } else if (error < 0) {
+        y += stepY;
+        error += 2 * dx;
+      } else {
+        if (isOpaque(x + stepX, y) && isOpaque(x, y + stepY)) return y * width + x + stepX;
+        x += stepX;
+        y += stepY;
+        error += 2 * dx - 2 * dy;
+      }
+      if ((x != toX || y != toY) && isOpaque(x, y)) return y * width + x;
+    }
+    return -1;
+  }
+
+  private void prepare() {
+    Tile[][] layout = level.layout();
+    int newHeight = layout.length;
+    int newWidth = newHeight == 0 ? 0 : layout[0].length;
+    if (opaque != null && newWidth == width && newHeight == height) return;
+    width = newWidth;
+    height = newHeight;
+    opaque = new BitSet(width * height);
+    for (int y = 0; y < height; y++)
+      for (int x = 0; x < width; x++)
+        if (layout[y][x] == null || FieldOfView.isOpaque(layout[y][x].levelElement()))
+          opaque.set(y * width + x);
+    clearCache();
+  }
+
+  private boolean isOpaque(int x, int y) {
+    return !inside(x, y) || opaque.get(y * width + x);
+  }
+
+  private boolean inside(int x, int y) {
+    return x >= 0 && y >= 0 && x < width && y < height;
+  }
+}
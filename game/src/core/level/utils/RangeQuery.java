@@ -0,0 +1,221 @@
+package core.level.utils;
+
+import core.level.Tile;
+import core.level.elements.ILevel;
+import core.level.elements.tile.DoorTile;
+import core.utils.Point;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Finds the tiles in a radius around a point without creating garbage.
+ *
+ * <p>For each integer radius, a disc mask with the offsets of all tiles that can be in range is
+ * calculated once and shared. The offsets are sorted by their distance to the center tile, so the
+ * tiles are found ring by ring, nearest first. A query only checks the tiles of the mask and adds
+ * the tiles in range to a list given by the caller, so a reused list doesn't allocate.
+ *
+ * <p>A tile is in range if its position (the lower left corner) is in the radius, or if one of the
+ * four points at the distance of the radius on the axes through the center is inside the tile. The
+ * tile at the center is always in range.
+ *
+ * <p>{@link #reachableTilesInRange} only returns the tiles that can be reached from the center
+ * without leaving the range, with a breadth-first search. The visited marks and the queue of the
+ * search are stored in this object and reused, a search only increases the generation of the marks
+ * instead of clearing them.
+ *
+ * <p>A range query is not thread-safe, use one object per thread.
+ */
+public final class RangeQuery {
+
+  private static final int[] OFFSETS_X = {0, 0, 1, -1};
+  private static final int[] OFFSETS_Y = {1, -1, 0, 0};
+
+  // offsets of the disc mask for each integer radius, packed as (dx << 16) | (dy & 0xFFFF)
+  private static final List<int[]> DISCS = new ArrayList<>();
+
+  private int width;
+  private int[] stamps = new int[0];
+  private int[] queue = new int[0];
+  private int generation = 0;
+
+  /**
+   * Get the disc mask for the given radius.
+   *
+   * <p>The mask contains the offset (relative to the tile of the center) of each tile that can be
+   * in range of a center anywhere in the center tile, sorted by the distance to the center tile.
+   *
+   * @param radius The radius.
+   * @return The packed offsets, use {@link #offsetX(int)} and {@link #offsetY(int)} to unpack.
+   */
+  public static synchronized int[] disc(int radius) {
+    while (DISCS.size() <= radius) DISCS.add(createDisc(DISCS.size()));
+    return DISCS.get(radius);
+  }
+
+  /**
+   * Get the x-offset of a packed offset of a disc mask.
+   *
+   * @param offset The packed offset.
+   * @return The x-offset.
+   */
+  public static int offsetX(int offset) {
+    return offset >> 16;
+  }
+
+  /**
+   * Get the y-offset of a packed offset of a disc mask.
+   *
+   * @param offset The packed offset.
+   * @return The y-offset.
+   */
+  public static int offsetY(int offset) {
+    return (short) offset;
+  }
+
+  /**
+   * Add all tiles in range to the given list.
+   *
+   * @param level The level.
+   * @param center The center point.
+   * @param radius The radius.
+   * @param out List to add the tiles to, the list is not cleared.
+   * @return The number of added tiles.
+   */
+  public int tilesInRange(
+      final ILevel level, final Point center, float radius, final List<Tile> out) {
+    return query(level, center, radius, false, out);
+  }
+
+  /**
+   * Add all accessible tiles in range to the given list.
+   *
+   * <p>Doors count as accessible, even if they are closed.
+   *
+   * @param level The level.
+   * @param center The center point.
+   * @param radius The radius.
+   * @param out List to add the tiles to, the list is not cleared.
+   * @return The number of added tiles.
+   */
+  public int accessibleTilesInRange(
+      final ILevel level, final Point center, float radius, final List<Tile> out) {
+    return query(level, center, radius, true, out);
+  }
+
+  /**
+   * Add all accessible tiles in range that can be reached from the center to the given list.
+   *
+   * <p>The tiles are connected like in the pathfinding (no diagonal steps), and a path may not
+   * leave the range. If the tile at the center is not accessible, no tile is reachable.
+   *
+   * @param level The level.
+   * @param center The center point.
+   * @param radius The radius.
+   * @param out List to add the tiles to, the list is not cleared.
+   * @return The number of added tiles.
+   */
+  public int reachableTilesInRange(
+      final ILevel level, final Point center, float radius, final List<Tile> out) {
+    Tile[][] layout = level.layout();
+    int cx = (int) center.x;
+    int cy = (int) center.y;
+    Tile start = tile(layout, cx, cy);
+    if (start == null || !accessible(start)) return 0;
+    prepare(layout);
+    int head = 0;
+    int tail = 0;
+    stamps[cy * width + cx] = generation;
+    queue[tail++] = cy * width + cx;
+    while (head < tail) {
+      int current = queue[head++];
+      int x = current % width;
+      int y = current / width;
+      out.add(layout[y][x]);
+      for (int i = 0; i < OFFSETS_X.length; i++) {
+        int nx = x + OFFSETS_X[i];
+        int ny = y + OFFSETS_Y[i];
+        Tile tile = tile(layout, nx, ny);
+        if (tile == null || stamps[ny * width + nx] == generation) continue;
+        stamps[ny * width + nx] = generation;
+        if (accessible(tile) && inRange(center.x, center.y, radius, nx, ny))
+          queue[tail++] = ny * width + nx;
+      }
+    }
+    return tail;
+  }
+
+  private int query(
+      final ILevel level, final Point center, float radius, boolean accessible, List<Tile> out) {
+    Tile[][] layout = level.layout();
+    int cx = (int) center.x;
+    int cy = (int) center.y;
+    if (tile(layout, cx, cy) == null) return 0;
+    int[] disc = disc(Math.max(0, (int) Math.ceil(radius)));
+    int count = 0;
+    for (int offset : disc) {
+      int x = cx + offsetX(offset);
+      int y = cy + offsetY(offset);
+      Tile tile = tile(layout, x, y);
+      if (tile == null || (accessible && !accessible(tile))) continue;
+      if ((x == cx && y == cy) || inRange(center.x, center.y, radius, x, y)) {
+        out.add(tile);
+        count++;
+      }
+    }
+    return count;
+  }
+
+  private void prepare(final Tile[][] layout) {
+    int size = layout.length * layout[0].length;
+    if (stamps.length != size) {
+      stamps = new int[size];
+      queue = new int[size];
+      generation = 0;
+    }
+    width = layout[0].length;
+    generation++;
+  }
+
+  private static boolean accessible(final Tile tile) {
+    return tile.isAccessible() || tile instanceof DoorTile;
+  }
+
+  private static Tile tile(final Tile[][] layout, int x, int y) {
+    if (y < 0 || y >= layout.length || x < 0 || x >= layout[y].length) return null;
+    return layout[y][x];
+  }
+
+  private static boolean inRange(float cx, float cy, float radius, int x, int y) {
+    float dx = cx - x;
+    float dy = cy - y;
+    if ((float) Math.sqrt(dx * dx + dy * dy) <= radius) return true;
+    return inTile(cx - radius, cy, x, y)
+        || inTile(cx + radius, cy, x, y)
+        || inTile(cx, cy - radius, x, y)
+        || inTile(cx, cy + radius, x, y);
+  }
+
+  private static boolean inTile(float px, float py, int x, int y) {
+    return x < px && px < x + 1 && y < py && py < y + 1;
+  }
+
+  private static int[] createDisc(int radius) {
+    // a tile can be in range if its position is in the radius of some point of the center tile,
+    // the axis points of the radius are inside such tiles as well
+    int size = radius + 1;
+    List<int[]> offsets = new ArrayList<>();
+    for (int dy = -size; dy <= size; dy++)
+      for (int dx = -size; dx <= size; dx++) {
+        int ex = Math.max(0, Math.max(-dx, dx - 1));
+        int ey = Math.max(0, Math.max(-dy, dy - 1));
+        if (ex * ex + ey * ey <= radius * radius)
+          offsets.add(new int[] {dx, dy, ex * ex + ey * ey});
+      }
+    offsets.sort((a, b) -> Integer.compare(a[2], b[2]));
+    int[] disc = new int[offsets.size()];
+    for (int i = 0; i < disc.length; i++)
+      disc[i] = (offsets.get(i)[0] << 16) | (offsets.get(i)[1] & 0xFFFF);
+    return disc;
+  }
+}
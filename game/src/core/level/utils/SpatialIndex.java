@@ -0,0 +1,327 @@
+package core.level.utils;
+
+import core.Entity;
+import core.components.PositionComponent;
+import core.utils.Point;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Finds the entities at a tile or near a point without scanning all entities.
+ *
+ * <p>The index is a uniform grid: the level is divided into square cells of {@value #CELL_SIZE}x
+ * {@value #CELL_SIZE} tiles, and each entity is stored in the bucket of the cell that contains its
+ * position. The buckets are a fixed-size hash table, so the index doesn't depend on the size of the
+ * level. A query only checks the entities in the cells that overlap the queried area.
+ *
+ * <p>The index is maintained automatically: the {@link core.systems.PositionSystem} adds each
+ * entity with a {@link PositionComponent} and removes it again, and the {@link PositionComponent}
+ * informs the index about each change of the position (see {@link
+ * PositionComponent#onChange(Consumer)}). Entities at the {@link
+ * PositionComponent#ILLEGAL_POSITION} are not in any cell.
+ *
+ * <p>The tile of an entity is the tile that {@link core.Game#tileAT(Point)} returns for its
+ * position.
+ *
+ * <p>The index is not thread-safe.
+ */
+public final class SpatialIndex {
+
+  /** Width and height of a cell in tiles. */
+  public static final int CELL_SIZE = 4;
+
+  // number of buckets, a power of two
+  private static final int BUCKETS = 1024;
+  private static final SpatialIndex INSTANCE = new SpatialIndex();
+
+  private final Entry[] buckets = new Entry[BUCKETS];
+  private final Map<Entity, Entry> entries = new IdentityHashMap<>();
+  // bounds of the cells that contained an entity since the last clear
+  private int minCellX = Integer.MAX_VALUE;
+  private int minCellY = Integer.MAX_VALUE;
+  private int maxCellX = Integer.MIN_VALUE;
+  private int maxCellY = Integer.MIN_VALUE;
+  // k nearest entities of the last query, sorted by distance
+  private Entity[] nearest = new Entity[1];
+  private float[] distances = new float[1];
+
+  /**
+   * Create a new, empty index.
+   *
+   * <p>Use {@link #instance()} to get the index maintained by the {@link
+   * core.systems.PositionSystem}.
+   */
+  public SpatialIndex() {}
+
+  /**
+   * Get the index of the entities in the game.
+   *
+   * @return The index maintained by the {@link core.systems.PositionSystem}.
+   */
+  public static SpatialIndex instance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Add the entity to the index and keep track of its position.
+   *
+   * <p>If the entity is already in the index, it is only checked if the {@link PositionComponent}
+   * of the entity was replaced.
+   *
+   * @param entity Entity with a {@link PositionComponent}.
+   */
+  public void add(final Entity entity) {
+    PositionComponent pc = entity.fetch(PositionComponent.class).orElse(null);
+    Entry entry = entries.get(entity);
+    if (entry != null) {
+      if (entry.pc == pc) return;
+      remove(entity);
+    }
+    if (pc == null) return;
+    entry = new Entry(entity, pc);
+    entries.put(entity, entry);
+    pc.onChange(entry);
+    entry.accept(pc.position());
+  }
+
+  /**
+   * Remove the entity from the index.
+   *
+   * @param entity The entity to remove.
+   */
+  public void remove(final Entity entity) {
+    Entry entry = entries.remove(entity);
+    if (entry == null) return;
+    entry.unlink();
+    entry.pc.onChange(null);
+  }
+
+  /** Remove all entities from the index. */
+  public void clear() {
+    for (Entry entry : entries.values()) entry.pc.onChange(null);
+    entries.clear();
+    Arrays.fill(buckets, null);
+    minCellX = minCellY = Integer.MAX_VALUE;
+    maxCellX = maxCellY = Integer.MIN_VALUE;
+  }
+
+  /**
+   * Get the number of entities in the index.
+   *
+   * @return The number of entities, including the entities at an illegal position.
+   */
+  public int size() {
+    return entries.size();
+  }
+
+  /**
+   * Add the entities on the given tile to the list.
+   *
+   * @param x x-coordinate of the tile.
+   * @param y y-coordinate of the tile.
+   * @param out List to add the entities to, the list is not cleared.
+   * @return The number of added entities.
+   */
+  public int entitiesAt(int x, int y, final List<Entity> out) {
+    int cellX = Math.floorDiv(x, CELL_SIZE);
+    int cellY = Math.floorDiv(y, CELL_SIZE);
+    int count = 0;
+    for (Entry entry = buckets[bucket(cellX, cellY)]; entry != null; entry = entry.next)
+      if (entry.tileX == x && entry.tileY == y) {
+        out.add(entry.entity);
+        count++;
+      }
+    return count;
+  }
+
+  /**
+   * Check if there is an entity on the given tile.
+   *
+   * @param x x-coordinate of the tile.
+   * @param y y-coordinate of the tile.
+   * @return true if at least one entity is on the tile, false if not.
+   */
+  public boolean isOccupied(int x, int y) {
+    int cellX = Math.floorDiv(x, CELL_SIZE);
+    int cellY = Math.floorDiv(y, CELL_SIZE);
+    for (Entry entry = buckets[bucket(cellX, cellY)]; entry != null; entry = entry.next)
+      if (entry.tileX == x && entry.tileY == y) return true;
+    return false;
+  }
+
+  /**
+   * Add the entities in range of the given point to the list.
+   *
+   * @param center The center point.
+   * @param radius The radius, an entity is in range if the distance of its position to the center
+   *     is less than or equal to the radius.
+   * @param out List to add the entities to, the list is not cleared.
+   * @return The number of added entities.
+   */
+  public int entitiesInRange(final Point center, float radius, final List<Entity> out) {
+    if (minCellX > maxCellX || radius < 0) return 0;
+    int fromX = Math.max(minCellX, cell(center.x - radius));
+    int fromY = Math.max(minCellY, cell(center.y - radius));
+    int toX = Math.min(maxCellX, cell(center.x + radius));
+    int toY = Math.min(maxCellY, cell(center.y + radius));
+    int count = 0;
+    for (int cellY = fromY; cellY <= toY; cellY++)
+      for (int cellX = fromX; cellX <= toX; cellX++)
+        for (Entry entry = buckets[bucket(cellX, cellY)]; entry != null; entry = entry.next)
+          if (entry.cellX == cellX
+              && entry.cellY == cellY
+              && entry.distance(center.x, center.y) <= radius) {
+            out.add(entry.entity);
+            count++;
+          }
+    return count;
+  }
+
+  /**
+   * Add the nearest entities that match the filter to the list.
+   *
+   * <p>The cells are searched ring by ring around the cell of the center, the search stops as soon
+   * as no entity in the remaining rings can be nearer than the found entities.
+   *
+   * @param center The center point.
+   * @param k The maximum number of entities to find.
+   * @param maxRadius Only entities with a distance less than or equal to this radius are found.
+   * @param filter Only entities that match this filter are found.
+   * @param out List to add the entities to (nearest first), the list is not cleared.
+   * @return The number of added entities.
+   */
+  public int nearest(
+      final Point center,
+      int k,
+      float maxRadius,
+      final Predicate<Entity> filter,
+      final List<Entity> out) {
+    if (minCellX > maxCellX || k <= 0 || maxRadius < 0) return 0;
+    if (nearest.length < k) {
+      nearest = new Entity[k];
+      distances = new float[k];
+    }
+    int found = 0;
+    int centerX = cell(center.x);
+    int centerY = cell(center.y);
+    int rings =
+        Math.max(
+            Math.max(centerX - minCellX, maxCellX - centerX),
+            Math.max(centerY - minCellY, maxCellY - centerY));
+    for (int ring = 0; ring <= rings; ring++) {
+      // entities outside the rings searched so far are at least this far away
+      float searched = (float) ring * CELL_SIZE;
+      if (ring > 0 && (searched - CELL_SIZE > maxRadius)) break;
+      for (int cellY = centerY - ring; cellY <= centerY + ring; cellY++) {
+        // inner rows of a ring only have the first and the last cell
+        int step = cellY == centerY - ring || cellY == centerY + ring ? 1 : 2 * ring;
+        for (int cellX = centerX - ring; cellX <= centerX + ring; cellX += step)
+          found = searchCell(cellX, cellY, center, k, maxRadius, filter, found);
+      }
+      if (found == k && distances[k - 1] <= searched) break;
+    }
+    for (int i = 0; i < found; i++) {
+      out.add(nearest[i]);
+      nearest[i] = null;
+    }
+    return found;
+  }
+
+  private int searchCell(
+      int cellX,
+      int cellY,
+      final Point center,
+      int k,
+      float maxRadius,
+      final Predicate<Entity> filter,
+      int found) {
+    if (cellX < minCellX || cellX > maxCellX || cellY < minCellY || cellY > maxCellY) return found;
+    for (Entry entry = buckets[bucket(cellX, cellY)]; entry != null; entry = entry.next) {
+      if (entry.cellX != cellX || entry.cellY != cellY) continue;
+      float distance = entry.distance(center.x, center.y);
+      if (distance > maxRadius || (found == k && distance >= distances[k - 1])) continue;
+      if (!filter.test(entry.entity)) continue;
+      int i = found == k ? k - 1 : found++;
+      for (; i > 0 && distances[i - 1] > distance; i--) {
+        nearest[i] = nearest[i - 1];
+        distances[i] = distances[i - 1];
+      }
+      nearest[i] = entry.entity;
+      distances[i] = distance;
+    }
+    return found;
+  }
+
+  private static int cell(float position) {
+    return Math.floorDiv((int) position, CELL_SIZE);
+  }
+
+  private static int bucket(int cellX, int cellY) {
+    return ((cellX * 73856093) ^ (cellY * 19349663)) & (BUCKETS - 1);
+  }
+
+  /** The position of an entity in the index, linked into the bucket of its cell. */
+  private final class Entry implements Consumer<Point> {
+    private final Entity entity;
+    private final PositionComponent pc;
+    private float x;
+    private float y;
+    private int tileX;
+    private int tileY;
+    private int cellX;
+    private int cellY;
+    private int bucket = -1;
+    private Entry previous;
+    private Entry next;
+
+    private Entry(final Entity entity, final PositionComponent pc) {
+      this.entity = entity;
+      this.pc = pc;
+    }
+
+    @Override
+    public void accept(final Point position) {
+      x = position.x;
+      y = position.y;
+      tileX = (int) x;
+      tileY = (int) y;
+      if (position.equals(PositionComponent.ILLEGAL_POSITION)) {
+        unlink();
+        return;
+      }
+      int newCellX = Math.floorDiv(tileX, CELL_SIZE);
+      int newCellY = Math.floorDiv(tileY, CELL_SIZE);
+      if (bucket >= 0 && newCellX == cellX && newCellY == cellY) return;
+      unlink();
+      cellX = newCellX;
+      cellY = newCellY;
+      bucket = bucket(cellX, cellY);
+      next = buckets[bucket];
+      if (next != null) next.previous = this;
+      buckets[bucket] = this;
+      minCellX = Math.min(minCellX, cellX);
+      minCellY = Math.min(minCellY, cellY);
+      maxCellX = Math.max(maxCellX, cellX);
+      maxCellY = Math.max(maxCellY, cellY);
+    }
+
+    private void unlink() {
+      if (bucket < 0) return;
+      if (previous != null) previous.next = next;
+      else buckets[bucket] = next;
+      if (next != null) next.previous = previous;
+      previous = next = null;
+      bucket = -1;
+    }
+
+    private float distance(float centerX, float centerY) {
+      float dx = x - centerX;
+      float dy = y - centerY;
+      return (float) Math.sqrt(dx * dx + dy * dy);
+    }
+  }
+}
@@ -4,6 +4,11 @@ import core.level.Tile;
 import core.utils.components.path.IPath;
 import core.utils.components.path.SimpleIPath;
 
+/**
+ * Selects the texture of a tile based on the surrounding tiles.
+ *
+ * <p>The rules are resolved through the lookup tables of the {@link AutoTiler}.
+ */
 public class TileTextureFactory {
   /**
    * Checks which texture must be used for the passed field based on the surrounding fields.
@@ -12,35 +17,12 @@ public class TileTextureFactory {
    * @return Path to texture
    */
   public static IPath findTexturePath(LevelPart levelPart) {
-    String prefixPath = "dungeon/" + levelPart.design().name().toLowerCase() + "/";
-
-    IPath path = findTexturePathFloor(levelPart);
-    if (path != null) {
-      return new SimpleIPath(prefixPath + path.pathString() + ".png");
-    }
-
-    path = findTexturePathDoor(levelPart);
-    if (path != null) {
-      return new SimpleIPath(prefixPath + path.pathString() + ".png");
-    }
-
-    path = findTexturePathInnerCorner(levelPart);
-    if (path != null) {
-      return new SimpleIPath(prefixPath + path.pathString() + ".png");
-    }
-
-    path = findTexturePathOuterCorner(levelPart);
-    if (path != null) {
-      return new SimpleIPath(prefixPath + path.pathString() + ".png");
-    }
-
-    path = findTexturePathWall(levelPart);
-    if (path != null) {
-      return new SimpleIPath(prefixPath + path.pathString() + ".png");
-    }
-
-    // Error state
-    return new SimpleIPath(prefixPath + "floor/empty.png");
+    return AutoTiler.texturePath(
+        levelPart.layout(),
+        levelPart.position().x,
+        levelPart.position().y,
+        levelPart.element(),
+        levelPart.design());
   }
 
   /**
@@ -57,21 +39,42 @@ public class TileTextureFactory {
   /**
    * Checks which texture must be used for the passed tile based on the surrounding tiles.
    *
+   * <p>Only the neighbours of the tile are checked, so this can be used to update single tiles.
+   *
    * @param element Tile to check for
    * @param layout The level
    * @param elementType The type ot the tile if different than the attribute
    * @return Path to texture
    */
   public static IPath findTexturePath(Tile element, Tile[][] layout, LevelElement elementType) {
-    LevelElement[][] elementLayout = new LevelElement[layout.length][layout[0].length];
-    for (int x = 0; x < layout[0].length; x++) {
-      for (int y = 0; y < layout.length; y++) {
-        elementLayout[y][x] = layout[y][x].levelElement();
-      }
-    }
-    elementLayout[element.coordinate().y][element.coordinate().x] = elementType;
-    return findTexturePath(
-        new LevelPart(elementType, element.designLabel(), elementLayout, element.coordinate()));
+    return AutoTiler.texturePath(
+        layout, element.coordinate().x, element.coordinate().y, elementType, element.designLabel());
+  }
+
+  /**
+   * Applies the texture rules to the element at the given position.
+   *
+   * <p>This evaluates all rules one by one and is used by the {@link AutoTiler} to build its lookup
+   * tables. Use {@link #findTexturePath(LevelPart)} to get the texture of a tile.
+   *
+   * @param element Element to check for
+   * @param layout The level
+   * @param position Position of the element
+   * @return Path to the texture, relative to the directory of the design and without file ending
+   */
+  static String findRelativeTexturePath(
+      LevelElement element, LevelElement[][] layout, Coordinate position) {
+    LevelPart levelPart = new LevelPart(element, DesignLabel.DEFAULT, layout, position);
+
+    IPath path = findTexturePathFloor(levelPart);
+    if (path == null) path = findTexturePathDoor(levelPart);
+    if (path == null) path = findTexturePathInnerCorner(levelPart);
+    if (path == null) path = findTexturePathOuterCorner(levelPart);
+    if (path == null) path = findTexturePathWall(levelPart);
+    if (path != null) return path.pathString();
+
+    // Error state
+    return "floor/empty";
   }
 
   private static IPath findTexturePathFloor(LevelPart levelPart) {
@@ -2,8 +2,6 @@ package core.systems;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.math.Vector3;
-import com.badlogic.gdx.math.collision.BoundingBox;
 import core.Entity;
 import core.Game;
 import core.System;
@@ -53,10 +51,7 @@ public final class CameraSystem extends System {
    */
   public static boolean isPointInFrustum(float x, float y) {
     final float OFFSET = 1f;
-    BoundingBox bounds =
-        new BoundingBox(
-            new Vector3(x - OFFSET, y - OFFSET, 0), new Vector3(x + OFFSET, y + OFFSET, 0));
-    return CAMERA.frustum.boundsInFrustum(bounds);
+    return CAMERA.frustum.boundsInFrustum(x, y, 0, OFFSET, OFFSET, 0);
   }
 
   /**
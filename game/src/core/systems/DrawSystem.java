@@ -6,13 +6,20 @@ import core.System;
 import core.components.DrawComponent;
 import core.components.PlayerComponent;
 import core.components.PositionComponent;
+import core.game.QualityGovernor;
+import core.utils.Point;
 import core.utils.components.MissingComponentException;
 import core.utils.components.draw.Animation;
 import core.utils.components.draw.Painter;
 import core.utils.components.draw.PainterConfig;
+import core.utils.components.draw.RenderQueue;
+import core.utils.components.draw.TextureMap;
 import core.utils.components.path.IPath;
-import java.util.*;
-import java.util.stream.Collectors;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * This system draws the entities on the screen.
@@ -21,8 +28,8 @@ import java.util.stream.Collectors;
  * screen.
  *
  * <p>The system will get the current animation from the {@link DrawComponent} and will get the next
- * animation frame from the {@link Animation}, and then draw it on the current position stored in
- * the {@link PositionComponent}.
+ * animation frame from the {@link core.utils.components.draw.AnimationCursor} of the component, and
+ * then draw it on the current position stored in the {@link PositionComponent}.
  *
  * <p>This system will not queue animations. This must be done by other systems. The system
  * evaluates the queue and draws the animation with the highest priority in the queue.
@@ -36,109 +43,145 @@ import java.util.stream.Collectors;
 public final class DrawSystem extends System {
 
   /**
-   * The batch is necessary to draw ALL the stuff. Every object that uses draw need to know the
-   * batch.
+   * Layer of static sprites on the ground (e.g., dropped items), drawn below the entities.
+   *
+   * @see #addSource(Consumer)
+   */
+  public static final int GROUND_LAYER = 0;
+
+  /** Layer of entities without a {@link PlayerComponent}. */
+  private static final int ENTITY_LAYER = 1;
+
+  /** Layer of entities with a {@link PlayerComponent}, drawn on top of the other entities. */
+  private static final int PLAYER_LAYER = 2;
+
+  /** Submit sprites that are not entities, see {@link #addSource(Consumer)}. */
+  private static final List<Consumer<RenderQueue>> SOURCES = new ArrayList<>();
+
+  /**
+   * The frames of off-screen animations are only advanced every n-th frame (by n ticks at once),
+   * depending on the tier of the {@link QualityGovernor}. The animation queue is still updated
+   * every frame, so queued animations take as long as on-screen.
    */
-  private static final SpriteBatch BATCH = new SpriteBatch();
+  private static final QualityGovernor.Knob OFF_SCREEN_ANIMATION_INTERVAL =
+      QualityGovernor.instance().knob("off-screen animation interval", 1, 2, 4, 8);
 
-  /** Draws objects */
-  private static final Painter PAINTER = new Painter(BATCH);
+  private final RenderQueue renderQueue = new RenderQueue(Graphics.PAINTER);
 
   private final Map<IPath, PainterConfig> configs;
 
+  /**
+   * Data of the entities processed by this system. Maintained via {@link #onEntityAdd} and {@link
+   * #onEntityRemove}, so drawing does not need to copy the entity set each frame.
+   */
+  private final List<DSData> entities;
+
+  private int frame = 0;
+
   /** Create a new DrawSystem. */
   public DrawSystem() {
     super(DrawComponent.class, PositionComponent.class);
     configs = new HashMap<>();
+    entities = new ArrayList<>();
+    onEntityAdd =
+        entity -> {
+          DSData dsd = buildDataObject(entity);
+          TextureMap.instance().acquire(dsd.textures);
+          entities.add(dsd);
+        };
+    onEntityRemove =
+        entity ->
+            entities.removeIf(
+                dsd -> {
+                  if (dsd.e != entity) return false;
+                  TextureMap.instance().release(dsd.textures);
+                  return true;
+                });
   }
 
   /**
    * Get the {@link Painter} that is used by this system.
    *
-   * @return the {@link #PAINTER} of the DrawSystem
+   * @return the painter of the DrawSystem
    */
   public static Painter painter() {
-    return PAINTER;
+    return Graphics.PAINTER;
+  }
+
+  /**
+   * Add a source of sprites that are not entities.
+   *
+   * <p>Each frame, the source is called with the {@link RenderQueue} of the DrawSystem before the
+   * queue is drawn, so the submitted sprites are sorted and drawn in the same batch as the
+   * entities. Use {@link #GROUND_LAYER} for sprites that should be drawn below the entities.
+   *
+   * @param source Submits its sprites to the given queue.
+   */
+  public static void addSource(final Consumer<RenderQueue> source) {
+    SOURCES.add(source);
+  }
+
+  /**
+   * Remove a source added with {@link #addSource(Consumer)}.
+   *
+   * @param source Source to remove.
+   */
+  public static void removeSource(final Consumer<RenderQueue> source) {
+    SOURCES.remove(source);
   }
 
   /**
    * Get the {@link SpriteBatch} that is used by this system.
    *
-   * @return the {@link #BATCH} of the DrawSystem
+   * @return the batch of the DrawSystem
    */
   public static SpriteBatch batch() {
-    return BATCH;
+    return Graphics.BATCH;
   }
 
   /**
    * Will draw entities at their position with their current animation.
    *
-   * <p>All entities with a {@link PlayerComponent} will be drawn on top.
+   * <p>Entities are drawn ordered by their y-position, so entities further down on the screen
+   * overlap the entities behind them. All entities with a {@link PlayerComponent} will be drawn on
+   * top.
+   *
+   * <p>The sprites are collected in a {@link RenderQueue} and drawn in one batch. Entities outside
+   * of the cells reported as visible by the {@link VisibilitySystem} are not submitted, and their
+   * animations are updated less often if the {@link QualityGovernor} lowered the quality. Sprites
+   * of the sources added with {@link #addSource(Consumer)} are drawn in the same batch.
    *
    * @see DrawComponent
    * @see Animation
    */
   @Override
   public void execute() {
-    Map<Boolean, List<Entity>> partitionedEntities =
-        entityStream()
-            .collect(Collectors.partitioningBy(entity -> entity.isPresent(PlayerComponent.class)));
-    List<Entity> players = partitionedEntities.get(true);
-    List<Entity> npcs = partitionedEntities.get(false);
-
-    npcs.forEach(entity -> draw(buildDataObject(entity)));
-    players.forEach(entity -> draw(buildDataObject(entity)));
-  }
-
-  private void draw(final DSData dsd) {
-    reduceFrameTimer(dsd.dc);
-    setNextAnimation(dsd.dc);
-    final Animation animation = dsd.dc.currentAnimation();
-    IPath currentAnimationTexture = animation.nextAnimationTexturePath();
-    if (!configs.containsKey(currentAnimationTexture)) {
-      configs.put(currentAnimationTexture, new PainterConfig(currentAnimationTexture));
-    }
-    PAINTER.draw(dsd.pc.position(), currentAnimationTexture, configs.get(currentAnimationTexture));
+    frame++;
+    for (int i = 0; i < entities.size(); i++) submit(entities.get(i));
+    for (int i = 0; i < SOURCES.size(); i++) SOURCES.get(i).accept(renderQueue);
+    renderQueue.flush();
   }
 
-  /**
-   * Reduce the frame timer for each animation in the queue, remove animations that have a frame
-   * time < 0.
-   *
-   * @param dc Component to iterate over
-   */
-  private void reduceFrameTimer(final DrawComponent dc) {
-    // iterate through animationQueue
-    for (Map.Entry<IPath, Integer> entry : dc.animationQueue().entrySet()) {
-      // reduce remaining frame time of animation by 1
-      entry.setValue(entry.getValue() - 1);
+  private void submit(final DSData dsd) {
+    Point position = dsd.pc.position();
+    // the animation is still updated, but off-screen entities are not submitted
+    if (!VisibilitySystem.isVisible(position.x, position.y)) {
+      // the queue counts frames, so it has to be updated each frame
+      dsd.dc.updateAnimationQueue();
+      int interval = (int) OFF_SCREEN_ANIMATION_INTERVAL.value();
+      // catch up with the skipped frames, so the animations don't take longer off-screen
+      if (frame % interval == 0) dsd.dc.advanceAnimation(interval);
+      return;
     }
-    // remove animations when there is no remaining frame time
-    dc.animationQueue().entrySet().stream()
-        .filter(x -> x.getValue() < 0)
-        .forEach(x -> dc.deQueue(x.getKey()));
-  }
-
-  /**
-   * Checks the status of animations in the animationQueue and selects the next animation by
-   * priority.
-   *
-   * @param dc DrawComponent to draw
-   */
-  private void setNextAnimation(final DrawComponent dc) {
-
-    Optional<Map.Entry<IPath, Integer>> highestFind =
-        dc.animationQueue().entrySet().stream()
-            .max(Comparator.comparingInt(x -> x.getKey().priority()));
-
-    // when there is an animation load it
-    if (highestFind.isPresent()) {
-      IPath highestPrio = highestFind.get().getKey();
-      // making sure the animation exists
-      dc.animationMap().get(highestPrio.pathString());
-      // changing the Animation
-      dc.currentAnimation(highestPrio);
+    dsd.dc.updateAnimationQueue();
+    IPath currentAnimationTexture = dsd.dc.nextAnimationTexturePath();
+    PainterConfig config = configs.get(currentAnimationTexture);
+    if (config == null) {
+      config = new PainterConfig(currentAnimationTexture);
+      configs.put(currentAnimationTexture, config);
     }
+    int layer = dsd.e.isPresent(PlayerComponent.class) ? PLAYER_LAYER : ENTITY_LAYER;
+    renderQueue.submit(layer, position.x, position.y, currentAnimationTexture, config);
   }
 
   /** DrawSystem can't be paused */
@@ -156,8 +199,29 @@ public final class DrawSystem extends System {
         entity
             .fetch(PositionComponent.class)
             .orElseThrow(() -> MissingComponentException.build(entity, PositionComponent.class));
-    return new DSData(entity, dc, pc);
+    // remember the acquired textures, the animations of the component could be replaced later
+    List<IPath> textures = new ArrayList<>();
+    for (Animation animation : dc.animationMap().values()) {
+      for (int i = 0; i < animation.frameCount(); i++) textures.add(animation.frame(i));
+    }
+    return new DSData(entity, dc, pc, textures);
   }
 
-  private record DSData(Entity e, DrawComponent dc, PositionComponent pc) {}
+  private record DSData(Entity e, DrawComponent dc, PositionComponent pc, List<IPath> textures) {}
+
+  /**
+   * Holds the batch and the painter, created with the first access.
+   *
+   * <p>The sources of the DrawSystem can be added without a graphics context (e.g., in tests).
+   */
+  private static final class Graphics {
+    /**
+     * The batch is necessary to draw ALL the stuff. Every object that uses draw need to know the
+     * batch.
+     */
+    private static final SpriteBatch BATCH = new SpriteBatch();
+
+    /** Draws objects */
+    private static final Painter PAINTER = new Painter(BATCH);
+  }
 }
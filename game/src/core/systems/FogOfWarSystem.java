@@ -0,0 +1,130 @@
+package core.systems;
+
+import core.Entity;
+import core.Game;
+import core.System;
+import core.components.PlayerComponent;
+import core.components.PositionComponent;
+import core.level.Tile;
+import core.level.elements.ILevel;
+import core.level.utils.Coordinate;
+import core.level.utils.FieldOfView;
+import core.utils.components.MissingComponentException;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Hides the parts of the level the hero hasn't seen yet.
+ *
+ * <p>Entities with the {@link PlayerComponent} and {@link PositionComponent} will be processed by
+ * this system. Each time such an entity steps onto another tile (or the level changes), its {@link
+ * FieldOfView} is calculated again. Tiles that were seen at least once are explored; the {@link
+ * LevelSystem} only draws explored tiles. The explored tiles of each level are kept, so they are
+ * still explored if the hero comes back to a level.
+ *
+ * <p>Other systems can use {@link #isVisible(int, int)} and {@link #isExplored(int, int)}. As long
+ * as the field of view was not calculated for the current level (or the system is not registered at
+ * all), everything counts as visible and explored.
+ *
+ * @see FieldOfView
+ */
+public final class FogOfWarSystem extends System {
+
+  /** Default view distance in tiles. */
+  public static final int DEFAULT_RADIUS = 10;
+
+  private static FieldOfView fov;
+  private static int radius = DEFAULT_RADIUS;
+
+  private final Map<ILevel, FieldOfView> fovs = new WeakHashMap<>();
+  private final Consumer<Tile> onTileChange = this::onTileChange;
+  private Coordinate origin;
+
+  /** Create a new FogOfWarSystem. */
+  public FogOfWarSystem() {
+    super(PlayerComponent.class, PositionComponent.class);
+    // calculate right away, so the first frame of a new level is already covered
+    onEntityAdd = entity -> update(entity, true);
+  }
+
+  /**
+   * Check if the tile at the given position can be seen by the hero.
+   *
+   * @param x x-index of the tile.
+   * @param y y-index of the tile.
+   * @return true if the tile is visible (or if the field of view is not calculated yet), false if
+   *     not.
+   */
+  public static boolean isVisible(int x, int y) {
+    return !isActive() || fov.isVisible(x, y);
+  }
+
+  /**
+   * Check if the tile at the given position was seen by the hero at least once.
+   *
+   * @param x x-index of the tile.
+   * @param y y-index of the tile.
+   * @return true if the tile was explored (or if the field of view is not calculated yet), false if
+   *     not.
+   */
+  public static boolean isExplored(int x, int y) {
+    return !isActive() || fov.isExplored(x, y);
+  }
+
+  private static boolean isActive() {
+    return fov != null && fov.level() == Game.currentLevel();
+  }
+
+  /**
+   * Get the view distance.
+   *
+   * @return View distance in tiles.
+   */
+  public static int radius() {
+    return radius;
+  }
+
+  /**
+   * Set the view distance.
+   *
+   * <p>The field of view is calculated again with the next step of the hero.
+   *
+   * @param radius View distance in tiles.
+   */
+  public static void radius(int radius) {
+    if (radius < 0) throw new IllegalArgumentException("Radius can't be negative");
+    FogOfWarSystem.radius = radius;
+  }
+
+  @Override
+  public void execute() {
+    entityStream().forEach(entity -> update(entity, false));
+  }
+
+  private void update(final Entity entity, boolean force) {
+    ILevel level = Game.currentLevel();
+    if (level == null) return;
+    if (fov == null || fov.level() != level) {
+      if (fov != null) fov.level().removeTileChangeListener(onTileChange);
+      fov = fovs.computeIfAbsent(level, FieldOfView::new);
+      level.addTileChangeListener(onTileChange);
+      force = true;
+    }
+    PositionComponent pc =
+        entity
+            .fetch(PositionComponent.class)
+            .orElseThrow(() -> MissingComponentException.build(entity, PositionComponent.class));
+    Coordinate coordinate = pc.position().toCoordinate();
+    if (!force && coordinate.equals(origin)) return;
+    origin = coordinate;
+    fov.compute(coordinate.x, coordinate.y, radius);
+  }
+
+  private void onTileChange(final Tile tile) {
+    if (fov == null) return;
+    fov.tileChanged(tile);
+    // a door or wall may have opened or closed the view
+    origin = null;
+  }
+}
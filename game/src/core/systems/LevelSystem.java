@@ -1,7 +1,5 @@
 package core.systems;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.audio.Sound;
 import core.Entity;
 import core.Game;
 import core.System;
@@ -18,10 +16,16 @@ import core.utils.IVoidFunction;
 import core.utils.components.MissingComponentException;
 import core.utils.components.draw.Painter;
 import core.utils.components.draw.PainterConfig;
+import core.utils.components.draw.TextureMap;
 import core.utils.components.path.IPath;
+import core.utils.components.path.SimpleIPath;
+import core.utils.components.sound.SoundPlayer;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 /**
@@ -31,7 +35,8 @@ import java.util.logging.Logger;
  *
  * <p>Each frame, this system will draw the level on the screen. The system will also check if one
  * of the entities managed by this system is positioned on the end tile of the level. If so, the
- * next level will be loaded.
+ * next level will be loaded. If a {@link FogOfWarSystem} is registered, only explored tiles are
+ * drawn.
  *
  * <p>The system uses the configured {@link IGenerator} to generate levels in the configured {@link
  * LevelSize}. Use {@link #generator(IGenerator)} to change the used level generator. Use {@link
@@ -47,6 +52,9 @@ import java.util.logging.Logger;
  * #loadLevel(LevelSize, DesignLabel)}, {@link #loadLevel(LevelSize)}, or {@link
  * #loadLevel(DesignLabel)} to trigger a level load manually. These methods will also trigger the
  * onLevelLoad callback.
+ *
+ * <p>Use {@link #addLevelChangeListener(Consumer)} to release or acquire resources that belong to a
+ * level, before unused textures are evicted.
  */
 public final class LevelSystem extends System {
   /** offset the coordinate by half a tile, it makes every Entity not walk on the sidewalls */
@@ -58,14 +66,17 @@ public final class LevelSystem extends System {
    */
   private static final float Y_OFFSET = 0.25f;
 
-  private static final String SOUND_EFFECT = "sounds/enterDoor.wav";
+  private static final IPath SOUND_EFFECT = new SimpleIPath("sounds/enterDoor.wav");
 
   /** Currently used level-size configuration for generating new level. */
   private static LevelSize levelSize = LevelSize.MEDIUM;
 
   private static ILevel currentLevel;
+  private static final List<Consumer<ILevel>> LEVEL_CHANGE_LISTENERS = new ArrayList<>();
   private final IVoidFunction onLevelLoad;
   private final Painter painter;
+  private final Map<IPath, PainterConfig> mapping = new HashMap<>();
+  private List<IPath> levelTextures = List.of();
   private final Logger levelAPI_logger = Logger.getLogger(this.getClass().getSimpleName());
   private IGenerator generator;
 
@@ -96,6 +107,27 @@ public final class LevelSystem extends System {
     return currentLevel;
   }
 
+  /**
+   * Registers a listener that is called each time a level is loaded.
+   *
+   * <p>The listener gets the new level (or null) and is called before the onLevelLoad callback and
+   * before the textures that are not used anymore are evicted (see {@link TextureMap#evict()}).
+   *
+   * @param listener The listener to be called with the new level.
+   */
+  public static void addLevelChangeListener(final Consumer<ILevel> listener) {
+    LEVEL_CHANGE_LISTENERS.add(listener);
+  }
+
+  /**
+   * Removes a listener registered with {@link #addLevelChangeListener(Consumer)}.
+   *
+   * @param listener The listener to remove.
+   */
+  public static void removeLevelChangeListener(final Consumer<ILevel> listener) {
+    LEVEL_CHANGE_LISTENERS.remove(listener);
+  }
+
   /**
    * Get the configuration size that is set to generate the next level.
    *
@@ -123,8 +155,7 @@ public final class LevelSystem extends System {
    */
   public void loadLevel(final ILevel level) {
     currentLevel = level;
-    onLevelLoad.execute();
-    levelAPI_logger.info("A new level was loaded.");
+    onLevelChanged();
   }
 
   /**
@@ -137,10 +168,47 @@ public final class LevelSystem extends System {
    */
   public void loadLevel(final LevelSize size, final DesignLabel label) {
     currentLevel = generator.level(label, size);
+    onLevelChanged();
+  }
+
+  /**
+   * Move the texture references from the old level to the current level, inform the level change
+   * listeners, trigger the onLevelLoad callback and evict textures that are not used anymore.
+   *
+   * <p>The callback re-adds the entities of the new level to the systems, so the textures of the
+   * entities are acquired again before the eviction.
+   */
+  private void onLevelChanged() {
+    TextureMap textures = TextureMap.instance();
+    textures.release(levelTextures);
+    levelTextures = texturePaths(currentLevel);
+    textures.acquire(levelTextures);
+    for (int i = 0; i < LEVEL_CHANGE_LISTENERS.size(); i++)
+      LEVEL_CHANGE_LISTENERS.get(i).accept(currentLevel);
     onLevelLoad.execute();
+    textures.evict();
     levelAPI_logger.info("A new level was loaded.");
   }
 
+  /**
+   * Collect the texture of each tile of the level, one path per texture.
+   *
+   * @param level The level.
+   * @return Paths to the textures of the level.
+   */
+  private static List<IPath> texturePaths(final ILevel level) {
+    Map<String, IPath> paths = new HashMap<>();
+    Tile[][] layout = level == null ? null : level.layout();
+    if (layout == null) return List.of();
+    for (Tile[] row : layout) {
+      for (Tile tile : row) {
+        if (tile != null && tile.texturePath() != null)
+          paths.putIfAbsent(tile.texturePath().pathString(), tile.texturePath());
+      }
+    }
+    return new ArrayList<>(paths.values());
+  }
+
   /**
    * Load a new level with the configured size and the given design.
    *
@@ -172,22 +240,34 @@ public final class LevelSystem extends System {
     loadLevel(levelSize(), DesignLabel.randomDesign());
   }
 
+  /**
+   * Draw the tiles of the level that are inside the cells reported as visible by the {@link
+   * VisibilitySystem} and were explored (see {@link FogOfWarSystem}).
+   */
   private void drawLevel() {
-    Map<IPath, PainterConfig> mapping = new HashMap<>();
-
     Tile[][] layout = currentLevel.layout();
-    for (Tile[] tiles : layout) {
-      for (int x = 0; x < layout[0].length; x++) {
+    if (layout.length == 0) return;
+    int minY = Math.max(0, VisibilitySystem.minVisibleY());
+    int maxY = Math.min(layout.length - 1, VisibilitySystem.maxVisibleY());
+    int minX = Math.max(0, VisibilitySystem.minVisibleX());
+    int maxX = Math.min(layout[0].length - 1, VisibilitySystem.maxVisibleX());
+    painter.begin();
+    for (int y = minY; y <= maxY; y++) {
+      Tile[] tiles = layout[y];
+      for (int x = minX; x <= maxX; x++) {
         Tile t = tiles[x];
-        if (t.levelElement() != LevelElement.SKIP) {
+        if (t.levelElement() != LevelElement.SKIP && FogOfWarSystem.isExplored(x, y)) {
           IPath texturePath = t.texturePath();
-          if (!mapping.containsKey(texturePath)) {
-            mapping.put(texturePath, new PainterConfig(texturePath, X_OFFSET, Y_OFFSET));
+          PainterConfig config = mapping.get(texturePath);
+          if (config == null) {
+            config = new PainterConfig(texturePath, X_OFFSET, Y_OFFSET);
+            mapping.put(texturePath, config);
           }
-          painter.draw(t.position(), texturePath, mapping.get(texturePath));
+          painter.draw(t.position(), texturePath, config);
         }
       }
     }
+    painter.end();
   }
 
   /**
@@ -239,10 +319,7 @@ public final class LevelSystem extends System {
   }
 
   private void playSound() {
-    Sound doorSound = Gdx.audio.newSound(Gdx.files.internal(SOUND_EFFECT));
-    long soundId = doorSound.play();
-    doorSound.setLooping(soundId, false);
-    doorSound.setVolume(soundId, 0.3f);
+    SoundPlayer.instance().play(SOUND_EFFECT, 0.3f, 1f, SoundPlayer.HIGH_PRIORITY);
   }
 
   /**
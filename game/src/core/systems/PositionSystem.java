@@ -6,6 +6,7 @@ import core.System;
 import core.components.PositionComponent;
 import core.level.utils.Coordinate;
 import core.level.utils.LevelElement;
+import core.level.utils.SpatialIndex;
 import core.utils.Point;
 import core.utils.components.MissingComponentException;
 
@@ -18,20 +19,30 @@ import core.utils.components.MissingComponentException;
  * <p>If the position of an entity is equal to {@link PositionComponent#ILLEGAL_POSITION}, the
  * position of the entity will be set to a random accessible tile in the current level.
  *
+ * <p>The system also keeps the {@link SpatialIndex#instance() spatial index} of the entities up to
+ * date: each entity is added to the index when it is added to the system, and removed from the
+ * index when it is removed from the system.
+ *
  * <p>Note: In most cases, the position of an entity equals {@link
  * PositionComponent#ILLEGAL_POSITION} during the first frame of the currently active level. This
  * occurs because sometimes entities are created before the level is loaded.
  */
 public final class PositionSystem extends System {
 
+  private final SpatialIndex index = SpatialIndex.instance();
+
   /** Create a new PositionSystem */
   public PositionSystem() {
     super(PositionComponent.class);
+    onEntityAdd = index::add;
+    onEntityRemove = index::remove;
   }
 
   @Override
   public void execute() {
     entityStream()
+        // the position component may have been replaced
+        .peek(index::add)
         .map(this::buildDataObject)
         .filter(data -> data.pc.position().equals(PositionComponent.ILLEGAL_POSITION))
         .forEach(this::randomPosition);
@@ -46,10 +57,7 @@ public final class PositionSystem extends System {
   private void randomPosition(final PSData data) {
     if (Game.currentLevel() != null) {
       Coordinate randomPosition = Game.randomTile(LevelElement.FLOOR).coordinate();
-      boolean otherEntityIsOnThisCoordinate =
-          entityStream()
-              .map(this::buildDataObject)
-              .anyMatch(psData -> psData.pc().position().toCoordinate().equals(randomPosition));
+      boolean otherEntityIsOnThisCoordinate = index.isOccupied(randomPosition.x, randomPosition.y);
       if (!otherEntityIsOnThisCoordinate) {
         Point position = randomPosition.toPoint();
         // place on center
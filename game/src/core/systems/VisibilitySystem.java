@@ -0,0 +1,281 @@
+package core.systems;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import core.Entity;
+import core.Game;
+import core.System;
+import core.components.PositionComponent;
+import core.level.Tile;
+import core.level.elements.ILevel;
+import core.utils.Point;
+import core.utils.components.MissingComponentException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Calculates which parts of the level are visible on the screen.
+ *
+ * <p>The level is divided into a uniform grid of cells with {@link #CELL_SIZE} x {@link #CELL_SIZE}
+ * tiles. Each frame, this system calculates the range of cells that overlap the view of the {@link
+ * CameraSystem#camera()}. Other systems can use {@link #isVisible(float, float)} to skip entities
+ * that are off-screen, or use {@link #minVisibleX()}, {@link #maxVisibleX()}, {@link
+ * #minVisibleY()} and {@link #maxVisibleY()} to iterate only over the visible tiles. All queries
+ * are simple range checks and don't allocate.
+ *
+ * <p>The system also counts the visible cells, tiles, and entities (with a {@link
+ * PositionComponent}) to allow checking how much work is saved by culling. See {@link
+ * #visibleCells()}, {@link #visibleTiles()} and {@link #visibleEntities()}.
+ *
+ * <p>As long as the system was not executed for the current level (or is not registered at all),
+ * everything counts as visible.
+ *
+ * <p>The system needs to be executed after the {@link CameraSystem} and before the systems that
+ * draw. The VisibilitySystem can't be paused.
+ *
+ * @see CameraSystem
+ * @see DrawSystem
+ * @see LevelSystem
+ */
+public final class VisibilitySystem extends System {
+
+  /** Width and height of a cell of the visibility grid in tiles. */
+  public static final int CELL_SIZE = 8;
+
+  /** Extra space around the camera view, so sprites at the edge of the screen are not culled. */
+  private static final float VIEW_MARGIN = 1f;
+
+  private static ILevel gridLevel;
+  private static int gridWidth;
+  private static int gridHeight;
+  private static int levelWidth;
+  private static int levelHeight;
+  private static int minCellX;
+  private static int minCellY;
+  private static int maxCellX;
+  private static int maxCellY;
+  private static int visibleEntities;
+  private static int totalEntities;
+
+  private final List<VSData> entities = new ArrayList<>();
+
+  /** Create a new VisibilitySystem. */
+  public VisibilitySystem() {
+    super(PositionComponent.class);
+    onEntityAdd = entity -> entities.add(buildDataObject(entity));
+    onEntityRemove = entity -> entities.removeIf(vsd -> vsd.e == entity);
+  }
+
+  /**
+   * Check if the given position in the game world is inside a visible cell.
+   *
+   * @param x x-Position in the game world.
+   * @param y y-Position in the game world.
+   * @return true if the position is in a cell that overlaps the camera view (or if the visible area
+   *     is not calculated yet), false if not.
+   */
+  public static boolean isVisible(float x, float y) {
+    if (!isActive()) return true;
+    int cellX = Math.floorDiv((int) Math.floor(x), CELL_SIZE);
+    int cellY = Math.floorDiv((int) Math.floor(y), CELL_SIZE);
+    return cellX >= minCellX && cellX <= maxCellX && cellY >= minCellY && cellY <= maxCellY;
+  }
+
+  /**
+   * Check if the given position in the game world is inside a visible cell.
+   *
+   * @param point Position in the game world.
+   * @return true if the position is in a cell that overlaps the camera view (or if the visible area
+   *     is not calculated yet), false if not.
+   */
+  public static boolean isVisible(final Point point) {
+    return isVisible(point.x, point.y);
+  }
+
+  /**
+   * Check if the given tile is inside a visible cell.
+   *
+   * @param tile Tile to check.
+   * @return true if the tile is in a cell that overlaps the camera view (or if the visible area is
+   *     not calculated yet), false if not.
+   */
+  public static boolean isVisible(final Tile tile) {
+    return isVisible(tile.coordinate().x, tile.coordinate().y);
+  }
+
+  /**
+   * Get the smallest x-index of the tiles in the visible cells.
+   *
+   * @return smallest visible x-index, 0 if the visible area is not calculated yet.
+   */
+  public static int minVisibleX() {
+    return isActive() ? minCellX * CELL_SIZE : 0;
+  }
+
+  /**
+   * Get the smallest y-index of the tiles in the visible cells.
+   *
+   * @return smallest visible y-index, 0 if the visible area is not calculated yet.
+   */
+  public static int minVisibleY() {
+    return isActive() ? minCellY * CELL_SIZE : 0;
+  }
+
+  /**
+   * Get the largest x-index of the tiles in the visible cells.
+   *
+   * <p>The index can be larger than the width of the level, so clamp it if needed.
+   *
+   * @return largest visible x-index, {@link Integer#MAX_VALUE} if the visible area is not
+   *     calculated yet.
+   */
+  public static int maxVisibleX() {
+    return isActive() ? Math.min(levelWidth, (maxCellX + 1) * CELL_SIZE) - 1 : Integer.MAX_VALUE;
+  }
+
+  /**
+   * Get the largest y-index of the tiles in the visible cells.
+   *
+   * <p>The index can be larger than the height of the level, so clamp it if needed.
+   *
+   * @return largest visible y-index, {@link Integer#MAX_VALUE} if the visible area is not
+   *     calculated yet.
+   */
+  public static int maxVisibleY() {
+    return isActive() ? Math.min(levelHeight, (maxCellY + 1) * CELL_SIZE) - 1 : Integer.MAX_VALUE;
+  }
+
+  /**
+   * Get the number of cells that overlap the camera view.
+   *
+   * @return number of visible cells.
+   */
+  public static int visibleCells() {
+    if (!isActive()) return totalCells();
+    return (maxCellX - minCellX + 1) * (maxCellY - minCellY + 1);
+  }
+
+  /**
+   * Get the number of cells in the grid of the current level.
+   *
+   * @return total number of cells.
+   */
+  public static int totalCells() {
+    return isActive() ? gridWidth * gridHeight : 1;
+  }
+
+  /**
+   * Get the number of tiles inside the visible cells.
+   *
+   * @return number of visible tiles.
+   */
+  public static int visibleTiles() {
+    if (!isActive()) return totalTiles();
+    int width = maxVisibleX() - minVisibleX() + 1;
+    int height = maxVisibleY() - minVisibleY() + 1;
+    return Math.max(0, width) * Math.max(0, height);
+  }
+
+  /**
+   * Get the number of tiles in the current level.
+   *
+   * @return total number of tiles.
+   */
+  public static int totalTiles() {
+    return levelWidth * levelHeight;
+  }
+
+  /**
+   * Get the number of entities with a {@link PositionComponent} that were inside the visible cells
+   * in the last execution.
+   *
+   * @return number of visible entities.
+   */
+  public static int visibleEntities() {
+    return visibleEntities;
+  }
+
+  /**
+   * Get the number of entities with a {@link PositionComponent} in the last execution.
+   *
+   * @return total number of entities.
+   */
+  public static int totalEntities() {
+    return totalEntities;
+  }
+
+  /**
+   * Check if the visible area is calculated for the current level.
+   *
+   * <p>This is false until the system was executed after a level change. Until then, everything
+   * counts as visible, so skip work that should only be done for the visible area.
+   *
+   * @return true if the visible cells belong to the current level, false if not.
+   */
+  public static boolean isActive() {
+    return gridLevel != null && gridLevel == Game.currentLevel();
+  }
+
+  /**
+   * Calculate the visible cells for the current camera view and count the visible entities.
+   *
+   * <p>Will (re)build the grid if the level has changed.
+   */
+  @Override
+  public void execute() {
+    ILevel level = Game.currentLevel();
+    if (level != gridLevel) buildGrid(level);
+    if (gridLevel == null) return;
+
+    OrthographicCamera camera = CameraSystem.camera();
+    float halfWidth = camera.viewportWidth * camera.zoom / 2f + VIEW_MARGIN;
+    float halfHeight = camera.viewportHeight * camera.zoom / 2f + VIEW_MARGIN;
+    minCellX = cell(camera.position.x - halfWidth, gridWidth);
+    maxCellX = cell(camera.position.x + halfWidth, gridWidth);
+    minCellY = cell(camera.position.y - halfHeight, gridHeight);
+    maxCellY = cell(camera.position.y + halfHeight, gridHeight);
+
+    int visible = 0;
+    for (int i = 0; i < entities.size(); i++) {
+      Point position = entities.get(i).pc.position();
+      if (isVisible(position.x, position.y)) visible++;
+    }
+    visibleEntities = visible;
+    totalEntities = entities.size();
+  }
+
+  private static int cell(float worldPosition, int cells) {
+    int cell = Math.floorDiv((int) Math.floor(worldPosition), CELL_SIZE);
+    return Math.max(0, Math.min(cells - 1, cell));
+  }
+
+  private static void buildGrid(final ILevel level) {
+    gridLevel = level;
+    if (level == null || level.layout() == null || level.layout().length == 0) {
+      gridLevel = null;
+      levelWidth = 0;
+      levelHeight = 0;
+      return;
+    }
+    Tile[][] layout = level.layout();
+    levelHeight = layout.length;
+    levelWidth = layout[0].length;
+    gridWidth = (levelWidth + CELL_SIZE - 1) / CELL_SIZE;
+    gridHeight = (levelHeight + CELL_SIZE - 1) / CELL_SIZE;
+  }
+
+  /** VisibilitySystem can't be paused, the drawing systems depend on it. */
+  @Override
+  public void stop() {
+    run = true;
+  }
+
+  private VSData buildDataObject(final Entity entity) {
+    PositionComponent pc =
+        entity
+            .fetch(PositionComponent.class)
+            .orElseThrow(() -> MissingComponentException.build(entity, PositionComponent.class));
+    return new VSData(entity, pc);
+  }
+
+  private record VSData(Entity e, PositionComponent pc) {}
+}
@@ -3,6 +3,7 @@ package core.utils.components.draw;
 import core.utils.components.path.IPath;
 import core.utils.components.path.SimpleIPath;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
@@ -27,7 +28,18 @@ import java.util.Set;
  * time between two frames. Use {@link #loop(boolean)} to define if the Animation stops at the last
  * frame or should loop (starts from the beginning, this is the default setting).
  *
+ * <p>An Animation only stores the frames and the timing configuration. The playback state (which
+ * frame is shown and for how long) is stored in an {@link AnimationCursor}. This allows the {@link
+ * core.components.DrawComponent}s of many entities to share the same Animation instance, while each
+ * entity plays it back on its own cursor. Keep in mind that changing the configuration of a shared
+ * Animation affects every entity that uses it.
+ *
+ * <p>{@link #nextAnimationTexturePath()} and {@link #isFinished()} use a cursor owned by the
+ * Animation itself. Use them if the Animation is shown outside of a {@link
+ * core.components.DrawComponent} (for example, in the HUD).
+ *
  * @see core.components.DrawComponent
+ * @see AnimationCursor
  * @see IPath
  */
 public final class Animation {
@@ -37,13 +49,10 @@ public final class Animation {
   private static final boolean DEFAULT_IS_LOOP = true;
   private static final int DEFAULT_PRIO = 200;
 
-  private final List<IPath> animationFrames;
-
-  private final int frames;
+  private final IPath[] animationFrames;
   private final int priority;
+  private final AnimationCursor cursor;
   private int timeBetweenFrames;
-  private int currentFrameIndex = 0;
-  private int frameTimeCounter = 0;
   private boolean looping;
 
   /**
@@ -57,8 +66,7 @@ public final class Animation {
   private Animation(
       final Collection<IPath> animationFrames, int frameTime, boolean looping, int prio) {
     assert (animationFrames != null && !animationFrames.isEmpty());
-    this.animationFrames = new ArrayList<>(animationFrames);
-    frames = animationFrames.size();
+    this.animationFrames = animationFrames.toArray(new IPath[0]);
     if (frameTime == 0) {
       throw new IllegalArgumentException(
           "Parameter frameTime is set to 0, frameTime must be greater than 0!");
@@ -66,6 +74,7 @@ public final class Animation {
     this.timeBetweenFrames = frameTime;
     this.looping = looping;
     this.priority = prio;
+    this.cursor = new AnimationCursor(this);
   }
 
   /**
@@ -140,20 +149,13 @@ public final class Animation {
   /**
    * Get the texture to draw.
    *
-   * <p>Automatically updates currentFrame to next frame.
+   * <p>Automatically updates the current frame of the cursor owned by this Animation to the next
+   * frame.
    *
    * @return The texture of the next animation step (draw this).
    */
   public IPath nextAnimationTexturePath() {
-    if (isFinished()) {
-      return animationFrames.get(currentFrameIndex);
-    }
-    IPath pathToReturn = animationFrames.get(currentFrameIndex);
-    frameTimeCounter = (frameTimeCounter + 1) % timeBetweenFrames;
-    if (frameTimeCounter == 0) {
-      currentFrameIndex = (currentFrameIndex + 1) % frames;
-    }
-    return pathToReturn;
+    return cursor.nextAnimationTexturePath();
   }
 
   /**
@@ -162,7 +164,7 @@ public final class Animation {
    * @return true when last frame and is not looping, otherwise false
    */
   public boolean isFinished() {
-    return !looping && currentFrameIndex == frames - 1;
+    return cursor.isFinished();
   }
 
   /**
@@ -180,7 +182,35 @@ public final class Animation {
    * @return List containing the paths of the single frames of the animation.
    */
   public List<IPath> animationFrames() {
-    return new ArrayList<>(animationFrames);
+    return new ArrayList<>(Arrays.asList(animationFrames));
+  }
+
+  /**
+   * Get the path of the frame at the given index.
+   *
+   * @param index Index of the frame.
+   * @return Path of the frame at the given index.
+   */
+  public IPath frame(int index) {
+    return animationFrames[index];
+  }
+
+  /**
+   * Get the number of frames in this animation.
+   *
+   * @return Number of frames.
+   */
+  public int frameCount() {
+    return animationFrames.length;
+  }
+
+  /**
+   * Get the time (in frames) between two animation frames.
+   *
+   * @return Time before switching to the next animation frame.
+   */
+  public int timeBetweenFrames() {
+    return timeBetweenFrames;
   }
 
   /**
@@ -219,6 +249,6 @@ public final class Animation {
    * @return the amount of frames it would take to finish one loop of the Animation
    */
   public int duration() {
-    return timeBetweenFrames * animationFrames.size();
+    return timeBetweenFrames * animationFrames.length;
   }
 }
@@ -0,0 +1,110 @@
+package core.utils.components.draw;
+
+import core.utils.components.path.IPath;
+
+/**
+ * Playback state of an {@link Animation}.
+ *
+ * <p>An {@link Animation} only stores the frames and the timing configuration, so it can be shared
+ * between many entities. The cursor stores which frame of the animation is currently shown and how
+ * many ticks this frame has already been shown.
+ *
+ * <p>Each {@link core.components.DrawComponent} owns exactly one cursor. Use {@link
+ * #animation(Animation)} to switch the cursor to another animation; this will restart the playback
+ * at the first frame.
+ *
+ * @see Animation
+ * @see core.components.DrawComponent
+ */
+public final class AnimationCursor {
+
+  private Animation animation;
+  private int currentFrameIndex = 0;
+  private int frameTimeCounter = 0;
+
+  /**
+   * Create a new cursor that plays the given animation from the first frame.
+   *
+   * @param animation Animation to play.
+   */
+  public AnimationCursor(final Animation animation) {
+    this.animation = animation;
+  }
+
+  /**
+   * Get the animation this cursor is playing.
+   *
+   * @return The animation of this cursor.
+   */
+  public Animation animation() {
+    return animation;
+  }
+
+  /**
+   * Switch the cursor to the given animation.
+   *
+   * <p>If the given animation is not the current animation of this cursor, the playback will
+   * restart at the first frame. Otherwise, nothing happens.
+   *
+   * @param animation Animation to play.
+   */
+  public void animation(final Animation animation) {
+    if (this.animation != animation) {
+      this.animation = animation;
+      currentFrameIndex = 0;
+      frameTimeCounter = 0;
+    }
+  }
+
+  /**
+   * Jump to the last frame of the current animation.
+   *
+   * <p>For a non-looping animation, the cursor will be finished afterward.
+   */
+  public void finish() {
+    currentFrameIndex = animation.frameCount() - 1;
+    frameTimeCounter = 0;
+  }
+
+  /**
+   * Get the texture to draw.
+   *
+   * <p>Automatically updates the cursor to the next frame.
+   *
+   * @return The texture of the next animation step (draw this).
+   */
+  public IPath nextAnimationTexturePath() {
+    IPath pathToReturn = animation.frame(currentFrameIndex);
+    tick();
+    return pathToReturn;
+  }
+
+  /**
+   * Move the cursor forward without drawing, as if {@link #nextAnimationTexturePath()} was called
+   * the given number of times.
+   *
+   * <p>Use this to update animations that are not drawn every frame.
+   *
+   * @param ticks Number of ticks to move forward.
+   */
+  public void advance(int ticks) {
+    for (int i = 0; i < ticks && !isFinished(); i++) tick();
+  }
+
+  private void tick() {
+    if (isFinished()) return;
+    frameTimeCounter = (frameTimeCounter + 1) % animation.timeBetweenFrames();
+    if (frameTimeCounter == 0) {
+      currentFrameIndex = (currentFrameIndex + 1) % animation.frameCount();
+    }
+  }
+
+  /**
+   * Check if the animation is finished.
+   *
+   * @return true when last frame and is not looping, otherwise false
+   */
+  public boolean isFinished() {
+    return !animation.isLooping() && currentFrameIndex == animation.frameCount() - 1;
+  }
+}
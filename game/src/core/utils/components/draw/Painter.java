@@ -28,6 +28,9 @@ import core.utils.components.path.IPath;
 public class Painter {
   private final SpriteBatch batch;
 
+  /** Reused for each draw call, so drawing does not allocate a new sprite. */
+  private final Sprite sprite = new Sprite();
+
   /**
    * Create a new Painter.
    *
@@ -47,21 +50,53 @@ public class Painter {
    * @param config Painting configuration.
    */
   public void draw(final Point position, final IPath texturePath, final PainterConfig config) {
-    float realX = position.x + config.xOffset(); // including the drawOffset
-    float realY = position.y + config.yOffset(); // including the drawOffset
+    draw(position.x, position.y, texturePath, config);
+  }
+
+  /**
+   * Draw the given texture on the given position with the given configuration.
+   *
+   * <p>Will only draw the texture if it's in the frustum of the camera.
+   *
+   * <p>If the batch was already started with {@link #begin()}, the sprite is added to the running
+   * batch. Otherwise, the batch is started and ended for this single sprite.
+   *
+   * @param x x-Position of the texture in the game world.
+   * @param y y-Position of the texture in the game world.
+   * @param texturePath Path to the texture to draw.
+   * @param config Painting configuration.
+   */
+  public void draw(float x, float y, final IPath texturePath, final PainterConfig config) {
+    float realX = x + config.xOffset(); // including the drawOffset
+    float realY = y + config.yOffset(); // including the drawOffset
     if (CameraSystem.isPointInFrustum(realX, realY)) {
-      Sprite sprite = new Sprite(TextureMap.instance().textureAt(texturePath));
+      sprite.setRegion(TextureMap.instance().textureAt(texturePath));
       // set up scaling of textures
       sprite.setSize(config.xScaling(), config.yScaling());
       // where to draw the sprite
       sprite.setPosition(realX, realY);
 
+      boolean singleDraw = !batch.isDrawing();
       // need to be called before drawing
-      batch.begin();
+      if (singleDraw) batch.begin();
       // draw sprite
       sprite.draw(batch);
       // need to be called after drawing
-      batch.end();
+      if (singleDraw) batch.end();
     }
   }
+
+  /**
+   * Start a batch.
+   *
+   * <p>All sprites drawn until {@link #end()} is called will be sent to the GPU together.
+   */
+  public void begin() {
+    batch.begin();
+  }
+
+  /** End the batch started with {@link #begin()} and draw all collected sprites. */
+  public void end() {
+    batch.end();
+  }
 }
@@ -0,0 +1,170 @@
+package core.utils.components.draw;
+
+import core.utils.components.path.IPath;
+import java.util.Arrays;
+
+/**
+ * Collects draw submissions for one frame and draws them in layer and depth order.
+ *
+ * <p>Each submission carries a packed sort key: the layer is stored in the upper bits, the depth
+ * (derived from the y-position) in the lower 32 bits. Submissions on a lower layer are drawn first.
+ * Inside a layer, submissions with a higher y-position are drawn first, so sprites further down on
+ * the screen overlap the sprites behind them.
+ *
+ * <p>Use {@link #submit(int, float, float, IPath, PainterConfig)} to add a sprite and {@link
+ * #flush()} to sort and draw all submitted sprites in one batch. The queue is sorted with an LSD
+ * radix sort on the packed keys. The sort is stable, so submissions with the same key are drawn in
+ * submission order. All buffers are reused between frames and only grow if more sprites than ever
+ * before are submitted, so the queue does not allocate per frame.
+ *
+ * @see Painter
+ * @see core.systems.DrawSystem
+ */
+public final class RenderQueue {
+
+  /** Largest layer that can be encoded in the sort key. */
+  public static final int MAX_LAYER = 0xFF;
+
+  private static final int INITIAL_CAPACITY = 64;
+  private static final int RADIX_BITS = 8;
+  private static final int RADIX = 1 << RADIX_BITS;
+  private static final int KEY_BITS = 40;
+
+  private final Painter painter;
+  private final int[] counts = new int[RADIX];
+  private long[] keys = new long[INITIAL_CAPACITY];
+  private float[] xs = new float[INITIAL_CAPACITY];
+  private float[] ys = new float[INITIAL_CAPACITY];
+  private IPath[] textures = new IPath[INITIAL_CAPACITY];
+  private PainterConfig[] configs = new PainterConfig[INITIAL_CAPACITY];
+  private int[] order = new int[INITIAL_CAPACITY];
+  private int[] scratch = new int[INITIAL_CAPACITY];
+  private int size = 0;
+
+  /**
+   * Create a new RenderQueue.
+   *
+   * @param painter The {@link Painter} that is used to draw the sprites on {@link #flush()}.
+   */
+  public RenderQueue(final Painter painter) {
+    this.painter = painter;
+  }
+
+  /**
+   * Pack the given layer and y-position into a sort key.
+   *
+   * @param layer Layer of the sprite (0 to {@link #MAX_LAYER}).
+   * @param y y-Position of the sprite in the game world.
+   * @return The sort key, smaller keys are drawn first.
+   */
+  public static long key(int layer, float y) {
+    if (layer < 0 || layer > MAX_LAYER)
+      throw new IllegalArgumentException("Layer must be between 0 and " + MAX_LAYER);
+    // map the float to an int that has the same unsigned order; negate y so higher y comes first
+    int bits = Float.floatToIntBits(-y + 0f);
+    int depth = bits ^ ((bits >> 31) | 0x80000000);
+    return ((long) layer << 32) | (depth & 0xFFFFFFFFL);
+  }
+
+  /**
+   * Add a sprite to the queue.
+   *
+   * @param layer Layer of the sprite (0 to {@link #MAX_LAYER}).
+   * @param x x-Position of the sprite in the game world.
+   * @param y y-Position of the sprite in the game world.
+   * @param texturePath Path to the texture to draw.
+   * @param config Painting configuration.
+   */
+  public void submit(
+      int layer, float x, float y, final IPath texturePath, final PainterConfig config) {
+    if (size == keys.length) grow();
+    keys[size] = key(layer, y);
+    xs[size] = x;
+    ys[size] = y;
+    textures[size] = texturePath;
+    configs[size] = config;
+    size++;
+  }
+
+  /**
+   * Sort the queue and draw all submitted sprites inside one batch.
+   *
+   * <p>The queue is empty afterward.
+   */
+  public void flush() {
+    if (size == 0) return;
+    sort();
+    painter.begin();
+    for (int i = 0; i < size; i++) {
+      int index = order[i];
+      painter.draw(xs[index], ys[index], textures[index], configs[index]);
+    }
+    painter.end();
+    clear();
+  }
+
+  /** Remove all submissions without drawing them. */
+  public void clear() {
+    Arrays.fill(textures, 0, size, null);
+    Arrays.fill(configs, 0, size, null);
+    size = 0;
+  }
+
+  /**
+   * Get the number of submitted sprites.
+   *
+   * @return Number of sprites in the queue.
+   */
+  public int size() {
+    return size;
+  }
+
+  /** Sort the submission indices by key into {@link #order}. */
+  void sort() {
+    for (int i = 0; i < size; i++) order[i] = i;
+    for (int shift = 0; shift < KEY_BITS; shift += RADIX_BITS) {
+      Arrays.fill(counts, 0);
+      for (int i = 0; i < size; i++) counts[digit(keys[i], shift)]++;
+      // all keys share this digit, nothing to do in this pass
+      if (counts[digit(keys[0], shift)] == size) continue;
+      int sum = 0;
+      for (int d = 0; d < RADIX; d++) {
+        int count = counts[d];
+        counts[d] = sum;
+        sum += count;
+      }
+      for (int i = 0; i < size; i++) {
+        int index = order[i];
+        scratch[counts[digit(keys[index], shift)]++] = index;
+      }
+      int[] tmp = order;
+      order = scratch;
+      scratch = tmp;
+    }
+  }
+
+  /**
+   * Get the texture of the submission at the given position of the sorted queue.
+   *
+   * @param rank Position in the sorted queue.
+   * @return Texture of the submission.
+   */
+  IPath sortedTexture(int rank) {
+    return textures[order[rank]];
+  }
+
+  private static int digit(long key, int shift) {
+    return (int) (key >>> shift) & (RADIX - 1);
+  }
+
+  private void grow() {
+    int capacity = keys.length * 2;
+    keys = Arrays.copyOf(keys, capacity);
+    xs = Arrays.copyOf(xs, capacity);
+    ys = Arrays.copyOf(ys, capacity);
+    textures = Arrays.copyOf(textures, capacity);
+    configs = Arrays.copyOf(configs, capacity);
+    order = new int[capacity];
+    scratch = new int[capacity];
+  }
+}
@@ -1,8 +1,14 @@
 package core.utils.components.draw;
 
+import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.TextureData;
 import core.utils.components.path.IPath;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 /**
  * Maps Paths to libGDX {@link Texture}s, to reduce unnecessary loading of textures.
@@ -10,10 +16,24 @@ import java.util.HashMap;
  * <p>Use {@link #instance()} to get the only instance of the {@link TextureMap}, and use {@link
  * #textureAt(IPath)} to get the texture that is stored at the given path.
  *
+ * <p>Owners of textures (the current level and the entities drawn by the {@link
+ * core.systems.DrawSystem}) register the textures they use with {@link #acquire(IPath)} and {@link
+ * #release(IPath)}. After a level change, {@link #evict()} disposes textures that were acquired
+ * before but are not used by any owner anymore, least recently used first, until the {@link
+ * #residentBytes()} fit into the {@link #budget()}. Textures that were never acquired (e.g., HUD
+ * textures) are never disposed.
+ *
  * @see Painter
  */
 public final class TextureMap extends HashMap<String, Texture> {
   private static final TextureMap INSTANCE = new TextureMap();
+  private static final long DEFAULT_BUDGET = 64L * 1024 * 1024;
+
+  private final Map<String, Residency> residency = new HashMap<>();
+  private Function<String, Texture> loader = Texture::new;
+  private long budget = DEFAULT_BUDGET;
+  private long residentBytes = 0;
+  private long useCounter = 0;
 
   /**
    * Get the instance of the TextureMap.
@@ -32,15 +52,185 @@ public final class TextureMap extends HashMap<String, Texture> {
    * @return The Texture at the given path.
    */
   public Texture textureAt(final IPath path) {
-    if (!containsKey(path.pathString())) {
-      // We still store the string in the map to make sure we only store each Texture once.
-      // SimplePath("file.png").equals(SimplePath("file.png")) would return false, and so we
-      // would add it twice in the map.
-      // IPath cannot override the equals method because it's an interface, and it can't be
-      // called. If it could be called, then the enums could not implement it.
-      put(path.pathString(), new Texture(path.pathString()));
+    // We still store the string in the map to make sure we only store each Texture once.
+    // SimplePath("file.png").equals(SimplePath("file.png")) would return false, and so we
+    // would add it twice in the map.
+    // IPath cannot override the equals method because it's an interface, and it can't be
+    // called. If it could be called, then the enums could not implement it.
+    Residency entry = residency(path.pathString());
+    if (entry.texture == null) {
+      entry.texture = loader.apply(path.pathString());
+      entry.bytes = bytes(entry.texture);
+      residentBytes += entry.bytes;
+      put(path.pathString(), entry.texture);
+    }
+    entry.lastUse = ++useCounter;
+    return entry.texture;
+  }
+
+  /**
+   * Register a user of the texture at the given path.
+   *
+   * <p>The texture will not be disposed by {@link #evict()} until it is released as often as it was
+   * acquired. The texture is not loaded by this method.
+   *
+   * @param path Path to the texture.
+   */
+  public void acquire(final IPath path) {
+    Residency entry = residency(path.pathString());
+    entry.references++;
+    entry.managed = true;
+  }
+
+  /**
+   * Register a user of each of the textures at the given paths.
+   *
+   * @param paths Paths to the textures.
+   * @see #acquire(IPath)
+   */
+  public void acquire(final Iterable<? extends IPath> paths) {
+    for (IPath path : paths) acquire(path);
+  }
+
+  /**
+   * Remove a user of the texture at the given path.
+   *
+   * @param path Path to the texture.
+   * @see #acquire(IPath)
+   */
+  public void release(final IPath path) {
+    Residency entry = residency.get(path.pathString());
+    if (entry == null || entry.references == 0) return;
+    entry.references--;
+    // forget textures that were never loaded, so unused paths don't pile up
+    if (entry.references == 0 && entry.texture == null) residency.remove(path.pathString());
+  }
+
+  /**
+   * Remove a user of each of the textures at the given paths.
+   *
+   * @param paths Paths to the textures.
+   * @see #release(IPath)
+   */
+  public void release(final Iterable<? extends IPath> paths) {
+    for (IPath path : paths) release(path);
+  }
+
+  /**
+   * Get the number of users of the texture at the given path.
+   *
+   * @param path Path to the texture.
+   * @return Number of users.
+   */
+  public int references(final IPath path) {
+    Residency entry = residency.get(path.pathString());
+    return entry == null ? 0 : entry.references;
+  }
+
+  /**
+   * Dispose unused textures until the loaded textures fit into the budget.
+   *
+   * <p>Only textures that were acquired at least once and are not acquired anymore are disposed,
+   * the least recently used first. Should be called after a level change.
+   *
+   * @return Number of disposed textures.
+   */
+  public int evict() {
+    if (fitsBudget()) return 0;
+    List<Map.Entry<String, Residency>> unused = new ArrayList<>();
+    for (Map.Entry<String, Residency> entry : residency.entrySet()) {
+      Residency r = entry.getValue();
+      if (r.managed && r.references == 0 && r.texture != null) unused.add(entry);
+    }
+    unused.sort((a, b) -> Long.compare(a.getValue().lastUse, b.getValue().lastUse));
+    int disposed = 0;
+    for (Map.Entry<String, Residency> entry : unused) {
+      if (fitsBudget()) break;
+      Residency r = entry.getValue();
+      r.texture.dispose();
+      residentBytes -= r.bytes;
+      remove(entry.getKey());
+      residency.remove(entry.getKey());
+      disposed++;
+    }
+    return disposed;
+  }
+
+  /**
+   * Get the memory budget for loaded textures.
+   *
+   * @return The budget in bytes.
+   */
+  public long budget() {
+    return budget;
+  }
+
+  /**
+   * Set the memory budget for loaded textures.
+   *
+   * <p>Unused textures are only disposed by {@link #evict()} if the loaded textures need more
+   * memory than the budget. A budget of 0 disposes all unused textures on each eviction.
+   *
+   * @param budget The budget in bytes.
+   */
+  public void budget(long budget) {
+    if (budget < 0) throw new IllegalArgumentException("Budget can't be negative");
+    this.budget = budget;
+  }
+
+  /**
+   * Get the estimated memory of all loaded textures.
+   *
+   * @return The memory of the loaded textures in bytes (width * height * bytes per pixel).
+   */
+  public long residentBytes() {
+    return residentBytes;
+  }
+
+  /**
+   * Set the function that loads a texture from a path. Only used for testing.
+   *
+   * @param loader Function to load the texture at the given path.
+   */
+  void loader(final Function<String, Texture> loader) {
+    this.loader = loader;
+  }
+
+  // with a budget of 0, even textures without a known size are disposed
+  private boolean fitsBudget() {
+    return budget > 0 && residentBytes <= budget;
+  }
+
+  private Residency residency(final String path) {
+    Residency entry = residency.get(path);
+    if (entry == null) {
+      entry = new Residency();
+      residency.put(path, entry);
     }
+    return entry;
+  }
+
+  private static long bytes(final Texture texture) {
+    TextureData data = texture.getTextureData();
+    Pixmap.Format format = data == null ? null : data.getFormat();
+    int bytesPerPixel =
+        format == null
+            ? 4
+            : switch (format) {
+              case Alpha, Intensity -> 1;
+              case LuminanceAlpha, RGB565, RGBA4444 -> 2;
+              case RGB888 -> 3;
+              default -> 4;
+            };
+    return (long) texture.getWidth() * texture.getHeight() * bytesPerPixel;
+  }
 
-    return get(path.pathString());
+  private static final class Residency {
+    private Texture texture;
+    private long bytes;
+    private long lastUse;
+    private int references;
+    // true if the texture was acquired at least once, only these can be disposed
+    private boolean managed;
   }
 }
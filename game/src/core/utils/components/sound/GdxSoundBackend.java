@@ -0,0 +1,37 @@
+package core.utils.components.sound;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.audio.Sound;
+import core.utils.components.path.IPath;
+
+/**
+ * Loads sounds with libGDX.
+ *
+ * <p>If libGDX has no audio (e.g., in headless tests), the {@link NoSoundBackend} is used instead.
+ */
+public final class GdxSoundBackend implements SoundBackend {
+
+  private final NoSoundBackend fallback = new NoSoundBackend();
+
+  @Override
+  public SoundClip load(final IPath path) {
+    if (Gdx.audio == null || Gdx.files == null) return fallback.load(path);
+    Sound sound = Gdx.audio.newSound(Gdx.files.internal(path.pathString()));
+    return new SoundClip() {
+      @Override
+      public long play(float volume, float pitch) {
+        return sound.play(volume, pitch, 0);
+      }
+
+      @Override
+      public void stop(long voiceId) {
+        sound.stop(voiceId);
+      }
+
+      @Override
+      public void dispose() {
+        sound.dispose();
+      }
+    };
+  }
+}
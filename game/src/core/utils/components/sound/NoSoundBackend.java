@@ -0,0 +1,29 @@
+package core.utils.components.sound;
+
+import core.utils.components.path.IPath;
+
+/**
+ * Backend that does not play anything.
+ *
+ * <p>The clips only hand out increasing voice ids. Use this backend for tests or to mute the game.
+ */
+public final class NoSoundBackend implements SoundBackend {
+
+  private long nextVoiceId = 0;
+
+  @Override
+  public SoundClip load(final IPath path) {
+    return new SoundClip() {
+      @Override
+      public long play(float volume, float pitch) {
+        return nextVoiceId++;
+      }
+
+      @Override
+      public void stop(long voiceId) {}
+
+      @Override
+      public void dispose() {}
+    };
+  }
+}
@@ -0,0 +1,20 @@
+package core.utils.components.sound;
+
+import core.utils.components.path.IPath;
+
+/**
+ * Loads sound files for the {@link SoundPlayer}.
+ *
+ * @see GdxSoundBackend
+ * @see NoSoundBackend
+ */
+public interface SoundBackend {
+
+  /**
+   * Load and decode the sound file at the given path.
+   *
+   * @param path Path to the sound file.
+   * @return The decoded sound.
+   */
+  SoundClip load(final IPath path);
+}
@@ -0,0 +1,30 @@
+package core.utils.components.sound;
+
+/**
+ * A decoded sound that can be played multiple times at once.
+ *
+ * <p>Each call of {@link #play(float, float)} starts a new voice of the sound.
+ *
+ * @see SoundBackend
+ */
+public interface SoundClip {
+
+  /**
+   * Start a new voice of this sound.
+   *
+   * @param volume Volume of the voice (0 to 1).
+   * @param pitch Pitch of the voice (1 is the normal pitch).
+   * @return Id of the new voice, -1 if the voice could not be started.
+   */
+  long play(float volume, float pitch);
+
+  /**
+   * Stop a voice of this sound.
+   *
+   * @param voiceId Id of the voice, as returned by {@link #play(float, float)}.
+   */
+  void stop(long voiceId);
+
+  /** Release all resources of this sound. The clip can't be played afterward. */
+  void dispose();
+}
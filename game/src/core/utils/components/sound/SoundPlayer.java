@@ -0,0 +1,288 @@
+package core.utils.components.sound;
+
+import core.utils.components.path.IPath;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Plays sound effects with a bounded number of voices.
+ *
+ * <p>Use {@link #instance()} to get the only instance of the {@link SoundPlayer}, and use {@link
+ * #play(IPath, float, float, int)} to play a sound.
+ *
+ * <p>Each sound file is only loaded once and then kept in a cache, so playing a sound again does
+ * not decode the file again. See {@link #loadedSounds()}.
+ *
+ * <p>The number of sounds playing at the same time is limited, in total ({@link #maxVoices()}) and
+ * per sound file ({@link #maxVoicesPerSound()}). If a limit is reached, the voice with the lowest
+ * priority (the oldest one, if there are several) is stopped to make room for the new voice, as
+ * long as the new voice has at least the same priority. Otherwise, the new voice is not played.
+ *
+ * <p>libGDX can't tell when a voice is done, so a voice counts as playing for {@link
+ * #voiceDuration()} seconds after it was started. Time is advanced by {@link #update(float)}, which
+ * is called once per frame by the game loop. A sound that was already started in the current frame
+ * is not started a second time.
+ *
+ * <p>By default, the sounds are played with the {@link GdxSoundBackend}. For tests, use {@link
+ * #backend(SoundBackend)} with a {@link NoSoundBackend}.
+ */
+public final class SoundPlayer {
+
+  /** Priority for ambient sounds, like idle sounds of monsters. */
+  public static final int LOW_PRIORITY = 0;
+
+  /** Priority for most sound effects. */
+  public static final int DEFAULT_PRIORITY = 50;
+
+  /** Priority for important sound effects that should not be cut off. */
+  public static final int HIGH_PRIORITY = 100;
+
+  private static final SoundPlayer INSTANCE = new SoundPlayer();
+  private static final int DEFAULT_MAX_VOICES = 16;
+  private static final int DEFAULT_MAX_VOICES_PER_SOUND = 4;
+  private static final float DEFAULT_VOICE_DURATION = 2f;
+
+  private final Map<String, CachedSound> sounds = new HashMap<>();
+  private SoundBackend backend = new GdxSoundBackend();
+  private int maxVoicesPerSound = DEFAULT_MAX_VOICES_PER_SOUND;
+  private float voiceDuration = DEFAULT_VOICE_DURATION;
+  private long frame = 0;
+  private double time = 0;
+
+  // active voices, stored in parallel arrays
+  private CachedSound[] voiceSounds = new CachedSound[DEFAULT_MAX_VOICES];
+  private long[] voiceIds = new long[DEFAULT_MAX_VOICES];
+  private int[] voicePriorities = new int[DEFAULT_MAX_VOICES];
+  private double[] voiceStarts = new double[DEFAULT_MAX_VOICES];
+  private int voiceCount = 0;
+
+  private SoundPlayer() {}
+
+  /**
+   * Get the instance of the SoundPlayer.
+   *
+   * @return The only instance of the SoundPlayer.
+   */
+  public static SoundPlayer instance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Set the backend that loads the sounds.
+   *
+   * <p>Stops all voices and releases all loaded sounds of the old backend.
+   *
+   * @param backend The new backend.
+   */
+  public void backend(final SoundBackend backend) {
+    dispose();
+    this.backend = backend;
+  }
+
+  /**
+   * Play a sound with the normal pitch and {@link #DEFAULT_PRIORITY}.
+   *
+   * @param path Path to the sound file.
+   * @param volume Volume of the sound (0 to 1).
+   * @return Id of the voice, -1 if the sound was not played.
+   * @see #play(IPath, float, float, int)
+   */
+  public long play(final IPath path, float volume) {
+    return play(path, volume, 1f, DEFAULT_PRIORITY);
+  }
+
+  /**
+   * Play a sound.
+   *
+   * <p>If the sound was already started in this frame, it is not started again and the id of the
+   * existing voice is returned. If the voice limit is reached and no voice with a lower or the same
+   * priority can be stopped, the sound is not played.
+   *
+   * @param path Path to the sound file.
+   * @param volume Volume of the sound (0 to 1).
+   * @param pitch Pitch of the sound (1 is the normal pitch).
+   * @param priority Priority of the sound, see {@link #LOW_PRIORITY}, {@link #DEFAULT_PRIORITY} and
+   *     {@link #HIGH_PRIORITY}.
+   * @return Id of the voice, -1 if the sound was not played.
+   */
+  public long play(final IPath path, float volume, float pitch, int priority) {
+    CachedSound sound = sounds.get(path.pathString());
+    if (sound == null) {
+      sound = new CachedSound(backend.load(path));
+      sounds.put(path.pathString(), sound);
+    }
+    if (sound.lastFrame == frame) return sound.lastVoiceId;
+
+    if (!makeRoom(sound, priority)) return -1;
+    long voiceId = sound.clip.play(volume, pitch);
+    if (voiceId == -1) return -1;
+    voiceSounds[voiceCount] = sound;
+    voiceIds[voiceCount] = voiceId;
+    voicePriorities[voiceCount] = priority;
+    voiceStarts[voiceCount] = time;
+    voiceCount++;
+    sound.voices++;
+    sound.lastFrame = frame;
+    sound.lastVoiceId = voiceId;
+    return voiceId;
+  }
+
+  /**
+   * Advance the time of the player and release voices that are done.
+   *
+   * <p>Needs to be called once per frame.
+   *
+   * @param delta Time since the last frame in seconds.
+   */
+  public void update(float delta) {
+    frame++;
+    time += delta;
+    for (int i = voiceCount - 1; i >= 0; i--) {
+      if (time - voiceStarts[i] >= voiceDuration) removeVoice(i);
+    }
+  }
+
+  /** Stop all voices and release all loaded sounds. */
+  public void dispose() {
+    stopAll();
+    sounds.values().forEach(sound -> sound.clip.dispose());
+    sounds.clear();
+  }
+
+  /**
+   * Get the number of sound files in the cache.
+   *
+   * @return Number of loaded sounds.
+   */
+  public int loadedSounds() {
+    return sounds.size();
+  }
+
+  /**
+   * Get the number of voices that are currently playing.
+   *
+   * @return Number of active voices.
+   */
+  public int activeVoices() {
+    return voiceCount;
+  }
+
+  /**
+   * Get the maximum number of voices that can play at the same time.
+   *
+   * @return Maximum number of voices.
+   */
+  public int maxVoices() {
+    return voiceSounds.length;
+  }
+
+  /**
+   * Set the maximum number of voices that can play at the same time.
+   *
+   * <p>Stops all voices.
+   *
+   * @param maxVoices Maximum number of voices (at least 1).
+   */
+  public void maxVoices(int maxVoices) {
+    if (maxVoices < 1) throw new IllegalArgumentException("At least one voice is needed");
+    stopAll();
+    voiceSounds = new CachedSound[maxVoices];
+    voiceIds = new long[maxVoices];
+    voicePriorities = new int[maxVoices];
+    voiceStarts = new double[maxVoices];
+  }
+
+  /**
+   * Get the maximum number of voices of the same sound file that can play at the same time.
+   *
+   * @return Maximum number of voices per sound.
+   */
+  public int maxVoicesPerSound() {
+    return maxVoicesPerSound;
+  }
+
+  /**
+   * Set the maximum number of voices of the same sound file that can play at the same time.
+   *
+   * @param maxVoicesPerSound Maximum number of voices per sound (at least 1).
+   */
+  public void maxVoicesPerSound(int maxVoicesPerSound) {
+    if (maxVoicesPerSound < 1) throw new IllegalArgumentException("At least one voice is needed");
+    this.maxVoicesPerSound = maxVoicesPerSound;
+  }
+
+  /**
+   * Get the time a voice counts as playing after it was started.
+   *
+   * @return Duration of a voice in seconds.
+   */
+  public float voiceDuration() {
+    return voiceDuration;
+  }
+
+  /**
+   * Set the time a voice counts as playing after it was started.
+   *
+   * @param voiceDuration Duration of a voice in seconds.
+   */
+  public void voiceDuration(float voiceDuration) {
+    this.voiceDuration = voiceDuration;
+  }
+
+  /**
+   * Make sure there is room for a new voice of the given sound.
+   *
+   * <p>If a limit is reached, the voice with the lowest priority (oldest first) is stopped, if its
+   * priority is not higher than the given one.
+   *
+   * @return true if the new voice can be played, false if not.
+   */
+  private boolean makeRoom(final CachedSound sound, int priority) {
+    boolean soundFull = sound.voices >= maxVoicesPerSound;
+    if (!soundFull && voiceCount < voiceSounds.length) return true;
+
+    int victim = -1;
+    for (int i = 0; i < voiceCount; i++) {
+      // if the sound has too many voices, one of its own voices has to go
+      if (soundFull && voiceSounds[i] != sound) continue;
+      if (victim == -1
+          || voicePriorities[i] < voicePriorities[victim]
+          || voicePriorities[i] == voicePriorities[victim]
+              && voiceStarts[i] < voiceStarts[victim]) {
+        victim = i;
+      }
+    }
+    if (victim == -1 || voicePriorities[victim] > priority) return false;
+    voiceSounds[victim].clip.stop(voiceIds[victim]);
+    removeVoice(victim);
+    return true;
+  }
+
+  private void stopAll() {
+    for (int i = voiceCount - 1; i >= 0; i--) {
+      voiceSounds[i].clip.stop(voiceIds[i]);
+      removeVoice(i);
+    }
+  }
+
+  private void removeVoice(int index) {
+    voiceSounds[index].voices--;
+    int last = --voiceCount;
+    voiceSounds[index] = voiceSounds[last];
+    voiceIds[index] = voiceIds[last];
+    voicePriorities[index] = voicePriorities[last];
+    voiceStarts[index] = voiceStarts[last];
+    voiceSounds[last] = null;
+  }
+
+  private static final class CachedSound {
+    private final SoundClip clip;
+    private int voices = 0;
+    private long lastFrame = -1;
+    private long lastVoiceId = -1;
+
+    private CachedSound(final SoundClip clip) {
+      this.clip = clip;
+    }
+  }
+}
@@ -0,0 +1,60 @@
+package benchmark;
+
+import core.level.TileLevel;
+import core.level.utils.DesignLabel;
+import core.level.utils.LevelElement;
+import java.util.Random;
+
+/**
+ * Measures the construction time and the heap use of large {@link TileLevel}s.
+ *
+ * <p>The layout is a {@value #SIZE}x{@value #SIZE} level with 70% floor and 30% walls. The heap use
+ * is the difference of the used heap before and after creating {@value #LEVELS} levels, after a
+ * garbage collection, divided by the number of levels.
+ *
+ * <p>Run with {@code ./gradlew game:runLevelMemoryBenchmark}.
+ */
+public final class LevelMemoryBenchmark {
+
+  private static final int SIZE = 300;
+  private static final int LEVELS = 5;
+  private static final int WARMUP_ROUNDS = 3;
+
+  /**
+   * Run the benchmark.
+   *
+   * @param args Not used.
+   */
+  public static void main(String[] args) {
+    LevelElement[][] layout = layout(new Random(42));
+    for (int round = 0; round < WARMUP_ROUNDS; round++) new TileLevel(layout, DesignLabel.DEFAULT);
+
+    long before = usedHeap();
+    TileLevel[] levels = new TileLevel[LEVELS];
+    long time = System.nanoTime();
+    for (int i = 0; i < LEVELS; i++) levels[i] = new TileLevel(layout, DesignLabel.DEFAULT);
+    time = System.nanoTime() - time;
+    long after = usedHeap();
+
+    System.out.printf("%dx%d level, %d levels%n", SIZE, SIZE, levels.length);
+    System.out.printf("construction %10.1f ms/level%n", time / 1e6 / LEVELS);
+    System.out.printf("heap         %10.1f MB/level%n", (after - before) / 1e6 / LEVELS);
+    System.out.printf(
+        "heap         %10.1f B/tile%n", (after - before) / (double) LEVELS / SIZE / SIZE);
+  }
+
+  private static LevelElement[][] layout(final Random random) {
+    LevelElement[][] layout = new LevelElement[SIZE][SIZE];
+    for (int y = 0; y < SIZE; y++)
+      for (int x = 0; x < SIZE; x++)
+        layout[y][x] = random.nextInt(10) < 7 ? LevelElement.FLOOR : LevelElement.WALL;
+    layout[0][0] = LevelElement.EXIT;
+    return layout;
+  }
+
+  private static long usedHeap() {
+    Runtime runtime = Runtime.getRuntime();
+    for (int i = 0; i < 3; i++) System.gc();
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+}
@@ -0,0 +1,122 @@
+package benchmark;
+
+import com.badlogic.gdx.ai.pfa.DefaultGraphPath;
+import com.badlogic.gdx.ai.pfa.GraphPath;
+import com.badlogic.gdx.ai.pfa.Heuristic;
+import com.badlogic.gdx.ai.pfa.indexed.IndexedAStarPathFinder;
+import core.level.Tile;
+import core.level.TileLevel;
+import core.level.elements.astar.JumpPointFinder;
+import core.level.elements.astar.TileHeuristic;
+import core.level.elements.astar.WalkabilityGrid;
+import core.level.generator.randomwalk.RandomWalkGenerator;
+import core.level.utils.DesignLabel;
+import core.level.utils.LevelSize;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Compares the pathfinding of the {@link TileLevel} with the former implementation on {@link
+ * LevelSize#LARGE} levels.
+ *
+ * <ul>
+ *   <li>former: a new {@link IndexedAStarPathFinder} for each search, with the squared distance as
+ *       heuristic.
+ *   <li>A*: a reused {@link IndexedAStarPathFinder} with the Manhattan distance ({@link
+ *       TileHeuristic}).
+ *   <li>JPS: a reused {@link JumpPointFinder}, as used by {@link TileLevel#findPath}, without the
+ *       path cache.
+ * </ul>
+ *
+ * <p>Prints the time per search and checks that all JPS paths are as short as the A* paths.
+ *
+ * <p>Run with {@code ./gradlew game:runPathfindingBenchmark}.
+ */
+public final class PathfindingBenchmark {
+
+  private static final int LEVELS = 5;
+  private static final int SEARCHES = 500;
+  private static final int WARMUP_ROUNDS = 2;
+  private static final Heuristic<Tile> SQUARED_DISTANCE =
+      (a, b) -> {
+        float dx = a.coordinate().x - b.coordinate().x;
+        float dy = a.coordinate().y - b.coordinate().y;
+        return dx * dx + dy * dy;
+      };
+
+  /**
+   * Run the benchmark.
+   *
+   * @param args Not used.
+   */
+  public static void main(String[] args) {
+    Random random = new Random(42);
+    long former = 0;
+    long aStar = 0;
+    long jps = 0;
+    int longerFormer = 0;
+    int wrongJps = 0;
+    for (int l = 0; l < LEVELS; l++) {
+      TileLevel level =
+          (TileLevel) new RandomWalkGenerator().level(DesignLabel.DEFAULT, LevelSize.LARGE);
+      Tile[][] layout = level.layout();
+      List<? extends Tile> floor = level.floorTiles();
+      Tile[] starts = new Tile[SEARCHES];
+      Tile[] ends = new Tile[SEARCHES];
+      for (int i = 0; i < SEARCHES; i++) {
+        starts[i] = floor.get(random.nextInt(floor.size()));
+        ends[i] = floor.get(random.nextInt(floor.size()));
+      }
+      JumpPointFinder jumpPointFinder = new JumpPointFinder(WalkabilityGrid.of(layout));
+      IndexedAStarPathFinder<Tile> aStarFinder = new IndexedAStarPathFinder<>(level);
+      TileHeuristic manhattan = new TileHeuristic();
+      int[] formerCounts = new int[SEARCHES];
+      int[] aStarCounts = new int[SEARCHES];
+      int[] jpsCounts = new int[SEARCHES];
+
+      for (int round = 0; round <= WARMUP_ROUNDS; round++) {
+        boolean measure = round == WARMUP_ROUNDS;
+        long time = System.nanoTime();
+        for (int i = 0; i < SEARCHES; i++) {
+          GraphPath<Tile> path = new DefaultGraphPath<>();
+          new IndexedAStarPathFinder<>(level)
+              .searchNodePath(starts[i], ends[i], SQUARED_DISTANCE, path);
+          formerCounts[i] = path.getCount();
+        }
+        if (measure) former += System.nanoTime() - time;
+
+        time = System.nanoTime();
+        for (int i = 0; i < SEARCHES; i++) {
+          GraphPath<Tile> path = new DefaultGraphPath<>();
+          aStarFinder.searchNodePath(starts[i], ends[i], manhattan, path);
+          aStarCounts[i] = path.getCount();
+        }
+        if (measure) aStar += System.nanoTime() - time;
+
+        time = System.nanoTime();
+        for (int i = 0; i < SEARCHES; i++) {
+          GraphPath<Tile> path = new DefaultGraphPath<>();
+          jumpPointFinder.searchNodePath(layout, starts[i], ends[i], path);
+          jpsCounts[i] = path.getCount();
+        }
+        if (measure) jps += System.nanoTime() - time;
+      }
+      for (int i = 0; i < SEARCHES; i++) {
+        if (formerCounts[i] > aStarCounts[i]) longerFormer++;
+        if (jpsCounts[i] != aStarCounts[i]) wrongJps++;
+      }
+      System.out.printf(
+          "level %d: %dx%d, %d floor tiles%n", l, layout[0].length, layout.length, floor.size());
+    }
+    int searches = LEVELS * SEARCHES;
+    print("former", former, searches);
+    print("A*", aStar, searches);
+    print("JPS", jps, searches);
+    System.out.printf("former paths longer than the shortest path: %d%n", longerFormer);
+    System.out.printf("JPS paths with a different length than A*: %d%n", wrongJps);
+  }
+
+  private static void print(final String name, long nanos, int searches) {
+    System.out.printf("%-8s %10.1f us/search%n", name, nanos / 1000.0 / searches);
+  }
+}
@@ -1,6 +1,7 @@
 package core.components;
 
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import core.utils.components.draw.CoreAnimations;
@@ -66,4 +67,38 @@ public class DrawComponentTest {
     assertTrue(animationComponent.hasAnimation(CoreAnimations.RUN_LEFT));
     assertFalse(animationComponent.hasAnimation(CoreAnimations.RUN_DOWN));
   }
+
+  @Test
+  public void animationsAreSharedBetweenComponents() throws IOException {
+    DrawComponent other = new DrawComponent(animationPath);
+    assertSame(
+        animationComponent.animation(CoreAnimations.RUN_LEFT).orElseThrow(),
+        other.animation(CoreAnimations.RUN_LEFT).orElseThrow());
+    // the playback state is not shared
+    other.currentAnimation(CoreAnimations.IDLE_RIGHT);
+    assertTrue(animationComponent.isCurrentAnimation(CoreAnimations.IDLE_LEFT));
+    assertTrue(other.isCurrentAnimation(CoreAnimations.IDLE_RIGHT));
+  }
+
+  @Test
+  public void updateAnimationQueuePlaysHighestPriority() {
+    animationComponent.queueAnimation(2, CoreAnimations.IDLE_RIGHT);
+    animationComponent.queueAnimation(1, CoreAnimations.RUN_LEFT);
+    animationComponent.updateAnimationQueue();
+    assertTrue(animationComponent.isCurrentAnimation(CoreAnimations.RUN_LEFT));
+    // RUN_LEFT expires after its frames ran out, IDLE_RIGHT is still queued
+    animationComponent.updateAnimationQueue();
+    animationComponent.updateAnimationQueue();
+    assertFalse(animationComponent.isAnimationQueued(CoreAnimations.RUN_LEFT));
+    assertTrue(animationComponent.isCurrentAnimation(CoreAnimations.IDLE_RIGHT));
+  }
+
+  @Test
+  public void deQueueByPriority() {
+    animationComponent.queueAnimation(CoreAnimations.RUN_LEFT);
+    animationComponent.queueAnimation(CoreAnimations.IDLE_RIGHT);
+    animationComponent.deQueueByPriority(CoreAnimations.RUN_LEFT.priority());
+    assertFalse(animationComponent.isAnimationQueued(CoreAnimations.RUN_LEFT));
+    assertTrue(animationComponent.isAnimationQueued(CoreAnimations.IDLE_RIGHT));
+  }
 }
@@ -0,0 +1,105 @@
+package core.game;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/** Test the tier changes of the {@link QualityGovernor} with synthetic frame times. */
+public class QualityGovernorTest {
+
+  private static final float BUDGET = 0.02f;
+  private static final float FAST = 0.01f;
+  private static final float SLOW = 0.04f;
+
+  private final QualityGovernor governor = QualityGovernor.instance();
+
+  @Before
+  public void setup() {
+    governor.reset();
+    governor.budget(BUDGET);
+  }
+
+  @After
+  public void cleanup() {
+    governor.reset();
+    governor.budget(0);
+    governor.enabled(true);
+  }
+
+  private void record(float frameTime, int frames) {
+    for (int i = 0; i < frames; i++) governor.record(frameTime);
+  }
+
+  /** Fast frames keep the full quality. */
+  @Test
+  public void fast() {
+    record(FAST, 10 * QualityGovernor.WINDOW);
+    assertEquals(QualityGovernor.FULL, governor.tier());
+  }
+
+  /** Single slow frames don't change the quality. */
+  @Test
+  public void spikes() {
+    for (int i = 0; i < 10 * QualityGovernor.WINDOW; i++) governor.record(i % 20 == 0 ? 1f : FAST);
+    assertEquals(QualityGovernor.FULL, governor.tier());
+  }
+
+  /** Slow frames lower the tier by one step per window, down to the lowest tier. */
+  @Test
+  public void lower() {
+    record(SLOW, QualityGovernor.WINDOW - 1);
+    assertEquals(QualityGovernor.FULL, governor.tier());
+    record(SLOW, 1);
+    assertEquals(1, governor.tier());
+    record(SLOW, QualityGovernor.WINDOW);
+    assertEquals(2, governor.tier());
+    record(SLOW, 10 * QualityGovernor.WINDOW);
+    assertEquals(QualityGovernor.LOWEST, governor.tier());
+  }
+
+  /** The tier is only raised after enough fast frames. */
+  @Test
+  public void restore() {
+    record(SLOW, 2 * QualityGovernor.WINDOW);
+    assertEquals(2, governor.tier());
+    // the first window after a change has to be filled before the frames count
+    record(FAST, QualityGovernor.WINDOW + QualityGovernor.RESTORE_FRAMES - 2);
+    assertEquals(2, governor.tier());
+    record(FAST, 1);
+    assertEquals(1, governor.tier());
+    record(FAST, QualityGovernor.WINDOW + QualityGovernor.RESTORE_FRAMES - 1);
+    assertEquals(QualityGovernor.FULL, governor.tier());
+  }
+
+  /** Frames inside the budget, but above the restore threshold, keep the tier. */
+  @Test
+  public void hysteresis() {
+    record(SLOW, QualityGovernor.WINDOW);
+    assertEquals(1, governor.tier());
+    record(BUDGET * 0.9f, 10 * QualityGovernor.RESTORE_FRAMES);
+    assertEquals(1, governor.tier());
+  }
+
+  /** Knobs return the value of the current tier, tiers without a value use the last one. */
+  @Test
+  public void knob() {
+    QualityGovernor.Knob knob = governor.knob("test knob", 1, 0.5f);
+    assertEquals(1, knob.value(), 0);
+    record(SLOW, QualityGovernor.WINDOW);
+    assertEquals(0.5f, knob.value(), 0);
+    record(SLOW, 10 * QualityGovernor.WINDOW);
+    assertEquals(0.5f, knob.value(), 0);
+    governor.reset();
+    assertEquals(1, knob.value(), 0);
+  }
+
+  /** A disabled governor keeps the full quality. */
+  @Test
+  public void disabled() {
+    governor.enabled(false);
+    record(SLOW, 10 * QualityGovernor.WINDOW);
+    assertEquals(QualityGovernor.FULL, governor.tier());
+  }
+}
@@ -150,6 +150,8 @@ public class TileLevelAPITest {
     when(level.layout()).thenReturn(layout);
 
     api.loadLevel(level);
+    // loading reads the layout to acquire the textures of the level, only check the drawing
+    Mockito.clearInvocations(level, layout[0][0], layout[0][1], layout[1][0], layout[1][1]);
     api.execute();
 
     verify(level).layout();
@@ -178,6 +180,9 @@ public class TileLevelAPITest {
     // do not draw skip tiles
     verify(layout[1][1]).levelElement();
     verifyNoMoreInteractions(layout[1][1]);
+    // all tiles are drawn in one batch
+    verify(painter).begin();
+    verify(painter).end();
     verifyNoMoreInteractions(painter);
   }
 
@@ -2,7 +2,9 @@ package core.level;
 
 import static org.junit.Assert.*;
 
+import com.badlogic.gdx.ai.pfa.DefaultGraphPath;
 import com.badlogic.gdx.ai.pfa.GraphPath;
+import com.badlogic.gdx.ai.pfa.indexed.IndexedAStarPathFinder;
 import core.level.elements.astar.TileConnection;
 import core.level.elements.tile.ExitTile;
 import core.level.elements.tile.FloorTile;
@@ -153,7 +155,8 @@ public class TileLevelTest {
           {LevelElement.WALL, LevelElement.WALL, LevelElement.WALL, LevelElement.WALL},
         };
     TileLevel tileLevel = new TileLevel(elementsLayout, DesignLabel.DEFAULT);
-    assertEquals(0, tileLevel.getNodeCount());
+    // each tile has a node, non-accessible tiles have no connections
+    assertEquals(4, tileLevel.getNodeCount());
   }
 
   @Test
@@ -163,7 +166,8 @@ public class TileLevelTest {
           {LevelElement.FLOOR, LevelElement.WALL, LevelElement.WALL, LevelElement.WALL},
         };
     TileLevel tileLevel = new TileLevel(elementsLayout, DesignLabel.DEFAULT);
-    assertEquals(1, tileLevel.getNodeCount());
+    assertEquals(4, tileLevel.getNodeCount());
+    assertEquals(0, tileLevel.layout()[0][0].connections().size);
   }
 
   @Test
@@ -471,7 +475,7 @@ public class TileLevelTest {
     level.layout()[0][1] = tile;
     level.addTile(tile);
     assertTrue("tile needs to be added to specific Tile list", level.floorTiles().contains(tile));
-    assertEquals(level.getNodeCount() - 1, tile.index());
+    assertEquals(1, tile.index());
     assertTrue(
         "All neighbouring tiles need to be informed about the new tile",
         level.floorTiles().stream()
@@ -503,7 +507,7 @@ public class TileLevelTest {
     level.layout()[0][1] = tile;
     level.addTile(tile);
     assertTrue("tile needs to be added to specific Tile list", level.exitTiles().contains(tile));
-    assertEquals(level.getNodeCount() - 1, tile.index());
+    assertEquals(1, tile.index());
     assertTrue(
         "All neighbouring tiles need to be informed about the new tile",
         level.floorTiles().stream()
@@ -535,7 +539,7 @@ public class TileLevelTest {
     level.layout()[0][1] = tile;
     level.addTile(tile);
     assertTrue("tile needs to be added to specific Tile list", level.doorTiles().contains(tile));
-    assertEquals(level.getNodeCount() - 1, tile.index());
+    assertEquals(1, tile.index());
     assertTrue(
         "All neighbouring tiles need to be informed about the new tile",
         level.floorTiles().stream()
@@ -567,7 +571,7 @@ public class TileLevelTest {
     level.layout()[0][1] = tile;
     level.addTile(tile);
     assertTrue("tile needs to be added to specific Tile list", level.skipTiles().contains(tile));
-    assertEquals(0, tile.index());
+    assertEquals(1, tile.index());
     assertTrue(
         "All neighbouring tiles need to be informed about the new tile",
         level.floorTiles().stream()
@@ -596,7 +600,7 @@ public class TileLevelTest {
     level.layout()[0][1] = tile;
     level.addTile(tile);
     assertTrue("tile needs to be added to specific Tile list", level.wallTiles().contains(tile));
-    assertEquals(0, tile.index());
+    assertEquals(1, tile.index());
     assertTrue(
         "All neighbouring tiles need to be informed about the new tile",
         level.floorTiles().stream()
@@ -625,7 +629,7 @@ public class TileLevelTest {
     level.layout()[0][1] = tile;
     level.addTile(tile);
     assertTrue("tile needs to be added to specific Tile list", level.holeTiles().contains(tile));
-    assertEquals(0, tile.index());
+    assertEquals(1, tile.index());
     assertTrue(
         "All neighbouring tiles need to be informed about the new tile",
         level.floorTiles().stream()
@@ -685,14 +689,11 @@ public class TileLevelTest {
         };
     TileLevel level = new TileLevel(layout, DesignLabel.DEFAULT);
     level.changeTileElementType(level.tileAt(new Coordinate(0, 0)), LevelElement.WALL);
-    assertEquals(2, level.getNodeCount());
-    AtomicInteger counter = new AtomicInteger();
-    Arrays.stream(level.layout())
-        .flatMap(Arrays::stream)
-        .sorted(Comparator.comparingInt(Tile::index))
-        .filter(Tile::isAccessible)
-        .forEachOrdered(x -> assertEquals(counter.getAndIncrement(), x.index()));
-    assertEquals(2, counter.get());
+    assertEquals(3, level.getNodeCount());
+    // the indices of the other tiles don't change
+    for (int x = 0; x < 3; x++) assertEquals(x, level.tileAt(new Coordinate(x, 0)).index());
+    assertEquals(0, level.tileAt(new Coordinate(0, 0)).connections().size);
+    assertEquals(1, level.tileAt(new Coordinate(1, 0)).connections().size);
   }
 
   @Test
@@ -716,4 +717,45 @@ public class TileLevelTest {
     assertNotEquals(LevelElement.WALL, level.tileAt(new Coordinate(1, 0)).levelElement());
     assertEquals(3, counter.get());
   }
+
+  @Test
+  public void test_changeTileElementType_reusedAStar() {
+    LevelElement[][] layout =
+        new LevelElement[][] {
+          new LevelElement[] {LevelElement.FLOOR, LevelElement.WALL, LevelElement.FLOOR},
+          new LevelElement[] {LevelElement.WALL, LevelElement.WALL, LevelElement.EXIT}
+        };
+    TileLevel level = new TileLevel(layout, DesignLabel.DEFAULT);
+    IndexedAStarPathFinder<Tile> aStar = new IndexedAStarPathFinder<>(level);
+    Tile start = level.tileAt(new Coordinate(0, 0));
+    Tile end = level.tileAt(new Coordinate(2, 0));
+    GraphPath<Tile> path = new DefaultGraphPath<>();
+    assertFalse(aStar.searchNodePath(start, end, level.tileHeuristic(), path));
+
+    // the wall breaks, the pathfinder created before still works with the indices
+    level.changeTileElementType(level.tileAt(new Coordinate(1, 0)), LevelElement.FLOOR);
+    assertTrue(aStar.searchNodePath(start, end, level.tileHeuristic(), path));
+    assertEquals(3, path.getCount());
+    assertSame(level.tileAt(new Coordinate(1, 0)), path.get(1));
+  }
+
+  @Test
+  public void test_connections_onDemand() {
+    LevelElement[][] layout =
+        new LevelElement[][] {
+          new LevelElement[] {LevelElement.FLOOR, LevelElement.FLOOR, LevelElement.EXIT}
+        };
+    TileLevel level = new TileLevel(layout, DesignLabel.DEFAULT);
+    Tile left = level.tileAt(new Coordinate(0, 0));
+    assertNull("no connections before they are needed", left.connections);
+    assertEquals(1, left.connections().size);
+
+    // the left tile already has its connections, so it gets updated
+    level.changeTileElementType(level.tileAt(new Coordinate(1, 0)), LevelElement.WALL);
+    assertEquals(0, left.connections().size);
+    level.changeTileElementType(level.tileAt(new Coordinate(1, 0)), LevelElement.FLOOR);
+    assertEquals(1, left.connections().size);
+    assertSame(level.tileAt(new Coordinate(1, 0)), left.connections().first().getToNode());
+    assertEquals(2, level.tileAt(new Coordinate(1, 0)).connections().size);
+  }
 }
@@ -0,0 +1,108 @@
+package core.level.elements.astar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import core.level.Tile;
+import core.level.TileLevel;
+import core.level.elements.astar.AsyncPathFinder.PathRequest;
+import core.level.utils.DesignLabel;
+import core.level.utils.LevelElement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+
+/** Test the requests of the {@link AsyncPathFinder}. */
+public class AsyncPathFinderTest {
+
+  private static final long TIMEOUT_MS = 5000;
+
+  private TileLevel level;
+  private AsyncPathFinder finder;
+
+  /** A 5x5 floor level, the exit is set, otherwise a random floor tile becomes the exit. */
+  @Before
+  public void setup() {
+    LevelElement[][] layout = new LevelElement[5][5];
+    for (LevelElement[] row : layout) Arrays.fill(row, LevelElement.FLOOR);
+    layout[4][4] = LevelElement.EXIT;
+    level = new TileLevel(layout, DesignLabel.DEFAULT);
+    finder = level.asyncPathFinder();
+  }
+
+  private Tile tile(int x, int y) {
+    return level.layout()[y][x];
+  }
+
+  // integrate like the game loop until all requests are completed
+  private void await(final List<PathRequest> requests) throws InterruptedException {
+    long end = System.currentTimeMillis() + TIMEOUT_MS;
+    while (!requests.stream().allMatch(PathRequest::isDone)) {
+      assertTrue("Requests were not completed in time", System.currentTimeMillis() < end);
+      assertTrue(finder.integrate() <= finder.maxResultsPerFrame());
+      Thread.sleep(1);
+    }
+  }
+
+  /** The path is only available after it was integrated. */
+  @Test
+  public void request() throws InterruptedException {
+    PathRequest request = finder.request(tile(0, 0), tile(4, 0));
+    assertFalse(request.isDone());
+    assertNull(request.path());
+    assertEquals(1, finder.pending());
+
+    await(List.of(request));
+    assertEquals(5, request.path().getCount());
+    assertSame(tile(0, 0), request.path().get(0));
+    assertSame(tile(4, 0), request.path().get(4));
+    assertEquals(0, finder.pending());
+  }
+
+  /** Identical pending requests share one request. */
+  @Test
+  public void deduplication() throws InterruptedException {
+    PathRequest request = finder.request(tile(0, 0), tile(4, 4));
+    assertSame(request, finder.request(tile(0, 0), tile(4, 4)));
+    assertEquals(1, finder.pending());
+    await(List.of(request));
+    PathRequest next = finder.request(tile(0, 0), tile(4, 4));
+    assertNotSame(next, request);
+  }
+
+  /** Only a limited number of requests is completed per frame. */
+  @Test
+  public void maxResultsPerFrame() throws InterruptedException {
+    finder.maxResultsPerFrame(2);
+    List<PathRequest> requests = new ArrayList<>();
+    for (int x = 0; x < 5; x++)
+      for (int y = 0; y < 4; y++) requests.add(finder.request(tile(x, y), tile(4, 4)));
+    await(requests);
+    for (PathRequest request : requests) assertTrue(request.path().getCount() > 0);
+  }
+
+  /** A path of a changed level is searched again. */
+  @Test
+  public void tileChanged() throws InterruptedException {
+    PathRequest request = finder.request(tile(0, 0), tile(0, 2));
+    level.changeTileElementType(tile(0, 1), LevelElement.WALL);
+    await(List.of(request));
+    assertEquals(5, request.path().getCount());
+    for (int i = 0; i < request.path().getCount(); i++)
+      assertSame(level, request.path().get(i).level());
+    assertSame(tile(1, 1), request.path().get(2));
+  }
+
+  /** Requests from or to non-accessible tiles are rejected. */
+  @Test(expected = IllegalArgumentException.class)
+  public void nonAccessible() {
+    level.changeTileElementType(tile(2, 2), LevelElement.WALL);
+    finder.request(tile(0, 0), tile(2, 2));
+  }
+}
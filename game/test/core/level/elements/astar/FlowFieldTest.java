@@ -0,0 +1,77 @@
+package core.level.elements.astar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import core.level.Tile;
+import core.level.TileLevel;
+import core.level.utils.DesignLabel;
+import core.level.utils.LevelElement;
+import java.util.Arrays;
+import org.junit.Before;
+import org.junit.Test;
+
+/** Test the distances and steps of the {@link FlowField}. */
+public class FlowFieldTest {
+
+  private TileLevel level;
+  private FlowField flowField;
+
+  /**
+   * A 5x5 floor level with a wall from (1, 1) to (4, 1), the exit is set, otherwise a random floor
+   * tile becomes the exit.
+   */
+  @Before
+  public void setup() {
+    LevelElement[][] layout = new LevelElement[5][5];
+    for (LevelElement[] row : layout) Arrays.fill(row, LevelElement.FLOOR);
+    for (int x = 1; x < 5; x++) layout[1][x] = LevelElement.WALL;
+    layout[4][4] = LevelElement.EXIT;
+    level = new TileLevel(layout, DesignLabel.DEFAULT);
+    flowField = level.flowField();
+  }
+
+  private Tile tile(int x, int y) {
+    return level.layout()[y][x];
+  }
+
+  /** The distances follow the walls, the steps lead around them. */
+  @Test
+  public void distances() {
+    assertTrue(flowField.target(tile(4, 0)));
+    assertEquals(0, flowField.distance(tile(4, 0)));
+    assertEquals(4, flowField.distance(tile(0, 0)));
+    assertEquals(-1, flowField.distance(tile(2, 1)));
+    // around the wall
+    assertEquals(10, flowField.distance(tile(4, 2)));
+    assertSame(tile(3, 2), flowField.next(tile(4, 2)));
+    assertSame(tile(0, 1), flowField.next(tile(0, 2)));
+    assertNull(flowField.next(tile(4, 0)));
+  }
+
+  /** The search only runs again for another target tile or after a change of the level. */
+  @Test
+  public void search() {
+    flowField.target(tile(4, 0));
+    assertFalse(flowField.target(tile(4, 0)));
+    assertEquals(1, flowField.searches());
+    assertTrue(flowField.target(tile(3, 0)));
+    assertEquals(2, flowField.searches());
+
+    level.changeTileElementType(tile(2, 1), LevelElement.FLOOR);
+    assertTrue(flowField.target(tile(3, 0)));
+    assertEquals(3, flowField.distance(tile(2, 2)));
+  }
+
+  /** Tiles that are not connected to the target have no step. */
+  @Test
+  public void unreachable() {
+    level.changeTileElementType(tile(0, 1), LevelElement.WALL);
+    flowField.target(tile(4, 0));
+    assertEquals(-1, flowField.distance(tile(4, 4)));
+    assertNull(flowField.next(tile(4, 4)));
+  }
+}
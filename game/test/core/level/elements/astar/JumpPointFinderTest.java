@@ -0,0 +1,56 @@
+package core.level.elements.astar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+
+import com.badlogic.gdx.ai.pfa.DefaultGraphPath;
+import com.badlogic.gdx.ai.pfa.GraphPath;
+import com.badlogic.gdx.ai.pfa.indexed.IndexedAStarPathFinder;
+import core.level.Tile;
+import core.level.TileLevel;
+import core.level.utils.DesignLabel;
+import core.level.utils.LevelElement;
+import java.util.Random;
+import org.junit.Test;
+
+/** Compare the paths of the {@link JumpPointFinder} with the paths of A*. */
+public class JumpPointFinderTest {
+
+  private static final int SIZE = 70;
+
+  /** Random levels, wider than one word of the grid. */
+  @Test
+  public void shortestPaths() {
+    Random random = new Random(7);
+    for (int l = 0; l < 10; l++) {
+      LevelElement[][] layout = new LevelElement[SIZE][SIZE];
+      for (int y = 0; y < SIZE; y++)
+        for (int x = 0; x < SIZE; x++)
+          layout[y][x] = random.nextInt(10) < 7 ? LevelElement.FLOOR : LevelElement.WALL;
+      layout[0][0] = LevelElement.EXIT;
+      TileLevel level = new TileLevel(layout, DesignLabel.DEFAULT);
+      JumpPointFinder finder = new JumpPointFinder(WalkabilityGrid.of(level.layout()));
+      IndexedAStarPathFinder<Tile> aStar = new IndexedAStarPathFinder<>(level);
+      for (int i = 0; i < 50; i++) {
+        Tile start = level.randomTile(LevelElement.FLOOR);
+        Tile end = level.randomTile(LevelElement.FLOOR);
+        GraphPath<Tile> expected = new DefaultGraphPath<>();
+        aStar.searchNodePath(start, end, level.tileHeuristic(), expected);
+        GraphPath<Tile> path = new DefaultGraphPath<>();
+        assertEquals(
+            expected.getCount() > 0, finder.searchNodePath(level.layout(), start, end, path));
+        assertEquals(expected.getCount(), path.getCount());
+        if (path.getCount() == 0) continue;
+        assertSame(start, path.get(0));
+        assertSame(end, path.get(path.getCount() - 1));
+        for (int j = 1; j < path.getCount(); j++) {
+          int dx = path.get(j).coordinate().x - path.get(j - 1).coordinate().x;
+          int dy = path.get(j).coordinate().y - path.get(j - 1).coordinate().y;
+          assertEquals(1, Math.abs(dx) + Math.abs(dy));
+          assertFalse(path.get(j).levelElement() == LevelElement.WALL);
+        }
+      }
+    }
+  }
+}
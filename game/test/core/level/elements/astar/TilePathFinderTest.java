@@ -0,0 +1,86 @@
+package core.level.elements.astar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import com.badlogic.gdx.ai.pfa.GraphPath;
+import core.level.Tile;
+import core.level.TileLevel;
+import core.level.utils.DesignLabel;
+import core.level.utils.LevelElement;
+import java.util.Arrays;
+import org.junit.Before;
+import org.junit.Test;
+
+/** Test the cache of the {@link TilePathFinder}. */
+public class TilePathFinderTest {
+
+  private TileLevel level;
+  private TilePathFinder finder;
+
+  /** A 5x5 floor level, the exit is set, otherwise a random floor tile becomes the exit. */
+  @Before
+  public void setup() {
+    LevelElement[][] layout = new LevelElement[5][5];
+    for (LevelElement[] row : layout) Arrays.fill(row, LevelElement.FLOOR);
+    layout[4][4] = LevelElement.EXIT;
+    level = new TileLevel(layout, DesignLabel.DEFAULT);
+    finder = level.pathFinder();
+  }
+
+  private Tile tile(int x, int y) {
+    return level.layout()[y][x];
+  }
+
+  /** A repeated search returns the cached path. */
+  @Test
+  public void hit() {
+    GraphPath<Tile> path = level.findPath(tile(0, 0), tile(4, 0));
+    assertEquals(5, path.getCount());
+    assertSame(path, level.findPath(tile(0, 0), tile(4, 0)));
+    assertEquals(1, finder.hits());
+    assertEquals(1, finder.misses());
+    assertNotSame(path, level.findPath(tile(4, 0), tile(0, 0)));
+  }
+
+  /** A change of the walkability removes all cached paths. */
+  @Test
+  public void walkabilityChanged() {
+    GraphPath<Tile> path = level.findPath(tile(0, 0), tile(4, 0));
+    level.findPath(tile(0, 4), tile(4, 4));
+    level.changeTileElementType(tile(2, 0), LevelElement.WALL);
+    assertEquals(0, finder.size());
+    GraphPath<Tile> detour = level.findPath(tile(0, 0), tile(4, 0));
+    assertNotSame(path, detour);
+    assertEquals(7, detour.getCount());
+    for (Tile tile : detour) assertSame(tile, tile(tile.coordinate().x, tile.coordinate().y));
+  }
+
+  /** A replaced tile with the same walkability only removes the paths through the tile. */
+  @Test
+  public void tileReplaced() {
+    level.findPath(tile(0, 0), tile(4, 0));
+    GraphPath<Tile> other = level.findPath(tile(0, 4), tile(4, 4));
+    level.changeTileElementType(tile(2, 0), LevelElement.FLOOR);
+    assertEquals(1, finder.size());
+    assertSame(other, level.findPath(tile(0, 4), tile(4, 4)));
+    GraphPath<Tile> path = level.findPath(tile(0, 0), tile(4, 0));
+    assertSame(tile(2, 0), path.get(2));
+  }
+
+  /** The least recently used path is evicted. */
+  @Test
+  public void evict() {
+    finder.capacity(2);
+    GraphPath<Tile> first = level.findPath(tile(0, 0), tile(1, 0));
+    level.findPath(tile(0, 0), tile(2, 0));
+    level.findPath(tile(0, 0), tile(1, 0));
+    level.findPath(tile(0, 0), tile(3, 0));
+    assertEquals(2, finder.size());
+    assertSame(first, level.findPath(tile(0, 0), tile(1, 0)));
+    long misses = finder.misses();
+    level.findPath(tile(0, 0), tile(2, 0));
+    assertEquals(misses + 1, finder.misses());
+  }
+}
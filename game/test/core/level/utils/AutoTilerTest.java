@@ -0,0 +1,109 @@
+package core.level.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import core.level.Tile;
+import core.level.TileLevel;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.zip.CRC32;
+import org.junit.Test;
+
+public class AutoTilerTest {
+
+  /**
+   * CRC32 of all texture paths of {@link #randomLayout} (seed 42, 120x80) for each design label,
+   * recorded with the rule-by-rule implementation of the {@link TileTextureFactory}.
+   */
+  private static final String[] GOLDEN_LEVEL = {
+    "c7970c5f", "64205d0c", "b67b638e", "30dc6d9d", "42559da0", "ac1f93ff", "6b1ac6d2"
+  };
+
+  /**
+   * CRC32 of the textures of every tile of {@link #randomLayout} (seed 3, 40x30, forest) changed
+   * into every element, recorded with the rule-by-rule implementation.
+   */
+  private static final String GOLDEN_CHANGE = "afcefb9c";
+
+  /** Random layout that contains every element in many different neighbourhoods. */
+  private static LevelElement[][] randomLayout(long seed, int width, int height) {
+    Random random = new Random(seed);
+    LevelElement[] elements = LevelElement.values();
+    LevelElement[][] layout = new LevelElement[height][width];
+    for (int y = 0; y < height; y++) {
+      for (int x = 0; x < width; x++) {
+        int roll = random.nextInt(10);
+        if (roll < 4) layout[y][x] = LevelElement.WALL;
+        else if (roll < 7) layout[y][x] = LevelElement.FLOOR;
+        else layout[y][x] = elements[random.nextInt(elements.length)];
+      }
+    }
+    return layout;
+  }
+
+  private static void update(CRC32 crc, String texture) {
+    crc.update((texture + "\n").getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void goldenLevel() {
+    for (DesignLabel design : DesignLabel.values()) {
+      TileLevel level = new TileLevel(randomLayout(42, 120, 80), design);
+      CRC32 crc = new CRC32();
+      for (Tile[] row : level.layout()) {
+        for (Tile tile : row) update(crc, tile.texturePath().pathString());
+      }
+      assertEquals(design.name(), GOLDEN_LEVEL[design.ordinal()], Long.toHexString(crc.getValue()));
+    }
+  }
+
+  @Test
+  public void goldenChangeTile() {
+    TileLevel level = new TileLevel(randomLayout(3, 40, 30), DesignLabel.FOREST);
+    CRC32 crc = new CRC32();
+    for (Tile[] row : level.layout()) {
+      for (Tile tile : row) {
+        for (LevelElement element : LevelElement.values()) {
+          update(
+              crc, TileTextureFactory.findTexturePath(tile, level.layout(), element).pathString());
+        }
+      }
+    }
+    assertEquals(GOLDEN_CHANGE, Long.toHexString(crc.getValue()));
+  }
+
+  @Test
+  public void sameAsRules() {
+    LevelElement[][] layout = randomLayout(7, 60, 60);
+    for (int y = 0; y < layout.length; y++) {
+      for (int x = 0; x < layout[0].length; x++) {
+        for (LevelElement element : LevelElement.values()) {
+          String expected =
+              "dungeon/ice/"
+                  + TileTextureFactory.findRelativeTexturePath(
+                      element, layout, new Coordinate(x, y))
+                  + ".png";
+          assertEquals(
+              expected, AutoTiler.texturePath(layout, x, y, element, DesignLabel.ICE).pathString());
+        }
+      }
+    }
+  }
+
+  @Test
+  public void outsideLayout() {
+    LevelElement[][] layout = {{LevelElement.WALL}};
+    assertEquals(
+        "dungeon/default/floor/empty.png",
+        AutoTiler.texturePath(layout, 0, 0, LevelElement.WALL, DesignLabel.DEFAULT).pathString());
+  }
+
+  @Test
+  public void sharedPaths() {
+    LevelElement[][] layout = randomLayout(1, 5, 5);
+    assertSame(
+        AutoTiler.texturePath(layout, 2, 2, LevelElement.FLOOR, DesignLabel.DEFAULT),
+        AutoTiler.texturePath(layout, 3, 3, LevelElement.FLOOR, DesignLabel.DEFAULT));
+  }
+}
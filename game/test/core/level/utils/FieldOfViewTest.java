@@ -0,0 +1,137 @@
+package core.level.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import core.level.TileLevel;
+import java.util.Arrays;
+import org.junit.Before;
+import org.junit.Test;
+
+/** Test the shadowcasting of the {@link FieldOfView}. */
+public class FieldOfViewTest {
+
+  private static final int WIDTH = 21;
+  private static final int HEIGHT = 11;
+
+  private TileLevel level;
+  private FieldOfView fov;
+
+  /**
+   * Two rooms, separated by a wall at x = 10 with a door at (10, 5).
+   *
+   * <p>The exit is set, otherwise a random floor tile becomes the exit.
+   */
+  @Before
+  public void setup() {
+    LevelElement[][] layout = new LevelElement[HEIGHT][WIDTH];
+    for (int y = 0; y < HEIGHT; y++) {
+      for (int x = 0; x < WIDTH; x++) {
+        boolean wall = x == 0 || y == 0 || x == WIDTH - 1 || y == HEIGHT - 1 || x == 10;
+        layout[y][x] = wall ? LevelElement.WALL : LevelElement.FLOOR;
+      }
+    }
+    layout[5][10] = LevelElement.DOOR;
+    layout[1][19] = LevelElement.EXIT;
+    level = new TileLevel(layout, DesignLabel.DEFAULT);
+    fov = new FieldOfView(level);
+  }
+
+  /** Nothing is visible before the first calculation. */
+  @Test
+  public void empty() {
+    assertEquals(0, fov.visibleTiles());
+    assertEquals(0, fov.exploredTiles());
+    assertTrue(fov.isOpaque(0, 0));
+    assertFalse(fov.isOpaque(1, 1));
+    assertTrue(fov.isOpaque(-1, 3));
+  }
+
+  /** The whole room and its walls can be seen from inside. */
+  @Test
+  public void room() {
+    fov.compute(3, 3, 20);
+    for (int y = 0; y < HEIGHT; y++) {
+      for (int x = 0; x <= 9; x++) assertTrue(x + "," + y, fov.isVisible(x, y));
+    }
+    // the wall is seen, the room behind is not (apart from what is seen through the door)
+    assertTrue(fov.isVisible(10, 3));
+    assertFalse(fov.isVisible(15, 1));
+    assertFalse(fov.isVisible(11, 9));
+  }
+
+  /** The door lets the view through into the next room. */
+  @Test
+  public void door() {
+    fov.compute(5, 5, 20);
+    assertTrue(fov.isVisible(10, 5));
+    assertTrue(fov.isVisible(15, 5));
+    assertTrue(fov.isVisible(19, 5));
+    assertFalse(fov.isVisible(19, 1));
+  }
+
+  /** Tiles further away than the radius are not visible. */
+  @Test
+  public void radius() {
+    fov.compute(5, 5, 2);
+    assertTrue(fov.isVisible(5, 7));
+    assertTrue(fov.isVisible(4, 4));
+    assertFalse(fov.isVisible(5, 8));
+    assertFalse(fov.isVisible(8, 5));
+    fov.compute(5, 5, 0);
+    assertEquals(1, fov.visibleTiles());
+  }
+
+  /** Visible tiles are reset by the next calculation, explored tiles are kept. */
+  @Test
+  public void explored() {
+    fov.compute(3, 3, 20);
+    int explored = fov.exploredTiles();
+    fov.compute(15, 3, 20);
+    assertFalse(fov.isVisible(3, 3));
+    assertTrue(fov.isExplored(3, 3));
+    assertTrue(fov.isVisible(15, 3));
+    assertTrue(fov.exploredTiles() > explored);
+  }
+
+  /** An origin outside the level sees nothing. */
+  @Test
+  public void outside() {
+    fov.compute(3, 3, 20);
+    fov.compute(-5, 3, 20);
+    assertEquals(0, fov.visibleTiles());
+    assertTrue(fov.isExplored(3, 3));
+  }
+
+  /** A changed tile updates the opacity bitmap. */
+  @Test
+  public void tileChanged() {
+    level.addTileChangeListener(fov::tileChanged);
+    level.changeTileElementType(level.tileAt(new Coordinate(10, 5)), LevelElement.WALL);
+    assertTrue(fov.isOpaque(10, 5));
+    fov.compute(5, 5, 20);
+    assertFalse(fov.isVisible(15, 5));
+  }
+
+  /** In an open area, every tile in the radius can be seen. */
+  @Test
+  public void open() {
+    int size = 101;
+    LevelElement[][] layout = new LevelElement[size][size];
+    for (LevelElement[] row : layout) Arrays.fill(row, LevelElement.FLOOR);
+    layout[0][0] = LevelElement.EXIT;
+    FieldOfView open = new FieldOfView(new TileLevel(layout, DesignLabel.DEFAULT));
+    int radius = 10;
+    open.compute(50, 50, radius);
+    int expected = 0;
+    for (int dy = -radius; dy <= radius; dy++) {
+      for (int dx = -radius; dx <= radius; dx++) {
+        boolean inside = dx * dx + dy * dy <= radius * radius;
+        if (inside) expected++;
+        assertEquals(dx + "," + dy, inside, open.isVisible(50 + dx, 50 + dy));
+      }
+    }
+    assertEquals(expected, open.visibleTiles());
+  }
+}
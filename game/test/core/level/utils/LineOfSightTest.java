@@ -0,0 +1,92 @@
+package core.level.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import core.level.Tile;
+import core.level.TileLevel;
+import core.utils.Point;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+
+/** Test the rays of the {@link LineOfSight}. */
+public class LineOfSightTest {
+
+  private TileLevel level;
+  private LineOfSight lineOfSight;
+
+  /** A 7x5 floor level with a wall from (3, 0) to (3, 3), the exit is at (6, 4). */
+  @Before
+  public void setup() {
+    LevelElement[][] layout = new LevelElement[5][7];
+    for (LevelElement[] row : layout) Arrays.fill(row, LevelElement.FLOOR);
+    for (int y = 0; y < 4; y++) layout[y][3] = LevelElement.WALL;
+    layout[4][6] = LevelElement.EXIT;
+    level = new TileLevel(layout, DesignLabel.DEFAULT);
+    lineOfSight = level.lineOfSight();
+  }
+
+  private Tile tile(int x, int y) {
+    return level.layout()[y][x];
+  }
+
+  /** Walls block the ray, in both directions. */
+  @Test
+  public void walls() {
+    assertTrue(lineOfSight.visible(0, 0, 2, 3));
+    assertFalse(lineOfSight.visible(0, 1, 6, 1));
+    assertFalse(lineOfSight.visible(6, 1, 0, 1));
+    assertTrue(lineOfSight.visible(0, 4, 6, 4));
+    assertSame(tile(3, 1), lineOfSight.raycast(tile(0, 1), tile(6, 1)).orElseThrow());
+    assertTrue(lineOfSight.raycast(tile(0, 4), tile(6, 4)).isEmpty());
+  }
+
+  /** The tiles at the ends of the ray don't block it, tiles outside the level are not visible. */
+  @Test
+  public void ends() {
+    assertTrue(lineOfSight.visible(2, 2, 3, 2));
+    assertTrue(lineOfSight.visible(3, 3, 3, 3));
+    assertFalse(lineOfSight.visible(0, 0, 7, 0));
+    assertFalse(lineOfSight.visible(new Point(-1, 0), new Point(1, 0)));
+  }
+
+  /** A ray through the corner of four tiles is only blocked if both tiles beside it are opaque. */
+  @Test
+  public void corners() {
+    assertTrue(lineOfSight.visible(4, 4, 5, 3));
+    level.changeTileElementType(tile(5, 4), LevelElement.WALL);
+    assertTrue(lineOfSight.visible(4, 4, 5, 3));
+    level.changeTileElementType(tile(4, 3), LevelElement.WALL);
+    assertFalse(lineOfSight.visible(4, 4, 5, 3));
+    assertFalse(lineOfSight.visible(5, 3, 4, 4));
+  }
+
+  /** Repeated queries are cached, a change of the opacity clears the cache. */
+  @Test
+  public void cache() {
+    assertFalse(lineOfSight.visible(0, 1, 6, 1));
+    assertFalse(lineOfSight.visible(6, 1, 0, 1));
+    assertEquals(1, lineOfSight.hits());
+    assertEquals(1, lineOfSight.misses());
+
+    level.changeTileElementType(tile(3, 1), LevelElement.FLOOR);
+    assertTrue(lineOfSight.visible(0, 1, 6, 1));
+    assertEquals(2, lineOfSight.misses());
+  }
+
+  /** Many points can be checked against one point. */
+  @Test
+  public void batch() {
+    List<Point> targets =
+        List.of(new Point(1.5f, 1.5f), new Point(5.5f, 1.5f), new Point(2.5f, 4.5f));
+    boolean[] visible = new boolean[targets.size()];
+    assertEquals(2, lineOfSight.visible(new Point(0.5f, 1.5f), targets, visible));
+    assertTrue(visible[0]);
+    assertFalse(visible[1]);
+    assertTrue(visible[2]);
+  }
+}
@@ -0,0 +1,111 @@
+package core.level.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import core.level.Tile;
+import core.level.TileLevel;
+import core.utils.Point;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import org.junit.Before;
+import org.junit.Test;
+
+/** Test the tiles found by the {@link RangeQuery}. */
+public class RangeQueryTest {
+
+  private static final int SIZE = 20;
+
+  private TileLevel level;
+  private final RangeQuery query = new RangeQuery();
+  private final List<Tile> tiles = new ArrayList<>();
+
+  /** A floor level with a wall from (10, 0) to (10, 18). */
+  @Before
+  public void setup() {
+    LevelElement[][] layout = new LevelElement[SIZE][SIZE];
+    for (LevelElement[] row : layout) Arrays.fill(row, LevelElement.FLOOR);
+    for (int y = 0; y < SIZE - 1; y++) layout[y][10] = LevelElement.WALL;
+    layout[0][0] = LevelElement.EXIT;
+    level = new TileLevel(layout, DesignLabel.DEFAULT);
+  }
+
+  /** The disc masks are sorted by the distance to the center tile. */
+  @Test
+  public void disc() {
+    int[] disc = RangeQuery.disc(3);
+    assertEquals(0, RangeQuery.offsetX(disc[0]));
+    assertEquals(0, RangeQuery.offsetY(disc[0]));
+    assertSame(disc, RangeQuery.disc(3));
+    int last = 0;
+    for (int offset : disc) {
+      int ex = Math.max(0, Math.max(-RangeQuery.offsetX(offset), RangeQuery.offsetX(offset) - 1));
+      int ey = Math.max(0, Math.max(-RangeQuery.offsetY(offset), RangeQuery.offsetY(offset) - 1));
+      assertTrue(ex * ex + ey * ey >= last);
+      last = ex * ex + ey * ey;
+    }
+  }
+
+  /** The mask contains every tile in range, checked against all tiles of the level. */
+  @Test
+  public void tilesInRange() {
+    Random random = new Random(5);
+    for (int i = 0; i < 200; i++) {
+      Point center = new Point(random.nextFloat() * SIZE, random.nextFloat() * SIZE);
+      float radius = random.nextFloat() * 6;
+      tiles.clear();
+      int count = query.tilesInRange(level, center, radius, tiles);
+      assertEquals(count, tiles.size());
+      Tile centerTile = level.tileAt(center);
+      int expected = 0;
+      for (Tile[] row : level.layout())
+        for (Tile tile : row) if (tile == centerTile || inRange(center, radius, tile)) expected++;
+      assertEquals(expected, tiles.size());
+      assertEquals(expected, new HashSet<>(tiles).size());
+    }
+  }
+
+  /** Tiles behind the wall are in range, but can't be reached. */
+  @Test
+  public void reachable() {
+    Point center = new Point(8.5f, 5.5f);
+    query.accessibleTilesInRange(level, center, 4, tiles);
+    assertTrue(tiles.contains(level.layout()[5][11]));
+    assertFalse(tiles.contains(level.layout()[5][10]));
+
+    tiles.clear();
+    query.reachableTilesInRange(level, center, 4, tiles);
+    assertSame(level.tileAt(center), tiles.getFirst());
+    assertFalse(tiles.contains(level.layout()[5][11]));
+    assertTrue(tiles.contains(level.layout()[5][6]));
+
+    // the second search reuses the marks
+    tiles.clear();
+    query.reachableTilesInRange(level, center, 4, tiles);
+    assertTrue(tiles.contains(level.layout()[5][6]));
+
+    // no reachable tiles from a wall
+    tiles.clear();
+    assertEquals(0, query.reachableTilesInRange(level, new Point(10.5f, 5.5f), 4, tiles));
+  }
+
+  private static boolean inRange(final Point center, float radius, final Tile tile) {
+    float x = tile.coordinate().x;
+    float y = tile.coordinate().y;
+    if (Point.calculateDistance(center, new Point(x, y)) <= radius) return true;
+    float[][] points = {
+      {center.x - radius, center.y},
+      {center.x + radius, center.y},
+      {center.x, center.y - radius},
+      {center.x, center.y + radius}
+    };
+    for (float[] point : points)
+      if (x < point[0] && point[0] < x + 1 && y < point[1] && point[1] < y + 1) return true;
+    return false;
+  }
+}
@@ -0,0 +1,118 @@
+package core.level.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import core.Entity;
+import core.components.PositionComponent;
+import core.utils.Point;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import org.junit.Before;
+import org.junit.Test;
+
+/** Test the queries of the {@link SpatialIndex} against a scan of all entities. */
+public class SpatialIndexTest {
+
+  private static final int ENTITIES = 300;
+  private static final int SIZE = 60;
+
+  private final Random random = new Random(7);
+  private SpatialIndex index;
+  private List<Entity> entities;
+
+  /** An index with entities at random positions. */
+  @Before
+  public void setup() {
+    index = new SpatialIndex();
+    entities = new ArrayList<>();
+    for (int i = 0; i < ENTITIES; i++) {
+      Entity entity = new Entity();
+      entity.add(new PositionComponent(random.nextFloat() * SIZE, random.nextFloat() * SIZE));
+      index.add(entity);
+      entities.add(entity);
+    }
+  }
+
+  private static Point position(final Entity entity) {
+    return entity.fetch(PositionComponent.class).orElseThrow().position();
+  }
+
+  /** The entities on a tile follow the changes of the position. */
+  @Test
+  public void entitiesAt() {
+    Entity entity = entities.getFirst();
+    PositionComponent pc = entity.fetch(PositionComponent.class).orElseThrow();
+    pc.position(new Point(100.5f, 3.2f));
+    List<Entity> found = new ArrayList<>();
+    assertEquals(1, index.entitiesAt(100, 3, found));
+    assertSame(entity, found.getFirst());
+
+    pc.position(new Point(101.1f, 3.2f));
+    assertFalse(index.isOccupied(100, 3));
+    assertTrue(index.isOccupied(101, 3));
+
+    pc.position(PositionComponent.ILLEGAL_POSITION);
+    assertFalse(index.isOccupied(101, 3));
+    index.remove(entity);
+    pc.position(new Point(101.1f, 3.2f));
+    assertFalse(index.isOccupied(101, 3));
+  }
+
+  /** A replaced position component is tracked after the entity is added again. */
+  @Test
+  public void replacedComponent() {
+    Entity entity = entities.getFirst();
+    entity.add(new PositionComponent(200.5f, 200.5f));
+    index.add(entity);
+    assertTrue(index.isOccupied(200, 200));
+    assertEquals(ENTITIES, index.size());
+  }
+
+  /** The range query finds the same entities as a scan. */
+  @Test
+  public void entitiesInRange() {
+    for (int i = 0; i < 50; i++) {
+      Point center = new Point(random.nextFloat() * SIZE, random.nextFloat() * SIZE);
+      float radius = random.nextFloat() * 10;
+      List<Entity> found = new ArrayList<>();
+      index.entitiesInRange(center, radius, found);
+      List<Entity> expected =
+          entities.stream()
+              .filter(e -> Point.calculateDistance(center, position(e)) <= radius)
+              .toList();
+      assertEquals(expected.size(), found.size());
+      assertTrue(found.containsAll(expected));
+    }
+  }
+
+  /** The nearest entities that match the filter are the same as the nearest ones of a scan. */
+  @Test
+  public void nearest() {
+    for (int i = 0; i < 50; i++) {
+      Point center = new Point(random.nextFloat() * SIZE, random.nextFloat() * SIZE);
+      int k = 1 + random.nextInt(5);
+      List<Entity> found = new ArrayList<>();
+      index.nearest(center, k, Float.MAX_VALUE, e -> e.id() % 3 == 0, found);
+      List<Entity> expected =
+          entities.stream()
+              .filter(e -> e.id() % 3 == 0)
+              .sorted(Comparator.comparing(e -> Point.calculateDistance(center, position(e))))
+              .limit(k)
+              .toList();
+      assertEquals(expected, found);
+    }
+  }
+
+  /** No entity is found outside the maximum radius. */
+  @Test
+  public void nearest_maxRadius() {
+    List<Entity> found = new ArrayList<>();
+    assertEquals(0, index.nearest(new Point(-50, -50), 1, 10, e -> true, found));
+    assertEquals(1, index.nearest(new Point(-50, -50), 1, 1000, e -> true, found));
+  }
+}
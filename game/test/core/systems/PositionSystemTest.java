@@ -11,6 +11,7 @@ import core.level.elements.ILevel;
 import core.level.elements.tile.FloorTile;
 import core.level.utils.Coordinate;
 import core.level.utils.LevelElement;
+import core.level.utils.SpatialIndex;
 import core.utils.Point;
 import org.junit.After;
 import org.junit.Before;
@@ -65,4 +66,16 @@ public class PositionSystemTest {
     system.execute();
     assertFalse("Nothing should have changed", pc.position().equals(point));
   }
+
+  @Test
+  public void test_spatialIndex() {
+    pc.position(new Point(2.5f, 2.5f));
+    assertTrue(SpatialIndex.instance().isOccupied(2, 2));
+    pc.position(new Point(7.5f, 2.5f));
+    assertFalse(SpatialIndex.instance().isOccupied(2, 2));
+    assertTrue(SpatialIndex.instance().isOccupied(7, 2));
+
+    Game.remove(entity);
+    assertFalse(SpatialIndex.instance().isOccupied(7, 2));
+  }
 }
@@ -0,0 +1,135 @@
+package core.systems;
+
+import static org.junit.Assert.*;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+import core.Entity;
+import core.Game;
+import core.components.PositionComponent;
+import core.level.Tile;
+import core.level.elements.ILevel;
+import core.utils.Point;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class VisibilitySystemTest {
+
+  private static final int LEVEL_SIZE = 64;
+  private final ILevel level = Mockito.mock(ILevel.class);
+  private VisibilitySystem visibilitySystem;
+  private float viewportWidth;
+  private float viewportHeight;
+  private float zoom;
+
+  @BeforeClass
+  public static void initGDX() {
+    GdxNativesLoader.load(); // load natives for headless testing
+  }
+
+  @Before
+  public void setup() {
+    Mockito.when(level.layout()).thenReturn(new Tile[LEVEL_SIZE][LEVEL_SIZE]);
+    Game.add(new LevelSystem(null, null, () -> {}));
+    visibilitySystem = new VisibilitySystem();
+    Game.add(visibilitySystem);
+
+    OrthographicCamera camera = CameraSystem.camera();
+    viewportWidth = camera.viewportWidth;
+    viewportHeight = camera.viewportHeight;
+    zoom = camera.zoom;
+    camera.viewportWidth = 4;
+    camera.viewportHeight = 4;
+    camera.zoom = 1;
+    camera.position.set(4, 4, 0);
+  }
+
+  @After
+  public void cleanup() {
+    OrthographicCamera camera = CameraSystem.camera();
+    camera.viewportWidth = viewportWidth;
+    camera.viewportHeight = viewportHeight;
+    camera.zoom = zoom;
+    Game.removeAllEntities();
+    Game.currentLevel(null);
+    Game.removeAllSystems();
+  }
+
+  @Test
+  public void everythingVisibleBeforeExecute() {
+    Game.currentLevel(level);
+    assertTrue(VisibilitySystem.isVisible(40, 40));
+    assertEquals(0, VisibilitySystem.minVisibleX());
+    assertEquals(Integer.MAX_VALUE, VisibilitySystem.maxVisibleX());
+  }
+
+  @Test
+  public void visibleCells() {
+    Game.currentLevel(level);
+    visibilitySystem.execute();
+    assertTrue(VisibilitySystem.isVisible(5, 5));
+    assertTrue(VisibilitySystem.isVisible(new Point(7.9f, 0)));
+    assertFalse(VisibilitySystem.isVisible(8, 5));
+    assertFalse(VisibilitySystem.isVisible(40, 40));
+    assertFalse(VisibilitySystem.isVisible(-1, 5));
+    assertEquals(0, VisibilitySystem.minVisibleX());
+    assertEquals(7, VisibilitySystem.maxVisibleX());
+    assertEquals(0, VisibilitySystem.minVisibleY());
+    assertEquals(7, VisibilitySystem.maxVisibleY());
+    assertEquals(1, VisibilitySystem.visibleCells());
+    assertEquals(64, VisibilitySystem.totalCells());
+    assertEquals(64, VisibilitySystem.visibleTiles());
+    assertEquals(LEVEL_SIZE * LEVEL_SIZE, VisibilitySystem.totalTiles());
+  }
+
+  @Test
+  public void visibleCellsMovedCamera() {
+    Game.currentLevel(level);
+    CameraSystem.camera().position.set(16, 8, 0);
+    visibilitySystem.execute();
+    // view spans x from 13 to 19 and y from 5 to 11
+    assertEquals(8, VisibilitySystem.minVisibleX());
+    assertEquals(23, VisibilitySystem.maxVisibleX());
+    assertEquals(0, VisibilitySystem.minVisibleY());
+    assertEquals(15, VisibilitySystem.maxVisibleY());
+    assertEquals(4, VisibilitySystem.visibleCells());
+    assertFalse(VisibilitySystem.isVisible(5, 5));
+    assertTrue(VisibilitySystem.isVisible(20, 12));
+  }
+
+  @Test
+  public void countEntities() {
+    Game.currentLevel(level);
+    Entity visible = new Entity();
+    visible.add(new PositionComponent(new Point(5, 5)));
+    Game.add(visible);
+    Entity culled = new Entity();
+    culled.add(new PositionComponent(new Point(40, 40)));
+    Game.add(culled);
+
+    visibilitySystem.execute();
+    assertEquals(1, VisibilitySystem.visibleEntities());
+    assertEquals(2, VisibilitySystem.totalEntities());
+
+    Game.remove(culled);
+    visibilitySystem.execute();
+    assertEquals(1, VisibilitySystem.visibleEntities());
+    assertEquals(1, VisibilitySystem.totalEntities());
+  }
+
+  @Test
+  public void levelChange() {
+    Game.currentLevel(level);
+    visibilitySystem.execute();
+    assertFalse(VisibilitySystem.isVisible(40, 40));
+
+    ILevel other = Mockito.mock(ILevel.class);
+    Mockito.when(other.layout()).thenReturn(new Tile[LEVEL_SIZE][LEVEL_SIZE]);
+    Game.currentLevel(other);
+    // grid not built for the new level yet
+    assertTrue(VisibilitySystem.isVisible(40, 40));
+  }
+}
@@ -0,0 +1,79 @@
+package core.utils.components.draw;
+
+import static org.junit.Assert.*;
+
+import core.utils.components.path.IPath;
+import core.utils.components.path.SimpleIPath;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.Test;
+
+public class AnimationCursorTest {
+
+  private final List<IPath> frames =
+      Stream.of("a", "b", "c").map(SimpleIPath::new).collect(Collectors.toList());
+
+  @Test
+  public void cursorsOfSharedAnimationAreIndependent() {
+    Animation animation = Animation.fromCollection(frames, 1, 1);
+    AnimationCursor first = new AnimationCursor(animation);
+    AnimationCursor second = new AnimationCursor(animation);
+    assertEquals(frames.get(0), first.nextAnimationTexturePath());
+    assertEquals(frames.get(1), first.nextAnimationTexturePath());
+    assertEquals(frames.get(0), second.nextAnimationTexturePath());
+    assertEquals(frames.get(2), first.nextAnimationTexturePath());
+    // the cursor of the animation itself is not touched
+    assertEquals(frames.get(0), animation.nextAnimationTexturePath());
+  }
+
+  @Test
+  public void switchingAnimationRestartsPlayback() {
+    Animation animation = Animation.fromCollection(frames, 1, 1);
+    Animation other = Animation.fromCollection(List.of(new SimpleIPath("x")), 1, 1);
+    AnimationCursor cursor = new AnimationCursor(animation);
+    cursor.nextAnimationTexturePath();
+    cursor.nextAnimationTexturePath();
+    cursor.animation(other);
+    assertEquals("x", cursor.nextAnimationTexturePath().pathString());
+    cursor.animation(animation);
+    assertEquals(frames.get(0), cursor.nextAnimationTexturePath());
+  }
+
+  @Test
+  public void switchingToSameAnimationKeepsPlayback() {
+    Animation animation = Animation.fromCollection(frames, 1, 1);
+    AnimationCursor cursor = new AnimationCursor(animation);
+    cursor.nextAnimationTexturePath();
+    cursor.animation(animation);
+    assertEquals(frames.get(1), cursor.nextAnimationTexturePath());
+  }
+
+  @Test
+  public void finishNonLooping() {
+    Animation animation = Animation.fromCollection(frames, 1, false, 1);
+    AnimationCursor cursor = new AnimationCursor(animation);
+    assertFalse(cursor.isFinished());
+    cursor.finish();
+    assertTrue(cursor.isFinished());
+    assertEquals(frames.get(2), cursor.nextAnimationTexturePath());
+    assertEquals(frames.get(2), cursor.nextAnimationTexturePath());
+  }
+
+  @Test
+  public void advanceSkipsTicks() {
+    Animation animation = Animation.fromCollection(frames, 2, 1);
+    AnimationCursor cursor = new AnimationCursor(animation);
+    cursor.advance(4);
+    assertEquals(frames.get(2), cursor.nextAnimationTexturePath());
+  }
+
+  @Test
+  public void advanceStopsAtEndOfNonLooping() {
+    Animation animation = Animation.fromCollection(frames, 1, false, 1);
+    AnimationCursor cursor = new AnimationCursor(animation);
+    cursor.advance(100);
+    assertTrue(cursor.isFinished());
+    assertEquals(frames.get(2), cursor.nextAnimationTexturePath());
+  }
+}
@@ -0,0 +1,77 @@
+package core.utils.components.draw;
+
+import static org.junit.Assert.*;
+
+import core.utils.components.path.SimpleIPath;
+import java.util.Random;
+import org.junit.Before;
+import org.junit.Test;
+
+public class RenderQueueTest {
+
+  private RenderQueue queue;
+
+  @Before
+  public void setup() {
+    queue = new RenderQueue(null);
+  }
+
+  @Test
+  public void sortsByDepthDescendingY() {
+    queue.submit(0, 0, 1f, new SimpleIPath("middle"), null);
+    queue.submit(0, 0, -3f, new SimpleIPath("front"), null);
+    queue.submit(0, 0, 5.5f, new SimpleIPath("back"), null);
+    queue.sort();
+    assertEquals("back", queue.sortedTexture(0).pathString());
+    assertEquals("middle", queue.sortedTexture(1).pathString());
+    assertEquals("front", queue.sortedTexture(2).pathString());
+  }
+
+  @Test
+  public void higherLayerIsDrawnLater() {
+    queue.submit(1, 0, -10f, new SimpleIPath("player"), null);
+    queue.submit(0, 0, -20f, new SimpleIPath("monster"), null);
+    queue.sort();
+    assertEquals("monster", queue.sortedTexture(0).pathString());
+    assertEquals("player", queue.sortedTexture(1).pathString());
+  }
+
+  @Test
+  public void sortIsStable() {
+    for (int i = 0; i < 10; i++) queue.submit(0, 0, 2f, new SimpleIPath(String.valueOf(i)), null);
+    queue.sort();
+    for (int i = 0; i < 10; i++)
+      assertEquals(String.valueOf(i), queue.sortedTexture(i).pathString());
+  }
+
+  @Test
+  public void sortsManySubmissions() {
+    Random random = new Random(42);
+    for (int i = 0; i < 1000; i++) {
+      float y = random.nextFloat() * 400f - 200f;
+      int layer = random.nextInt(3);
+      queue.submit(layer, 0, y, new SimpleIPath(layer + ";" + y), null);
+    }
+    assertEquals(1000, queue.size());
+    queue.sort();
+    long previous = Long.MIN_VALUE;
+    for (int i = 0; i < queue.size(); i++) {
+      String[] parts = queue.sortedTexture(i).pathString().split(";");
+      long key = RenderQueue.key(Integer.parseInt(parts[0]), Float.parseFloat(parts[1]));
+      assertTrue(key >= previous);
+      previous = key;
+    }
+  }
+
+  @Test
+  public void clearEmptiesQueue() {
+    queue.submit(0, 0, 0, new SimpleIPath("a"), null);
+    queue.clear();
+    assertEquals(0, queue.size());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void invalidLayer() {
+    RenderQueue.key(RenderQueue.MAX_LAYER + 1, 0);
+  }
+}
@@ -0,0 +1,138 @@
+package core.utils.components.draw;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.badlogic.gdx.graphics.Texture;
+import core.utils.components.path.IPath;
+import core.utils.components.path.SimpleIPath;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TextureMapTest {
+
+  private static final int SIZE = 16;
+  private static final long BYTES = SIZE * SIZE * 4;
+
+  private final TextureMap textureMap = TextureMap.instance();
+  private final Map<String, Texture> loaded = new HashMap<>();
+  private long budget;
+
+  @Before
+  public void setup() {
+    budget = textureMap.budget();
+    textureMap.loader(
+        path -> {
+          Texture texture = mock(Texture.class);
+          when(texture.getWidth()).thenReturn(SIZE);
+          when(texture.getHeight()).thenReturn(SIZE);
+          loaded.put(path, texture);
+          return texture;
+        });
+    // start without unused textures left over by other tests
+    textureMap.budget(0);
+    textureMap.evict();
+    textureMap.budget(budget);
+  }
+
+  @After
+  public void cleanup() {
+    textureMap.budget(0);
+    textureMap.evict();
+    textureMap.budget(budget);
+    textureMap.loader(Texture::new);
+  }
+
+  private static IPath path(String name) {
+    return new SimpleIPath("test/texturemap/" + name + ".png");
+  }
+
+  @Test
+  public void loadOnce() {
+    long before = textureMap.residentBytes();
+    Texture first = textureMap.textureAt(path("once"));
+    assertSame(first, textureMap.textureAt(path("once")));
+    assertEquals(1, loaded.size());
+    assertEquals(before + BYTES, textureMap.residentBytes());
+  }
+
+  @Test
+  public void references() {
+    IPath path = path("references");
+    textureMap.acquire(path);
+    textureMap.acquire(path);
+    assertEquals(2, textureMap.references(path));
+    textureMap.release(path);
+    textureMap.release(path);
+    textureMap.release(path);
+    assertEquals(0, textureMap.references(path));
+  }
+
+  @Test
+  public void evictUnreferenced() {
+    IPath unused = path("unused");
+    IPath used = path("used");
+    IPath pinned = path("pinned");
+    textureMap.acquire(unused);
+    textureMap.acquire(used);
+    textureMap.textureAt(unused);
+    textureMap.textureAt(used);
+    textureMap.textureAt(pinned);
+    textureMap.release(unused);
+    long before = textureMap.residentBytes();
+
+    textureMap.budget(0);
+    assertEquals(1, textureMap.evict());
+    verify(loaded.get(unused.pathString())).dispose();
+    verify(loaded.get(used.pathString()), never()).dispose();
+    verify(loaded.get(pinned.pathString()), never()).dispose();
+    assertEquals(before - BYTES, textureMap.residentBytes());
+
+    // evicted textures are loaded again if needed
+    Texture old = loaded.get(unused.pathString());
+    assertNotSame(old, textureMap.textureAt(unused));
+    textureMap.release(used);
+  }
+
+  @Test
+  public void evictLeastRecentlyUsed() {
+    IPath older = path("older");
+    IPath newer = path("newer");
+    textureMap.acquire(older);
+    textureMap.acquire(newer);
+    textureMap.textureAt(older);
+    textureMap.textureAt(newer);
+    textureMap.release(older);
+    textureMap.release(newer);
+
+    textureMap.budget(textureMap.residentBytes() - 1);
+    assertEquals(1, textureMap.evict());
+    verify(loaded.get(older.pathString())).dispose();
+    verify(loaded.get(newer.pathString()), never()).dispose();
+  }
+
+  @Test
+  public void withinBudget() {
+    IPath path = path("budget");
+    textureMap.acquire(path);
+    textureMap.textureAt(path);
+    textureMap.release(path);
+
+    textureMap.budget(textureMap.residentBytes());
+    assertEquals(0, textureMap.evict());
+    verify(loaded.get(path.pathString()), never()).dispose();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void negativeBudget() {
+    textureMap.budget(-1);
+  }
+}
@@ -0,0 +1,149 @@
+package core.utils.components.sound;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import core.utils.components.path.IPath;
+import core.utils.components.path.SimpleIPath;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SoundPlayerTest {
+
+  private static final IPath FIREBALL = new SimpleIPath("sounds/fireball.wav");
+  private static final IPath MONSTER = new SimpleIPath("sounds/monster1.wav");
+  private static final IPath DOOR = new SimpleIPath("sounds/enterDoor.wav");
+
+  private final SoundPlayer player = SoundPlayer.instance();
+  private final List<String> loaded = new ArrayList<>();
+  private final List<Long> stopped = new ArrayList<>();
+  private int plays = 0;
+
+  @Before
+  public void setup() {
+    NoSoundBackend silent = new NoSoundBackend();
+    player.backend(
+        path -> {
+          loaded.add(path.pathString());
+          SoundClip clip = silent.load(path);
+          return new SoundClip() {
+            @Override
+            public long play(float volume, float pitch) {
+              plays++;
+              return clip.play(volume, pitch);
+            }
+
+            @Override
+            public void stop(long voiceId) {
+              stopped.add(voiceId);
+            }
+
+            @Override
+            public void dispose() {}
+          };
+        });
+    player.maxVoices(4);
+    player.maxVoicesPerSound(2);
+    player.voiceDuration(1f);
+  }
+
+  @After
+  public void cleanup() {
+    player.backend(new NoSoundBackend());
+    player.maxVoices(16);
+    player.maxVoicesPerSound(4);
+    player.voiceDuration(2f);
+  }
+
+  @Test
+  public void loadOnce() {
+    for (int i = 0; i < 10; i++) {
+      player.play(FIREBALL, 1f);
+      player.update(0.5f);
+    }
+    assertEquals(List.of(FIREBALL.pathString()), loaded);
+    assertEquals(1, player.loadedSounds());
+  }
+
+  @Test
+  public void sameFrame() {
+    long first = player.play(FIREBALL, 1f);
+    long second = player.play(FIREBALL, 1f);
+    assertEquals(first, second);
+    assertEquals(1, plays);
+    assertEquals(1, player.activeVoices());
+
+    player.update(0.01f);
+    assertNotEquals(first, player.play(FIREBALL, 1f));
+    assertEquals(2, plays);
+  }
+
+  @Test
+  public void limitPerSound() {
+    long first = player.play(FIREBALL, 1f);
+    player.update(0.01f);
+    player.play(FIREBALL, 1f);
+    player.update(0.01f);
+    player.play(FIREBALL, 1f);
+    // the oldest voice was stopped
+    assertEquals(List.of(first), stopped);
+    assertEquals(2, player.activeVoices());
+  }
+
+  @Test
+  public void limitTotal() {
+    for (int i = 0; i < 100; i++) {
+      player.play(i % 2 == 0 ? FIREBALL : MONSTER, 1f);
+      player.play(DOOR, 1f);
+      player.update(0.001f);
+    }
+    assertTrue(player.activeVoices() <= player.maxVoices());
+    assertEquals(3, player.loadedSounds());
+  }
+
+  @Test
+  public void lowerPriorityRejected() {
+    player.maxVoicesPerSound(4);
+    for (int i = 0; i < 4; i++) {
+      player.play(DOOR, 1f, 1f, SoundPlayer.HIGH_PRIORITY);
+      player.update(0.01f);
+    }
+    assertEquals(-1, player.play(MONSTER, 1f, 1f, SoundPlayer.LOW_PRIORITY));
+    assertTrue(stopped.isEmpty());
+  }
+
+  @Test
+  public void stealLowestPriority() {
+    player.maxVoicesPerSound(4);
+    long monster = player.play(MONSTER, 1f, 1f, SoundPlayer.LOW_PRIORITY);
+    player.update(0.01f);
+    for (int i = 0; i < 3; i++) {
+      player.play(DOOR, 1f, 1f, SoundPlayer.DEFAULT_PRIORITY);
+      player.update(0.01f);
+    }
+    assertNotEquals(-1, player.play(FIREBALL, 1f, 1f, SoundPlayer.HIGH_PRIORITY));
+    assertEquals(List.of(monster), stopped);
+    assertEquals(4, player.activeVoices());
+  }
+
+  @Test
+  public void voicesExpire() {
+    player.play(FIREBALL, 1f);
+    player.play(MONSTER, 1f);
+    assertEquals(2, player.activeVoices());
+    player.update(0.5f);
+    assertEquals(2, player.activeVoices());
+    player.update(0.5f);
+    assertEquals(0, player.activeVoices());
+    assertTrue(stopped.isEmpty());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void noVoices() {
+    player.maxVoices(0);
+  }
+}